@@ -28,6 +28,8 @@ import com.mungtrainer.mtserver.auth.entity.CustomUserDetails;
 import com.mungtrainer.mtserver.auth.service.AuthService;
 import com.mungtrainer.mtserver.common.exception.ErrorCode;
 import com.mungtrainer.mtserver.common.security.JwtTokenProvider;
+import com.mungtrainer.mtserver.common.security.ParsedToken;
+import com.mungtrainer.mtserver.common.security.TokenRevocationStore;
 import com.mungtrainer.mtserver.common.security.service.CustomUserDetailsService;
 import com.mungtrainer.mtserver.common.util.CookieUtil;
 import com.mungtrainer.mtserver.user.entity.User;
@@ -47,6 +49,7 @@ public class AuthController {
 	private final JwtTokenProvider jwtTokenProvider;
 	private final AuthService authService;
 	private final CustomUserDetailsService customUserDetailsService;
+	private final TokenRevocationStore tokenRevocationStore;
 
 	private static final String ACCESS_TOKEN = "access_token";
 	private static final String REFRESH_TOKEN = "refresh_token";
@@ -112,6 +115,8 @@ public class AuthController {
 		response.addCookie(deleteRt);
 
 		authService.updateRefreshToken(principal.getUserId(), null);
+		// Stateless 인증 모드: 로그아웃 이전에 발급된 AT 차단
+		tokenRevocationStore.revokeAll(principal.getUserId());
 
 		return ResponseEntity.ok(new LoginResponse(200, "Success", "로그아웃에 성공했습니다."));
 	}
@@ -125,8 +130,8 @@ public class AuthController {
 		String code;
 		String message;
 		// 1. 쿠키에 RT 없거나 무효한 JWT
-		if (refreshToken == null ||
-			!jwtTokenProvider.validateToken(refreshToken, JwtTokenProvider.TokenType.REFRESH)) {
+		ParsedToken parsedRefreshToken = jwtTokenProvider.parseToken(refreshToken, JwtTokenProvider.TokenType.REFRESH);
+		if (parsedRefreshToken == null) {
 			ErrorCode errorCode = ErrorCode.REFRESH_EXPIRED;
 			status = errorCode.getStatus();
 			code = errorCode.name();
@@ -135,7 +140,7 @@ public class AuthController {
 		}
 
 		// 2. username 추출
-		String username = jwtTokenProvider.getUsername(refreshToken, JwtTokenProvider.TokenType.REFRESH);
+		String username = parsedRefreshToken.getUsername();
 
 		// 3. DB에서 해당 유저 조회
 		User user = authService.findByUserName(username);
@@ -192,6 +197,7 @@ public class AuthController {
 		CustomUserDetails principal) {
 		String userName = principal.getUsername();
 		authService.passwordChange(request, userName);
+		tokenRevocationStore.revokeAll(principal.getUserId());
 		return ResponseEntity.ok(new PasswordChangeResponse("Success", 200, "비밀번호가 성공적으로 변경되었습니다."));
 	}
 
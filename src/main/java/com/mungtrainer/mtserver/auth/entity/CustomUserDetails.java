@@ -22,6 +22,17 @@ public class CustomUserDetails implements UserDetails {
     this.role = user.getRole();
   }
 
+  /**
+   * 검증된 액세스 토큰 클레임(sub, uid, role)으로 생성 (Stateless 인증용)
+   * 비밀번호는 토큰에 포함되지 않으므로 null
+   */
+  public CustomUserDetails(Long userId, String username, String role) {
+    this.userId = userId;
+    this.username = username;
+    this.password = null;
+    this.role = role;
+  }
+
   public Long getUserId() {
     return userId;
   }
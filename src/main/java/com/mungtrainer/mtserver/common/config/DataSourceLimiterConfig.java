@@ -0,0 +1,43 @@
+package com.mungtrainer.mtserver.common.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * DataSource에 {@link ConnectionLimitingDataSource}를 적용하는 설정
+ *
+ * <p>db.limiter.enabled=true일 때 기본 DataSource 빈을 감쌉니다.
+ * permit 수는 db.limiter.max-concurrent (기본값: Hikari maximum-pool-size),
+ * 대기 시간은 db.limiter.acquire-timeout-ms 로 조정합니다.</p>
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "db.limiter.enabled", havingValue = "true")
+public class DataSourceLimiterConfig {
+
+    @Bean
+    public static BeanPostProcessor connectionLimitingDataSourcePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConnectionLimitingDataSource) {
+                    return bean;
+                }
+                int poolSize = environment.getProperty(
+                        "spring.datasource.hikari.maximum-pool-size", Integer.class, 10);
+                int maxConcurrent = environment.getProperty("db.limiter.max-concurrent", Integer.class, poolSize);
+                long acquireTimeoutMs = environment.getProperty("db.limiter.acquire-timeout-ms", Long.class, 60000L);
+
+                log.info("DB 커넥션 제한 적용 - bean: {}, permits: {}, acquireTimeout: {}ms",
+                        beanName, maxConcurrent, acquireTimeoutMs);
+                return new ConnectionLimitingDataSource(dataSource, maxConcurrent, acquireTimeoutMs);
+            }
+        };
+    }
+}
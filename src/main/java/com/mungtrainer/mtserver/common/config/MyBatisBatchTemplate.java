@@ -0,0 +1,104 @@
+package com.mungtrainer.mtserver.common.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.function.BiConsumer;
+
+/**
+ * MyBatis JDBC 배치 실행기 (BATCH 실행기 SqlSession)
+ *
+ * <p>행마다 다른 파라미터로 같은 문장을 반복하는 쓰기를 JDBC 배치로 모아 chunk-size건마다 한 번에 전송합니다.
+ * Hikari data-source-properties의 rewriteBatchedStatements=true와 함께 쓰면
+ * MySQL 드라이버가 배치를 다중 행 INSERT / 다중 문장으로 다시 써서 왕복이 chunk당 한 번으로 줄어듭니다.</p>
+ *
+ * <ul>
+ *   <li>현재 트랜잭션의 커넥션을 그대로 사용 (Spring 관리 트랜잭션, 커밋/롤백은 호출자 트랜잭션을 따름)</li>
+ *   <li>BATCH용 SqlSessionTemplate 빈은 두지 않음: 같은 트랜잭션에 이미 일반(SIMPLE) 세션이 묶여 있으면
+ *       실행기 타입을 바꿀 수 없고, SqlSessionTemplate 빈이 생기면 기본 매퍼 템플릿 자동 설정이 빠지기 때문</li>
+ *   <li>배치 후 트랜잭션의 일반 세션 1차 캐시를 비워, 같은 트랜잭션의 이후 조회가 배치 반영 결과를 읽도록 함</li>
+ *   <li>chunk마다 문장 수와 반영 행 수를 debug 로그로 남기고, 전체 반영 행 수를 반환</li>
+ * </ul>
+ *
+ * 조건부 UPDATE처럼 문장마다 결과를 보고 다음 처리를 정해야 하는 경우에는 쓰지 않습니다 (결과는 flush 시점에만 알 수 있음).
+ */
+@Slf4j
+@Component
+public class MyBatisBatchTemplate {
+
+    private final SqlSessionFactory sqlSessionFactory;
+    private final SqlSessionTemplate sqlSessionTemplate;
+    private final int chunkSize;
+
+    public MyBatisBatchTemplate(
+            SqlSessionFactory sqlSessionFactory,
+            SqlSessionTemplate sqlSessionTemplate,
+            @Value("${db.batch.chunk-size:500}") int chunkSize
+    ) {
+        this.sqlSessionFactory = sqlSessionFactory;
+        this.sqlSessionTemplate = sqlSessionTemplate;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    /**
+     * 항목마다 매퍼 문장을 배치에 쌓고 chunk 단위로 전송
+     *
+     * @param mapperType 매퍼 인터페이스 (배치 세션에서 얻은 매퍼로 statement 실행)
+     * @param items      배치 대상 항목
+     * @param statement  항목 하나에 대해 실행할 매퍼 호출 (반환값은 배치 중에는 의미 없음)
+     * @return 전체 반영 행 수 (드라이버가 행 수를 알려주지 않는 문장(SUCCESS_NO_INFO)은 1행으로 계산)
+     */
+    public <M, T> int execute(Class<M> mapperType, Collection<T> items, BiConsumer<M, T> statement) {
+        if (items == null || items.isEmpty()) {
+            return 0;
+        }
+
+        int rows = 0;
+        int pending = 0;
+        int chunkNo = 0;
+        try (SqlSession session = sqlSessionFactory.openSession(ExecutorType.BATCH)) {
+            M mapper = session.getMapper(mapperType);
+            for (T item : items) {
+                statement.accept(mapper, item);
+                if (++pending == chunkSize) {
+                    rows += flush(session, mapperType, ++chunkNo, pending);
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                rows += flush(session, mapperType, ++chunkNo, pending);
+            }
+            // 트랜잭션 밖에서 호출된 경우에만 실제 커밋 (트랜잭션 안이면 호출자 트랜잭션이 커밋)
+            session.commit();
+        } finally {
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                sqlSessionTemplate.clearCache();
+            }
+        }
+
+        log.debug("배치 실행 완료 - {}: 항목 {}건, chunk {}개, 반영 행 {}건",
+                mapperType.getSimpleName(), items.size(), chunkNo, rows);
+        return rows;
+    }
+
+    private int flush(SqlSession session, Class<?> mapperType, int chunkNo, int statements) {
+        int rows = 0;
+        for (BatchResult result : session.flushStatements()) {
+            for (int count : result.getUpdateCounts()) {
+                rows += count == Statement.SUCCESS_NO_INFO ? 1 : Math.max(count, 0);
+            }
+        }
+        log.debug("배치 전송 - {} chunk #{}: 문장 {}건, 반영 행 {}건",
+                mapperType.getSimpleName(), chunkNo, statements, rows);
+        return rows;
+    }
+}
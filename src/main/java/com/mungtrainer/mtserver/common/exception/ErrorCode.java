@@ -41,6 +41,8 @@ public enum ErrorCode {
   COURSE_ALREADY_STARTED(400, "이미 시작된 과정은 신청할 수 없습니다."),
   COURSE_ALREADY_COMPLETED(400, "이미 종료된 과정은 신청할 수 없습니다."),
   COURSE_CANCELLED(400, "취소된 과정은 신청할 수 없습니다."),
+  ADMISSION_QUEUE_FULL(503, "신청이 몰려 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요."),
+  ADMISSION_TICKET_NOT_FOUND(404, "신청 접수 정보를 찾을 수 없거나 만료되었습니다."),
 
   // 신청 승인/거절 관련
   APPLICATION_STATUS_REQUEST_EMPTY(400, "요청 데이터가 존재하지 않습니다."),
@@ -57,6 +59,7 @@ public enum ErrorCode {
   // 출석 관련
   ATTENDANCE_UPDATE_FAILED(500,"출석 상태 변경에 실패했습니다"),
   ATTENDANCE_CREATION_FAILED(500, "출석 정보 생성에 실패했습니다"),
+  WAITING_PROMOTION_FAILED(500, "대기자 승격 처리에 실패했습니다"),
 
   // 반려견 관련
 
@@ -85,6 +88,9 @@ public enum ErrorCode {
   PAYMENT_APPROVAL_FAILED(500, "결제 승인에 실패했습니다."),
   PAYMENT_NOT_FOUND(404, "결제 정보를 찾을 수 없습니다."),
   PAYMENT_CANCEL_FAILED(500, "결제 취소에 실패했습니다."),
+  PAYMENT_IN_PROGRESS(409, "결제 처리가 진행 중입니다. 잠시 후 다시 시도해주세요."),
+  INVALID_EXPORT_FORMAT(400, "지원하지 않는 내보내기 형식입니다. 허용된 값: csv, ndjson"),
+  EXPORT_TOO_MANY(503, "진행 중인 내보내기가 많습니다. 잠시 후 다시 시도해주세요."),
 
     // 장바구니(Wishlist) 관련
     WISHLIST_NOT_FOUND(404, "장바구니 항목을 찾을 수 없습니다"),
@@ -120,7 +126,10 @@ public enum ErrorCode {
 
   // 알림 관련
     NOTIFICATION_NOT_FOUND(404, "해당 알림이 존재하지 않습니다."),
-    NOTIFICATION_UPDATE_FAILED(500, "알림 읽음 업데이트에 실패했습니다.");
+    NOTIFICATION_UPDATE_FAILED(500, "알림 읽음 업데이트에 실패했습니다."),
+
+  // 스케줄러 관련
+  SCHEDULER_LEASE_LOST(409, "스케줄러 리스를 잃어 작업을 중단했습니다.");
 
   public final int status;
   public final String message;
@@ -0,0 +1,149 @@
+package com.mungtrainer.mtserver.common.s3;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 다운로드용 Presigned URL 캐시
+ *
+ * <p>같은 파일 키(코스 썸네일, 프로필 이미지 등)를 목록 조회마다 반복 서명하지 않도록
+ * 서명된 URL을 보관하고, 남은 유효시간이 충분한 동안 재사용합니다.</p>
+ *
+ * <ul>
+ *   <li>재사용 조건: 남은 유효시간 &gt; 전체 유효시간 × min-remaining-ratio
+ *       (응답을 받은 클라이언트가 최소한 그만큼은 URL을 사용할 수 있음)</li>
+ *   <li>나이 기준 제거: 재사용 조건을 벗어난 항목은 조회 시 또는 용량 초과 시 제거</li>
+ *   <li>크기 기준 제거: max-size 초과 시 재사용 불가 항목 정리 후, 오래 서명된 순으로 10% 제거</li>
+ *   <li>지표: s3.presigned_url.cache.requests{result=hit|miss}, s3.presigned_url.cache.size</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class PresignedUrlCache {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    private final boolean enabled;
+    private final int maxSize;
+    private final double minRemainingRatio;
+
+    public PresignedUrlCache(
+            @Value("${aws.s3.presigned-url.cache.enabled:true}") boolean enabled,
+            @Value("${aws.s3.presigned-url.cache.max-size:5000}") int maxSize,
+            @Value("${aws.s3.presigned-url.cache.min-remaining-ratio:0.5}") double minRemainingRatio,
+            MeterRegistry meterRegistry
+    ) {
+        this.enabled = enabled && maxSize > 0;
+        this.maxSize = maxSize;
+        this.minRemainingRatio = minRemainingRatio;
+
+        FunctionCounter.builder("s3.presigned_url.cache.requests", hits, AtomicLong::get)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("s3.presigned_url.cache.requests", misses, AtomicLong::get)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("s3.presigned_url.cache.size", entries, Map::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 재사용 가능한 URL이 있으면 반환하고, 없으면 서명 후 캐시에 저장합니다.
+     *
+     * @param fileKey         S3 파일 키
+     * @param lifetimeMillis  서명 유효시간 (밀리초)
+     * @param signer          캐시 미스 시 URL을 서명하는 함수
+     * @return Presigned URL
+     */
+    public String getOrSign(String fileKey, long lifetimeMillis, Function<String, String> signer) {
+        if (!enabled) {
+            return signer.apply(fileKey);
+        }
+
+        long now = System.currentTimeMillis();
+        Entry cached = entries.get(fileKey);
+        if (cached != null) {
+            if (isReusable(cached, now)) {
+                hits.incrementAndGet();
+                return cached.url;
+            }
+            entries.remove(fileKey, cached);
+        }
+
+        misses.incrementAndGet();
+        String url = signer.apply(fileKey);
+        if (url != null) {
+            long reusableUntil = now + (long) (lifetimeMillis * (1 - minRemainingRatio));
+            if (entries.size() >= maxSize) {
+                evict(now);
+            }
+            entries.put(fileKey, new Entry(url, now, reusableUntil));
+        }
+        return url;
+    }
+
+    /**
+     * 파일 삭제/교체 시 해당 키의 캐시 제거
+     */
+    public void invalidate(String fileKey) {
+        if (fileKey != null) {
+            entries.remove(fileKey);
+        }
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private boolean isReusable(Entry entry, long now) {
+        return now < entry.reusableUntil;
+    }
+
+    private void evict(long now) {
+        entries.values().removeIf(entry -> !isReusable(entry, now));
+        if (entries.size() < maxSize) {
+            return;
+        }
+
+        int toRemove = Math.max(1, maxSize / 10);
+        entries.entrySet().stream()
+                .sorted(Comparator.comparingLong(e -> e.getValue().signedAt))
+                .limit(toRemove)
+                .map(Map.Entry::getKey)
+                .toList()
+                .forEach(entries::remove);
+        log.debug("Presigned URL 캐시 용량 초과로 {}건 제거", toRemove);
+    }
+
+    private static final class Entry {
+        private final String url;
+        private final long signedAt;
+        private final long reusableUntil;
+
+        private Entry(String url, long signedAt, long reusableUntil) {
+            this.url = url;
+            this.signedAt = signedAt;
+            this.reusableUntil = reusableUntil;
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package com.mungtrainer.mtserver.common.s3;
 
 import com.mungtrainer.mtserver.common.config.AwsS3Config;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
@@ -14,7 +17,19 @@ import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignReques
 import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
 import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -25,13 +40,52 @@ public class S3Service {
     private final S3Presigner presigner;
     private final AwsS3Config awsS3Config; // Config 주입
     private final S3Client s3Client;  // S3Client 추가
+    private final PresignedUrlCache presignedUrlCache;
+
+    // 일괄 서명 시 이 개수 이하이면 병렬 처리 없이 현재 스레드에서 처리
+    private static final int PARALLEL_THRESHOLD = 8;
+
+    @Value("${aws.s3.presigned-url.bulk.threads:4}")
+    private int bulkThreads;
+
+    @Value("${aws.s3.presigned-url.bulk.queue-capacity:1000}")
+    private int bulkQueueCapacity;
+
+    private ExecutorService presignExecutor;
+
+    @PostConstruct
+    public void initPresignExecutor() {
+        AtomicInteger seq = new AtomicInteger();
+        // 스레드 수와 대기열을 제한하고, 대기열이 가득 차면 호출 스레드에서 직접 서명 (back-pressure)
+        this.presignExecutor = new ThreadPoolExecutor(
+                bulkThreads, bulkThreads,
+                60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(bulkQueueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "s3-presign-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    public void shutdownPresignExecutor() {
+        presignExecutor.shutdown();
+    }
 
     /**
      * 단일 파일 조회용 Presigned URL 발급
+     * 남은 유효시간이 충분한 기존 URL이 있으면 재사용 (PresignedUrlCache)
      */
     public String generateDownloadPresignedUrl(String fileKey) {
         if (fileKey == null || fileKey.isBlank()) return null;
 
+        long lifetimeMillis = Duration.ofMinutes(awsS3Config.getPresignedUrlExpirationMinutes()).toMillis();
+        return presignedUrlCache.getOrSign(fileKey, lifetimeMillis, this::signDownloadUrl);
+    }
+
+    private String signDownloadUrl(String fileKey) {
         GetObjectRequest getObjectRequest = GetObjectRequest.builder()
                 .bucket(awsS3Config.getBucket()) // Config에서 가져오기
                 .key(fileKey)
@@ -46,15 +100,47 @@ public class S3Service {
     }
 
     /**
-     * 여러 파일 조회용 Presigned URL 발급
+     * 여러 파일 조회용 Presigned URL 발급 (입력 순서와 동일한 목록 반환)
+     * 기존 호출부 호환용이며, 신규 코드는 {@link #generateDownloadPresignedUrlMap(Collection)} 사용
      */
     public List<String> generateDownloadPresignedUrls(List<String> fileKeys) {
         if (fileKeys == null || fileKeys.isEmpty()) return List.of();
+        Map<String, String> urlMap = generateDownloadPresignedUrlMap(fileKeys);
         return fileKeys.stream()
-                .map(this::generateDownloadPresignedUrl)
+                .map(key -> key == null ? null : urlMap.get(key))
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 여러 파일 조회용 Presigned URL 일괄 발급
+     * <ul>
+     *   <li>null/빈 키는 제외하고, 중복 키는 한 번만 서명</li>
+     *   <li>키 수가 많으면 제한된 크기의 전용 스레드 풀에서 병렬 서명</li>
+     * </ul>
+     * @param fileKeys S3 파일 키 목록
+     * @return 파일 키 → Presigned URL (인덱스 정렬에 의존하지 않도록 Map으로 반환)
+     */
+    public Map<String, String> generateDownloadPresignedUrlMap(Collection<String> fileKeys) {
+        if (fileKeys == null || fileKeys.isEmpty()) return Map.of();
+
+        Set<String> keys = fileKeys.stream()
+                .filter(Objects::nonNull)
+                .filter(key -> !key.isBlank())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        Map<String, String> result = new LinkedHashMap<>();
+        if (keys.size() <= PARALLEL_THRESHOLD) {
+            keys.forEach(key -> result.put(key, generateDownloadPresignedUrl(key)));
+            return result;
+        }
+
+        Map<String, CompletableFuture<String>> futures = new LinkedHashMap<>();
+        keys.forEach(key -> futures.put(key,
+                CompletableFuture.supplyAsync(() -> generateDownloadPresignedUrl(key), presignExecutor)));
+        futures.forEach((key, future) -> result.put(key, future.join()));
+        return result;
+    }
+
     /**
      * S3에서 파일 삭제
      * S3 삭제 실패 시 예외를 던져 트랜잭션 롤백을 유도
@@ -74,6 +160,7 @@ public class S3Service {
             .build();
 
         s3Client.deleteObject(deleteObjectRequest);
+        presignedUrlCache.invalidate(fileKey);
         log.info("S3 파일 삭제 완료 - key: {}", fileKey);
       } catch (S3Exception e) {
         log.error("S3 파일 삭제 실패 - key: {}, error: {}", fileKey, e.getMessage());
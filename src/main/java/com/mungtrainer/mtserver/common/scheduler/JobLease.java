@@ -0,0 +1,58 @@
+package com.mungtrainer.mtserver.common.scheduler;
+
+import lombok.Getter;
+
+import java.util.function.Predicate;
+
+/**
+ * 스케줄러 잡 리스 (한 번의 실행 동안 유효)
+ *
+ * <p>획득 시 받은 펜싱 토큰은 실행마다 1씩 증가합니다.
+ * 리스가 만료되어 다른 인스턴스가 락을 가져가면 토큰이 바뀌므로,
+ * 이전 소유자의 연장/해제/이력 기록은 모두 무시됩니다.</p>
+ *
+ * <p>청크 단위로 오래 도는 잡은 청크 사이에 {@link #checkpoint()}를 호출해
+ * 리스를 잃었으면 즉시 중단해야 합니다. checkpoint는 권고용 확인이며,
+ * 청크의 쓰기 자체는 {@link SchedulerLockService#fenceCurrentLease()}가 트랜잭션 안에서 막습니다.</p>
+ */
+@Getter
+public class JobLease {
+
+    private final String jobName;
+    private final String ownerId;
+    private final long fencingToken;
+    private final Predicate<JobLease> renewal;
+
+    private volatile boolean held = true;
+    private volatile String summary;
+
+    JobLease(String jobName, String ownerId, long fencingToken, Predicate<JobLease> renewal) {
+        this.jobName = jobName;
+        this.ownerId = ownerId;
+        this.fencingToken = fencingToken;
+        this.renewal = renewal;
+    }
+
+    /**
+     * 리스를 DB에서 즉시 연장하고 여전히 보유 중인지 확인합니다.
+     *
+     * @return 보유 중이면 true, 다른 인스턴스로 넘어갔으면 false
+     */
+    public boolean checkpoint() {
+        if (held && !renewal.test(this)) {
+            lost();
+        }
+        return held;
+    }
+
+    /**
+     * 실행 이력에 남길 요약 (처리 건수 등)
+     */
+    public void setSummary(String summary) {
+        this.summary = summary;
+    }
+
+    void lost() {
+        this.held = false;
+    }
+}
@@ -0,0 +1,20 @@
+package com.mungtrainer.mtserver.common.scheduler;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 스케줄러 잡 실행 이력 (scheduler_job_run)
+ */
+@Getter
+@Setter
+@Builder
+public class SchedulerJobRun {
+    private Long runId;
+    private String jobName;
+    private String ownerId;
+    private Long fencingToken;
+    private String status;   // RUNNING, SUCCESS, FAILED, LEASE_LOST
+    private String summary;  // 처리 건수 등 잡이 남긴 요약
+}
@@ -0,0 +1,285 @@
+package com.mungtrainer.mtserver.common.scheduler;
+
+import com.mungtrainer.mtserver.common.exception.CustomException;
+import com.mungtrainer.mtserver.common.exception.ErrorCode;
+import com.mungtrainer.mtserver.common.scheduler.dao.SchedulerLockDAO;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 스케줄러 분산 락 (MySQL scheduler_lock 테이블 기반 리스)
+ *
+ * <p>여러 인스턴스가 같은 cron으로 깨어나도 잡마다 리스를 획득한 한 인스턴스만 실행합니다.</p>
+ *
+ * <ul>
+ *   <li>획득: lease_until이 지났거나 내가 보유한 락만 UPDATE (DB 시각 NOW(3) 기준 → 서버 간 시계 차이 무관)</li>
+ *   <li>펜싱 토큰: 획득할 때마다 1 증가, 연장/해제/이력 기록은 토큰이 일치할 때만 반영</li>
+ *   <li>비즈니스 쓰기 펜싱: 잡 안에서 호출된 트랜잭션은 {@link #fenceCurrentLease()}로
+ *       리스 행을 공유 락으로 잡아, 리스를 잃었으면 롤백하고 보유 중이면 커밋까지 다른 인스턴스의 획득을 막음</li>
+ *   <li>연장: 실행 중인 리스를 lease-ms / 3 주기로 백그라운드 연장, 실패 시 리스 상실로 표시</li>
+ *   <li>해제: 획득 후 min-hold-ms가 지나기 전에는 만료시키지 않음
+ *       (짧은 잡이 먼저 끝나도 같은 tick에 늦게 깬 인스턴스가 다시 실행하지 못하도록)</li>
+ *   <li>이력: scheduler_job_run에 실행별 소유자·토큰·결과·요약 기록</li>
+ *   <li>scheduler.lock.enabled=false면 락 없이 바로 실행 (단일 인스턴스 운영)</li>
+ * </ul>
+ * 테이블 DDL은 docs/SCHEDULER_LOCK.md 참고
+ */
+@Slf4j
+@Component
+public class SchedulerLockService {
+
+    private static final int SUMMARY_MAX_LENGTH = 500;
+
+    private final SchedulerLockDAO schedulerLockDao;
+    private final boolean enabled;
+    private final long leaseMs;
+    private final long minHoldMs;
+    private final int historyRetentionDays;
+    private final String ownerId;
+
+    private final Map<String, JobLease> activeLeases = new ConcurrentHashMap<>();
+    /** 현재 스레드에서 실행 중인 잡의 리스 (잡은 호출 스레드에서 동기 실행) */
+    private final ThreadLocal<JobLease> currentLease = new ThreadLocal<>();
+    private ScheduledExecutorService renewer;
+
+    public SchedulerLockService(
+            SchedulerLockDAO schedulerLockDao,
+            @Value("${scheduler.lock.enabled:true}") boolean enabled,
+            @Value("${scheduler.lock.lease-ms:60000}") long leaseMs,
+            @Value("${scheduler.lock.min-hold-ms:60000}") long minHoldMs,
+            @Value("${scheduler.lock.history-retention-days:30}") int historyRetentionDays
+    ) {
+        this.schedulerLockDao = schedulerLockDao;
+        this.enabled = enabled;
+        this.leaseMs = leaseMs;
+        this.minHoldMs = minHoldMs;
+        this.historyRetentionDays = historyRetentionDays;
+        this.ownerId = resolveHostName() + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @PostConstruct
+    public void init() {
+        if (!enabled) {
+            log.info("스케줄러 분산 락 비활성화 - 모든 잡을 로컬에서 실행");
+            return;
+        }
+        this.renewer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "scheduler-lease-renewer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(1000, leaseMs / 3);
+        renewer.scheduleWithFixedDelay(this::renewActiveLeases, period, period, TimeUnit.MILLISECONDS);
+        log.info("스케줄러 분산 락 활성화 - owner: {}, lease: {}ms, min-hold: {}ms", ownerId, leaseMs, minHoldMs);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (renewer != null) {
+            renewer.shutdownNow();
+        }
+    }
+
+    /**
+     * 리스를 획득한 경우에만 잡 실행
+     *
+     * @param jobName 잡 이름 (scheduler_lock.job_name)
+     * @param task    실행할 작업 (리스를 받아 청크 사이 checkpoint, 요약 기록에 사용)
+     * @return 이 인스턴스에서 실행했으면 true, 다른 인스턴스가 보유 중이면 false
+     */
+    public boolean runExclusively(String jobName, Consumer<JobLease> task) {
+        return runExclusively(jobName, minHoldMs, task);
+    }
+
+    /**
+     * 리스를 획득한 경우에만 잡 실행 (최소 보유 시간 지정)
+     *
+     * @param minHoldMs 획득 후 이 시간 전에는 해제해도 만료시키지 않음 (0이면 끝나는 즉시 해제)
+     */
+    public boolean runExclusively(String jobName, long minHoldMs, Consumer<JobLease> task) {
+        if (!enabled) {
+            task.accept(new JobLease(jobName, ownerId, 0L, lease -> true));
+            return true;
+        }
+
+        JobLease lease;
+        try {
+            lease = acquire(jobName);
+        } catch (Exception e) {
+            log.error("스케줄러 락 획득 실패 - job: {}, 이번 실행 건너뜀", jobName, e);
+            return false;
+        }
+        if (lease == null) {
+            log.debug("다른 인스턴스가 실행 중 - job: {}", jobName);
+            return false;
+        }
+
+        SchedulerJobRun run = startRun(lease);
+        activeLeases.put(jobName, lease);
+        JobLease outer = currentLease.get();
+        currentLease.set(lease);
+        String status = "SUCCESS";
+        try {
+            task.accept(lease);
+            if (!lease.isHeld()) {
+                status = "LEASE_LOST";
+                log.warn("실행 중 리스 상실 - job: {}, token: {}", jobName, lease.getFencingToken());
+            }
+        } catch (Exception e) {
+            status = "FAILED";
+            if (lease.getSummary() == null) {
+                lease.setSummary(e.getClass().getSimpleName() + ": " + e.getMessage());
+            }
+            log.error("스케줄러 잡 실행 실패 - job: {}", jobName, e);
+        } finally {
+            restoreCurrentLease(outer);
+            activeLeases.remove(jobName, lease);
+            release(lease, minHoldMs);
+            finishRun(run, lease, status);
+        }
+        return true;
+    }
+
+    /**
+     * 현재 스레드에서 실행 중인 잡의 리스를 호출한 트랜잭션 안에서 검증 (펜싱)
+     *
+     * <p>{@link JobLease#checkpoint()}는 청크 시작 전 확인일 뿐이라, 확인 직후 리스를 잃어도 청크의 쓰기는 커밋됩니다(권고용).
+     * 이 메서드는 소유자·토큰이 일치하고 만료되지 않은 락 행을 공유 락으로 읽으므로,
+     * 보유 중이면 이 트랜잭션이 커밋될 때까지 다른 인스턴스가 리스를 가져가지 못하고,
+     * 이미 잃었으면 예외로 트랜잭션을 롤백시킵니다.</p>
+     *
+     * <p>스케줄러가 호출하는 {@code @Transactional} 메서드의 첫 쓰기 전에 호출합니다.
+     * 잡 밖(요청 경로)에서 호출되었거나 락이 비활성화된 경우에는 아무것도 하지 않습니다.</p>
+     *
+     * @throws CustomException 리스를 잃은 경우 (SCHEDULER_LEASE_LOST)
+     */
+    public void fenceCurrentLease() {
+        JobLease lease = currentLease.get();
+        if (lease == null) {
+            return;
+        }
+        if (!lease.isHeld() || schedulerLockDao.lockHeldLease(
+                lease.getJobName(), lease.getOwnerId(), lease.getFencingToken()) == null) {
+            lease.lost();
+            log.warn("펜싱 실패로 트랜잭션 롤백 - job: {}, token: {}", lease.getJobName(), lease.getFencingToken());
+            throw new CustomException(ErrorCode.SCHEDULER_LEASE_LOST);
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 실행 이력 정리 (매일 04:30, 한 인스턴스만 실행)
+     */
+    @Scheduled(cron = "0 30 4 * * *")
+    public void purgeJobRunHistory() {
+        if (!enabled) {
+            return;
+        }
+        runExclusively("scheduler-history-purge", lease -> {
+            int deleted = schedulerLockDao.deleteJobRunsOlderThan(historyRetentionDays);
+            lease.setSummary("deleted=" + deleted);
+            log.info("스케줄러 실행 이력 정리 - {}일 경과 {}건 삭제", historyRetentionDays, deleted);
+        });
+    }
+
+    private JobLease acquire(String jobName) {
+        schedulerLockDao.insertLockIfAbsent(jobName);
+        if (schedulerLockDao.tryAcquire(jobName, ownerId, leaseMs) == 0) {
+            return null;
+        }
+        Long token = schedulerLockDao.findFencingToken(jobName, ownerId);
+        if (token == null) {
+            return null;
+        }
+        log.debug("스케줄러 락 획득 - job: {}, owner: {}, token: {}", jobName, ownerId, token);
+        return new JobLease(jobName, ownerId, token, this::renew);
+    }
+
+    private boolean renew(JobLease lease) {
+        try {
+            return schedulerLockDao.renew(lease.getJobName(), lease.getOwnerId(), lease.getFencingToken(), leaseMs) == 1;
+        } catch (Exception e) {
+            // DB 장애 시 리스를 유지한다고 가정하지 않음
+            log.warn("스케줄러 리스 연장 실패 - job: {}", lease.getJobName(), e);
+            return false;
+        }
+    }
+
+    private void renewActiveLeases() {
+        activeLeases.values().forEach(lease -> {
+            if (lease.isHeld() && !renew(lease)) {
+                lease.lost();
+                log.warn("스케줄러 리스 상실 - job: {}, token: {}", lease.getJobName(), lease.getFencingToken());
+            }
+        });
+    }
+
+    private void release(JobLease lease, long minHoldMs) {
+        try {
+            schedulerLockDao.release(lease.getJobName(), lease.getOwnerId(), lease.getFencingToken(), minHoldMs);
+        } catch (Exception e) {
+            // 해제 실패 시 lease-ms 후 자동 만료
+            log.warn("스케줄러 락 해제 실패 - job: {}", lease.getJobName(), e);
+        }
+    }
+
+    private SchedulerJobRun startRun(JobLease lease) {
+        SchedulerJobRun run = SchedulerJobRun.builder()
+                .jobName(lease.getJobName())
+                .ownerId(lease.getOwnerId())
+                .fencingToken(lease.getFencingToken())
+                .status("RUNNING")
+                .build();
+        try {
+            schedulerLockDao.insertJobRun(run);
+        } catch (Exception e) {
+            log.warn("스케줄러 실행 이력 기록 실패 - job: {}", lease.getJobName(), e);
+        }
+        return run;
+    }
+
+    private void finishRun(SchedulerJobRun run, JobLease lease, String status) {
+        if (run.getRunId() == null) {
+            return;
+        }
+        String summary = lease.getSummary();
+        if (summary != null && summary.length() > SUMMARY_MAX_LENGTH) {
+            summary = summary.substring(0, SUMMARY_MAX_LENGTH);
+        }
+        run.setStatus(status);
+        run.setSummary(summary);
+        try {
+            schedulerLockDao.finishJobRun(run);
+        } catch (Exception e) {
+            log.warn("스케줄러 실행 이력 종료 기록 실패 - job: {}, runId: {}", run.getJobName(), run.getRunId(), e);
+        }
+    }
+
+    private void restoreCurrentLease(JobLease outer) {
+        if (outer == null) {
+            currentLease.remove();
+        } else {
+            currentLease.set(outer);
+        }
+    }
+
+    private static String resolveHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "unknown";
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.mungtrainer.mtserver.common.scheduler.dao;
+
+import com.mungtrainer.mtserver.common.scheduler.SchedulerJobRun;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface SchedulerLockDAO {
+
+    /**
+     * 잡 락 행이 없으면 생성 (이미 있으면 무시)
+     */
+    void insertLockIfAbsent(@Param("jobName") String jobName);
+
+    /**
+     * 리스 획득: 만료되었거나 내가 보유한 락이면 소유자/만료 시각 갱신 + 펜싱 토큰 증가
+     * @return 1이면 획득 성공
+     */
+    int tryAcquire(@Param("jobName") String jobName,
+                   @Param("ownerId") String ownerId,
+                   @Param("leaseMs") long leaseMs);
+
+    /**
+     * 현재 보유 중인 펜싱 토큰 조회 (소유자가 아니면 null)
+     */
+    Long findFencingToken(@Param("jobName") String jobName,
+                          @Param("ownerId") String ownerId);
+
+    /**
+     * 리스 연장 (소유자와 펜싱 토큰이 모두 일치할 때만)
+     * @return 1이면 연장 성공, 0이면 리스를 잃음
+     */
+    int renew(@Param("jobName") String jobName,
+              @Param("ownerId") String ownerId,
+              @Param("fencingToken") long fencingToken,
+              @Param("leaseMs") long leaseMs);
+
+    /**
+     * 펜싱: 소유자·토큰이 일치하고 만료되지 않은 락 행을 공유 락으로 조회
+     * 호출한 트랜잭션이 끝날 때까지 다른 인스턴스의 획득(UPDATE)을 막음
+     * @return 보유 중이면 펜싱 토큰, 리스를 잃었으면 null
+     */
+    Long lockHeldLease(@Param("jobName") String jobName,
+                       @Param("ownerId") String ownerId,
+                       @Param("fencingToken") long fencingToken);
+
+    /**
+     * 리스 해제 (획득 시각 + minHoldMs와 현재 시각 중 늦은 시각에 만료)
+     */
+    int release(@Param("jobName") String jobName,
+                @Param("ownerId") String ownerId,
+                @Param("fencingToken") long fencingToken,
+                @Param("minHoldMs") long minHoldMs);
+
+    /**
+     * 잡 실행 이력 등록 (RUNNING)
+     */
+    void insertJobRun(SchedulerJobRun run);
+
+    /**
+     * 잡 실행 이력 종료 처리
+     */
+    void finishJobRun(SchedulerJobRun run);
+
+    /**
+     * 보관 기간이 지난 실행 이력 삭제
+     */
+    int deleteJobRunsOlderThan(@Param("days") int days);
+}
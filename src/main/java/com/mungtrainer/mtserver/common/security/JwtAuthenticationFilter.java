@@ -1,5 +1,6 @@
 package com.mungtrainer.mtserver.common.security;
 
+import com.mungtrainer.mtserver.auth.entity.CustomUserDetails;
 import com.mungtrainer.mtserver.common.security.service.CustomUserDetailsService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -7,6 +8,7 @@ import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -21,9 +23,18 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
   private final JwtTokenProvider jwtTokenProvider;
   private final CustomUserDetailsService customUserDetailsService;
+  private final TokenRevocationStore tokenRevocationStore;
 
   private static final String ACCESS_TOKEN = "access_token";
 
+  // true: 토큰 클레임(uid, role)으로 인증 객체 생성 / false: 요청마다 DB에서 사용자 조회
+  @Value("${spring.jwt.stateless-auth.enabled:true}")
+  private boolean statelessAuthEnabled;
+
+  // Stateless 모드에서 로그아웃/비밀번호 변경 이전 발급 토큰 차단 여부
+  @Value("${spring.jwt.stateless-auth.revocation-check:true}")
+  private boolean revocationCheckEnabled;
+
   @Override
   protected void doFilterInternal(
       HttpServletRequest request,
@@ -31,12 +42,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
       FilterChain filterChain
   ) throws ServletException, IOException {
     String token = extractAccessTokenFromCookie(request);
+    // 요청당 한 번만 검증·파싱하고 이후 단계에서는 파싱 결과를 재사용
+    ParsedToken parsedToken = token != null
+        ? jwtTokenProvider.parseToken(token, JwtTokenProvider.TokenType.ACCESS)
+        : null;
 
-    if (token != null &&
-        jwtTokenProvider.validateToken(token,JwtTokenProvider.TokenType.ACCESS) &&
+    if (parsedToken != null &&
         SecurityContextHolder.getContext().getAuthentication() == null) {
-      String username = jwtTokenProvider.getUsername(token, JwtTokenProvider.TokenType.ACCESS);
-      UserDetails userDetails = customUserDetailsService.loadUserByUsername(username);
+      UserDetails userDetails = statelessAuthEnabled
+          ? buildUserDetailsFromClaims(parsedToken)
+          : customUserDetailsService.loadUserByUsername(parsedToken.getUsername());
+
+      if (userDetails == null) {
+        filterChain.doFilter(request, response);
+        return;
+      }
       UsernamePasswordAuthenticationToken authentication =
           new UsernamePasswordAuthenticationToken(
               userDetails,
@@ -49,6 +69,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     filterChain.doFilter(request, response);
   }
+
+  /**
+   * 검증된 액세스 토큰 클레임으로 CustomUserDetails 생성 (DB 조회 없음)
+   * uid/role 클레임이 없거나 무효화된 토큰이면 null 반환 → 미인증 상태로 진행
+   */
+  private CustomUserDetails buildUserDetailsFromClaims(ParsedToken parsedToken) {
+    Long userId = parsedToken.getUserId();
+    String role = parsedToken.getRole();
+    if (userId == null || role == null) {
+      return null;
+    }
+    if (revocationCheckEnabled && tokenRevocationStore.isRevoked(userId, parsedToken.getIssuedAt())) {
+      return null;
+    }
+    return new CustomUserDetails(userId, parsedToken.getUsername(), role);
+  }
+
   private String extractAccessTokenFromCookie(HttpServletRequest request) {
     Cookie[] cookies = request.getCookies();
 
@@ -1,5 +1,7 @@
 package com.mungtrainer.mtserver.common.security;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mungtrainer.mtserver.auth.entity.CustomUserDetails;
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.Cookie;
@@ -11,9 +13,11 @@ import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 
 import javax.crypto.SecretKey;
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Date;
 import java.util.UUID;
 
@@ -25,6 +29,12 @@ public class JwtTokenProvider {
   private final long refreshTokenValidityInMs;
   private Key atKey;
   private Key rtKey;
+  // 토큰 타입별로 미리 생성해 재사용하는 파서 (JwtParser는 불변·스레드 안전)
+  private JwtParser atParser;
+  private JwtParser rtParser;
+  private final VerifiedTokenCache verifiedTokenCache;
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
   public enum TokenType {
     ACCESS, REFRESH
@@ -34,12 +44,14 @@ public class JwtTokenProvider {
       @Value("${spring.jwt.access-secret}") String atSecret,
       @Value("${spring.jwt.refresh-secret}") String rtSecret,
       @Value("${spring.jwt.access-token-validity-in-ms}") long accessTokenValidityInMs,
-      @Value("${spring.jwt.refresh-token-validity-in-ms}") long refreshTokenValidityInMs
+      @Value("${spring.jwt.refresh-token-validity-in-ms}") long refreshTokenValidityInMs,
+      @Value("${spring.jwt.verified-cache.max-size:10000}") int verifiedCacheMaxSize
       ) {
     this.atSecret = atSecret;
     this.rtSecret = rtSecret;
     this.accessTokenValidityInMs = accessTokenValidityInMs;
     this.refreshTokenValidityInMs = refreshTokenValidityInMs;
+    this.verifiedTokenCache = new VerifiedTokenCache(verifiedCacheMaxSize);
   }
 
   @PostConstruct
@@ -47,6 +59,8 @@ public class JwtTokenProvider {
     // 시크릿 문자열을 HMAC-SHA 키로 변환
     this.atKey = Keys.hmacShaKeyFor(atSecret.getBytes(StandardCharsets.UTF_8));
     this.rtKey = Keys.hmacShaKeyFor(rtSecret.getBytes(StandardCharsets.UTF_8));
+    this.atParser = Jwts.parser().verifyWith((SecretKey) atKey).build();
+    this.rtParser = Jwts.parser().verifyWith((SecretKey) rtKey).build();
   }
 
   public String generateAccessToken(Authentication authentication) {
@@ -84,25 +98,19 @@ public class JwtTokenProvider {
   }
 
   public String getUsername(String token, TokenType tokenType) {
-    return parseClaims(token, tokenType)
-        .getPayload()
-        .getSubject();
+    return verify(token, tokenType).getUsername();
   }
 
   public Long getUserId(String token, TokenType tokenType) {
-    Claims claims = parseClaims(token, tokenType).getPayload();
-    return claims.get("uid", Long.class);
+    return verify(token, tokenType).getUserId();
   }
 
   public String getRole(String token, TokenType tokenType) {
-    Claims claims = parseClaims(token, tokenType).getPayload();
-    return claims.get("role", String.class);
+    return verify(token, tokenType).getRole();
   }
 
   public TokenType getTokenType(String token, TokenType tokenType) {
-    Claims claims = parseClaims(token, tokenType).getPayload();
-    String type = claims.get("type", String.class);
-    return type != null ? TokenType.valueOf(type) : null;
+    return verify(token, tokenType).getTokenType();
   }
   /**
    * 주어진 JWT 토큰의 유효성을 검증합니다.
@@ -113,12 +121,71 @@ public class JwtTokenProvider {
    *                   (파싱 실패, 만료, 서명 오류 등 모든 예외 상황에서 false 반환)
    */
   public boolean validateToken(String token, TokenType tokenType) {
+    return parseToken(token, tokenType) != null;
+  }
+
+  /**
+   * 토큰을 한 번 검증·파싱하여 {@link ParsedToken}으로 반환합니다.
+   * 여러 클레임이 필요한 경우 validateToken/getUsername/getUserId를 각각 호출하지 말고 이 메서드를 사용합니다.
+   *
+   * @param token      검증할 JWT 토큰 문자열
+   * @param tokenType  토큰 타입(ACCESS 또는 REFRESH)
+   * @return           유효한 토큰이면 파싱 결과, 만료·변조 등으로 유효하지 않으면 null
+   */
+  public ParsedToken parseToken(String token, TokenType tokenType) {
+    if (token == null || token.isBlank()) {
+      return null;
+    }
     try {
-      Jws<Claims> jws = parseClaims(token, tokenType);
-      Date expiration = jws.getPayload().getExpiration();
-      return expiration.after(new Date());
+      ParsedToken parsed = verify(token, tokenType);
+      return parsed.isExpired() ? null : parsed;
     } catch (JwtException | IllegalArgumentException e) {
-      return false;
+      return null;
+    }
+  }
+
+  /**
+   * 캐시 조회 후 미스일 때만 서명을 검증합니다. (검증 실패 시 JwtException)
+   */
+  private ParsedToken verify(String token, TokenType tokenType) {
+    String jti = peekJti(token);
+    ParsedToken cached = verifiedTokenCache.get(tokenType, jti, token);
+    if (cached != null) {
+      return cached;
+    }
+
+    Claims claims = parseClaims(token, tokenType).getPayload();
+    String type = claims.get("type", String.class);
+    ParsedToken parsed = ParsedToken.builder()
+        .token(token)
+        .tokenType(type != null ? TokenType.valueOf(type) : null)
+        .jti(claims.getId())
+        .username(claims.getSubject())
+        .userId(claims.get("uid", Long.class))
+        .role(claims.get("role", String.class))
+        .issuedAt(claims.getIssuedAt())
+        .expiration(claims.getExpiration())
+        .build();
+    verifiedTokenCache.put(tokenType, parsed);
+    return parsed;
+  }
+
+  /**
+   * 캐시 키 조회용으로 서명 검증 없이 payload의 jti만 읽습니다.
+   * 캐시 히트는 토큰 원문 일치까지 확인하므로 여기서 읽은 값을 신뢰하지는 않습니다.
+   */
+  private String peekJti(String token) {
+    int first = token.indexOf('.');
+    int second = first < 0 ? -1 : token.indexOf('.', first + 1);
+    if (second < 0) {
+      return null;
+    }
+    try {
+      byte[] payload = Base64.getUrlDecoder().decode(token.substring(first + 1, second));
+      JsonNode jti = OBJECT_MAPPER.readTree(payload).get("jti");
+      return jti != null ? jti.asText() : null;
+    } catch (IllegalArgumentException | IOException e) {
+      return null;
     }
   }
 
@@ -126,12 +193,8 @@ public class JwtTokenProvider {
    * 내부에서만 사용하는 Claims 파서
    */
   private Jws<Claims> parseClaims(String token, TokenType tokenType) {
-    Key key = (tokenType == TokenType.ACCESS) ? atKey : rtKey;
-
-    return Jwts.parser()
-               .verifyWith((SecretKey) key)
-               .build()
-               .parseSignedClaims(token);
+    JwtParser parser = (tokenType == TokenType.ACCESS) ? atParser : rtParser;
+    return parser.parseSignedClaims(token);
   }
 
   public String resolveAccessToken(HttpServletRequest request) {
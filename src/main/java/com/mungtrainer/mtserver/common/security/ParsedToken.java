@@ -0,0 +1,30 @@
+package com.mungtrainer.mtserver.common.security;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Date;
+
+/**
+ * 서명 검증을 마친 JWT 파싱 결과
+ *
+ * <p>요청당 한 번만 파싱하고 필터 안에서 재사용하여
+ * getUsername / getUserId / getRole 호출마다 재파싱하지 않도록 합니다.</p>
+ */
+@Getter
+@Builder
+public class ParsedToken {
+
+  private final String token;
+  private final JwtTokenProvider.TokenType tokenType;
+  private final String jti;
+  private final String username;
+  private final Long userId;
+  private final String role;
+  private final Date issuedAt;
+  private final Date expiration;
+
+  public boolean isExpired() {
+    return expiration == null || !expiration.after(new Date());
+  }
+}
@@ -0,0 +1,76 @@
+package com.mungtrainer.mtserver.common.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 액세스 토큰 무효화 기준 시각 저장소 (인메모리)
+ *
+ * <p>Stateless 인증 모드에서는 요청마다 DB에서 사용자를 조회하지 않으므로,
+ * 로그아웃·비밀번호 변경 시점 이전에 발급된 액세스 토큰을 걸러내기 위해
+ * 사용자별 "이 시각 이전 발급 토큰은 무효" 기준값만 메모리에 보관합니다.</p>
+ *
+ * <ul>
+ *   <li>JWT iat는 초 단위이므로 기준 시각도 초 단위로 절삭하여 저장</li>
+ *   <li>액세스 토큰 유효기간이 지난 항목은 더 이상 의미가 없으므로 조회 시 제거</li>
+ *   <li>단일 인스턴스 기준 구조이며, 재시작 시 초기화됨 (최대 액세스 토큰 유효기간만큼 영향)</li>
+ * </ul>
+ */
+@Component
+public class TokenRevocationStore {
+
+  private final Map<Long, Long> revokedBefore = new ConcurrentHashMap<>();
+  private final long accessTokenValidityInMs;
+
+  public TokenRevocationStore(
+      @Value("${spring.jwt.access-token-validity-in-ms}") long accessTokenValidityInMs
+  ) {
+    this.accessTokenValidityInMs = accessTokenValidityInMs;
+  }
+
+  /**
+   * 현재 시각 이전에 발급된 사용자의 모든 액세스 토큰을 무효화합니다.
+   *
+   * @param userId 사용자 ID
+   */
+  public void revokeAll(Long userId) {
+    if (userId == null) {
+      return;
+    }
+    long nowSec = System.currentTimeMillis() / 1000 * 1000;
+    revokedBefore.put(userId, nowSec);
+    purgeExpired();
+  }
+
+  /**
+   * 토큰이 무효화 기준 시각 이전에 발급되었는지 확인합니다.
+   *
+   * @param userId   사용자 ID
+   * @param issuedAt 토큰 발급 시각 (iat)
+   * @return 무효화된 토큰이면 true
+   */
+  public boolean isRevoked(Long userId, Date issuedAt) {
+    if (userId == null) {
+      return false;
+    }
+    Long threshold = revokedBefore.get(userId);
+    if (threshold == null) {
+      return false;
+    }
+    if (threshold + accessTokenValidityInMs < System.currentTimeMillis()) {
+      // 기준 시각 이전 토큰은 이미 모두 만료됨
+      revokedBefore.remove(userId, threshold);
+      return false;
+    }
+    return issuedAt == null || issuedAt.getTime() < threshold;
+  }
+
+  private void purgeExpired() {
+    long limit = System.currentTimeMillis() - accessTokenValidityInMs;
+    revokedBefore.values().removeIf(threshold -> threshold < limit);
+  }
+}
@@ -0,0 +1,69 @@
+package com.mungtrainer.mtserver.common.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 서명 검증을 마친 토큰 캐시 (jti 기준)
+ *
+ * <p>같은 브라우저 세션에서 반복 전송되는 토큰은 HMAC 검증을 건너뛰도록
+ * 검증 결과({@link ParsedToken})를 보관합니다.</p>
+ *
+ * <ul>
+ *   <li>jti만으로 신뢰하지 않고 토큰 원문이 일치할 때만 히트 처리</li>
+ *   <li>만료된 항목은 조회 시 제거</li>
+ *   <li>최대 크기를 넘으면 가장 오래 사용하지 않은 항목부터 제거 (접근 순서 LRU, 추가·조회 모두 O(1))</li>
+ * </ul>
+ */
+class VerifiedTokenCache {
+
+  private final Map<String, ParsedToken> entries;
+  private final int maxSize;
+
+  VerifiedTokenCache(int maxSize) {
+    this.maxSize = maxSize;
+    // 조회도 접근 순서를 바꾸므로 전체를 동기화 (임계 구역은 해시 조회 한 번)
+    this.entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, ParsedToken> eldest) {
+        return size() > maxSize;
+      }
+    });
+  }
+
+  ParsedToken get(JwtTokenProvider.TokenType tokenType, String jti, String token) {
+    if (maxSize <= 0 || jti == null) {
+      return null;
+    }
+    String key = key(tokenType, jti);
+    ParsedToken cached = entries.get(key);
+    if (cached == null) {
+      return null;
+    }
+    if (cached.isExpired()) {
+      entries.remove(key, cached);
+      return null;
+    }
+    return sameToken(cached.getToken(), token) ? cached : null;
+  }
+
+  void put(JwtTokenProvider.TokenType tokenType, ParsedToken parsed) {
+    if (maxSize <= 0 || parsed.getJti() == null) {
+      return;
+    }
+    entries.put(key(tokenType, parsed.getJti()), parsed);
+  }
+
+  private String key(JwtTokenProvider.TokenType tokenType, String jti) {
+    return tokenType.name() + ":" + jti;
+  }
+
+  private boolean sameToken(String cached, String token) {
+    return MessageDigest.isEqual(
+        cached.getBytes(StandardCharsets.UTF_8),
+        token.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -49,6 +49,10 @@ public class SecurityConfig {
 
                                    .requestMatchers("/api/users/counseling/**").hasRole("USER")
 
+                                    // Actuator: health/info만 공개, metrics 등 나머지는 관리자만
+                                   .requestMatchers("/actuator/health/**", "/actuator/info").permitAll()
+                                   .requestMatchers("/actuator/**").hasRole("ADMIN")
+
                                     // User 인증만 받을 api
                                    .requestMatchers("/api/users/**",
                                                     "/api/applications/**",
@@ -6,10 +6,14 @@ import com.mungtrainer.mtserver.counseling.dto.request.BulkApplicationStatusRequ
 import com.mungtrainer.mtserver.counseling.dto.request.CounselingPostRequest;
 import com.mungtrainer.mtserver.counseling.dto.response.*;
 import com.mungtrainer.mtserver.counseling.service.CounselingService;
+import com.mungtrainer.mtserver.counseling.service.DogStatsCache;
 import com.mungtrainer.mtserver.counseling.service.TrainerUserService;
 import com.mungtrainer.mtserver.dog.dto.response.DogResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -69,14 +73,24 @@ public class CounselingTrainerController {
 
     // <=============== 반려견 통계 페이지 조회 ========================>
     // 목록 조회 → 반려견이 신청했던 모든 훈련 정보를 요약해서 보여주는 가벼운 쿼리
+    // ETag가 같으면(If-None-Match) 본문 없이 304 응답
     @GetMapping("/user/dogs/{dogId}")
     public ResponseEntity<DogStatsResponse> getDogStats(
             @AuthenticationPrincipal CustomUserDetails userDetails,
-            @PathVariable("dogId") Long dogId
+            @PathVariable("dogId") Long dogId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
         Long trainerId = userDetails.getUserId();
-        DogStatsResponse dogStats = trainerService.getDogStats(dogId, trainerId);
-        return ResponseEntity.ok(dogStats);
+        DogStatsCache.Snapshot dogStats = trainerService.getDogStats(dogId, trainerId);
+        if (dogStats.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(dogStats.getEtag())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(dogStats.getEtag())
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(dogStats.getResponse());
     }
 
     // 승인 대기 중인 신청 목록
@@ -1,7 +1,6 @@
 package com.mungtrainer.mtserver.counseling.dao;
 
 import com.mungtrainer.mtserver.counseling.dto.response.CounselingDogResponse;
-import com.mungtrainer.mtserver.counseling.dto.response.CounselingResponse;
 import com.mungtrainer.mtserver.counseling.dto.response.DogForCounselingResponse;
 import com.mungtrainer.mtserver.counseling.dto.response.UserCounselingListResponse;
 import com.mungtrainer.mtserver.counseling.dto.response.UserCounselingDetailResponse;
@@ -36,13 +35,6 @@ public interface CounselingDAO {
     // 상담 완료 시 신청 status 변경
     int updateApplicationStatusAfterCounseling(@Param("trainerId") Long trainerId, @Param("dogId") Long dogId);
 
-    /**
-     * 특정 반려견과 훈련사 기준 상담 내역 조회
-     */
-    List<CounselingResponse> selectCounselingsByDogAndTrainer(
-            @Param("dogId") Long dogId
-    );
-
     /**
      * 사용자의 상담 목록 조회
      */
@@ -1,12 +1,15 @@
 package com.mungtrainer.mtserver.counseling.dao;
 
 import com.mungtrainer.mtserver.counseling.dto.response.*;
+import com.mungtrainer.mtserver.training.dto.response.ApplicationSessionRef;
+import com.mungtrainer.mtserver.training.dto.response.PaymentDeadlineRef;
 import com.mungtrainer.mtserver.training.entity.TrainingSession;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
-import java.util.Map;
 
 @Mapper
 public interface TrainerUserDAO {
@@ -25,8 +28,11 @@ public interface TrainerUserDAO {
 
     // 회원 목록 조회
     List<TrainerUserListResponse> findUsersByTrainerId(@Param("trainerId") Long trainerId);
-    // 반려견 신청 과정 조회 (출석 미포함, tags 기준 회차 계산)
-    List<TrainingApplicationResponse> findTrainingApplicationsByDogId(@Param("dogId") Long dogId);
+    // 반려견 통계 화면 - 반려견 프로필 + 상담 기록
+    DogStatsProfile findDogStatsProfile(@Param("dogId") Long dogId);
+
+    // 반려견 통계 화면 - 단회차/다회차 훈련 이력 (신청 1건당 1행)
+    List<DogTrainingHistoryRow> findDogTrainingHistory(@Param("dogId") Long dogId);
 
     List<MultiCourseGroupResponse> findMultiCoursesByDogId(Long dogId);
 
@@ -60,10 +66,14 @@ public interface TrainerUserDAO {
                              @Param("trainerId") Long trainerId,
                              @Param("rejectReason") String rejectReason);
 
-    // 일괄 승인 (코스의 모든 회차)
-    int updateBulkStatusApproved(@Param("courseId") Long courseId,
-                                 @Param("dogId") Long dogId,
-                                 @Param("trainerId") Long trainerId);
+    // 일괄 승인 대상 (코스의 모든 회차 중 APPLIED 신청, 회차 순)
+    List<ApplicationSessionRef> findAppliedApplicationsByCourseAndDog(@Param("courseId") Long courseId,
+                                                                      @Param("dogId") Long dogId,
+                                                                      @Param("trainerId") Long trainerId);
+
+    // 일괄 승인 (좌석을 확보한 신청만)
+    int updateStatusApprovedByIds(@Param("applicationIds") List<Long> applicationIds,
+                                  @Param("trainerId") Long trainerId);
 
     // 일괄 거절 (코스의 모든 회차)
     int updateBulkStatusRejected(@Param("courseId") Long courseId,
@@ -71,15 +81,6 @@ public interface TrainerUserDAO {
                                  @Param("trainerId") Long trainerId,
                                  @Param("rejectReason") String rejectReason);
 
-    List<MultiCourseGroupResponse> findMultiCourseDetail(Map<String, Long> params);
-
-    /**
-     * 코스와 반려견으로 신청 ID 목록 조회
-     * 일괄 승인 시 출석 정보 생성에 사용
-     */
-    List<Long> findApplicationIdsByCourseAndDog(@Param("courseId") Long courseId,
-                                                 @Param("dogId") Long dogId);
-
     /**
      * 코스와 반려견으로 WAITING 상태 신청 ID 목록 조회
      * 일괄 승인 시 대기 중인 신청들을 미리 승인 처리
@@ -121,30 +122,6 @@ public interface TrainerUserDAO {
      */
     TrainingSession findSessionById(@Param("sessionId") Long sessionId);
 
-    /**
-     * 세션 조회 (비관적 락)
-     * SELECT FOR UPDATE를 사용하여 동시성 제어
-     * 대기자 승격 시 경쟁 상태 방지를 위해 사용
-     *
-     * @param sessionId 세션 ID
-     * @return 세션 정보
-     */
-    TrainingSession findSessionByIdForUpdate(@Param("sessionId") Long sessionId);
-
-    /**
-     * 승인된 신청 수 카운트 (ACCEPT, PAID만)
-     * @param sessionId 세션 ID
-     * @return 승인된 신청 수
-     */
-    int countApprovedApplications(@Param("sessionId") Long sessionId);
-
-    /**
-     * 가장 오래 대기한 신청 ID 조회 (FIFO)
-     * @param sessionId 세션 ID
-     * @return 대기 중인 신청 ID (없으면 null)
-     */
-    Long findOldestWaitingApplicationId(@Param("sessionId") Long sessionId);
-
     /**
      * 신청 상태 단순 업데이트 (감사 정보 제외)
      * @param applicationId 신청 ID
@@ -155,16 +132,6 @@ public interface TrainerUserDAO {
         @Param("status") String status
     );
 
-    /**
-     * 대기 상태 업데이트
-     * @param applicationId 신청 ID
-     * @param status 변경할 상태 (PROMOTED, CANCELLED 등)
-     */
-    void updateWaitingStatus(
-        @Param("applicationId") Long applicationId,
-        @Param("status") String status
-    );
-
     /**
      * 대기 중인 신청을 미리 승인 처리
      * waiting 테이블의 is_approved = 1로 설정
@@ -190,30 +157,63 @@ public interface TrainerUserDAO {
      */
 
     /**
-     * 결제 기한 설정
-     * @param applicationId 신청 ID
-     * @param hours 기한 (시간)
+     * 결제 기한이 지난 ACCEPT 상태 신청 조회 (application_id 기준 keyset 페이징)
+     * @param afterApplicationId 이전 청크의 마지막 신청 ID (처음이면 0)
+     * @param limit 청크 크기
+     * @return (신청 ID, 세션 ID) 목록, application_id 오름차순
      */
-    void updatePaymentDeadline(
-        @Param("applicationId") Long applicationId,
-        @Param("hours") int hours
+    List<ApplicationSessionRef> findExpiredAcceptApplications(
+        @Param("afterApplicationId") Long afterApplicationId,
+        @Param("limit") int limit
     );
 
     /**
-     * 결제 기한이 지난 ACCEPT 상태 신청 조회
-     * @return 만료된 신청 ID 목록
+     * 신청 일괄 만료 처리 (ACCEPT → EXPIRED, 결제 기한이 지난 신청만)
+     * @param applicationIds 신청 ID 목록
+     * @return 만료 처리된 건수
      */
-    List<Long> findExpiredAcceptApplications();
+    int expireApplications(@Param("applicationIds") List<Long> applicationIds);
 
     /**
-     * 신청을 만료 처리 (ACCEPT → EXPIRED)
-     * @param applicationId 신청 ID
+     * 지정한 신청 중 결제 기한이 지난 ACCEPT 상태 신청 잠금 조회 (FOR UPDATE, 만료 처리 직전)
+     * 조회된 신청은 같은 트랜잭션의 {@link #expireApplications(List)}에서 모두 만료됨
+     * @param applicationIds 신청 ID 목록
+     * @return (신청 ID, 세션 ID) 목록
      */
-    void expireApplication(@Param("applicationId") Long applicationId);
+    List<ApplicationSessionRef> findExpiredAcceptApplicationsForUpdate(
+        @Param("applicationIds") List<Long> applicationIds
+    );
+
+    /**
+     * 지정한 신청 중 결제 기한이 지난 ACCEPT 상태 신청 조회 (마감 타이머 발화 시)
+     * @param applicationIds 신청 ID 목록
+     * @return (신청 ID, 세션 ID) 목록
+     */
+    List<ApplicationSessionRef> findExpiredAcceptApplicationsByIds(
+        @Param("applicationIds") Collection<Long> applicationIds
+    );
+
+    /**
+     * 적재 기간 안에 결제 기한이 도래하는 ACCEPT 상태 신청 조회 (마감 타이머 적재용)
+     * @param applicationIds 신청 ID 목록 (null이면 전체)
+     * @param until 이 시각 이전에 기한이 도래하는 신청만 조회
+     * @return (신청 ID, 결제 기한) 목록
+     */
+    List<PaymentDeadlineRef> findPaymentDeadlines(
+        @Param("applicationIds") Collection<Long> applicationIds,
+        @Param("until") LocalDateTime until
+    );
 
     /**
      * 결제 기한 초기화 (결제 완료 시)
      * @param applicationId 신청 ID
      */
     void clearPaymentDeadline(@Param("applicationId") Long applicationId);
+
+    /**
+     * 신청들의 반려견 ID 조회 (반려견 통계 캐시 무효화용)
+     * @param applicationIds 신청 ID 목록
+     * @return 중복 없는 반려견 ID 목록
+     */
+    List<Long> findDogIdsByApplicationIds(@Param("applicationIds") Collection<Long> applicationIds);
 }
@@ -15,6 +15,7 @@ public class AppliedWaitingResponse {
 	private Long userId;
 	private String fcmToken;
 	private String courseTitle;
+	private Long sessionId;
 	private LocalDate sessionDate;
 	private LocalTime startTime;
 	private LocalTime endTime;
@@ -0,0 +1,18 @@
+package com.mungtrainer.mtserver.counseling.dto.response;
+
+import com.mungtrainer.mtserver.dog.dto.response.DogResponse;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 반려견 통계 화면용 프로필 (반려견 + 상담 기록, 한 번의 쿼리로 조회)
+ */
+@Getter
+@Setter
+public class DogStatsProfile {
+    private Long dogId;
+    private DogResponse dog;
+    private List<CounselingResponse> counselings;
+}
@@ -7,7 +7,7 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
 
-@Getter @Setter @Builder
+@Getter @Setter @Builder(toBuilder = true)
 public class DogStatsResponse {
 
     private DogResponse dog;
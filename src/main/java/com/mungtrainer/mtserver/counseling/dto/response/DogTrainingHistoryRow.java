@@ -0,0 +1,37 @@
+package com.mungtrainer.mtserver.counseling.dto.response;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 반려견 훈련 이력 행 (신청 1건 = 과정 + 세션 + 출석 상태)
+ *
+ * <p>단회차/다회차 구분 없이 한 번에 조회하며, 통계와 그룹화는 서비스에서 한 번 순회하며 계산합니다.
+ */
+@Getter
+@Setter
+public class DogTrainingHistoryRow {
+    // 과정 정보
+    private Long courseId;
+    private String title;
+    private String description;
+    private String tags;
+    private String location;
+    private String type;
+    private String difficulty;
+    private String mainImage;
+
+    // 세션 정보
+    private Long sessionId;
+    private Integer sessionNo;
+    private LocalDate sessionDate;
+    private LocalTime startTime;
+    private LocalTime endTime;
+    private String locationDetail;
+
+    // 출석 상태 (ATTENDED, ABSENT, null)
+    private String attendanceStatus;
+}
@@ -17,6 +17,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,6 +27,7 @@ public class CounselingService {
     private final S3Service s3Service;
     private final DogDAO dogDao;
     private final TrainerUserDAO trainerUserDao;
+    private final DogStatsCache dogStatsCache;
 
 
     @Transactional
@@ -60,6 +62,9 @@ public class CounselingService {
             throw new CustomException(ErrorCode.COUNSELING_CREATE_FAILED);
         }
 
+        // 반려견 통계의 상담 기록이 바뀌므로 캐시 무효화
+        dogStatsCache.invalidateDogAfterCommit(requestDto.getDogId());
+
 
 
 
@@ -95,6 +100,8 @@ public class CounselingService {
             throw new CustomException(ErrorCode.COUNSELING_CANCEL_FAILED);
         }
 
+        dogStatsCache.invalidateDogAfterCommit(counseling.getDogId());
+
         return new CancelCounselingResponse(true, "상담이 성공적으로 취소되었습니다.");
     }
 
@@ -119,14 +126,13 @@ public class CounselingService {
                 .filter(key -> key != null && !key.isEmpty())
                 .collect(Collectors.toList());
 
-        // 3. S3 Presigned URL 일괄 발급
-        List<String> presignedUrls = s3Service.generateDownloadPresignedUrls(imageKeys);
+        // 3. S3 Presigned URL 일괄 발급 (key → URL)
+        Map<String, String> presignedUrls = s3Service.generateDownloadPresignedUrlMap(imageKeys);
 
         // 4. 각 반려견 객체에 URL 매핑
-        int urlIndex = 0;
         for (CounselingDogResponse dog : dogs) {
             if (dog.getDogImage() != null && !dog.getDogImage().isEmpty()) {
-                dog.setDogImage(presignedUrls.get(urlIndex++));
+                dog.setDogImage(presignedUrls.get(dog.getDogImage()));
             }
         }
 
@@ -177,6 +183,9 @@ public class CounselingService {
             counselingDao.updateApplicationStatusAfterCounseling(trainerId, counseling.getDogId());
         }
 
+        // 상담 내용과 신청 상태가 바뀌므로 반려견 통계 캐시 무효화
+        dogStatsCache.invalidateDogAfterCommit(counseling.getDogId());
+
 
         return new CounselingPostResponse(true, "상담 내용이 저장되었습니다.");
     }
@@ -226,14 +235,13 @@ public class CounselingService {
                 .collect(Collectors.toList());
 
         if (!imageKeys.isEmpty()) {
-            // 3. S3 Presigned URL 일괄 발급
-            List<String> presignedUrls = s3Service.generateDownloadPresignedUrls(imageKeys);
+            // 3. S3 Presigned URL 일괄 발급 (key → URL)
+            Map<String, String> presignedUrls = s3Service.generateDownloadPresignedUrlMap(imageKeys);
 
             // 4. 각 상담 객체에 URL 매핑
-            int urlIndex = 0;
             for (UserCounselingListResponse counseling : counselings) {
                 if (counseling.getDogImage() != null && !counseling.getDogImage().isEmpty()) {
-                    counseling.setDogImage(presignedUrls.get(urlIndex++));
+                    counseling.setDogImage(presignedUrls.get(counseling.getDogImage()));
                 }
             }
         }
@@ -0,0 +1,267 @@
+package com.mungtrainer.mtserver.counseling.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mungtrainer.mtserver.common.s3.S3Service;
+import com.mungtrainer.mtserver.counseling.dao.TrainerUserDAO;
+import com.mungtrainer.mtserver.counseling.dto.response.DogStatsResponse;
+import com.mungtrainer.mtserver.dog.dto.response.DogResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * 반려견 통계 응답 캐시 (인메모리)
+ *
+ * <p>반려견 통계 화면은 훈련사가 수업의 반려견마다 열어 보지만, 내용은 출석·신청·상담이 바뀔 때만 달라집니다.
+ * 조립이 끝난 {@link DogStatsResponse}를 (dogId, trainerId)로 보관하고, 응답 내용으로 만든 ETag를 함께 둡니다.</p>
+ *
+ * <ul>
+ *   <li>무효화: 출석 상태 변경, 신청/승인/승격, 상담 신청·취소·작성 시 해당 반려견 항목을 즉시 한 번, 커밋 후 한 번 제거</li>
+ *   <li>ttl-seconds: 다른 인스턴스의 변경, 과정/세션 정보 수정이 반영되기까지의 최대 지연</li>
+ *   <li>보관 항목의 프로필 이미지는 S3 키 그대로 두고, 본문을 내보낼 때({@link Snapshot#getResponse()})만
+ *       사본에 Presigned URL을 붙임 → 캐시 적중과 304 응답에서는 서명하지 않음</li>
+ *   <li>ETag는 S3 키 기준 응답 JSON의 해시이므로 인스턴스가 달라도 내용이 같으면 같은 값.
+ *       프로필 이미지가 있으면 Presigned URL 유효시간의 1/4 구간 번호를 붙여,
+ *       304로 재사용되는 본문의 URL이 만료되기 전에 새 본문을 받게 함</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class DogStatsCache {
+
+    private final TrainerUserDAO trainerUserDao;
+    private final S3Service s3Service;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final long ttlMillis;
+    private final int maxSize;
+    private final long etagWindowMillis;
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    // 조립 도중 무효화가 일어났는지 판별하기 위한 세대 번호
+    private final AtomicLong generation = new AtomicLong();
+
+    public DogStatsCache(
+            TrainerUserDAO trainerUserDao,
+            S3Service s3Service,
+            ObjectMapper objectMapper,
+            @Value("${trainer.dog-stats-cache.enabled:true}") boolean enabled,
+            @Value("${trainer.dog-stats-cache.ttl-seconds:300}") long ttlSeconds,
+            @Value("${trainer.dog-stats-cache.max-size:2000}") int maxSize,
+            @Value("${aws.s3.presigned-url.expiration-minutes:10}") long presignedUrlExpirationMinutes
+    ) {
+        this.trainerUserDao = trainerUserDao;
+        this.s3Service = s3Service;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled && maxSize > 0;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.maxSize = maxSize;
+        // PresignedUrlCache는 남은 유효시간이 절반 이상인 URL만 재사용하므로 1/4 구간이면 304 동안 만료되지 않음
+        this.etagWindowMillis = Math.max(1000, presignedUrlExpirationMinutes * 60_000 / 4);
+    }
+
+    /**
+     * 캐시된 통계 조회 (없거나 만료되었으면 loader로 조립 후 보관)
+     *
+     * @param loader 캐시 미스 시 통계를 조립하는 함수 (반려견 프로필 이미지는 S3 키 상태로 반환,
+     *               Presigned URL 변환은 본문을 내보낼 때 수행)
+     * @return 통계 응답과 ETag
+     */
+    public Snapshot get(Long dogId, Long trainerId, Supplier<DogStatsResponse> loader) {
+        Key key = new Key(dogId, trainerId);
+        long now = System.currentTimeMillis();
+
+        Entry cached = enabled ? entries.get(key) : null;
+        if (cached != null) {
+            if (now - cached.loadedAt < ttlMillis) {
+                return cached.snapshot;
+            }
+            entries.remove(key, cached);
+        }
+
+        long started = generation.get();
+        DogStatsResponse response = loader.get();
+        long etagWindow = profileImageKeyOf(response) != null ? etagWindowMillis : 0;
+        Entry loaded = new Entry(
+                new Snapshot(response, etagOf(response), etagWindow, this::withPresignedProfileImage), now);
+        // 조립 중 무효화가 있었다면 이번 결과는 응답에만 쓰고 보관하지 않음
+        if (enabled && started == generation.get()) {
+            if (entries.size() >= maxSize) {
+                evict(now);
+            }
+            entries.put(key, loaded);
+        }
+        return loaded.snapshot;
+    }
+
+    /**
+     * 반려견의 통계 무효화 (모든 훈련사 기준 항목, 트랜잭션 안이면 커밋 후 한 번 더 무효화)
+     */
+    public void invalidateDogsAfterCommit(Collection<Long> dogIds) {
+        if (!enabled || dogIds == null || dogIds.isEmpty()) {
+            return;
+        }
+        Set<Long> targets = new HashSet<>(dogIds);
+        targets.remove(null);
+        if (targets.isEmpty()) {
+            return;
+        }
+        invalidate(targets);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            invalidate(targets);
+                        }
+                    }
+            );
+        }
+    }
+
+    public void invalidateDogAfterCommit(Long dogId) {
+        if (dogId != null) {
+            invalidateDogsAfterCommit(List.of(dogId));
+        }
+    }
+
+    /**
+     * 신청들의 반려견 통계 무효화 (신청 ID만 아는 상태 변경용)
+     */
+    public void invalidateApplicationsAfterCommit(Collection<Long> applicationIds) {
+        if (!enabled || applicationIds == null || applicationIds.isEmpty()) {
+            return;
+        }
+        invalidateDogsAfterCommit(trainerUserDao.findDogIdsByApplicationIds(applicationIds));
+    }
+
+    private void invalidate(Set<Long> dogIds) {
+        generation.incrementAndGet();
+        entries.keySet().removeIf(key -> dogIds.contains(key.dogId));
+    }
+
+    /**
+     * 보관한 응답(S3 키)의 사본에 프로필 이미지 Presigned URL을 붙임 (보관 항목은 변경하지 않음)
+     */
+    private DogStatsResponse withPresignedProfileImage(DogStatsResponse cached) {
+        String imageKey = profileImageKeyOf(cached);
+        if (imageKey == null) {
+            return cached;
+        }
+        DogResponse dog = cached.getDog().toBuilder()
+                .profileImage(s3Service.generateDownloadPresignedUrl(imageKey))
+                .build();
+        return cached.toBuilder().dog(dog).build();
+    }
+
+    private static String profileImageKeyOf(DogStatsResponse response) {
+        if (response.getDog() == null) {
+            return null;
+        }
+        String imageKey = response.getDog().getProfileImage();
+        return imageKey == null || imageKey.isBlank() ? null : imageKey;
+    }
+
+    private String etagOf(DogStatsResponse response) {
+        try {
+            return DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(response));
+        } catch (JsonProcessingException e) {
+            // ETag를 만들 수 없으면 매번 새 응답으로 취급
+            log.warn("반려견 통계 ETag 생성 실패", e);
+            return UUID.randomUUID().toString();
+        }
+    }
+
+    private void evict(long now) {
+        entries.values().removeIf(entry -> now - entry.loadedAt >= ttlMillis);
+        if (entries.size() < maxSize) {
+            return;
+        }
+        int toRemove = Math.max(1, maxSize / 10);
+        entries.entrySet().stream()
+                .sorted(Comparator.comparingLong(e -> e.getValue().loadedAt))
+                .limit(toRemove)
+                .map(Map.Entry::getKey)
+                .toList()
+                .forEach(entries::remove);
+        log.debug("반려견 통계 캐시 용량 초과로 {}건 제거", toRemove);
+    }
+
+    /**
+     * 통계 응답 + ETag
+     */
+    public static final class Snapshot {
+        private final DogStatsResponse cached;
+        private final String contentHash;
+        private final long etagWindowMillis;
+        private final UnaryOperator<DogStatsResponse> presigner;
+
+        private Snapshot(DogStatsResponse cached, String contentHash, long etagWindowMillis,
+                         UnaryOperator<DogStatsResponse> presigner) {
+            this.cached = cached;
+            this.contentHash = contentHash;
+            this.etagWindowMillis = etagWindowMillis;
+            this.presigner = presigner;
+        }
+
+        /**
+         * 응답 본문 (호출할 때마다 프로필 이미지 Presigned URL을 붙인 사본, 304 응답에서는 호출하지 않음)
+         */
+        public DogStatsResponse getResponse() {
+            return presigner.apply(cached);
+        }
+
+        /**
+         * ETag (S3 키 기준 내용 해시, 프로필 이미지가 있으면 URL 유효시간 구간 번호 포함)
+         */
+        public String getEtag() {
+            if (etagWindowMillis <= 0) {
+                return "\"" + contentHash + "\"";
+            }
+            return "\"" + contentHash + "-" + System.currentTimeMillis() / etagWindowMillis + "\"";
+        }
+
+        /**
+         * If-None-Match 헤더가 현재 ETag와 일치하는지 확인 (여러 값, 약한 비교, * 허용)
+         */
+        public boolean matches(String ifNoneMatch) {
+            if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+                return false;
+            }
+            String etag = getEtag();
+            for (String candidate : ifNoneMatch.split(",")) {
+                String tag = candidate.trim();
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+                if (tag.equals("*") || tag.equals(etag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private record Key(Long dogId, Long trainerId) {
+    }
+
+    private static final class Entry {
+        private final Snapshot snapshot;
+        private final long loadedAt;
+
+        private Entry(Snapshot snapshot, long loadedAt) {
+            this.snapshot = snapshot;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
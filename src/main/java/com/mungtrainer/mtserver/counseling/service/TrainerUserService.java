@@ -1,25 +1,27 @@
 package com.mungtrainer.mtserver.counseling.service;
 
 
+import com.mungtrainer.mtserver.common.config.MyBatisBatchTemplate;
 import com.mungtrainer.mtserver.common.exception.CustomException;
 import com.mungtrainer.mtserver.common.exception.ErrorCode;
 import com.mungtrainer.mtserver.common.s3.S3Service;
-import com.mungtrainer.mtserver.counseling.dao.CounselingDAO;
 import com.mungtrainer.mtserver.counseling.dao.TrainerUserDAO;
 import com.mungtrainer.mtserver.counseling.dto.request.ApplicationStatusUpdateRequest;
 import com.mungtrainer.mtserver.counseling.dto.request.BulkApplicationStatusRequest;
 import com.mungtrainer.mtserver.counseling.dto.response.*;
 import com.mungtrainer.mtserver.dog.dto.response.DogResponse;
 import com.mungtrainer.mtserver.dog.dao.DogDAO;
+import com.mungtrainer.mtserver.training.dao.SessionSeatDAO;
 import com.mungtrainer.mtserver.training.dao.TrainingAttendanceDAO;
-import com.mungtrainer.mtserver.training.entity.TrainingSession;
+import com.mungtrainer.mtserver.training.dto.response.ApplicationSessionRef;
+import com.mungtrainer.mtserver.training.service.CalendarSummaryService;
+import com.mungtrainer.mtserver.training.service.WaitingPromotionService;
+import com.mungtrainer.mtserver.training.service.WaitingQueueIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -30,18 +32,14 @@ public class TrainerUserService {
 
     private final DogDAO dogDao;
     private final TrainerUserDAO trainerUserDao;
+    private final SessionSeatDAO sessionSeatDao;
     private final S3Service s3Service;
-    private final CounselingDAO counselingDao;
     private final TrainingAttendanceDAO trainingAttendanceDao;
-
-
-    /**
-     * 결제 기한 (시간)
-     * application.yml의 payment.deadline.hours 값 사용
-     * 기본값: 24시간
-     */
-    @Value("${payment.deadline.hours:24}")
-    private int paymentDeadlineHours;
+    private final WaitingQueueIndex waitingQueueIndex;
+    private final WaitingPromotionService waitingPromotionService;
+    private final CalendarSummaryService calendarSummaryService;
+    private final DogStatsCache dogStatsCache;
+    private final MyBatisBatchTemplate batchTemplate;
 
     public List<TrainerUserListResponse> getUsersByTrainer(Long trainerId) {
         // 1. DB에서 회원 리스트 조회
@@ -49,11 +47,12 @@ public class TrainerUserService {
 
         if (users.isEmpty()) return List.of();
 
-        // 2. 프로필 이미지를 S3 Presigned URL로 변환
+        // 2. 프로필 이미지를 S3 Presigned URL로 일괄 변환
+        Map<String, String> presignedUrls = s3Service.generateDownloadPresignedUrlMap(
+                users.stream().map(TrainerUserListResponse::getProfileImage).toList());
         users.forEach(user -> {
             if (user.getProfileImage() != null && !user.getProfileImage().isBlank()) {
-                String presignedUrl = s3Service.generateDownloadPresignedUrl(user.getProfileImage());
-                user.setProfileImage(presignedUrl);
+                user.setProfileImage(presignedUrls.get(user.getProfileImage()));
             }
         });
 
@@ -76,254 +75,211 @@ public class TrainerUserService {
                 .map(DogResponse::getProfileImage)
                 .collect(Collectors.toList());
 
-        // 3. S3 Presigned URL 일괄 발급
-        List<String> presignedUrls = s3Service.generateDownloadPresignedUrls(imageKeys);
+        // 3. S3 Presigned URL 일괄 발급 (key → URL)
+        Map<String, String> presignedUrls = s3Service.generateDownloadPresignedUrlMap(imageKeys);
 
         // 4. 각 반려견 객체에 URL 매핑
-        for (int i = 0; i < dogs.size(); i++) {
-            dogs.get(i).setProfileImage(presignedUrls.get(i));
+        for (DogResponse dog : dogs) {
+            dog.setProfileImage(presignedUrls.get(dog.getProfileImage()));
         }
 
         return dogs;
     }
 
-    @Transactional(readOnly = true)
-    public DogStatsResponse getDogStats(Long dogId, Long trainerId) {
+    /**
+     * 반려견 통계 조회 (캐시 + ETag)
+     *
+     * <p>캐시에 있으면 DB를 조회하지 않습니다. 캐시 미스 시에만 두 쿼리로 조립합니다.
+     */
+    public DogStatsCache.Snapshot getDogStats(Long dogId, Long trainerId) {
+        return dogStatsCache.get(dogId, trainerId, () -> loadDogStats(dogId, trainerId));
+    }
 
-        // 1. 반려견 조회 + Presigned URL 변환
-        DogResponse dog = dogDao.selectDogById(dogId);
-        if (dog == null) {
-            throw new RuntimeException("Dog not found");
-        }
-        if (dog.getProfileImage() != null && !dog.getProfileImage().isBlank()) {
-            String presignedUrl = s3Service.generateDownloadPresignedUrl(dog.getProfileImage());
-            dog.setProfileImage(presignedUrl);
-        }
+    /**
+     * 반려견 통계 조립 (프로필 이미지는 S3 키 그대로, Presigned URL 변환은 DogStatsCache에서 수행)
+     */
+    private DogStatsResponse loadDogStats(Long dogId, Long trainerId) {
 
-        // 2. 상담 기록
-        List<CounselingResponse> counselings =
-                counselingDao.selectCounselingsByDogAndTrainer(dogId);
+        // 1. 반려견 + 상담 기록 (한 번의 쿼리)
+        DogStatsProfile profile = trainerUserDao.findDogStatsProfile(dogId);
+        if (profile == null || profile.getDog() == null) {
+            throw new CustomException(ErrorCode.DOG_NOT_FOUND);
+        }
+        DogResponse dog = profile.getDog();
 
-        // 3. 단회차 신청 내역 조회
-        List<TrainingApplicationResponse> singleApps =
-                trainerUserDao.findTrainingApplicationsByDogId(dogId);
+        // 2. 단회차/다회차 훈련 이력 (한 번의 쿼리, tags → courseId → 세션 순 정렬)
+        List<DogTrainingHistoryRow> rows = trainerUserDao.findDogTrainingHistory(dogId);
 
-        // 통계 계산 - 태그별로 다른 값이 나올 수 있으므로 중복 제거 후 합산
+        // 3. 한 번 순회하며 단회차 목록/통계와 다회차 과정별 세션·출석 집계
         int timesApplied = 0;
         int attendedCount = 0;
-
-        if (!singleApps.isEmpty()) {
-            // 태그별로 그룹화하여 중복 제거
-            Map<String, TrainingApplicationResponse> tagStats = singleApps.stream()
-                    .collect(Collectors.toMap(
-                            TrainingApplicationResponse::getTags,
-                            app -> app,
-                            (existing, replacement) -> existing  // 중복 시 첫 번째 값 유지
-                    ));
-
-            // 모든 태그의 통계 합산
-            for (TrainingApplicationResponse app : tagStats.values()) {
-                Integer applied = app.getTimesApplied();
-                Integer attended = app.getAttendedCount();
-
-                timesApplied += (applied != null ? applied : 0);
-                attendedCount += (attended != null ? attended : 0);
-            }
-        }
-        List<DogStatsResponse.TrainingSessionDto> simplified =
-                singleApps.stream()
-                        .map(item -> DogStatsResponse.TrainingSessionDto.builder()
-                                .courseId(item.getCourseId())
-                                .courseTitle(item.getCourseTitle())
-                                .courseDescription(item.getCourseDescription())
-                                .tags(item.getTags())
-                                .type(item.getType())
-                                .difficulty(item.getDifficulty())  // 난이도 매핑
-                                .sessionId(item.getSessionId())
-                                .sessionDate(item.getSessionDate())
-                                .sessionStartTime(item.getSessionStartTime())
-                                .sessionEndTime(item.getSessionEndTime())
-                                .attendanceStatus(item.getAttendanceStatus())  // 출석 상태 매핑
-                                .build()
-                        ).toList();
-
-        // 4. 다회차 — 단일 SQL 조회
-        List<MultiCourseGroupResponse> flatRows =
-                trainerUserDao.findMultiCourseDetail(Map.of(
-                        "dogId", dogId,
-                        "trainerId", trainerId
-                ));
-
-        // 4-1. courseId로 먼저 그룹핑 (세션 병합)
-        Map<Long, MultiCourseGroupResponse> groupedByCourseId = new HashMap<>();
-
-        for (MultiCourseGroupResponse row : flatRows) {
-
-            Long courseId = row.getCourseId();
-
-            MultiCourseGroupResponse group = groupedByCourseId.get(courseId);
-
-            // 그룹 신규 생성
-            if (group == null) {
-                group = MultiCourseGroupResponse.builder()
-                        .courseId(row.getCourseId())
-                        .title(row.getTitle())
-                        .tags(row.getTags())
-                        .description(row.getDescription())
-                        .location(row.getLocation())
-                        .type(row.getType())
-                        .difficulty(row.getDifficulty())
-                        .mainImage(row.getMainImage())
-                        .totalSessions(row.getTotalSessions())
-                        .attendedSessions(row.getAttendedSessions())
-                        .attendanceRate(0) // 계산은 아래에서
-                        .sessions(new ArrayList<>())
-                        .build();
-
-                // 출석률 계산
-                int total = (row.getTotalSessions() == null) ? 0 : row.getTotalSessions();
-                int attended = row.getAttendedSessions();
-                double rate = total == 0 ? 0 : attended * 100.0 / total;
-                group.setAttendanceRate(rate);
-
-                groupedByCourseId.put(courseId, group);
+        List<DogStatsResponse.TrainingSessionDto> singleSessions = new ArrayList<>();
+        // tags → (courseId → 과정) : 같은 tags는 같은 과정을 여러 번 수강한 이력
+        Map<String, Map<Long, MultiCourseGroupResponse>> multiByTags = new LinkedHashMap<>();
+
+        for (DogTrainingHistoryRow row : rows) {
+            boolean attended = "ATTENDED".equals(row.getAttendanceStatus());
+
+            if (!"MULTI".equals(row.getType())) {
+                singleSessions.add(toTrainingSession(row));
+                timesApplied++;
+                if (attended) {
+                    attendedCount++;
+                }
+                continue;
             }
 
-            // 세션 추가
-            if (row.getSessions() != null && !row.getSessions().isEmpty()) {
-                group.getSessions().addAll(row.getSessions());
+            MultiCourseGroupResponse course = multiByTags
+                    .computeIfAbsent(row.getTags(), k -> new LinkedHashMap<>())
+                    .computeIfAbsent(row.getCourseId(), k -> newMultiCourse(row));
+            // 같은 세션에 신청이 여러 건이면 (취소 후 재신청 등) 첫 행만 반영
+            boolean duplicated = course.getSessions().stream()
+                    .anyMatch(session -> session.getSessionId().equals(row.getSessionId()));
+            if (duplicated) {
+                continue;
+            }
+            course.getSessions().add(toMultiSession(row));
+            course.setTotalSessions(course.getTotalSessions() + 1);
+            if (attended) {
+                course.setAttendedSessions(course.getAttendedSessions() + 1);
             }
         }
 
-        List<MultiCourseGroupResponse> courseList = new ArrayList<>(groupedByCourseId.values());
-
-        // 4-2. tags(UUID)로 재그룹화 - 같은 과정을 여러 번 수강한 경우 묶기
-        Map<String, List<MultiCourseGroupResponse>> groupedByUuid = new HashMap<>();
-
-        for (MultiCourseGroupResponse course : courseList) {
-            String uuid = course.getTags();
-            groupedByUuid.computeIfAbsent(uuid, k -> new ArrayList<>()).add(course);
+        // 4. 다회차 - tags별로 수강 이력 병합 후 전체 통계에 합산
+        List<MultiCourseCategoryResponse> multiCourses = new ArrayList<>();
+        for (Map.Entry<String, Map<Long, MultiCourseGroupResponse>> entry : multiByTags.entrySet()) {
+            MultiCourseGroupResponse merged = mergeEnrollments(new ArrayList<>(entry.getValue().values()));
+            timesApplied += merged.getTotalSessions();
+            attendedCount += merged.getAttendedSessions();
+            multiCourses.add(new MultiCourseCategoryResponse(entry.getKey(), List.of(merged)));
         }
 
-        // 4-3. UUID별로 병합된 응답 생성
-        List<MultiCourseGroupResponse> mergedCourses = new ArrayList<>();
-
-        for (Map.Entry<String, List<MultiCourseGroupResponse>> entry : groupedByUuid.entrySet()) {
-            List<MultiCourseGroupResponse> sameCourses = entry.getValue();
-
-            // 단일 수강인 경우 그대로 사용
-            if (sameCourses.size() == 1) {
-                MultiCourseGroupResponse single = sameCourses.get(0);
-                single.setEnrollmentCount(1);
-                single.setEnrollmentHistory(null);
-                mergedCourses.add(single);
-                continue;
-            }
+        // 최종 응답
+        return DogStatsResponse.builder()
+                .dog(dog)
+                .counselings(profile.getCounselings())
+                .stats(new DogStatsResponse.Stats(timesApplied, attendedCount))
+                .trainingApplications(singleSessions)
+                .multiCourses(multiCourses)
+                .build();
+    }
 
-            // 여러 번 수강한 경우 - 날짜순 정렬
-            sameCourses.sort((a, b) -> {
-              boolean aEmpty = (a.getSessions() == null) || a.getSessions().isEmpty();
-              boolean bEmpty = (b.getSessions() == null) || b.getSessions().isEmpty();
-              if (aEmpty && bEmpty) {
-                return 0;
-              } else if (aEmpty) {
-                // 세션이 없는 과정은 세션이 있는 과정 뒤로 정렬
-                return 1;
-              } else if (bEmpty) {
-                return -1;
-              }
-              LocalDate aDate = a.getSessions().get(0).getSessionDate();
-              LocalDate bDate = b.getSessions().get(0).getSessionDate();
-                return aDate.compareTo(bDate);
-            });
-
-            // 수강 이력 생성
-            List<MultiCourseGroupResponse.EnrollmentHistory> histories = new ArrayList<>();
-            int totalSessionsSum = 0;
-            int attendedSessionsSum = 0;
-
-            for (int i = 0; i < sameCourses.size(); i++) {
-                MultiCourseGroupResponse course = sameCourses.get(i);
-
-                // 시작/종료일 계산
-                List<LocalDate> dates = course.getSessions().stream()
-                    .map(MultiSessionResponse::getSessionDate)
-                    .sorted()
-                    .toList();
-                LocalDate startDate = dates.isEmpty() ? null : dates.get(0);
-                LocalDate endDate = dates.isEmpty() ? null : dates.get(dates.size() - 1);
-
-                // 수강 이력 추가
-                histories.add(MultiCourseGroupResponse.EnrollmentHistory.builder()
-                    .enrollmentNumber(i + 1)
-                    .courseId(course.getCourseId())
-                    .title(course.getTitle())
-                    .description(course.getDescription())
-                    .startDate(startDate)
-                    .endDate(endDate)
-                    .totalSessions(course.getTotalSessions())
-                    .attendedSessions(course.getAttendedSessions())
-                    .attendanceRate(course.getAttendanceRate())
-                    .sessions(course.getSessions())
-                    .build());
-
-                // 전체 통계 합산
-                attendedSessionsSum += course.getAttendedSessions();
-            }
+    private DogStatsResponse.TrainingSessionDto toTrainingSession(DogTrainingHistoryRow row) {
+        return DogStatsResponse.TrainingSessionDto.builder()
+                .courseId(row.getCourseId())
+                .courseTitle(row.getTitle())
+                .courseDescription(row.getDescription())
+                .tags(row.getTags())
+                .type(row.getType())
+                .difficulty(row.getDifficulty())
+                .sessionId(row.getSessionId())
+                .sessionDate(row.getSessionDate())
+                .sessionStartTime(row.getStartTime())
+                .sessionEndTime(row.getEndTime())
+                .attendanceStatus(row.getAttendanceStatus())
+                .build();
+    }
 
-            // 대표 정보 (첫 번째 수강 기준)
-            MultiCourseGroupResponse representative = sameCourses.get(0);
-
-            // 전체 평균 출석률
-            double overallRate = totalSessionsSum > 0
-                ? (attendedSessionsSum * 100.0 / totalSessionsSum)
-                : 0.0;
-
-            // 병합된 응답 생성
-            MultiCourseGroupResponse merged = MultiCourseGroupResponse.builder()
-                .courseId(representative.getCourseId())
-                .title(representative.getTitle())
-                .tags(representative.getTags())
-                .description(representative.getDescription())
-                .location(representative.getLocation())
-                .type(representative.getType())
-                .difficulty(representative.getDifficulty())
-                .mainImage(representative.getMainImage())
-                .enrollmentCount(sameCourses.size())
-                .enrollmentHistory(histories)
-                .totalSessions(totalSessionsSum)
-                .attendedSessions(attendedSessionsSum)
-                .attendanceRate(overallRate)
+    private MultiCourseGroupResponse newMultiCourse(DogTrainingHistoryRow row) {
+        return MultiCourseGroupResponse.builder()
+                .courseId(row.getCourseId())
+                .title(row.getTitle())
+                .tags(row.getTags())
+                .description(row.getDescription())
+                .location(row.getLocation())
+                .type(row.getType())
+                .difficulty(row.getDifficulty())
+                .mainImage(row.getMainImage())
+                .totalSessions(0)
+                .attendedSessions(0)
                 .sessions(new ArrayList<>())
                 .build();
+    }
 
-            mergedCourses.add(merged);
-        }
+    private MultiSessionResponse toMultiSession(DogTrainingHistoryRow row) {
+        return MultiSessionResponse.builder()
+                .sessionId(row.getSessionId())
+                .sessionNo(row.getSessionNo())
+                .sessionDate(row.getSessionDate())
+                .startTime(row.getStartTime())
+                .endTime(row.getEndTime())
+                .locationDetail(row.getLocationDetail())
+                .attendanceStatus(row.getAttendanceStatus())
+                .build();
+    }
 
-        // 5. 태그별 그룹핑
-        Map<String, List<MultiCourseGroupResponse>> groupedByTag =
-                mergedCourses.stream()
-                        .collect(Collectors.groupingBy(MultiCourseGroupResponse::getTags));
+    /**
+     * 같은 tags(같은 과정)의 수강 이력 병합
+     *
+     * <p>한 번 수강했으면 해당 과정을 그대로, 여러 번 수강했으면 첫 세션 날짜순 수강 이력과 합산 통계를 담은 대표 과정을 반환합니다.
+     */
+    private MultiCourseGroupResponse mergeEnrollments(List<MultiCourseGroupResponse> sameCourses) {
+        for (MultiCourseGroupResponse course : sameCourses) {
+            course.setAttendanceRate(attendanceRate(course.getAttendedSessions(), course.getTotalSessions()));
+        }
 
-        List<MultiCourseCategoryResponse> finalGroups =
-                groupedByTag.entrySet().stream()
-                        .map(e -> new MultiCourseCategoryResponse(e.getKey(), e.getValue()))
-                        .toList();
+        // 단일 수강인 경우 그대로 사용
+        if (sameCourses.size() == 1) {
+            MultiCourseGroupResponse single = sameCourses.get(0);
+            single.setEnrollmentCount(1);
+            single.setEnrollmentHistory(null);
+            return single;
+        }
 
-        // 6. 다회차 통계를 전체 통계에 합산
-        for (MultiCourseGroupResponse course : mergedCourses) {
-            timesApplied += (course.getTotalSessions() != null ? course.getTotalSessions() : 0);
-            attendedCount += course.getAttendedSessions();
+        // 여러 번 수강한 경우 - 첫 세션 날짜순 정렬 (세션은 날짜순으로 조회되므로 첫 세션이 시작일)
+        sameCourses.sort(Comparator.comparing(
+                (MultiCourseGroupResponse course) -> course.getSessions().get(0).getSessionDate()));
+
+        // 수강 이력 생성
+        List<MultiCourseGroupResponse.EnrollmentHistory> histories = new ArrayList<>();
+        int totalSessionsSum = 0;
+        int attendedSessionsSum = 0;
+
+        for (int i = 0; i < sameCourses.size(); i++) {
+            MultiCourseGroupResponse course = sameCourses.get(i);
+            List<MultiSessionResponse> sessions = course.getSessions();
+
+            histories.add(MultiCourseGroupResponse.EnrollmentHistory.builder()
+                .enrollmentNumber(i + 1)
+                .courseId(course.getCourseId())
+                .title(course.getTitle())
+                .description(course.getDescription())
+                .startDate(sessions.get(0).getSessionDate())
+                .endDate(sessions.get(sessions.size() - 1).getSessionDate())
+                .totalSessions(course.getTotalSessions())
+                .attendedSessions(course.getAttendedSessions())
+                .attendanceRate(course.getAttendanceRate())
+                .sessions(sessions)
+                .build());
+
+            // 전체 통계 합산
+            totalSessionsSum += course.getTotalSessions();
+            attendedSessionsSum += course.getAttendedSessions();
         }
 
-        // 최종 응답
-        return DogStatsResponse.builder()
-                .dog(dog)
-                .counselings(counselings)
-                .stats(new DogStatsResponse.Stats(timesApplied, attendedCount))
-                .trainingApplications(simplified)
-                .multiCourses(finalGroups)
-                .build();
+        // 대표 정보 (첫 번째 수강 기준)
+        MultiCourseGroupResponse representative = sameCourses.get(0);
+
+        return MultiCourseGroupResponse.builder()
+            .courseId(representative.getCourseId())
+            .title(representative.getTitle())
+            .tags(representative.getTags())
+            .description(representative.getDescription())
+            .location(representative.getLocation())
+            .type(representative.getType())
+            .difficulty(representative.getDifficulty())
+            .mainImage(representative.getMainImage())
+            .enrollmentCount(sameCourses.size())
+            .enrollmentHistory(histories)
+            .totalSessions(totalSessionsSum)
+            .attendedSessions(attendedSessionsSum)
+            .attendanceRate(attendanceRate(attendedSessionsSum, totalSessionsSum))
+            .sessions(new ArrayList<>())
+            .build();
+    }
+
+    private double attendanceRate(int attended, int total) {
+        return total == 0 ? 0.0 : attended * 100.0 / total;
     }
 
 
@@ -337,7 +293,19 @@ public class TrainerUserService {
    * @return 승인 대기 상태의 신청 목록
    */
     public List<AppliedWaitingResponse> getWaitingApplications(Long trainerId) {
-        return trainerUserDao.selectWaitingApplications(trainerId);
+        List<AppliedWaitingResponse> applications = trainerUserDao.selectWaitingApplications(trainerId);
+
+        // 대기 순번 채우기 (같은 세션 내 created_at 기준 순서)
+        Map<Long, Integer> waitingPositions = waitingQueueIndex.getPositions(applications.stream()
+                .filter(app -> "WAITING".equals(app.getStatus()))
+                .map(AppliedWaitingResponse::getSessionId)
+                .collect(Collectors.toSet()));
+        applications.forEach(app -> {
+            if ("WAITING".equals(app.getStatus())) {
+                app.setWaitingOrder(waitingPositions.get(app.getApplicationId()));
+            }
+        });
+        return applications;
     }
 
     /**
@@ -346,7 +314,20 @@ public class TrainerUserService {
      */
     @Transactional(readOnly = true)
     public List<GroupedApplicationResponse> getGroupedWaitingApplications(Long trainerId) {
-        return trainerUserDao.selectGroupedWaitingApplications(trainerId);
+        List<GroupedApplicationResponse> groups = trainerUserDao.selectGroupedWaitingApplications(trainerId);
+
+        // 대기 순번 채우기 (같은 세션 내 created_at 기준 순서)
+        List<GroupedApplicationResponse.SessionInfo> waitingSessions = groups.stream()
+                .filter(group -> group.getSessions() != null)
+                .flatMap(group -> group.getSessions().stream())
+                .filter(session -> "WAITING".equals(session.getStatus()))
+                .toList();
+        Map<Long, Integer> waitingPositions = waitingQueueIndex.getPositions(waitingSessions.stream()
+                .map(GroupedApplicationResponse.SessionInfo::getSessionId)
+                .collect(Collectors.toSet()));
+        waitingSessions.forEach(session ->
+                session.setWaitingOrder(waitingPositions.get(session.getApplicationId())));
+        return groups;
     }
 
     /**
@@ -390,6 +371,9 @@ public class TrainerUserService {
             throw new CustomException(ErrorCode.APPLICATION_NOT_FOUND);
         }
 
+        // 승인/대기/거절 모두 반려견 통계의 신청 상태를 바꾸므로 캐시 무효화
+        dogStatsCache.invalidateApplicationsAfterCommit(List.of(applicationId));
+
         // 승인 처리
         if ("ACCEPT".equals(status)) {
             // WAITING 상태인 경우: 미리 승인만 표시 (is_approved = 1)
@@ -432,23 +416,26 @@ public class TrainerUserService {
         // 상태 및 거절 사유 검증
         String status = validateApplicationStatusRequest(req.getStatus(), req.getRejectReason());
 
+        dogStatsCache.invalidateDogAfterCommit(dogId);
+
         // 승인 처리
         if ("ACCEPT".equals(status)) {
-            // 1. APPLIED 상태 일괄 승인 (ACCEPT로 변경)
-            int appliedUpdated = executeStatusUpdate(status, null, courseId, dogId, trainerId, null);
+            // 1. APPLIED 상태 일괄 승인 (회차별 좌석 확보 → ACCEPT, 정원 초과 회차는 WAITING)
+            List<Long> acceptedIds = approveAppliedWithSeats(courseId, dogId, trainerId);
+            int appliedUpdated = acceptedIds.size();
 
-            // 2. WAITING 상태 미리 승인 (is_approved = 1로 설정, 상태는 WAITING 유지)
+            // 2. WAITING 상태 미리 승인 (is_approved = 1로 설정, 상태는 WAITING 유지, JDBC 배치)
             List<Long> waitingApplicationIds = trainerUserDao.findWaitingApplicationIdsByCourseAndDog(courseId, dogId);
-            for (Long applicationId : waitingApplicationIds) {
-                trainerUserDao.approveWaitingApplication(applicationId);
-            }
+            int waitingApproved = batchTemplate.execute(
+                    TrainerUserDAO.class, waitingApplicationIds, TrainerUserDAO::approveWaitingApplication);
 
-            log.info("일괄 승인 완료 - 코스 ID: {}, 반려견 ID: {}, APPLIED 처리: {}건, WAITING 미리 승인: {}건",
-                     courseId, dogId, appliedUpdated, waitingApplicationIds.size());
+            log.info("일괄 승인 완료 - 코스 ID: {}, 반려견 ID: {}, APPLIED 처리: {}건, WAITING 미리 승인: {}건 (반영 {}건)",
+                     courseId, dogId, appliedUpdated, waitingApplicationIds.size(), waitingApproved);
 
-            // 3. ACCEPT 상태 신청에 대해 출석 정보 생성
+            // 3. ACCEPT 상태 신청에 대해 출석 정보 생성, 달력 요약의 남은 자리 반영
             if (appliedUpdated > 0) {
-                createBulkAttendanceRecords(courseId, dogId, trainerId);
+                createBulkAttendanceRecords(acceptedIds, courseId, dogId, trainerId);
+                calendarSummaryService.refreshCourse(courseId);
             }
 
             return;
@@ -460,6 +447,8 @@ public class TrainerUserService {
             if (updated == 0) {
                 throw new CustomException(ErrorCode.APPLICATION_NO_MATCHING_RECORD);
             }
+            // 거절 대상에 WAITING 신청이 섞여 있을 수 있으므로 대기열 무효화
+            waitingQueueIndex.invalidateAllAfterCommit();
         }
     }
 
@@ -498,8 +487,8 @@ public class TrainerUserService {
      *
      * @param status 승인/거절 상태
      * @param applicationId 개별 신청 ID (개별 처리 시)
-     * @param courseId 코스 ID (일괄 처리 시)
-     * @param dogId 반려견 ID (일괄 처리 시)
+     * @param courseId 코스 ID (일괄 거절 시)
+     * @param dogId 반려견 ID (일괄 거절 시)
      * @param trainerId 훈련사 ID
      * @param rejectReason 거절 사유
      * @return 업데이트된 행 수
@@ -509,14 +498,8 @@ public class TrainerUserService {
         int updated;
 
         if ("ACCEPT".equals(status)) {
-            // 일괄 승인
-            if (courseId != null && dogId != null) {
-                updated = trainerUserDao.updateBulkStatusApproved(courseId, dogId, trainerId);
-            }
-            // 개별 승인
-            else {
-                updated = trainerUserDao.updateStatusApproved(applicationId, trainerId);
-            }
+            // 개별 승인 (일괄 승인은 회차별 좌석 확보가 필요하므로 approveAppliedWithSeats에서 처리)
+            updated = trainerUserDao.updateStatusApproved(applicationId, trainerId);
         }
         else if ("REJECTED".equals(status)) {
             // 일괄 거절
@@ -553,11 +536,54 @@ public class TrainerUserService {
         log.info("출석 정보 생성 완료 - 신청 ID: {}, 생성된 레코드 수: {}", applicationId, inserted);
     }
 
+    /**
+     * 코스의 APPLIED 신청을 회차별로 좌석을 확보하며 승인합니다.
+     * 좌석을 확보한 회차는 ACCEPT, 정원이 찬 회차는 개별 승인과 같이 WAITING으로 전환합니다.
+     * (기존 일괄 승인은 정원을 확인하지 않아 초과 승인이 가능했음)
+     *
+     * @return ACCEPT로 변경된 신청 ID 목록
+     */
+    private List<Long> approveAppliedWithSeats(Long courseId, Long dogId, Long trainerId) {
+        List<Long> acceptedIds = new ArrayList<>();
+        List<Long> waitingIds = new ArrayList<>();
+        Set<Long> waitingSessionIds = new HashSet<>();
+
+        // 좌석 확보는 문장마다 결과가 필요하므로 개별 실행
+        for (ApplicationSessionRef ref : trainerUserDao.findAppliedApplicationsByCourseAndDog(courseId, dogId, trainerId)) {
+            if (sessionSeatDao.reserveSeat(ref.getSessionId()) == 1) {
+                acceptedIds.add(ref.getApplicationId());
+            } else {
+                waitingIds.add(ref.getApplicationId());
+                waitingSessionIds.add(ref.getSessionId());
+            }
+        }
+        if (!waitingIds.isEmpty()) {
+            // 정원 초과 회차의 WAITING 전환과 대기 등록은 JDBC 배치로 전송
+            batchTemplate.execute(TrainerUserDAO.class, waitingIds,
+                    (dao, applicationId) -> dao.updateApplicationStatusSimple(applicationId, "WAITING"));
+            batchTemplate.execute(TrainerUserDAO.class, waitingIds,
+                    (dao, applicationId) -> dao.insertWaiting(applicationId, trainerId));
+            log.info("일괄 승인 중 정원 초과로 대기열 진입 - 코스 ID: {}, 반려견 ID: {}, 세션: {}",
+                     courseId, dogId, waitingSessionIds);
+            waitingQueueIndex.invalidateAfterCommit(waitingSessionIds);
+        }
+
+        if (!acceptedIds.isEmpty()) {
+            int updated = trainerUserDao.updateStatusApprovedByIds(acceptedIds, trainerId);
+            if (updated != acceptedIds.size()) {
+                // 확보한 좌석과 승인 건수가 어긋나면 롤백 (좌석 카운터도 함께 복구)
+                throw new CustomException(ErrorCode.APPLICATION_ALREADY_PROCESSED);
+            }
+        }
+        return acceptedIds;
+    }
+
     /**
      * 여러 신청에 대한 출석 정보 일괄 생성
      * 다회차 코스 일괄 승인 시 호출됩니다.
      * 출석 정보 생성 실패 시 트랜잭션을 롤백하여 데이터 일관성을 보장합니다.
      *
+     * @param applicationIds 승인된 신청 ID 목록
      * @param courseId 코스 ID
      * @param dogId 반려견 ID
      * @param trainerId 승인한 훈련사 ID (감사 추적용)
@@ -567,12 +593,9 @@ public class TrainerUserService {
      *             일괄 승인과 출석 정보 생성이 하나의 트랜잭션으로 처리됩니다.
      *             출석 생성 실패 시 모든 승인이 롤백됩니다.
      */
-    private void createBulkAttendanceRecords(Long courseId, Long dogId, Long trainerId) {
+    private void createBulkAttendanceRecords(List<Long> applicationIds, Long courseId, Long dogId, Long trainerId) {
         log.info("일괄 출석 정보 생성 시작 - 코스 ID: {}, 반려견 ID: {}, 생성자: {}", courseId, dogId, trainerId);
 
-        // 해당 코스와 반려견의 모든 승인된 신청 ID 조회
-        List<Long> applicationIds = trainerUserDao.findApplicationIdsByCourseAndDog(courseId, dogId);
-
         if (applicationIds == null || applicationIds.isEmpty()) {
             log.error("출석 정보 생성 대상 없음 - 코스 ID: {}, 반려견 ID: {}", courseId, dogId);
             throw new CustomException(ErrorCode.ATTENDANCE_CREATION_FAILED);
@@ -614,7 +637,7 @@ public class TrainerUserService {
    *
    * 흐름:
    * 1. 트레이너가 "승인" 클릭
-   * 2. 정원 확인
+   * 2. 좌석 확보 (reserved_seats 조건부 UPDATE, COUNT 조회 없음)
    *    - 여유 있음 → ACCEPT (출석 정보 생성)
    *    - 정원 초과 → WAITING (대기열 전환, 출석 정보 생성 안함)
    *
@@ -629,31 +652,27 @@ public class TrainerUserService {
       throw new CustomException(ErrorCode.SESSION_NOT_FOUND);
     }
 
-    TrainingSession session = trainerUserDao.findSessionById(sessionId);
-    if (session == null) {
+    // 2. 좌석 확보 (정원 확인 + 좌석 카운터 증가를 조건부 UPDATE 한 번으로 처리)
+    boolean seatReserved = sessionSeatDao.reserveSeat(sessionId) == 1;
+    if (!seatReserved && trainerUserDao.findSessionById(sessionId) == null) {
       throw new CustomException(ErrorCode.SESSION_NOT_FOUND);
     }
 
-    // 2. 현재 승인된 인원 확인
-    int currentCount = trainerUserDao.countApprovedApplications(sessionId);
-    int maxStudents = session.getMaxStudents();
-
-    log.info("정원 확인 - 현재: {}/{}", currentCount, maxStudents);
-
     // 3. 정원 확인
-    if (currentCount >= maxStudents) {
+    if (!seatReserved) {
       // 정원 초과 - 대기열로 전환
       log.info("정원 초과로 대기열 진입 - applicationId: {}", applicationId);
 
       trainerUserDao.updateApplicationStatusSimple(applicationId, "WAITING");
       trainerUserDao.insertWaiting(applicationId, trainerId);
+      waitingQueueIndex.invalidateAfterCommit(sessionId);
 
 
     } else {
       // 정원 여유 - 승인 완료
       log.info("승인 완료 - applicationId: {}", applicationId);
 
-      // 기존 executeStatusUpdate 메서드 활용
+      // 기존 executeStatusUpdate 메서드 활용 (실패 시 롤백되어 확보한 좌석도 반환됨)
       int updated = executeStatusUpdate("ACCEPT", applicationId, null, null, trainerId, null);
       if (updated == 0) {
         throw new CustomException(ErrorCode.APPLICATION_ALREADY_PROCESSED);
@@ -661,6 +680,7 @@ public class TrainerUserService {
 
       // 기존 createAttendanceRecord 메서드 활용
       createAttendanceRecord(applicationId, trainerId);
+      calendarSummaryService.refreshSessions(List.of(sessionId));
 
     }
   }
@@ -687,99 +707,10 @@ public class TrainerUserService {
       log.warn("세션 ID를 찾을 수 없음 - applicationId: {}", applicationId);
       return;
     }
+    // WAITING 신청 거절 시 뒤 순번이 당겨짐
+    waitingQueueIndex.invalidateAfterCommit(sessionId);
 
-    // 3. 대기자 자동 승격
-    promoteNextWaiting(sessionId);
-  }
-
-  /**
-   * 대기자 자동 승격 (FIFO)
-   *
-   * 흐름:
-   * 1. 기존 신청자 취소/거절 → 정원에 자리 생김
-   * 2. 가장 오래 대기한 사람 조회
-   * 3. WAITING → ACCEPT로 바로 변경
-   * 4. 출석 정보 생성
-   * 5. 결제 안내 알림 발송
-   *
-   *  핵심: WAITING 상태는 이미 트레이너가 승인한 상태이므로
-   *         승격 시 APPLIED가 아닌 ACCEPT로 바로 변경
-   *
-   *  트랜잭션: 이 메서드는 handleRejection() 또는 PaymentDeadlineScheduler에서 호출됩니다.
-   *             - handleRejection()에서 호출 시: 상위 트랜잭션에 참여 (전체 롤백 가능)
-   *             - Scheduler에서 호출 시: Scheduler의 @Transactional 트랜잭션에 참여
-   *             상태 변경, 출석 정보 생성이 원자적으로 처리됩니다.
-   *
-   *  동시성 제어: SELECT FOR UPDATE를 사용하여 세션에 락을 걸어
-   *                 여러 트랜잭션이 동시에 승격을 시도해도 정원 초과가 발생하지 않습니다.
-   *
-   * 동시성 시나리오:
-   * - Thread A: 정원 확인 (4/5) → 승격 시도
-   * - Thread B: 정원 확인 (4/5) → 승격 시도
-   * - 비관적 락 없이: 두 스레드 모두 승격 → 정원 초과 (6/5) ❌
-   * - 비관적 락 적용: Thread A가 락 획득 → 승격 (5/5) → 락 해제
-   *                  Thread B가 락 획득 → 정원 확인 (5/5) → 승격 포기 ✅
-   */
-  private void promoteNextWaiting(Long sessionId) {
-    log.info("대기자 승격 시작 - sessionId: {}", sessionId);
-
-    // 1.  세션 정보 조회 (비관적 락)
-    //    SELECT FOR UPDATE로 행 레벨 락 획득
-    //    다른 트랜잭션은 이 락이 해제될 때까지 대기
-    TrainingSession session = trainerUserDao.findSessionByIdForUpdate(sessionId);
-    if (session == null) {
-      log.warn("세션을 찾을 수 없음 - sessionId: {}", sessionId);
-      return;
-    }
-
-    log.debug("세션 락 획득 완료 - sessionId: {}, 정원: {}", sessionId, session.getMaxStudents());
-
-    // 2.  현재 승인된 인원 확인 (락 획득 후 다시 확인)
-    //    락을 획득한 시점의 최신 정원 정보로 판단
-    int currentCount = trainerUserDao.countApprovedApplications(sessionId);
-
-    log.info("정원 확인 (락 획득 후) - 현재: {}/{}, sessionId: {}",
-             currentCount, session.getMaxStudents(), sessionId);
-
-    if (currentCount >= session.getMaxStudents()) {
-      log.info("정원이 가득 차서 대기자를 승격하지 않습니다. - sessionId: {}, 정원: {}/{}",
-               sessionId, currentCount, session.getMaxStudents());
-      // 락 해제 (메서드 종료 시 자동)
-      return;
-    }
-
-    // 3. 가장 오래 대기한 사람 조회
-    Long nextApplicationId = trainerUserDao.findOldestWaitingApplicationId(sessionId);
-
-    if (nextApplicationId == null) {
-      log.info("대기 중인 신청이 없습니다. - sessionId: {}", sessionId);
-      // 락 해제 (메서드 종료 시 자동)
-      return;
-    }
-
-    // 4.  WAITING → ACCEPT로 바로 변경 (트레이너 승인 완료 상태)
-    //    이 시점에는 락을 보유하고 있으므로 정원 초과 불가능
-    trainerUserDao.updateApplicationStatusSimple(nextApplicationId, "ACCEPT");
-    trainerUserDao.updateWaitingStatus(nextApplicationId, "PROMOTED");
-
-    // 결제 기한 설정 (application.yml 설정값 사용)
-    trainerUserDao.updatePaymentDeadline(nextApplicationId, paymentDeadlineHours);
-
-    log.info("대기자 상태 변경 완료 - applicationId: {}, 정원: {}/{}",
-             nextApplicationId, currentCount + 1, session.getMaxStudents());
-
-    // 5. 출석 정보 생성
-    try {
-      createAttendanceRecord(nextApplicationId, 0L);  // 시스템 자동 처리
-      log.info("대기자 자동 승격 완료 - applicationId: {}, sessionId: {}, 결제 기한: {}시간",
-               nextApplicationId, sessionId, paymentDeadlineHours);
-    } catch (Exception e) {
-      log.error("출석 정보 생성 실패 - applicationId: {}", nextApplicationId, e);
-      //  출석 정보 생성 실패 시 예외를 던져 트랜잭션 롤백
-      //    승격도 함께 취소됨 (데이터 일관성 보장)
-      throw new CustomException(ErrorCode.ATTENDANCE_CREATION_FAILED);
-    }
-
-
+    // 3. 대기자 자동 승격 (빈 자리만큼, 출석 정보는 시스템 자동 처리로 생성)
+    waitingPromotionService.promote(List.of(sessionId), 0L);
   }
 }
@@ -0,0 +1,32 @@
+package com.mungtrainer.mtserver.order.client;
+
+import lombok.Getter;
+
+/**
+ * 토스 API 호출이 확정적으로 실패한 경우
+ *
+ * <ul>
+ *   <li>PG가 응답했지만 요청을 거절함 (status = 4xx HTTP 상태 코드)</li>
+ *   <li>요청이 PG에 전달되지 않음 - 서킷 오픈, 연결 실패 (status = 0)</li>
+ * </ul>
+ * 응답 타임아웃, 5xx처럼 PG 처리 여부를 알 수 없는 경우에는 이 예외를 사용하지 않습니다.
+ * (5xx는 {@link TossOutcomeUnknownException})
+ */
+@Getter
+public class TossApiException extends RuntimeException {
+
+    private final int status;
+    private final String responseBody;
+
+    public TossApiException(int status, String message, String responseBody) {
+        super(message);
+        this.status = status;
+        this.responseBody = responseBody;
+    }
+
+    public static TossApiException notSent(String message, Throwable cause) {
+        TossApiException e = new TossApiException(0, message, null);
+        e.initCause(cause);
+        return e;
+    }
+}
@@ -0,0 +1,84 @@
+package com.mungtrainer.mtserver.order.client;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 토스 API 서킷 브레이커
+ *
+ * <ul>
+ *   <li>CLOSED: 정상 호출, 연속 실패가 failureThreshold에 도달하면 OPEN</li>
+ *   <li>OPEN: openDurationMillis 동안 호출하지 않고 즉시 실패</li>
+ *   <li>HALF_OPEN: OPEN 시간이 지나면 한 건만 시험 호출(probe), 성공 시 CLOSED / 실패 시 다시 OPEN</li>
+ * </ul>
+ * 실패는 PG 장애로 볼 수 있는 경우(연결 실패, 타임아웃, 5xx)만 집계합니다.
+ */
+@Slf4j
+class TossCircuitBreaker {
+
+    enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openDurationMillis;
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicLong openedAt = new AtomicLong(-1);
+    private final AtomicBoolean probeInFlight = new AtomicBoolean(false);
+
+    TossCircuitBreaker(int failureThreshold, long openDurationMillis) {
+        this.failureThreshold = failureThreshold;
+        this.openDurationMillis = openDurationMillis;
+    }
+
+    /**
+     * 호출 허용 여부 (HALF_OPEN에서는 probe 한 건만 허용)
+     */
+    boolean tryAcquire() {
+        long opened = openedAt.get();
+        if (opened < 0) {
+            return true;
+        }
+        if (System.currentTimeMillis() - opened < openDurationMillis) {
+            return false;
+        }
+        return probeInFlight.compareAndSet(false, true);
+    }
+
+    void onSuccess() {
+        consecutiveFailures.set(0);
+        if (openedAt.getAndSet(-1) >= 0) {
+            log.info("토스 API 서킷 CLOSED (probe 성공)");
+        }
+        probeInFlight.set(false);
+    }
+
+    void onFailure() {
+        int failures = consecutiveFailures.incrementAndGet();
+        boolean probe = probeInFlight.getAndSet(false);
+        if (probe || failures >= failureThreshold) {
+            openedAt.set(System.currentTimeMillis());
+            log.warn("토스 API 서킷 OPEN - 연속 실패 {}회, {}ms 동안 호출 차단", failures, openDurationMillis);
+        }
+    }
+
+    /**
+     * PG 장애와 무관한 결과(4xx 거절 등) - 실패로 집계하지 않고 probe만 해제
+     */
+    void onIgnored() {
+        consecutiveFailures.set(0);
+        if (probeInFlight.getAndSet(false)) {
+            openedAt.set(-1);
+        }
+    }
+
+    State getState() {
+        long opened = openedAt.get();
+        if (opened < 0) {
+            return State.CLOSED;
+        }
+        return System.currentTimeMillis() - opened < openDurationMillis ? State.OPEN : State.HALF_OPEN;
+    }
+}
@@ -0,0 +1,23 @@
+package com.mungtrainer.mtserver.order.client;
+
+import lombok.Getter;
+
+/**
+ * 토스 API 호출 결과를 알 수 없는 경우 (PG 5xx 응답)
+ *
+ * <p>PG 내부 오류여도 승인/취소가 이미 반영되었을 수 있으므로 확정 실패로 보지 않습니다.
+ * 호출자는 주문을 PAYMENT_PENDING / CANCEL_PENDING으로 남기고,
+ * PaymentRecoveryScheduler가 PG 조회 결과로 확정하거나 원복합니다.</p>
+ */
+@Getter
+public class TossOutcomeUnknownException extends RuntimeException {
+
+    private final int status;
+    private final String responseBody;
+
+    public TossOutcomeUnknownException(int status, String message, String responseBody) {
+        super(message);
+        this.status = status;
+        this.responseBody = responseBody;
+    }
+}
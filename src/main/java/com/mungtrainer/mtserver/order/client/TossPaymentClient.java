@@ -0,0 +1,250 @@
+package com.mungtrainer.mtserver.order.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpConnectTimeoutException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 토스페이먼츠 API 클라이언트
+ *
+ * <ul>
+ *   <li>HTTP/2 단일 HttpClient 재사용 (커넥션 재사용), 연결/요청 타임아웃 적용</li>
+ *   <li>sendAsync 기반 호출 + 호출별 deadline (응답이 늦으면 요청 스레드를 오래 붙잡지 않고 실패)</li>
+ *   <li>승인은 merchantUid+paymentKey, 취소는 paymentKey+취소 요청 ID로 Idempotency-Key를 만들어 재시도 시 중복 승인/취소 방지</li>
+ *   <li>연결 실패(요청 미전달)만 재시도, PG 장애 시 서킷 브레이커로 즉시 실패</li>
+ *   <li>4xx 거절과 요청 미전달은 {@link TossApiException}, 5xx는 결과 불명({@link TossOutcomeUnknownException})</li>
+ *   <li>Basic 인증 헤더는 기동 시 한 번만 생성</li>
+ * </ul>
+ * toss.base-url을 로컬 스텁 서버 주소로 바꾸면 실제 PG 없이 결제 흐름을 확인할 수 있습니다.
+ */
+@Slf4j
+@Component
+public class TossPaymentClient {
+
+    private static final String CONFIRM_PATH = "/v1/payments/confirm";
+    private static final String CANCEL_PATH = "/v1/payments/%s/cancel";
+    private static final String PAYMENT_PATH = "/v1/payments/%s";
+    private static final String ORDER_PATH = "/v1/payments/orders/%s";
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {};
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Value("${toss.secret-key}")
+    private String secretKey;
+
+    @Value("${toss.base-url:https://api.tosspayments.com}")
+    private String baseUrl;
+
+    @Value("${toss.client.connect-timeout-ms:3000}")
+    private long connectTimeoutMs;
+
+    @Value("${toss.client.request-timeout-ms:10000}")
+    private long requestTimeoutMs;
+
+    @Value("${toss.client.max-retries:1}")
+    private int maxRetries;
+
+    @Value("${toss.client.circuit-breaker.failure-threshold:5}")
+    private int failureThreshold;
+
+    @Value("${toss.client.circuit-breaker.open-duration-ms:30000}")
+    private long openDurationMs;
+
+    private HttpClient httpClient;
+    private TossCircuitBreaker circuitBreaker;
+    private String authorizationHeader;
+
+    @PostConstruct
+    public void init() {
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .build();
+        this.circuitBreaker = new TossCircuitBreaker(failureThreshold, openDurationMs);
+        this.authorizationHeader = "Basic " + Base64.getEncoder()
+                .encodeToString((secretKey + ":").getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 결제 승인 (비동기)
+     */
+    public CompletableFuture<Map<String, Object>> confirmAsync(String paymentKey, String merchantUid, Integer amount) {
+        Map<String, Object> body = Map.of(
+                "paymentKey", paymentKey,
+                "orderId", merchantUid,
+                "amount", amount
+        );
+        return postAsync(CONFIRM_PATH, body, "confirm:" + merchantUid + ":" + paymentKey);
+    }
+
+    /**
+     * 결제 취소 (비동기)
+     * @param cancelRequestId 취소 건마다 새로 만든 ID (같은 취소를 재시도할 때만 재사용)
+     * @param cancelAmount 부분 취소 금액 (null이면 전액 취소)
+     */
+    public CompletableFuture<Map<String, Object>> cancelAsync(String paymentKey, String cancelRequestId,
+                                                              String cancelReason, Integer cancelAmount) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("cancelReason", cancelReason);
+        if (cancelAmount != null) {
+            body.put("cancelAmount", cancelAmount);
+        }
+        // 같은 금액의 부분 취소가 여러 번 있을 수 있으므로 금액이 아닌 취소 요청 ID로 구분
+        String idempotencyKey = "cancel:" + paymentKey + ":" + cancelRequestId;
+        return postAsync(String.format(CANCEL_PATH, paymentKey), body, idempotencyKey);
+    }
+
+    /**
+     * 결제 조회 (by paymentKey)
+     */
+    public CompletableFuture<Map<String, Object>> getPaymentAsync(String paymentKey) {
+        return sendAsync(newRequest(String.format(PAYMENT_PATH, paymentKey)).GET().build(), 0);
+    }
+
+    /**
+     * 결제 조회 (by 가맹점 주문번호)
+     */
+    public CompletableFuture<Map<String, Object>> getPaymentByOrderIdAsync(String merchantUid) {
+        return sendAsync(newRequest(String.format(ORDER_PATH, merchantUid)).GET().build(), 0);
+    }
+
+    public Map<String, Object> confirm(String paymentKey, String merchantUid, Integer amount) throws Exception {
+        return await(confirmAsync(paymentKey, merchantUid, amount));
+    }
+
+    public Map<String, Object> cancel(String paymentKey, String cancelRequestId, String cancelReason, Integer cancelAmount)
+            throws Exception {
+        return await(cancelAsync(paymentKey, cancelRequestId, cancelReason, cancelAmount));
+    }
+
+    public Map<String, Object> getPayment(String paymentKey) throws Exception {
+        return await(getPaymentAsync(paymentKey));
+    }
+
+    public Map<String, Object> getPaymentByOrderId(String merchantUid) throws Exception {
+        return await(getPaymentByOrderIdAsync(merchantUid));
+    }
+
+    /**
+     * 비동기 호출 결과 대기 (요청 타임아웃 + 재시도 여유분을 넘기지 않음)
+     * 원인 예외(TossApiException, IOException 등)를 그대로 던집니다.
+     */
+    private Map<String, Object> await(CompletableFuture<Map<String, Object>> future) throws Exception {
+        try {
+            return future.get(requestTimeoutMs * (maxRetries + 1) + connectTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception ex) {
+                throw ex;
+            }
+            throw e;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw e;
+        }
+    }
+
+    private CompletableFuture<Map<String, Object>> postAsync(String path, Map<String, Object> body, String idempotencyKey) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        HttpRequest request = newRequest(path)
+                .header("Content-Type", "application/json")
+                .header("Idempotency-Key", idempotencyKey)
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+        return sendAsync(request, 0);
+    }
+
+    private HttpRequest.Builder newRequest(String path) {
+        return HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl + path))
+                .timeout(Duration.ofMillis(requestTimeoutMs))
+                .header("Authorization", authorizationHeader);
+    }
+
+    private CompletableFuture<Map<String, Object>> sendAsync(HttpRequest request, int attempt) {
+        if (!circuitBreaker.tryAcquire()) {
+            return CompletableFuture.failedFuture(
+                    TossApiException.notSent("토스 API 서킷 오픈 - 호출 차단", null));
+        }
+
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .handle((response, error) -> {
+                    if (error != null) {
+                        circuitBreaker.onFailure();
+                        Throwable cause = error instanceof CompletionException && error.getCause() != null
+                                ? error.getCause() : error;
+                        // 연결 실패는 요청이 전달되지 않은 것이므로 재시도 가능
+                        if (isNotSent(cause) && attempt < maxRetries) {
+                            log.warn("토스 API 연결 실패, 재시도 {}/{} - {}", attempt + 1, maxRetries, request.uri());
+                            return sendAsync(request, attempt + 1);
+                        }
+                        if (isNotSent(cause)) {
+                            return CompletableFuture.<Map<String, Object>>failedFuture(
+                                    TossApiException.notSent("토스 API 연결 실패", cause));
+                        }
+                        return CompletableFuture.<Map<String, Object>>failedFuture(cause);
+                    }
+                    return CompletableFuture.completedFuture(toResult(response));
+                })
+                .thenCompose(future -> future);
+    }
+
+    private Map<String, Object> toResult(HttpResponse<String> response) {
+        int status = response.statusCode();
+        if (status >= 500) {
+            circuitBreaker.onFailure();
+        } else if (status == 200) {
+            circuitBreaker.onSuccess();
+        } else {
+            circuitBreaker.onIgnored();
+        }
+
+        if (status >= 500) {
+            // PG 내부 오류 - 승인/취소가 반영되었을 수 있으므로 결과 불명으로 처리
+            log.error("토스 API 결과 불명 - uri: {}, status: {}, body: {}",
+                    response.request().uri(), status, response.body());
+            throw new TossOutcomeUnknownException(status, "토스 API 결과 불명", response.body());
+        }
+        if (status != 200) {
+            log.error("토스 API 호출 실패 - uri: {}, status: {}, body: {}",
+                    response.request().uri(), status, response.body());
+            throw new TossApiException(status, "토스 API 호출 실패", response.body());
+        }
+        try {
+            return objectMapper.readValue(response.body(), MAP_TYPE);
+        } catch (IOException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private boolean isNotSent(Throwable cause) {
+        return cause instanceof ConnectException || cause instanceof HttpConnectTimeoutException;
+    }
+}
@@ -9,13 +9,20 @@ import com.mungtrainer.mtserver.order.dto.response.PaymentApprovalResponse;
 import com.mungtrainer.mtserver.order.dto.response.PaymentCancelResponse;
 import com.mungtrainer.mtserver.order.dto.response.PaymentLogResponse;
 import com.mungtrainer.mtserver.order.dto.response.PaymentPrepareResponse;
+import com.mungtrainer.mtserver.order.service.OrderExportService;
 import com.mungtrainer.mtserver.order.service.PaymentService;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.time.LocalDate;
 import java.util.List;
 
 @Slf4j
@@ -25,6 +32,7 @@ import java.util.List;
 public class PaymentController {
 
   private final PaymentService paymentService;
+  private final OrderExportService orderExportService;
 
   /**
    * 1단계: 결제 준비 (주문 생성)
@@ -86,4 +94,34 @@ public class PaymentController {
     List<PaymentLogResponse> response = paymentService.getPaymentLogs(userDetails.getUserId());
     return ResponseEntity.ok(response);
   }
+
+  /**
+   * 결제 이력 내보내기 (스트리밍)
+   * GET /api/payments/logs/export?format=csv&startDate=2025-01-01&endDate=2025-12-31&afterPaymentId=1234
+   *
+   * - format: csv(기본) 또는 ndjson
+   * - 행은 paymentId 오름차순, 중단 시 마지막으로 받은 paymentId를 afterPaymentId로 넘겨 이어 받음
+   * - 동시 내보내기 한도 초과 시 503 (EXPORT_TOO_MANY)
+   */
+  @GetMapping("/logs/export")
+  public void exportPaymentLogs(
+      @RequestParam(required = false) String format,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+      @RequestParam(required = false) Long afterPaymentId,
+      @AuthenticationPrincipal CustomUserDetails userDetails,
+      HttpServletResponse response) throws IOException {
+    OrderExportService.Format exportFormat = OrderExportService.Format.from(format);
+    orderExportService.validateRange(startDate, endDate);
+
+    try (OrderExportService.Permit permit = orderExportService.acquirePermit()) {
+      response.setContentType(exportFormat.getContentType());
+      response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+          .filename("payment-logs." + exportFormat.getExtension())
+          .build()
+          .toString());
+      orderExportService.exportPaymentLogs(userDetails.getUserId(), startDate, endDate, afterPaymentId,
+          exportFormat, response.getOutputStream());
+    }
+  }
 }
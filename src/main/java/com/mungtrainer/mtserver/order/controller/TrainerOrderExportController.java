@@ -0,0 +1,59 @@
+package com.mungtrainer.mtserver.order.controller;
+
+import com.mungtrainer.mtserver.auth.entity.CustomUserDetails;
+import com.mungtrainer.mtserver.order.service.OrderExportService;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+/**
+ * 훈련사 주문/결제 내보내기 API Controller
+ */
+@RestController
+@RequestMapping("/api/trainer/orders")
+@RequiredArgsConstructor
+public class TrainerOrderExportController {
+
+    private final OrderExportService orderExportService;
+
+    /**
+     * 관리하는 회원들의 주문/결제 내보내기 (스트리밍)
+     * GET /api/trainer/orders/export?format=csv&startDate=2025-01-01&endDate=2025-12-31&afterOrderId=1234&afterPaymentId=56
+     *
+     * - format: csv(기본) 또는 ndjson
+     * - 기간은 주문 생성일 기준, 행은 (orderId, paymentId) 오름차순 (결제가 여러 건인 주문은 결제마다 1행)
+     * - 중단 시 마지막으로 끝까지 받은 행의 orderId, paymentId를 afterOrderId, afterPaymentId로 넘겨 이어 받음
+     *   (paymentId가 비어 있는 행이면 afterOrderId만 넘김)
+     * - 동시 내보내기 한도 초과 시 503 (EXPORT_TOO_MANY)
+     */
+    @GetMapping("/export")
+    public void exportOrders(
+            @RequestParam(required = false) String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) Long afterOrderId,
+            @RequestParam(required = false) Long afterPaymentId,
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            HttpServletResponse response
+    ) throws IOException {
+        OrderExportService.Format exportFormat = OrderExportService.Format.from(format);
+        orderExportService.validateRange(startDate, endDate);
+
+        try (OrderExportService.Permit permit = orderExportService.acquirePermit()) {
+            response.setContentType(exportFormat.getContentType());
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                    .filename("trainer-orders." + exportFormat.getExtension())
+                    .build()
+                    .toString());
+            orderExportService.exportTrainerOrders(userDetails.getUserId(), startDate, endDate, afterOrderId,
+                    afterPaymentId, exportFormat, response.getOutputStream());
+        }
+    }
+}
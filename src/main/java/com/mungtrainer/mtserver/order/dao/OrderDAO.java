@@ -1,10 +1,13 @@
 package com.mungtrainer.mtserver.order.dao;
 
+import com.mungtrainer.mtserver.order.dto.response.TrainerOrderExportRow;
 import com.mungtrainer.mtserver.order.entity.OrderItem;
 import com.mungtrainer.mtserver.order.entity.OrderMaster;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -48,4 +51,33 @@ public interface OrderDAO {
      * 주문 조회 (by orderId)
      */
     Optional<OrderMaster> findById(Long orderId);
+
+    /**
+     * 주문 상태 조건부 변경 (현재 상태가 expectedStatus일 때만)
+     * @return 변경된 행 수 (0이면 다른 요청이 먼저 상태를 바꾼 것)
+     */
+    int updateOrderStatusIfMatch(@Param("orderId") Long orderId,
+                                 @Param("expectedStatus") String expectedStatus,
+                                 @Param("newStatus") String newStatus);
+
+    /**
+     * 지정 상태로 일정 시간 이상 머물러 있는 주문 조회 (결제 파이프라인 복구용)
+     * @param status 중간 상태 (PAYMENT_PENDING, CANCEL_PENDING)
+     * @param staleMinutes 경과 시간 (분)
+     */
+    List<OrderMaster> findStaleOrdersByStatus(@Param("status") String status,
+                                              @Param("staleMinutes") int staleMinutes);
+
+    /**
+     * 훈련사 회원들의 주문/결제 스트리밍 조회 (내보내기용, 트랜잭션 안에서 순회)
+     * @param from 주문 생성 시각 하한 (포함, null이면 제한 없음)
+     * @param to 주문 생성 시각 상한 (미포함, null이면 제한 없음)
+     * @param afterOrderId 재개 커서의 주문 ID (null이면 처음부터)
+     * @param afterPaymentId 재개 커서의 결제 ID (afterOrderId 주문 안에서 이 결제 다음부터, null이면 다음 주문부터)
+     */
+    Cursor<TrainerOrderExportRow> streamOrdersByTrainerId(@Param("trainerId") Long trainerId,
+                                                          @Param("from") LocalDateTime from,
+                                                          @Param("to") LocalDateTime to,
+                                                          @Param("afterOrderId") Long afterOrderId,
+                                                          @Param("afterPaymentId") Long afterPaymentId);
 }
@@ -6,7 +6,9 @@ import com.mungtrainer.mtserver.order.entity.Payment;
 import com.mungtrainer.mtserver.order.entity.PaymentLog;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -35,6 +37,15 @@ public interface PaymentDAO {
    */
   List<PaymentLogResponse> findLogsByUserId(Long userId);
 
+  /**
+   *  UserId로 payments 스트리밍 조회 (내보내기용, 트랜잭션 안에서 순회)
+   *  from 포함 ~ to 미포함, afterPaymentId 다음부터 (재개용)
+   */
+  Cursor<PaymentLogResponse> streamLogsByUserId(@Param("userId") Long userId,
+                                                @Param("from") LocalDateTime from,
+                                                @Param("to") LocalDateTime to,
+                                                @Param("afterPaymentId") Long afterPaymentId);
+
   /**
    * 결제 생성
    */
@@ -50,6 +61,11 @@ public interface PaymentDAO {
    */
   Optional<Payment> findByPaymentKey(String paymentKey);
 
+  /**
+   * 결제 조회 (by orderId) - 취소 복구 시 paymentKey 확인용
+   */
+  Optional<Payment> findByOrderId(Long orderId);
+
   /**
    * 결제 정보 업데이트
    */
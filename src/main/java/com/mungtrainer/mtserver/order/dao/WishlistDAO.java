@@ -8,6 +8,7 @@ import com.mungtrainer.mtserver.order.entity.WishlistDetailDog;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 @Mapper
@@ -37,6 +38,9 @@ public interface WishlistDAO {
     // userId로 wishlistId 리스트 가져오기
     List<Long> findByUserId(@Param("userId") Long userId);
 
+    // wishlistItemId 목록 중 userId의 장바구니에 속한 항목 수
+    int countOwnedWishlistItems(@Param("userId") Long userId, @Param("wishlistItemIds") Collection<Long> wishlistItemIds);
+
     // wishlistItemId로 WishlistDetail 가져오기
     WishlistDetail findWishlistDetailByItemId(@Param("wishlistItemId") Long wishlistItemId);
 
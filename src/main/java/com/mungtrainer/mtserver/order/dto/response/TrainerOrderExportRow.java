@@ -0,0 +1,31 @@
+package com.mungtrainer.mtserver.order.dto.response;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 훈련사용 주문/결제 내보내기 행 (주문 1건 + 결제, 결제 전 주문은 결제 항목이 비어 있음)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class TrainerOrderExportRow {
+    private Long orderId;
+    private String merchantUid;
+    private Long userId;
+    private String userName;
+    private String orderName;
+    private String orderStatus;
+    private Integer totalAmount;
+    private Integer paidAmount;
+    private LocalDateTime orderedAt;
+    private LocalDateTime paidAt;
+    private Long paymentId;
+    private String paymentMethod;
+    private String paymentStatus;
+    private Integer paymentAmount;
+    private String paymentKey;
+}
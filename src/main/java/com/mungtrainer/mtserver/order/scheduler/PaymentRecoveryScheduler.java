@@ -0,0 +1,62 @@
+package com.mungtrainer.mtserver.order.scheduler;
+
+import com.mungtrainer.mtserver.common.scheduler.SchedulerLockService;
+import com.mungtrainer.mtserver.order.service.PaymentService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 결제 파이프라인 복구 스케줄러
+ *
+ * <p>주기: 5분마다 실행
+ * <p>기능:
+ * <ul>
+ *   <li>PAYMENT_PENDING 상태로 남은 주문: 토스 주문 조회 결과가 DONE이면 승인 확정, 아니면 READY_TO_PAY로 원복</li>
+ *   <li>CANCEL_PENDING 상태로 남은 주문: 토스 결제 조회 결과가 취소면 환불 확정, 아니면 이전 상태로 원복</li>
+ * </ul>
+ * PG 호출 결과를 알 수 없거나(타임아웃) 단계 사이에 서버가 중단된 경우를 정리합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentRecoveryScheduler {
+
+    private static final String JOB_NAME = "payment-recovery";
+
+    private final PaymentService paymentService;
+    private final SchedulerLockService schedulerLockService;
+
+    /**
+     * 중간 상태 경과 기준 (분)
+     * 진행 중인 정상 요청을 건드리지 않도록 PG 타임아웃보다 충분히 길게 설정
+     */
+    @Value("${payment.recovery.stale-minutes:10}")
+    private int staleMinutes;
+
+    /**
+     * 기능 활성화 플래그
+     */
+    @Value("${payment.recovery.enabled:true}")
+    private boolean recoveryEnabled;
+
+    /**
+     * 5분마다 결제 파이프라인 복구 (스케줄러 진입점)
+     *
+     * <p>cron 표현식: "0 1/5 * * * *" (매시 1분부터 5분 간격, 다른 스케줄러와 시작 시각 분산)
+     */
+    @Scheduled(cron = "0 1/5 * * * *")
+    public void recoverStalePayments() {
+        if (!recoveryEnabled) {
+            log.debug("결제 복구 기능이 비활성화되어 있습니다.");
+            return;
+        }
+
+        // 여러 인스턴스 중 리스를 획득한 한 곳에서만 실행 (같은 주문을 동시에 PG 조회/확정하지 않도록)
+        // 예외는 runExclusively가 로그와 실행 이력(FAILED)으로 남김 - 다음 스케줄링 시 재시도
+        schedulerLockService.runExclusively(JOB_NAME, lease ->
+                paymentService.recoverStalePayments(staleMinutes));
+    }
+}
@@ -0,0 +1,281 @@
+package com.mungtrainer.mtserver.order.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mungtrainer.mtserver.common.exception.CustomException;
+import com.mungtrainer.mtserver.common.exception.ErrorCode;
+import com.mungtrainer.mtserver.order.dao.OrderDAO;
+import com.mungtrainer.mtserver.order.dao.PaymentDAO;
+import com.mungtrainer.mtserver.order.dto.response.PaymentLogResponse;
+import com.mungtrainer.mtserver.order.dto.response.TrainerOrderExportRow;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * 결제 이력 / 주문 내보내기 서비스
+ *
+ * <p>MyBatis {@link Cursor}와 MySQL 스트리밍 결과셋(fetchSize=Integer.MIN_VALUE)으로 한 행씩 읽어
+ * 바로 응답 스트림에 CSV 또는 NDJSON으로 씁니다. 행을 모아 두지 않으므로 기간이 길어도 메모리 사용량이 일정합니다.</p>
+ *
+ * <ul>
+ *   <li>기간: startDate 포함 ~ endDate 포함 (날짜 단위, 생략 시 제한 없음)</li>
+ *   <li>재개: 행은 ID 오름차순으로 나가므로, 중단되면 마지막으로 받은 ID를 after 파라미터로 넘겨 이어 받음
+ *       (훈련사 주문은 주문당 결제 행이 여러 개일 수 있어 (orderId, paymentId) 복합 커서)</li>
+ *   <li>스트리밍 중에는 커넥션 하나를 점유하고, 같은 커넥션으로 다른 쿼리를 실행할 수 없음</li>
+ *   <li>동시 내보내기는 max-concurrent건까지만 허용 (초과 시 기다리지 않고 EXPORT_TOO_MANY)</li>
+ *   <li>클라이언트가 받지 않아 한 묶음(500행)을 stall-timeout-ms 안에 보내지 못하면 중단하여 커넥션을 반납.
+ *       버퍼가 차서 묶음 중간의 쓰기가 막혀도 알 수 있도록 경과 시간은 행마다 확인
+ *       (완전히 멈춘 쓰기는 Tomcat 소켓 쓰기 타임아웃 server.tomcat.connection-timeout에서 끊김)</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderExportService {
+
+    // 이 행 수마다 응답 버퍼를 내보내 클라이언트가 받는 대로 저장하도록 함
+    private static final int FLUSH_EVERY_ROWS = 500;
+
+    private static final String[] PAYMENT_LOG_HEADER = {
+            "paymentId", "orderName", "status", "amount", "paymentKey", "paymentDate"
+    };
+
+    private static final String[] TRAINER_ORDER_HEADER = {
+            "orderId", "merchantUid", "userId", "userName", "orderName", "orderStatus", "totalAmount",
+            "paidAmount", "orderedAt", "paidAt", "paymentId", "paymentMethod", "paymentStatus",
+            "paymentAmount", "paymentKey"
+    };
+
+    private final PaymentDAO paymentDAO;
+    private final OrderDAO orderDAO;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 동시에 실행할 수 있는 내보내기 수 (내보내기마다 DB 커넥션 1개를 끝날 때까지 점유)
+     */
+    @Value("${payment.export.max-concurrent:2}")
+    private int maxConcurrent;
+
+    /**
+     * 한 묶음을 보내는 데 허용하는 시간 (초과 시 내보내기 중단)
+     */
+    @Value("${payment.export.stall-timeout-ms:30000}")
+    private long stallTimeoutMs;
+
+    private Semaphore permits;
+
+    @PostConstruct
+    public void init() {
+        this.permits = new Semaphore(Math.max(1, maxConcurrent));
+    }
+
+    /**
+     * 내보내기 형식
+     */
+    public enum Format {
+        CSV("text/csv; charset=UTF-8", "csv"),
+        NDJSON("application/x-ndjson; charset=UTF-8", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static Format from(String value) {
+            if (value == null || value.isBlank()) {
+                return CSV;
+            }
+            for (Format format : values()) {
+                if (format.name().equalsIgnoreCase(value.trim())) {
+                    return format;
+                }
+            }
+            throw new CustomException(ErrorCode.INVALID_EXPORT_FORMAT);
+        }
+    }
+
+    /**
+     * 내보내기 실행 권한 획득 (응답 헤더를 쓰기 전에 호출, 내보내기가 끝나면 close)
+     *
+     * @throws CustomException 동시 내보내기 한도 초과 (EXPORT_TOO_MANY)
+     */
+    public Permit acquirePermit() {
+        if (!permits.tryAcquire()) {
+            log.warn("동시 내보내기 한도 초과 - 한도: {}건", maxConcurrent);
+            throw new CustomException(ErrorCode.EXPORT_TOO_MANY);
+        }
+        return new Permit(permits);
+    }
+
+    /**
+     * 내보내기 실행 권한 (close 시 한 번만 반납)
+     */
+    public static final class Permit implements AutoCloseable {
+        private final Semaphore permits;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(Semaphore permits) {
+            this.permits = permits;
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        }
+    }
+
+    /**
+     * 기간 검증 (응답 헤더를 쓰기 전에 호출)
+     */
+    public void validateRange(LocalDate startDate, LocalDate endDate) {
+        if (startDate != null && endDate != null && startDate.isAfter(endDate)) {
+            throw new CustomException(ErrorCode.INVALID_DATE_RANGE);
+        }
+    }
+
+    /**
+     * 사용자 본인의 결제 이력 내보내기
+     *
+     * @param afterPaymentId 이 결제 ID 다음부터 (재개용, null이면 처음부터)
+     * @return 내보낸 행 수
+     */
+    @Transactional(readOnly = true)
+    public long exportPaymentLogs(Long userId, LocalDate startDate, LocalDate endDate, Long afterPaymentId,
+                                  Format format, OutputStream out) {
+        validateRange(startDate, endDate);
+        try (Cursor<PaymentLogResponse> cursor = paymentDAO.streamLogsByUserId(
+                userId, startOf(startDate), endOf(endDate), afterPaymentId)) {
+            long rows = write(cursor, format, PAYMENT_LOG_HEADER, row -> new Object[]{
+                    row.getPaymentId(), row.getOrderName(), row.getStatus(), row.getAmount(),
+                    row.getPaymentKey(), row.getPaymentDate()
+            }, out);
+            log.info("결제 이력 내보내기 완료 - userId: {}, format: {}, rows: {}", userId, format, rows);
+            return rows;
+        } catch (IOException e) {
+            log.warn("결제 이력 내보내기 중단 - userId: {}, reason: {}", userId, e.getMessage());
+            return -1;
+        }
+    }
+
+    /**
+     * 훈련사가 관리하는 회원들의 주문/결제 내보내기
+     *
+     * @param afterOrderId 재개 커서의 주문 ID (null이면 처음부터)
+     * @param afterPaymentId 재개 커서의 결제 ID (같은 주문의 이 결제 다음부터, null이면 다음 주문부터)
+     * @return 내보낸 행 수
+     */
+    @Transactional(readOnly = true)
+    public long exportTrainerOrders(Long trainerId, LocalDate startDate, LocalDate endDate, Long afterOrderId,
+                                    Long afterPaymentId, Format format, OutputStream out) {
+        validateRange(startDate, endDate);
+        try (Cursor<TrainerOrderExportRow> cursor = orderDAO.streamOrdersByTrainerId(
+                trainerId, startOf(startDate), endOf(endDate), afterOrderId, afterPaymentId)) {
+            long rows = write(cursor, format, TRAINER_ORDER_HEADER, row -> new Object[]{
+                    row.getOrderId(), row.getMerchantUid(), row.getUserId(), row.getUserName(),
+                    row.getOrderName(), row.getOrderStatus(), row.getTotalAmount(), row.getPaidAmount(),
+                    row.getOrderedAt(), row.getPaidAt(), row.getPaymentId(), row.getPaymentMethod(),
+                    row.getPaymentStatus(), row.getPaymentAmount(), row.getPaymentKey()
+            }, out);
+            log.info("훈련사 주문 내보내기 완료 - trainerId: {}, format: {}, rows: {}", trainerId, format, rows);
+            return rows;
+        } catch (IOException e) {
+            log.warn("훈련사 주문 내보내기 중단 - trainerId: {}, reason: {}", trainerId, e.getMessage());
+            return -1;
+        }
+    }
+
+    <T> long write(Iterable<T> cursor, Format format, String[] header,
+                   Function<T, Object[]> columns, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        long rows = 0;
+        if (format == Format.CSV) {
+            // 엑셀에서 한글이 깨지지 않도록 BOM 추가
+            writer.write('\uFEFF');
+            writeCsvLine(writer, header);
+        }
+        long chunkStartedAt = System.currentTimeMillis();
+        for (T row : cursor) {
+            if (format == Format.CSV) {
+                writeCsvLine(writer, columns.apply(row));
+            } else {
+                writer.write(objectMapper.writeValueAsString(row));
+                writer.write('\n');
+            }
+            boolean chunkDone = ++rows % FLUSH_EVERY_ROWS == 0;
+            if (chunkDone) {
+                writer.flush();
+            }
+            // 클라이언트가 받지 않아 쓰기가 밀리면 커서(커넥션)를 붙잡지 않도록 중단
+            // (버퍼가 차면 묶음 중간의 write도 막히므로 flush 시점이 아니라 행마다 확인)
+            long now = System.currentTimeMillis();
+            if (now - chunkStartedAt > stallTimeoutMs) {
+                throw new IOException("전송 지연 - " + FLUSH_EVERY_ROWS + "행 묶음 전송이 " + (now - chunkStartedAt) + "ms 초과");
+            }
+            if (chunkDone) {
+                chunkStartedAt = now;
+            }
+        }
+        writer.flush();
+        return rows;
+    }
+
+    private void writeCsvLine(Writer writer, Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvValue(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * CSV 값 변환 (구분자/따옴표/줄바꿈 이스케이프, 수식으로 해석될 수 있는 문자열은 ' 접두)
+     */
+    static String csvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (value instanceof CharSequence && !text.isEmpty() && "=+-@\t\r".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+
+    private LocalDateTime startOf(LocalDate date) {
+        return date == null ? null : date.atStartOfDay();
+    }
+
+    private LocalDateTime endOf(LocalDate date) {
+        return date == null ? null : date.plusDays(1).atStartOfDay();
+    }
+}
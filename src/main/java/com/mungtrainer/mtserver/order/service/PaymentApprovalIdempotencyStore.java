@@ -0,0 +1,145 @@
+package com.mungtrainer.mtserver.order.service;
+
+import com.mungtrainer.mtserver.common.exception.CustomException;
+import com.mungtrainer.mtserver.common.exception.ErrorCode;
+import com.mungtrainer.mtserver.order.dto.request.PaymentApprovalRequest;
+import com.mungtrainer.mtserver.order.dto.response.PaymentApprovalResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * 결제 승인 중복 요청 저장소 (인메모리 멱등성 계층)
+ *
+ * <p>클라이언트는 승인 응답이 늦으면 같은 요청을 다시 보냅니다.
+ * merchantUid 기준으로 진행 중/완료된 승인을 기록해 두고, 같은 (merchantUid, paymentKey, amount) 요청이 다시 오면
+ * 주문 검증·PG 호출·결제 저장을 다시 하지 않고 기록된 결과를 돌려줍니다.</p>
+ *
+ * <ul>
+ *   <li>진행 중: 중복 요청은 최대 wait-timeout-ms 동안 먼저 온 요청의 결과를 기다림 (시간 초과 시 PAYMENT_IN_PROGRESS)</li>
+ *   <li>완료: ttl-seconds 동안 저장된 응답을 그대로 반환</li>
+ *   <li>실패: 기록을 지우고 먼저 온 요청과 같은 예외를 대기 중인 중복 요청에도 전달 (이후 재시도는 새로 처리)</li>
+ *   <li>paymentKey/금액이 다른 요청은 기록을 쓰지 않고 기존 검증 경로로 보냄 (PAYMENT_IN_PROGRESS / ALREADY_COMPLETED)</li>
+ * </ul>
+ *
+ * 인스턴스 메모리에 있으므로 재시작 후나 다른 인스턴스로 간 중복 요청은
+ * {@link PaymentService#approvePayment}가 저장된 결제 행으로 응답을 다시 만듭니다.
+ */
+@Slf4j
+@Component
+public class PaymentApprovalIdempotencyStore {
+
+    private final boolean enabled;
+    private final long ttlMillis;
+    private final long waitTimeoutMillis;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public PaymentApprovalIdempotencyStore(
+            @Value("${payment.idempotency.enabled:true}") boolean enabled,
+            @Value("${payment.idempotency.ttl-seconds:600}") long ttlSeconds,
+            @Value("${payment.idempotency.wait-timeout-ms:5000}") long waitTimeoutMillis
+    ) {
+        this.enabled = enabled;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.waitTimeoutMillis = waitTimeoutMillis;
+    }
+
+    /**
+     * 같은 승인 요청은 한 번만 실행
+     *
+     * @param approval 실제 승인 처리 (주문 검증 → PG 호출 → 결제 저장)
+     * @return 이번 실행 또는 먼저 실행된 같은 요청의 승인 응답
+     */
+    public PaymentApprovalResponse execute(PaymentApprovalRequest request, Supplier<PaymentApprovalResponse> approval) {
+        if (!enabled || request.getMerchantUid() == null) {
+            return approval.get();
+        }
+
+        String key = request.getMerchantUid();
+        Entry mine = new Entry(request.getPaymentKey(), request.getAmount());
+        while (true) {
+            Entry existing = entries.putIfAbsent(key, mine);
+            if (existing == null) {
+                return runAsOwner(key, mine, approval);
+            }
+            if (existing.isExpired(System.currentTimeMillis())) {
+                entries.remove(key, existing);
+                continue;
+            }
+            if (!existing.matches(request)) {
+                // 같은 주문에 다른 결제 정보로 온 요청 - 기존 검증 경로에서 거절됨
+                log.warn("결제 승인 중복 요청의 결제 정보 불일치 - merchantUid: {}", key);
+                return approval.get();
+            }
+            log.info("결제 승인 중복 요청 - merchantUid: {}, 상태: {}",
+                    key, existing.result.isDone() ? "완료" : "진행 중");
+            return awaitResult(key, existing);
+        }
+    }
+
+    /**
+     * 만료된 완료 기록 정리
+     */
+    @Scheduled(cron = "${payment.idempotency.cleanup-cron:30 * * * * *}")
+    public void cleanup() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.isExpired(now));
+    }
+
+    private PaymentApprovalResponse runAsOwner(String key, Entry entry, Supplier<PaymentApprovalResponse> approval) {
+        try {
+            PaymentApprovalResponse response = approval.get();
+            entry.expiresAt = System.currentTimeMillis() + ttlMillis;
+            entry.result.complete(response);
+            return response;
+        } catch (RuntimeException | Error e) {
+            entries.remove(key, entry);
+            entry.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private PaymentApprovalResponse awaitResult(String key, Entry entry) {
+        try {
+            return entry.result.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new CustomException(ErrorCode.PAYMENT_IN_PROGRESS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof CustomException customException) {
+                throw customException;
+            }
+            log.error("결제 승인 중복 요청 - 먼저 온 요청 실패 - merchantUid: {}", key, e.getCause());
+            throw new CustomException(ErrorCode.PAYMENT_APPROVAL_FAILED);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.PAYMENT_IN_PROGRESS);
+        }
+    }
+
+    private static final class Entry {
+        private final String paymentKey;
+        private final Integer amount;
+        private final CompletableFuture<PaymentApprovalResponse> result = new CompletableFuture<>();
+        private volatile long expiresAt = Long.MAX_VALUE;  // 진행 중에는 만료되지 않음
+
+        private Entry(String paymentKey, Integer amount) {
+            this.paymentKey = paymentKey;
+            this.amount = amount;
+        }
+
+        private boolean matches(PaymentApprovalRequest request) {
+            return Objects.equals(paymentKey, request.getPaymentKey()) && Objects.equals(amount, request.getAmount());
+        }
+
+        private boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package com.mungtrainer.mtserver.order.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mungtrainer.mtserver.common.exception.CustomException;
 import com.mungtrainer.mtserver.common.exception.ErrorCode;
+import com.mungtrainer.mtserver.order.client.TossApiException;
+import com.mungtrainer.mtserver.order.client.TossOutcomeUnknownException;
+import com.mungtrainer.mtserver.order.client.TossPaymentClient;
 import com.mungtrainer.mtserver.order.dao.OrderDAO;
 import com.mungtrainer.mtserver.order.dao.PaymentDAO;
 import com.mungtrainer.mtserver.order.dto.request.PaymentApprovalRequest;
@@ -12,29 +14,18 @@ import com.mungtrainer.mtserver.order.dto.response.PaymentApprovalResponse;
 import com.mungtrainer.mtserver.order.dto.response.PaymentCancelResponse;
 import com.mungtrainer.mtserver.order.dto.response.PaymentLogResponse;
 import com.mungtrainer.mtserver.order.dto.response.PaymentPrepareResponse;
-import com.mungtrainer.mtserver.order.entity.OrderItem;
 import com.mungtrainer.mtserver.order.entity.OrderMaster;
 import com.mungtrainer.mtserver.order.entity.Payment;
-import com.mungtrainer.mtserver.order.entity.PaymentLog;
 import com.mungtrainer.mtserver.trainer.dao.TrainerDAO;
 import com.mungtrainer.mtserver.training.dao.CourseDAO;
-import com.mungtrainer.mtserver.training.dao.TrainingCourseApplicationDAO;
 import com.mungtrainer.mtserver.training.entity.TrainingCourse;
-import com.mungtrainer.mtserver.user.dao.UserDAO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
-import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.*;
 
 @Slf4j
@@ -44,25 +35,16 @@ public class PaymentService {
 
     private final OrderDAO orderDAO;
     private final PaymentDAO paymentDAO;
-    private final HttpClient httpClient = HttpClient.newHttpClient();
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final TossPaymentClient tossPaymentClient;
     private final CourseDAO courseDAO;
-    private final UserDAO userDAO;
     private final TrainerDAO trainerDAO;
-    private final TrainingCourseApplicationDAO trainingCourseApplicationDAO;
+    private final PaymentTransactionService paymentTransactionService;
+    private final PaymentApprovalIdempotencyStore approvalIdempotencyStore;
 
-  @Value("${toss.secret-key}")
-    private String secretKey;
-
-    private static final String TOSS_API_URL = "https://api.tosspayments.com/v1/payments/confirm";
-    private static final String TOSS_CANCEL_URL = "https://api.tosspayments.com/v1/payments/%s/cancel";
-
-    private static final String ORDER_STATUS_READY_TO_PAY = "READY_TO_PAY";
-    private static final String ORDER_STATUS_PAID = "PAID";
-    private static final String ORDER_STATUS_REFUNDED = "REFUNDED";
-    private static final String ORDER_STATUS_PARTIAL_REFUNDED = "PARTIAL_REFUNDED";
-    private static final String PAYMENT_STATUS_SUCCESS = "SUCCESS";
-    private static final String PAYMENT_STATUS_CANCELED = "CANCELED";
+    private static final String ORDER_STATUS_READY_TO_PAY = PaymentTransactionService.ORDER_STATUS_READY_TO_PAY;
+    private static final String ORDER_STATUS_PAID = PaymentTransactionService.ORDER_STATUS_PAID;
+    private static final String PAYMENT_STATUS_SUCCESS = PaymentTransactionService.PAYMENT_STATUS_SUCCESS;
+    private static final String PAYMENT_STATUS_CANCELED = PaymentTransactionService.PAYMENT_STATUS_CANCELED;
 
     /**
      * 1단계: 결제 준비 (주문 생성)
@@ -120,9 +102,7 @@ public class PaymentService {
           Map<String, Object> tossResponse = Map.of("method", "FREE",
                                                     "approvedAt", OffsetDateTime.now().toString(),
                                                     "orderName", orderName);
-          savePayment(order, paymentApprovalRequest, tossResponse);
-          updateOrderStatusToPaid(order,cost);
-          updateApplicationStatus(order.getOrderId(), ORDER_STATUS_PAID);
+          paymentTransactionService.savePaidOrder(order, paymentApprovalRequest, tossResponse);
           isCompleted = true;
         }
 
@@ -135,129 +115,197 @@ public class PaymentService {
                 .build();
     }
 
-    @Transactional
+    /**
+     * 결제 승인
+     *
+     * <p>PG 호출 동안 DB 커넥션을 점유하지 않도록 세 단계로 나누어 처리합니다.
+     * <ol>
+     *   <li>사전 검증 트랜잭션: 주문/금액 검증, READY_TO_PAY → PAYMENT_PENDING</li>
+     *   <li>토스 승인 API 호출 (트랜잭션 없음)</li>
+     *   <li>확정 트랜잭션: 결제 저장, PAID 반영</li>
+     * </ol>
+     * PG가 명시적으로 거절하면 즉시 READY_TO_PAY로 원복하고,
+     * 타임아웃 등 결과를 알 수 없거나 확정 단계에서 실패하면 PAYMENT_PENDING으로 남겨
+     * {@link #recoverStalePayments(int)}가 PG 조회 결과로 확정/원복합니다.</p>
+     *
+     * <p>클라이언트 재시도로 같은 승인이 다시 오면 {@link PaymentApprovalIdempotencyStore}가
+     * 진행 중인 승인의 결과를 기다리거나 완료된 응답을 돌려주므로 PG 호출과 결제 저장은 한 번만 일어납니다.</p>
+     */
     public PaymentApprovalResponse approvePayment(PaymentApprovalRequest request) {
+        return approvalIdempotencyStore.execute(request, () -> approveOnce(request));
+    }
+
+    private PaymentApprovalResponse approveOnce(PaymentApprovalRequest request) {
+        // 1. 사전 검증 (짧은 트랜잭션)
+        OrderMaster order;
         try {
-            OrderMaster order = verifyOrder(request.getMerchantUid(), request.getAmount());
-            Map<String, Object> tossResponse = callTossPaymentApi(request);
-            Payment payment = savePayment(order, request, tossResponse);
-            updateOrderStatusToPaid(order, request.getAmount());
-            updateApplicationStatus(order.getOrderId(), ORDER_STATUS_PAID);
+            order = paymentTransactionService.beginApproval(request);
+        } catch (CustomException e) {
+            // 이미 승인된 주문에 같은 결제로 다시 온 요청 (재시작 후, 다른 인스턴스) - 저장된 결제로 응답
+            if (e.getCode() == ErrorCode.PAYMENT_ALREADY_COMPLETED) {
+                PaymentApprovalResponse completed = findCompletedApproval(request);
+                if (completed != null) {
+                    log.info("이미 승인된 결제 재요청 - 저장된 결과 반환 - merchantUid: {}", request.getMerchantUid());
+                    return completed;
+                }
+            }
+            throw e;
+        }
 
-            return buildApprovalResponse(request, tossResponse);
+        // 2. PG 승인 호출 (커넥션 미점유)
+        Map<String, Object> tossResponse;
+        try {
+            tossResponse = tossPaymentClient.confirm(
+                    request.getPaymentKey(), request.getMerchantUid(), request.getAmount());
+        } catch (TossApiException e) {
+            // 4xx 거절 또는 요청 미전달 - PG에 승인이 없으므로 즉시 원복
+            log.error("결제 승인 거절 - merchantUid: {}", request.getMerchantUid(), e);
+            paymentTransactionService.abortApproval(order.getOrderId());
+            throw new CustomException(ErrorCode.PAYMENT_APPROVAL_FAILED);
+        } catch (TossOutcomeUnknownException e) {
+            // 5xx - 승인이 반영되었을 수 있으므로 PAYMENT_PENDING 유지
+            log.error("결제 승인 PG 오류({}) - 복구 스케줄러에서 재확인 - merchantUid: {}",
+                    e.getStatus(), request.getMerchantUid(), e);
+            throw new CustomException(ErrorCode.PAYMENT_APPROVAL_FAILED);
         } catch (Exception e) {
-            log.error("결제 승인 실패", e);
+            log.error("결제 승인 결과 불명 - 복구 스케줄러에서 재확인 - merchantUid: {}", request.getMerchantUid(), e);
             throw new CustomException(ErrorCode.PAYMENT_APPROVAL_FAILED);
         }
+
+        // 3. 확정 (짧은 트랜잭션)
+        try {
+            paymentTransactionService.completeApproval(order, request, tossResponse);
+        } catch (Exception e) {
+            log.error("결제 승인 확정 실패 - 복구 스케줄러에서 재처리 - merchantUid: {}", request.getMerchantUid(), e);
+            throw new CustomException(ErrorCode.PAYMENT_APPROVAL_FAILED);
+        }
+
+        return buildApprovalResponse(request, tossResponse);
     }
 
-    @Transactional
+    /**
+     * 결제 취소 (승인과 동일하게 사전 검증 → PG 호출 → 확정 단계로 처리)
+     */
     public PaymentCancelResponse cancelPayment(PaymentCancelRequest request, Long userId) {
-      Long owner = paymentDAO.findByPaymentKey(request.getPaymentKey())
-                             .orElseThrow(()->new CustomException(ErrorCode.PAYMENT_NOT_FOUND)).getCreatedBy();
-      boolean isTrainer = userDAO.isConnectedToTrainer(owner,userId);
-      if(!Objects.equals(owner, userId) && !isTrainer){
-        throw new CustomException(ErrorCode.PAYMENT_CANCEL_FAILED);
-      }
-
-      try {
-            Payment payment = findPayment(request.getPaymentKey());
-            callTossCancelApi(request);
-            updatePaymentStatusToCanceled(payment);
-            updateOrderStatusAfterCancel(payment, request.getCancelAmount());
-            updateApplicationStatus(payment.getOrderId(), "ACCEPT");
-
-
-            return buildCancelResponse(request, payment);
+        Payment payment = findPayment(request.getPaymentKey());
+
+        // 1. 권한 확인 + CANCEL_PENDING 전이 (짧은 트랜잭션)
+        String previousStatus = paymentTransactionService.beginCancel(payment, userId);
+
+        // 2. PG 취소 호출 (커넥션 미점유)
+        //    취소 건마다 새 요청 ID → 같은 금액의 두 번째 부분 취소가 첫 취소로 중복 처리되지 않음
+        String cancelRequestId = UUID.randomUUID().toString();
+        try {
+            tossPaymentClient.cancel(request.getPaymentKey(), cancelRequestId,
+                    request.getCancelReason(), request.getCancelAmount());
+        } catch (TossApiException e) {
+            // 4xx 거절 또는 요청 미전달 - PG에서 취소되지 않았으므로 즉시 원복
+            log.error("결제 취소 거절 - paymentKey: {}", request.getPaymentKey(), e);
+            paymentTransactionService.abortCancel(payment.getOrderId(), previousStatus);
+            throw new CustomException(ErrorCode.PAYMENT_CANCEL_FAILED);
+        } catch (TossOutcomeUnknownException e) {
+            // 5xx - 취소가 반영되었을 수 있으므로 CANCEL_PENDING 유지
+            log.error("결제 취소 PG 오류({}) - 복구 스케줄러에서 재확인 - paymentKey: {}",
+                    e.getStatus(), request.getPaymentKey(), e);
+            throw new CustomException(ErrorCode.PAYMENT_CANCEL_FAILED);
+        } catch (Exception e) {
+            log.error("결제 취소 결과 불명 - 복구 스케줄러에서 재확인 - paymentKey: {}", request.getPaymentKey(), e);
+            throw new CustomException(ErrorCode.PAYMENT_CANCEL_FAILED);
+        }
+
+        // 3. 확정 (짧은 트랜잭션)
+        try {
+            paymentTransactionService.completeCancel(payment, request.getCancelAmount() != null);
         } catch (Exception e) {
-            log.error("결제 취소 실패", e);
+            log.error("결제 취소 확정 실패 - 복구 스케줄러에서 재처리 - paymentKey: {}", request.getPaymentKey(), e);
             throw new CustomException(ErrorCode.PAYMENT_CANCEL_FAILED);
         }
+
+        return buildCancelResponse(request, payment);
     }
 
     public List<PaymentLogResponse> getPaymentLogs(Long userId){
       return paymentDAO.findLogsByUserId(userId);
     }
 
-    private OrderMaster verifyOrder(String merchantUid, Integer amount) {
-        OrderMaster order = orderDAO.findByMerchantUid(merchantUid)
-                .orElseThrow(() -> new CustomException(ErrorCode.ORDER_NOT_FOUND));
-
-        if (!order.getTotalAmount().equals(amount)) {
-            log.error("금액 불일치 - DB: {}, 요청: {}", order.getTotalAmount(), amount);
-            throw new CustomException(ErrorCode.PAYMENT_AMOUNT_MISMATCH);
+    /**
+     * 결제 파이프라인 복구
+     *
+     * <p>PAYMENT_PENDING / CANCEL_PENDING 상태로 일정 시간 이상 남아 있는 주문을
+     * 토스 조회 API로 확인하여 확정하거나 원복합니다. (PaymentRecoveryScheduler에서 호출)</p>
+     *
+     * @param staleMinutes 중간 상태 경과 시간 기준 (분)
+     */
+    public void recoverStalePayments(int staleMinutes) {
+        List<OrderMaster> pendingApprovals =
+                orderDAO.findStaleOrdersByStatus(PaymentTransactionService.ORDER_STATUS_PAYMENT_PENDING, staleMinutes);
+        for (OrderMaster order : pendingApprovals) {
+            try {
+                recoverApproval(order);
+            } catch (Exception e) {
+                log.error("결제 승인 복구 실패 - merchantUid: {}", order.getMerchantUid(), e);
+            }
         }
-        return order;
-    }
-
-    private Map<String, Object> callTossPaymentApi(PaymentApprovalRequest request) throws Exception {
-        String auth = secretKey + ":";
-        String encodedAuth = Base64.getEncoder().encodeToString(auth.getBytes(StandardCharsets.UTF_8));
-        String requestBody = objectMapper.writeValueAsString(Map.of(
-                "paymentKey", request.getPaymentKey(),
-                "orderId", request.getMerchantUid(),
-                "amount", request.getAmount()
-        ));
-
-        HttpRequest httpRequest = HttpRequest.newBuilder()
-                .uri(URI.create(TOSS_API_URL))
-                .header("Authorization", "Basic " + encodedAuth)
-                .header("Content-Type", "application/json")
-                .POST(HttpRequest.BodyPublishers.ofString(requestBody))
-                .build();
 
-        HttpResponse<String> httpResponse = httpClient.send(httpRequest, HttpResponse.BodyHandlers.ofString());
-
-        if (httpResponse.statusCode() != 200) {
-            log.error("토스 API 호출 실패 - status: {}, body: {}", httpResponse.statusCode(), httpResponse.body());
-            throw new RuntimeException("토스 결제 승인 실패");
+        List<OrderMaster> pendingCancels =
+                orderDAO.findStaleOrdersByStatus(PaymentTransactionService.ORDER_STATUS_CANCEL_PENDING, staleMinutes);
+        for (OrderMaster order : pendingCancels) {
+            try {
+                recoverCancel(order);
+            } catch (Exception e) {
+                log.error("결제 취소 복구 실패 - orderId: {}", order.getOrderId(), e);
+            }
         }
-
-        return objectMapper.readValue(httpResponse.body(), Map.class);
     }
 
-    private Payment savePayment(OrderMaster order, PaymentApprovalRequest request, Map<String, Object> tossResponse) {
-        Payment payment = Payment.builder()
-                .orderId(order.getOrderId())
-                .paymentKey(request.getPaymentKey())
-                .method((String) tossResponse.get("method"))
-                .amount(request.getAmount())
-                .paymentStatus(PAYMENT_STATUS_SUCCESS)
-                .merchantUid(request.getMerchantUid())
-                .paidAt(parseDateTime((String) tossResponse.get("approvedAt")))
-                .createdBy(order.getUserId())
-                .updatedBy(order.getUserId())
-                .build();
-        paymentDAO.insertPayment(payment);
-
-        if(payment.getPaymentId() != null) {
-        PaymentLog paymentLog = PaymentLog.builder()
-                                          .paymentId(payment.getPaymentId())
-                                          .status(payment.getPaymentStatus())
-                                          .amount(payment.getAmount())
-                                          .pgTid(null)
-                                          .failureReason(null)
-                                          .merchantUid(payment.getMerchantUid())
-                                          .createdBy(payment.getCreatedBy())
-                                          .updatedBy(payment.getCreatedBy())
-                                          .build();
-
-        paymentDAO.insertPaymentLog(paymentLog);
+    private void recoverApproval(OrderMaster order) throws Exception {
+        Map<String, Object> tossPayment;
+        try {
+            tossPayment = tossPaymentClient.getPaymentByOrderId(order.getMerchantUid());
+        } catch (TossApiException e) {
+            if (e.getStatus() != 404) {
+                throw e;
+            }
+            // PG에 결제 건이 없음 → 승인되지 않은 주문
+            log.warn("PG 결제 없음, 주문 원복 - merchantUid: {}", order.getMerchantUid());
+            paymentTransactionService.abortApproval(order.getOrderId());
+            return;
         }
-        return payment;
-    }
 
-    private void updateOrderStatusToPaid(OrderMaster order, Integer paidAmount) {
-        order.updatePaymentStatus(ORDER_STATUS_PAID, paidAmount, LocalDateTime.now());
-        orderDAO.updateOrderMaster(order);
+        String status = (String) tossPayment.get("status");
+        if ("DONE".equals(status)) {
+            PaymentApprovalRequest request = PaymentApprovalRequest.builder()
+                    .paymentKey((String) tossPayment.get("paymentKey"))
+                    .merchantUid(order.getMerchantUid())
+                    .amount(order.getTotalAmount())
+                    .build();
+            if (paymentTransactionService.completeApproval(order, request, tossPayment)) {
+                log.info("결제 승인 복구 완료 - merchantUid: {}", order.getMerchantUid());
+            }
+        } else if (!"IN_PROGRESS".equals(status)) {
+            log.info("PG 미승인 상태({}), 주문 원복 - merchantUid: {}", status, order.getMerchantUid());
+            paymentTransactionService.abortApproval(order.getOrderId());
+        }
     }
 
-    private void updateApplicationStatus(Long orderId, String status){
-      List<Long> applicationIds = paymentDAO.findOrderItemsByOrderId(orderId)
-                                            .stream()
-                                            .map(OrderItem::getApplicationId)
-                                            .toList();
-      trainingCourseApplicationDAO.updateStatuses(applicationIds, status);
+    private void recoverCancel(OrderMaster order) throws Exception {
+        Payment payment = paymentDAO.findByOrderId(order.getOrderId())
+                .orElseThrow(() -> new CustomException(ErrorCode.PAYMENT_NOT_FOUND));
+        Map<String, Object> tossPayment = tossPaymentClient.getPayment(payment.getPaymentKey());
+
+        String status = (String) tossPayment.get("status");
+        if ("CANCELED".equals(status) || "PARTIAL_CANCELED".equals(status)) {
+            if (paymentTransactionService.completeCancel(payment, "PARTIAL_CANCELED".equals(status))) {
+                log.info("결제 취소 복구 완료 - paymentKey: {}", payment.getPaymentKey());
+            }
+        } else {
+            // PG에서 취소되지 않음 → 취소 전 상태로 원복
+            String previousStatus = PAYMENT_STATUS_CANCELED.equals(payment.getPaymentStatus())
+                    ? PaymentTransactionService.ORDER_STATUS_PARTIAL_REFUNDED
+                    : ORDER_STATUS_PAID;
+            log.info("PG 미취소 상태({}), 주문 원복 - orderId: {}", status, order.getOrderId());
+            paymentTransactionService.abortCancel(order.getOrderId(), previousStatus);
+        }
     }
 
     private PaymentApprovalResponse buildApprovalResponse(PaymentApprovalRequest request, Map<String, Object> tossResponse) {
@@ -268,72 +316,38 @@ public class PaymentService {
                 .method((String) tossResponse.get("method"))
                 .totalAmount(request.getAmount())
                 .status(PAYMENT_STATUS_SUCCESS)
-                .approvedAt(parseDateTime((String) tossResponse.get("approvedAt")))
+                .approvedAt(PaymentTransactionService.parseDateTime((String) tossResponse.get("approvedAt")))
                 .build();
     }
 
-    private Payment findPayment(String paymentKey) {
-        return paymentDAO.findByPaymentKey(paymentKey)
-                .orElseThrow(() -> new CustomException(ErrorCode.PAYMENT_NOT_FOUND));
-    }
-
-    private Map<String, Object> callTossCancelApi(PaymentCancelRequest request) throws Exception {
-        String auth = secretKey + ":";
-        String encodedAuth = Base64.getEncoder().encodeToString(auth.getBytes(StandardCharsets.UTF_8));
-        String requestBody = request.getCancelAmount() != null
-                ? objectMapper.writeValueAsString(Map.of(
-                "cancelReason", request.getCancelReason(),
-                "cancelAmount", request.getCancelAmount()
-        ))
-                : objectMapper.writeValueAsString(Map.of(
-                "cancelReason", request.getCancelReason()
-        ));
-
-        String url = String.format(TOSS_CANCEL_URL, request.getPaymentKey());
-        HttpRequest httpRequest = HttpRequest.newBuilder()
-                .uri(URI.create(url))
-                .header("Authorization", "Basic " + encodedAuth)
-                .header("Content-Type", "application/json")
-                .POST(HttpRequest.BodyPublishers.ofString(requestBody))
-                .build();
-
-        HttpResponse<String> httpResponse = httpClient.send(httpRequest, HttpResponse.BodyHandlers.ofString());
-
-        if (httpResponse.statusCode() != 200) {
-            log.error("토스 취소 API 호출 실패 - status: {}, body: {}", httpResponse.statusCode(), httpResponse.body());
-            throw new RuntimeException("토스 결제 취소 실패");
+    /**
+     * 저장된 결제 행으로 승인 응답 재구성 (같은 주문·결제키·금액의 성공 결제가 있을 때만)
+     */
+    private PaymentApprovalResponse findCompletedApproval(PaymentApprovalRequest request) {
+        Payment payment = paymentDAO.findByPaymentKey(request.getPaymentKey()).orElse(null);
+        if (payment == null
+                || !Objects.equals(payment.getMerchantUid(), request.getMerchantUid())
+                || !Objects.equals(payment.getAmount(), request.getAmount())
+                || !PAYMENT_STATUS_SUCCESS.equals(payment.getPaymentStatus())) {
+            return null;
         }
-
-        return objectMapper.readValue(httpResponse.body(), Map.class);
-    }
-
-    private void updatePaymentStatusToCanceled(Payment payment) {
-        payment.updateStatus(PAYMENT_STATUS_CANCELED);
-        paymentDAO.updatePayment(payment);
-
-        if(payment.getPaymentId() != null) {
-          PaymentLog paymentLog = PaymentLog.builder()
-                                            .paymentId(payment.getPaymentId())
-                                            .status(payment.getPaymentStatus())
-                                            .amount(payment.getAmount())
-                                            .pgTid(null)
-                                            .failureReason(null)
-                                            .merchantUid(payment.getMerchantUid())
-                                            .createdBy(payment.getCreatedBy())
-                                            .updatedBy(payment.getCreatedBy())
-                                            .build();
-
-          paymentDAO.insertPaymentLog(paymentLog);
-      }
+        String orderName = orderDAO.findByMerchantUid(request.getMerchantUid())
+                .map(OrderMaster::getOrderName)
+                .orElse(null);
+        return PaymentApprovalResponse.builder()
+                .paymentKey(payment.getPaymentKey())
+                .orderId(payment.getMerchantUid())
+                .orderName(orderName)
+                .method(payment.getMethod())
+                .totalAmount(payment.getAmount())
+                .status(PAYMENT_STATUS_SUCCESS)
+                .approvedAt(payment.getPaidAt())
+                .build();
     }
 
-    private void updateOrderStatusAfterCancel(Payment payment, Integer cancelAmount) {
-        OrderMaster order = orderDAO.findById(payment.getOrderId())
-                .orElseThrow(() -> new CustomException(ErrorCode.ORDER_NOT_FOUND));
-
-        String newStatus = cancelAmount != null ? ORDER_STATUS_PARTIAL_REFUNDED : ORDER_STATUS_REFUNDED;
-        order.updatePaymentStatus(newStatus, order.getPaidAmount(), order.getPaidAt());
-        orderDAO.updateOrderMaster(order);
+    private Payment findPayment(String paymentKey) {
+        return paymentDAO.findByPaymentKey(paymentKey)
+                .orElseThrow(() -> new CustomException(ErrorCode.PAYMENT_NOT_FOUND));
     }
 
     private PaymentCancelResponse buildCancelResponse(PaymentCancelRequest request, Payment payment) {
@@ -347,15 +361,6 @@ public class PaymentService {
                 .build();
     }
 
-    private LocalDateTime parseDateTime(String dateTimeStr) {
-        try {
-            return LocalDateTime.parse(dateTimeStr, DateTimeFormatter.ISO_DATE_TIME);
-        } catch (Exception e) {
-            log.warn("날짜 파싱 실패: {}", dateTimeStr);
-            return LocalDateTime.now();
-        }
-    }
-
     /**
      * 가맹점 주문번호 생성
      * 형식: ORD_yyyyMMddHHmmss_UUID
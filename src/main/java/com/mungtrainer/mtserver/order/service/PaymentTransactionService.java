@@ -0,0 +1,235 @@
+package com.mungtrainer.mtserver.order.service;
+
+import com.mungtrainer.mtserver.common.exception.CustomException;
+import com.mungtrainer.mtserver.common.exception.ErrorCode;
+import com.mungtrainer.mtserver.order.dao.OrderDAO;
+import com.mungtrainer.mtserver.order.dao.PaymentDAO;
+import com.mungtrainer.mtserver.order.dto.request.PaymentApprovalRequest;
+import com.mungtrainer.mtserver.order.entity.OrderItem;
+import com.mungtrainer.mtserver.order.entity.OrderMaster;
+import com.mungtrainer.mtserver.order.entity.Payment;
+import com.mungtrainer.mtserver.order.entity.PaymentLog;
+import com.mungtrainer.mtserver.training.dao.TrainingCourseApplicationDAO;
+import com.mungtrainer.mtserver.user.dao.UserDAO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 결제 승인/취소 파이프라인의 DB 단계 (짧은 트랜잭션 단위)
+ *
+ * <p>PG(토스) 호출은 {@link PaymentService}에서 트랜잭션 밖에서 수행하고,
+ * 이 클래스는 PG 호출 전후의 짧은 트랜잭션만 담당합니다.
+ * 주문 상태를 중간 상태(PAYMENT_PENDING, CANCEL_PENDING)로 먼저 기록해 두므로,
+ * 단계 사이에서 서버가 중단되어도 복구 스케줄러가 PG 조회 결과로 확정/원복할 수 있습니다.</p>
+ *
+ * <pre>
+ * 승인: READY_TO_PAY --(사전 검증)--> PAYMENT_PENDING --(PG 승인)--> PAID
+ *                                        └─(PG 거절)--> READY_TO_PAY
+ * 취소: PAID / PARTIAL_REFUNDED --(사전 검증)--> CANCEL_PENDING --(PG 취소)--> REFUNDED / PARTIAL_REFUNDED
+ *                                                   └─(PG 거절)--> 이전 상태
+ * </pre>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentTransactionService {
+
+    static final String ORDER_STATUS_READY_TO_PAY = "READY_TO_PAY";
+    static final String ORDER_STATUS_PAYMENT_PENDING = "PAYMENT_PENDING";
+    static final String ORDER_STATUS_PAID = "PAID";
+    static final String ORDER_STATUS_CANCEL_PENDING = "CANCEL_PENDING";
+    static final String ORDER_STATUS_REFUNDED = "REFUNDED";
+    static final String ORDER_STATUS_PARTIAL_REFUNDED = "PARTIAL_REFUNDED";
+    static final String PAYMENT_STATUS_SUCCESS = "SUCCESS";
+    static final String PAYMENT_STATUS_CANCELED = "CANCELED";
+
+    private final OrderDAO orderDAO;
+    private final PaymentDAO paymentDAO;
+    private final UserDAO userDAO;
+    private final TrainingCourseApplicationDAO trainingCourseApplicationDAO;
+
+    /**
+     * 승인 1단계: 주문 검증 후 READY_TO_PAY → PAYMENT_PENDING
+     *
+     * @return 검증된 주문
+     */
+    @Transactional
+    public OrderMaster beginApproval(PaymentApprovalRequest request) {
+        OrderMaster order = orderDAO.findByMerchantUid(request.getMerchantUid())
+                .orElseThrow(() -> new CustomException(ErrorCode.ORDER_NOT_FOUND));
+
+        if (!order.getTotalAmount().equals(request.getAmount())) {
+            log.error("금액 불일치 - DB: {}, 요청: {}", order.getTotalAmount(), request.getAmount());
+            throw new CustomException(ErrorCode.PAYMENT_AMOUNT_MISMATCH);
+        }
+
+        // 조건부 UPDATE로 상태 전이 (동시 승인 요청 중 하나만 통과)
+        int updated = orderDAO.updateOrderStatusIfMatch(
+                order.getOrderId(), ORDER_STATUS_READY_TO_PAY, ORDER_STATUS_PAYMENT_PENDING);
+        if (updated == 0) {
+            throw new CustomException(ORDER_STATUS_PAYMENT_PENDING.equals(order.getOrderStatus())
+                    ? ErrorCode.PAYMENT_IN_PROGRESS
+                    : ErrorCode.PAYMENT_ALREADY_COMPLETED);
+        }
+        order.setOrderStatus(ORDER_STATUS_PAYMENT_PENDING);
+        return order;
+    }
+
+    /**
+     * 승인 3단계: PG 승인 결과 저장 후 PAYMENT_PENDING → PAID
+     * 요청 스레드와 복구 스케줄러가 동시에 확정하더라도 한 번만 반영됩니다.
+     *
+     * @return 이번 호출에서 확정했으면 true, 이미 확정된 주문이면 false
+     */
+    @Transactional
+    public boolean completeApproval(OrderMaster order, PaymentApprovalRequest request, Map<String, Object> tossResponse) {
+        int updated = orderDAO.updateOrderStatusIfMatch(
+                order.getOrderId(), ORDER_STATUS_PAYMENT_PENDING, ORDER_STATUS_PAID);
+        if (updated == 0) {
+            log.warn("이미 확정된 결제 승인 - merchantUid: {}", order.getMerchantUid());
+            return false;
+        }
+        savePaidOrder(order, request, tossResponse);
+        return true;
+    }
+
+    /**
+     * 승인 실패(PG 거절) 시 PAYMENT_PENDING → READY_TO_PAY 원복
+     */
+    @Transactional
+    public void abortApproval(Long orderId) {
+        orderDAO.updateOrderStatusIfMatch(orderId, ORDER_STATUS_PAYMENT_PENDING, ORDER_STATUS_READY_TO_PAY);
+    }
+
+    /**
+     * 결제 정보 저장 + 주문 PAID + 신청 PAID 반영
+     * 무료 주문(결제 준비 트랜잭션)과 승인 확정 단계에서 공통 사용
+     */
+    @Transactional
+    public Payment savePaidOrder(OrderMaster order, PaymentApprovalRequest request, Map<String, Object> tossResponse) {
+        Payment payment = savePayment(order, request, tossResponse);
+        order.updatePaymentStatus(ORDER_STATUS_PAID, request.getAmount(), LocalDateTime.now());
+        orderDAO.updateOrderMaster(order);
+        updateApplicationStatus(order.getOrderId(), ORDER_STATUS_PAID);
+        return payment;
+    }
+
+    /**
+     * 취소 1단계: 권한 확인 후 주문 상태 → CANCEL_PENDING
+     *
+     * @return 취소 전 주문 상태 (PG 거절 시 원복용)
+     */
+    @Transactional
+    public String beginCancel(Payment payment, Long userId) {
+        Long owner = payment.getCreatedBy();
+        boolean isTrainer = userDAO.isConnectedToTrainer(owner, userId);
+        if (!Objects.equals(owner, userId) && !isTrainer) {
+            throw new CustomException(ErrorCode.PAYMENT_CANCEL_FAILED);
+        }
+
+        OrderMaster order = orderDAO.findById(payment.getOrderId())
+                .orElseThrow(() -> new CustomException(ErrorCode.ORDER_NOT_FOUND));
+        String previousStatus = order.getOrderStatus();
+        if (ORDER_STATUS_CANCEL_PENDING.equals(previousStatus)) {
+            throw new CustomException(ErrorCode.PAYMENT_IN_PROGRESS);
+        }
+
+        int updated = orderDAO.updateOrderStatusIfMatch(
+                order.getOrderId(), previousStatus, ORDER_STATUS_CANCEL_PENDING);
+        if (updated == 0) {
+            throw new CustomException(ErrorCode.PAYMENT_IN_PROGRESS);
+        }
+        return previousStatus;
+    }
+
+    /**
+     * 취소 3단계: 결제 CANCELED + 주문 환불 상태 + 신청 ACCEPT 반영
+     *
+     * @param partial 부분 취소 여부
+     * @return 이번 호출에서 확정했으면 true, 이미 확정된 취소면 false
+     */
+    @Transactional
+    public boolean completeCancel(Payment payment, boolean partial) {
+        String newStatus = partial ? ORDER_STATUS_PARTIAL_REFUNDED : ORDER_STATUS_REFUNDED;
+        int updated = orderDAO.updateOrderStatusIfMatch(
+                payment.getOrderId(), ORDER_STATUS_CANCEL_PENDING, newStatus);
+        if (updated == 0) {
+            log.warn("이미 확정된 결제 취소 - paymentKey: {}", payment.getPaymentKey());
+            return false;
+        }
+
+        payment.updateStatus(PAYMENT_STATUS_CANCELED);
+        paymentDAO.updatePayment(payment);
+        if (payment.getPaymentId() != null) {
+            paymentDAO.insertPaymentLog(buildPaymentLog(payment));
+        }
+        updateApplicationStatus(payment.getOrderId(), "ACCEPT");
+        return true;
+    }
+
+    /**
+     * 취소 실패(PG 거절) 시 CANCEL_PENDING → 이전 상태 원복
+     */
+    @Transactional
+    public void abortCancel(Long orderId, String previousStatus) {
+        orderDAO.updateOrderStatusIfMatch(orderId, ORDER_STATUS_CANCEL_PENDING, previousStatus);
+    }
+
+    private Payment savePayment(OrderMaster order, PaymentApprovalRequest request, Map<String, Object> tossResponse) {
+        Payment payment = Payment.builder()
+                .orderId(order.getOrderId())
+                .paymentKey(request.getPaymentKey())
+                .method((String) tossResponse.get("method"))
+                .amount(request.getAmount())
+                .paymentStatus(PAYMENT_STATUS_SUCCESS)
+                .merchantUid(request.getMerchantUid())
+                .paidAt(parseDateTime((String) tossResponse.get("approvedAt")))
+                .createdBy(order.getUserId())
+                .updatedBy(order.getUserId())
+                .build();
+        paymentDAO.insertPayment(payment);
+
+        if (payment.getPaymentId() != null) {
+            paymentDAO.insertPaymentLog(buildPaymentLog(payment));
+        }
+        return payment;
+    }
+
+    private PaymentLog buildPaymentLog(Payment payment) {
+        return PaymentLog.builder()
+                .paymentId(payment.getPaymentId())
+                .status(payment.getPaymentStatus())
+                .amount(payment.getAmount())
+                .pgTid(null)
+                .failureReason(null)
+                .merchantUid(payment.getMerchantUid())
+                .createdBy(payment.getCreatedBy())
+                .updatedBy(payment.getCreatedBy())
+                .build();
+    }
+
+    private void updateApplicationStatus(Long orderId, String status) {
+        List<Long> applicationIds = paymentDAO.findOrderItemsByOrderId(orderId)
+                .stream()
+                .map(OrderItem::getApplicationId)
+                .toList();
+        trainingCourseApplicationDAO.updateStatuses(applicationIds, status);
+    }
+
+    static LocalDateTime parseDateTime(String dateTimeStr) {
+        try {
+            return LocalDateTime.parse(dateTimeStr, DateTimeFormatter.ISO_DATE_TIME);
+        } catch (Exception e) {
+            log.warn("날짜 파싱 실패: {}", dateTimeStr);
+            return LocalDateTime.now();
+        }
+    }
+}
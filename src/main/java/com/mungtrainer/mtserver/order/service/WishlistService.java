@@ -41,20 +41,8 @@ public class WishlistService {
                 .distinct()
                 .collect(Collectors.toList());
 
-        // 2. Presigned URL 발급 + key → URL 매핑
-        Map<String, String> imageUrlMap = new HashMap<>();
-        if (!imageKeys.isEmpty()) {
-            List<String> urls = s3Service.generateDownloadPresignedUrls(imageKeys);
-            if (urls != null && !urls.isEmpty()) {
-                int size = Math.min(imageKeys.size(), urls.size());
-                for (int i = 0; i < size; i++) {
-                    String url = urls.get(i);
-                    if (url != null && !url.isEmpty()) {
-                        imageUrlMap.put(imageKeys.get(i), url);
-                    }
-                }
-            }
-        }
+        // 2. Presigned URL 일괄 발급 (key → URL 매핑)
+        Map<String, String> imageUrlMap = s3Service.generateDownloadPresignedUrlMap(imageKeys);
 
         // 3. URL 매핑 후 반환
         return list.stream()
@@ -173,18 +161,13 @@ public class WishlistService {
     //장바구니 삭제
     public void deleteWishlist(Long userId, WishlistDeleteRequest request) {
         List<Long> requestIds = request.getWishlistItemId();
-        List<Long> userWishlistIds = wishlistDao.findByUserId(userId);
-        List<Long> ids = new ArrayList<>();
-
-        // 권한이 없거나 존재하지 않는 항목의 ID를 수집
-        for(Long id : requestIds){
-            WishlistDetail wishlistDetail = wishlistDao.findWishlistDetailByItemId(id);
-            if(wishlistDetail == null || !userWishlistIds.contains(wishlistDetail.getWishlistId())) {
-                ids.add(id);
-            }
+        if(requestIds == null || requestIds.isEmpty()){
+            throw new CustomException(ErrorCode.WISHLIST_NOT_FOUND);
         }
-        // ids가 비지않았다면 에러처리
-        if(!ids.isEmpty()){
+
+        // 권한이 없거나 존재하지 않는 항목이 있으면 에러처리 (항목별 조회 대신 한 번의 쿼리로 확인)
+        Set<Long> distinctIds = new HashSet<>(requestIds);
+        if(wishlistDao.countOwnedWishlistItems(userId, distinctIds) != distinctIds.size()){
             throw new CustomException(ErrorCode.UNAUTHORIZED_WISHLIST);
         }
 
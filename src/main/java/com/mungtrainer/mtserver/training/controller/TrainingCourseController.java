@@ -5,10 +5,13 @@ import com.mungtrainer.mtserver.common.exception.CustomException;
 import com.mungtrainer.mtserver.common.exception.ErrorCode;
 import com.mungtrainer.mtserver.training.dto.request.ApplicationRequest;
 import com.mungtrainer.mtserver.training.dto.request.CourseSearchRequest;
+import com.mungtrainer.mtserver.training.dto.response.AdmissionTicketResponse;
 import com.mungtrainer.mtserver.training.dto.response.ApplicationResponse;
 import com.mungtrainer.mtserver.training.dto.response.CalendarResponse;
+import com.mungtrainer.mtserver.training.dto.response.CalendarSummaryResponse;
 import com.mungtrainer.mtserver.training.dto.response.CourseSearchResponse;
 import com.mungtrainer.mtserver.training.dto.response.TrainingCourseResponse;
+import com.mungtrainer.mtserver.training.service.CourseAdmissionQueue;
 import com.mungtrainer.mtserver.training.service.TrainingCourseApplicationService;
 import com.mungtrainer.mtserver.training.service.TrainingCourseService;
 import jakarta.validation.Valid;
@@ -21,6 +24,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 import java.time.LocalDate;
@@ -31,16 +35,18 @@ import java.time.LocalDate;
 public class TrainingCourseController {
     private final TrainingCourseService courseService;
     private final TrainingCourseApplicationService applicationService;
+    private final CourseAdmissionQueue admissionQueue;
 
     /**
      * 훈련과정 검색 (무한 스크롤)
-     * GET /api/course/search?keyword=기초&lastCourseId=123&size=20&lessonForm=WALK
+     * GET /api/course/search?keyword=기초&lastCourseId=123&lastScore=1.52&size=20&lessonForm=WALK
      *
      * - USER: 자신이 속한 훈련사의 과정만 조회
      * - TRAINER: 자신이 등록한 과정만 조회
      *
      * @param keyword 검색 키워드
      * @param lastCourseId 마지막으로 조회한 courseId (다음 페이지 조회 시 사용)
+     * @param lastScore 마지막으로 조회한 관련도 점수 (키워드 전문 검색의 다음 페이지 조회 시 lastCourseId와 함께 사용)
      * @param size 조회할 항목 수
      * @param lessonForm 훈련 형태 필터 (WALK, GROUP, PRIVATE)
      * @param userDetails 인증된 사용자 정보
@@ -49,6 +55,7 @@ public class TrainingCourseController {
     public ResponseEntity<CourseSearchResponse> searchCourses(
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) Long lastCourseId,
+            @RequestParam(required = false) BigDecimal lastScore,
             @RequestParam(defaultValue = "20") @Min(1) @Max(100) Integer size,
             @RequestParam(required = false) String lessonForm,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
@@ -61,6 +68,7 @@ public class TrainingCourseController {
         CourseSearchRequest request = CourseSearchRequest.builder()
                 .keyword(keyword)
                 .lastCourseId(lastCourseId)
+                .lastScore(lastScore)
                 .size(size)
                 .lessonForm(lessonForm)
                 .build();
@@ -96,6 +104,38 @@ public class TrainingCourseController {
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
 
+    /**
+     * 과정 신청 접수 (신청 대기열)
+     * POST /api/course/{courseId}/apply/queue
+     *
+     * - 인기 과정 오픈 시 사용: 신청을 과정별 대기열에 넣고 접수표를 바로 반환 (202)
+     * - 결과는 GET /api/course/apply/tickets/{ticketId}로 조회
+     */
+    @PostMapping("/{courseId}/apply/queue")
+    public ResponseEntity<AdmissionTicketResponse> enqueueApplyCourse(
+            @PathVariable Long courseId,
+            @AuthenticationPrincipal CustomUserDetails principal,
+            @RequestBody @Valid ApplicationRequest request
+    ) {
+        AdmissionTicketResponse ticket = admissionQueue.submit(principal.getUserId(), courseId, request);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(ticket);
+    }
+
+    /**
+     * 과정 신청 접수표 조회
+     * GET /api/course/apply/tickets/{ticketId}
+     *
+     * - QUEUED: position = 앞에 남은 접수 수
+     * - DONE: 생성된 신청 목록, FAILED: 실패 사유 (errorCode, message)
+     */
+    @GetMapping("/apply/tickets/{ticketId}")
+    public ResponseEntity<AdmissionTicketResponse> getApplyTicket(
+            @PathVariable String ticketId,
+            @AuthenticationPrincipal CustomUserDetails principal
+    ) {
+        return ResponseEntity.ok(admissionQueue.getTicket(principal.getUserId(), ticketId));
+    }
+
     /**
      * 달력용 세션 날짜 조회
      * GET /api/course/calendar?startDate=2024-01-01&endDate=2024-01-31&keyword=기초&lessonForm=WALK
@@ -134,6 +174,45 @@ public class TrainingCourseController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 달력 요약 조회 (월 화면 + 선택한 날짜의 코스 목록)
+     * GET /api/course/calendar/summary?startDate=2024-01-01&endDate=2024-01-31&date=2024-01-15&lessonForm=WALK
+     *
+     * - USER: 자신이 속한 훈련사의 세션만 조회
+     * - TRAINER: 자신이 등록한 세션만 조회
+     *
+     * @param startDate 시작 날짜 (yyyy-MM-dd)
+     * @param endDate 종료 날짜 (yyyy-MM-dd)
+     * @param date 코스 목록을 함께 조회할 날짜 (선택, 기간 안의 날짜)
+     * @param lessonForm 수업 형태 필터 (WALK, GROUP, PRIVATE) (선택)
+     * @param userDetails 인증된 사용자 정보
+     * @return 날짜별 세션 수/수업 형태/남은 자리와 선택한 날짜의 코스 목록
+     */
+    @GetMapping("/calendar/summary")
+    public ResponseEntity<CalendarSummaryResponse> getCalendarSummary(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) String lessonForm,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        // 날짜 유효성 검증
+        if (startDate.isAfter(endDate)
+                || (date != null && (date.isBefore(startDate) || date.isAfter(endDate)))) {
+            throw new CustomException(ErrorCode.INVALID_DATE_RANGE);
+        }
+
+        // lessonForm 유효성 검증
+        if (lessonForm != null && !isValidLessonForm(lessonForm)) {
+            throw new CustomException(ErrorCode.INVALID_LESSON_FORM);
+        }
+
+        CalendarSummaryResponse response = courseService.getCalendarSummary(
+                startDate, endDate, date, userDetails, lessonForm);
+
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 특정 날짜의 코스 목록 조회 (CourseSearchResponse 형식)
      * GET /api/course/calendar/courses?date=2024-01-15&keyword=기초&lessonForm=WALK
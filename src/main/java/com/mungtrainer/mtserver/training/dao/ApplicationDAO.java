@@ -1,11 +1,14 @@
 package com.mungtrainer.mtserver.training.dao;
 
 import com.mungtrainer.mtserver.training.dto.response.ApplicationRawData;
+import com.mungtrainer.mtserver.training.dto.response.SessionApplyCheck;
+import com.mungtrainer.mtserver.training.dto.response.SessionSeatStatus;
+import com.mungtrainer.mtserver.training.dto.response.WaitingQueueEntry;
 import com.mungtrainer.mtserver.training.entity.TrainingCourseApplication;
-import com.mungtrainer.mtserver.training.entity.TrainingSession;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 @Mapper
@@ -20,54 +23,70 @@ public interface ApplicationDAO {
     // 생성 사용자 인증
     Long findOwnerByDogId(@Param("dogId") Long dogId);
 
-    // 생성 중복 체크
-    boolean existsByDogAndSession(@Param("dogId") Long dogId, @Param("sessionId") Long sessionId);
-
-    // 코스에 속한 세션 조회
-    List<TrainingSession> findSessionsByCourseId(@Param("courseId") Long courseId);
-
     // 코스 상태 조회 (신청 가능 여부 확인용)
     String getCourseStatusById(@Param("courseId") Long courseId);
 
-    // 세션 정원 조회
-    int getMaxStudentsBySessionId(@Param("sessionId") Long sessionId);
-
-    // 현재 신청 인원수 조회
-    int countApplicationBySessionId(@Param("sessionId") Long sessionId);
-
     // 현재 승인된 신청 인원수 조회 (ACCEPTED, PAID만 카운트)
     int countAcceptedApplications(@Param("sessionId") Long sessionId);
 
-    // 대기 테이블에 추가
-    void insertWaiting(@Param("applicationId") Long applicationId, @Param("userId") Long userId);
+    // 대기 테이블에 일괄 추가
+    void insertWaitings(@Param("applicationIds") List<Long> applicationIds, @Param("userId") Long userId);
 
-    // 훈련과정 신청 생성
-    int insertApplication(TrainingCourseApplication application);
+    /**
+     * 과정 신청 사전 검증 (세션별 중복 신청 여부, 승인 인원, 반려견 상담 완료 여부)
+     */
+    List<SessionApplyCheck> findSessionApplyChecks(@Param("courseId") Long courseId, @Param("dogId") Long dogId);
+
+    /**
+     * 훈련과정 신청 일괄 생성 (multi-row INSERT, 생성 키는 각 엔티티의 applicationId에 채워짐)
+     * @return 생성된 행 수
+     */
+    int insertApplications(@Param("applications") List<TrainingCourseApplication> applications);
 
     // 훈련과정 신청 취소 (상태 업데이트)
     void updateApplicationStatus(@Param("applicationId") Long applicationId, @Param("status") String status);
 
-    // 세션별 대기자 조회
-    List<Long> findWaitingBySessionId(@Param("sessionId") Long sessionId);
+    /**
+     * 세션별 WAITING 신청 조회 (대기 순서: created_at, application_id)
+     * sessionIds가 null이면 전체 세션 조회 (기동 시 대기열 인덱스 적재용)
+     */
+    List<WaitingQueueEntry> findWaitingQueueEntries(@Param("sessionIds") Collection<Long> sessionIds);
+
+    /**
+     * ========================================
+     * 대기자 일괄 승격 (WaitingPromotionService)
+     * ========================================
+     */
+
+    /**
+     * 세션별 정원 및 승인 인원(좌석 카운터 reserved_seats) 조회
+     * session_id 오름차순으로 세션 행 쓰기 락을 잡음 (FOR UPDATE)
+     */
+    List<SessionSeatStatus> findSessionSeatStatuses(@Param("sessionIds") Collection<Long> sessionIds);
+
+    /**
+     * 세션별 승격 대상 대기자 조회 (waiting 등록 순서, FIFO)
+     */
+    List<WaitingQueueEntry> findPromotionCandidates(@Param("sessionIds") Collection<Long> sessionIds);
+
+    /**
+     * 대기자 일괄 승격: WAITING → ACCEPT + 결제 기한 설정
+     * @return 실제 변경된 행 수 (WAITING 상태인 신청만 변경)
+     */
+    int promoteWaitingApplications(@Param("applicationIds") List<Long> applicationIds,
+                                   @Param("paymentDeadlineHours") int paymentDeadlineHours);
 
     // 대기테이블 상태 업데이트
     void updateWaitingStatus(@Param("applicationId") Long applicationId, @Param("status") String status);
 
-    // wishlist_detail 상태 업데이트
-    void updateWishlistDetailStatus(@Param("wishlistItemId") Long wishlistItemId, @Param("status") String status);
+    // wishlist_detail 상태 일괄 업데이트
+    void updateWishlistDetailStatusBatch(@Param("wishlistItemIds") List<Long> wishlistItemIds, @Param("status") String status);
 
     // 전체취소
     void updateApplicationStatusBatch(@Param("applicationIds") List<Long> applicationIds, @Param("status") String status);
     // 전체취소시 웨이팅 처리
     void updateWaitingStatusBatch(@Param("applicationIds") List<Long> applicationIds, @Param("status") String status);
 
-    // 해당 강아지 상담 여부 가져오기
-    boolean findCounselingByDogID(@Param("dogId") Long dogId);
-
-    // 세션 status 확인용
-    TrainingSession findSessionById(Long sessionId);
-    // session status = done 일 경우 application status = EXPIRED
-    void updateApplicationStatusIfNotExpired(@Param("applicationId") Long applicationId, @Param("status") String status);
 //    유저아이디와 코스아이디로 application 찾기
     List<TrainingCourseApplication> findApplicationsByUserAndCourses(
             @Param("userId") Long userId,
@@ -95,4 +114,19 @@ public interface ApplicationDAO {
             @Param("applicationIds") List<Long> applicationIds
     );
 
+    /**
+     * ========================================
+     * 세션 종료 처리 (CourseStatusUpdateService)
+     * ========================================
+     */
+
+    /**
+     * DONE이 된 세션의 미완료 신청(APPLIED, WAITING, COUNSELING_REQUIRED, ACCEPT) 잠금 조회
+     * 지정한 세션 중 status = 'DONE'인 세션만 대상 (FOR UPDATE)
+     * @return 신청 ID, 세션 ID, 반려견 ID, 상태
+     */
+    List<TrainingCourseApplication> findUnfinishedApplicationsOfDoneSessionsForUpdate(
+            @Param("sessionIds") Collection<Long> sessionIds
+    );
+
 }
@@ -0,0 +1,48 @@
+package com.mungtrainer.mtserver.training.dao;
+
+import com.mungtrainer.mtserver.training.dto.response.CalendarDayKey;
+import com.mungtrainer.mtserver.training.dto.response.CalendarDaySummaryRow;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 훈련사별 날짜 요약(trainer_calendar_day) DAO
+ */
+@Mapper
+public interface CalendarSummaryDAO {
+
+    /**
+     * 세션들이 속한 (훈련사, 날짜) 조회 (삭제된 세션 포함)
+     */
+    List<CalendarDayKey> findDayKeysBySessionIds(@Param("sessionIds") Collection<Long> sessionIds);
+
+    /**
+     * 과정의 세션들이 속한 (훈련사, 날짜) 조회 (삭제된 세션 포함)
+     */
+    List<CalendarDayKey> findDayKeysByCourseId(@Param("courseId") Long courseId);
+
+    /**
+     * 지정한 날짜의 요약을 0으로 초기화 (세션이 모두 빠진 날짜/수업 형태 정리용)
+     */
+    int resetDays(@Param("trainerId") Long trainerId,
+                  @Param("dates") Collection<LocalDate> dates);
+
+    /**
+     * 지정한 날짜의 요약을 원본 세션/신청에서 다시 집계하여 반영
+     */
+    int upsertDays(@Param("trainerId") Long trainerId,
+                   @Param("dates") Collection<LocalDate> dates);
+
+    /**
+     * 기간 내 날짜별 요약 조회 (날짜 + 수업 형태 단위)
+     */
+    List<CalendarDaySummaryRow> findDays(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("trainerId") Long trainerId,
+            @Param("lessonForm") String lessonForm);
+}
@@ -32,7 +32,11 @@ public interface CourseDAO {
   void deleteWishlistDetailDog(Long courseId);
   void deleteWishlistDetail(Long courseId);
 
-  // 과정 상태 자동 업데이트
+  // 과정 상태 자동 업데이트 (next_transition_at이 지난 과정만)
   int updateCourseStatusToInProgress();
   int updateCourseStatusToCompleted();
+
+  // 상태 전이 시각 갱신 (세션 일정/과정 상태 변경 시)
+  int refreshTransitionTime(Long courseId);
+  int refreshTransitionTimeBySessionId(Long sessionId);
 }
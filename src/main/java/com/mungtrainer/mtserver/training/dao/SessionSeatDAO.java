@@ -0,0 +1,56 @@
+package com.mungtrainer.mtserver.training.dao;
+
+import com.mungtrainer.mtserver.training.dto.response.ApplicationSessionRef;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 세션 좌석 카운터(training_session.reserved_seats) DAO
+ *
+ * <p>reserved_seats는 좌석을 차지한 신청(ACCEPT, PAID) 수입니다.
+ * 좌석 확보는 조건부 UPDATE 한 번으로 정원 확인과 증가를 함께 처리하고,
+ * 좌석 반환(취소·만료)은 좌석을 차지한 신청을 잠근 뒤 반환 인원만큼 조건부로 감소시킵니다.
+ * 원본에서 다시 세는 재집계는 주기적인 보정 작업에서만 사용합니다.</p>
+ */
+@Mapper
+public interface SessionSeatDAO {
+
+    /**
+     * 좌석 1개 확보 (정원 미만인 경우에만 증가)
+     * @return 1: 확보 성공, 0: 정원 초과 또는 세션 없음
+     */
+    int reserveSeat(@Param("sessionId") Long sessionId);
+
+    /**
+     * 좌석 여러 개 확보 (모두 들어갈 수 있을 때만 증가)
+     * @return 1: 확보 성공, 0: 정원 초과 또는 세션 없음
+     */
+    int reserveSeats(@Param("sessionId") Long sessionId, @Param("count") int count);
+
+    /**
+     * 신청 중 좌석을 차지한 신청(ACCEPT, PAID) 잠금 조회 (FOR UPDATE)
+     * 상태 변경 전에 호출하면 커밋까지 다른 트랜잭션이 같은 신청의 좌석을 반환할 수 없음
+     */
+    List<ApplicationSessionRef> findSeatHoldersForUpdate(@Param("applicationIds") Collection<Long> applicationIds);
+
+    /**
+     * 좌석 여러 개 반환 (카운터가 반환 인원 이상인 경우에만 감소)
+     * @return 1: 반환 성공, 0: 카운터 불일치 또는 세션 없음
+     */
+    int releaseSeats(@Param("sessionId") Long sessionId, @Param("count") int count);
+
+    /**
+     * 좌석 카운터가 실제 승인 인원과 다른 진행 중 세션 조회 (보정 작업용)
+     */
+    List<Long> findDriftedSessionIds();
+
+    /**
+     * 세션들의 좌석 카운터를 원본 신청(ACCEPT, PAID)에서 다시 집계 (보정 작업 전용)
+     * 세션 행에 쓰기 락이 걸리므로 같은 세션의 좌석 확보·반환과 순서가 보장됨
+     * @return 갱신된 세션 수
+     */
+    int syncReservedSeats(@Param("sessionIds") Collection<Long> sessionIds);
+}
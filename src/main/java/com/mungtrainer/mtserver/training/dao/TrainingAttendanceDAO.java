@@ -62,4 +62,9 @@ public interface TrainingAttendanceDAO {
       @Param("applicationIds") List<Long> applicationIds,
       @Param("createdBy") Long createdBy
   );
+
+  /**
+   * 출석 정보의 반려견 ID 조회 (반려견 통계 캐시 무효화용)
+   */
+  Long findDogIdByAttendanceId(@Param("attendanceId") Long attendanceId);
 }
\ No newline at end of file
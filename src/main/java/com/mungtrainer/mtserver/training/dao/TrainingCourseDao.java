@@ -1,12 +1,16 @@
 package com.mungtrainer.mtserver.training.dao;
 
 import com.mungtrainer.mtserver.training.dto.request.CourseSearchRequest;
+import com.mungtrainer.mtserver.training.dto.response.CatalogCourse;
 import com.mungtrainer.mtserver.training.dto.response.CourseSearchItemDto;
+import com.mungtrainer.mtserver.training.dto.response.CourseSessionSummaryDto;
 import com.mungtrainer.mtserver.training.entity.TrainingCourse;
+import com.mungtrainer.mtserver.training.entity.TrainingSession;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Mapper
@@ -15,9 +19,25 @@ public interface TrainingCourseDao {
 
     /**
      * 훈련과정 검색 (무한 스크롤 - 커서 기반)
+     * fulltextQuery가 있으면 FULLTEXT 관련도순 + (score, courseId) 커서, 없으면 LIKE + courseId 커서
      */
     List<CourseSearchItemDto> searchCourses(@Param("request") CourseSearchRequest request);
 
+    /**
+     * 과정별 세션 요약 조회 (과정당 1행: 세션 수, 기간, 가격 범위, 최저가 세션)
+     */
+    List<CourseSessionSummaryDto> findSessionSummaries(@Param("courseIds") Collection<Long> courseIds);
+
+    /**
+     * 훈련사의 과정 목록 조회 (카탈로그 인덱스 적재용, course_id 내림차순)
+     */
+    List<CatalogCourse> findCatalogCourses(@Param("trainerId") Long trainerId);
+
+    /**
+     * 훈련사 과정들의 세션 목록 조회 (카탈로그 인덱스 적재용, course_id, session_no 오름차순)
+     */
+    List<TrainingSession> findCatalogSessions(@Param("trainerId") Long trainerId);
+
     /**
      * 특정 날짜의 코스 목록 조회
      */
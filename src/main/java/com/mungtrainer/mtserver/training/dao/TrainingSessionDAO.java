@@ -2,12 +2,14 @@ package com.mungtrainer.mtserver.training.dao;
 
 import com.mungtrainer.mtserver.training.dto.request.UpdateSessionRequest;
 import com.mungtrainer.mtserver.training.dto.response.CalendarSessionDateDto;
+import com.mungtrainer.mtserver.training.dto.response.SessionScheduleRef;
 import com.mungtrainer.mtserver.training.dto.response.TrainingSessionResponse;
 import com.mungtrainer.mtserver.training.entity.TrainingSession;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Mapper
@@ -135,12 +137,45 @@ public interface TrainingSessionDAO {
     );
 
     /**
-     * 종료 시간이 지난 세션을 DONE 상태로 변경
+     * 종료 시간이 지난 세션 ID 조회
      *
-     * <p>DONE 또는 CANCELLED가 아닌 세션 중 종료 시간이 지난 세션을 DONE으로 변경
+     * <p>SCHEDULED 세션 중 전이 시각(next_transition_at = 종료 시각)이 지난 세션만 조회
+     * ({@link #updateSessionStatusToDoneByIds(Collection)}로 DONE 처리)
      *
+     * @return 종료 처리할 세션 ID 목록
+     */
+    List<Long> findSessionIdsDueToDone();
+
+    /**
+     * 지정한 세션 중 수업 시작 마감 시간이 지난 신청 조회 (마감 타이머 발화 시)
+     *
+     * @param sessionIds 세션 ID 목록
+     * @param hours 마감 시간 (시간 단위)
+     * @return 마감된 신청 ID 목록
+     */
+    List<Long> findApplicationsPastSessionDeadlineBySessionIds(
+        @Param("sessionIds") Collection<Long> sessionIds,
+        @Param("hours") int hours
+    );
+
+    /**
+     * 지정한 세션 중 종료 시간이 지난 세션을 DONE 상태로 변경 (마감 타이머 발화 시)
+     *
+     * @param sessionIds 세션 ID 목록
      * @return 변경된 세션 수
      */
-    int updateSessionStatusToDone();
+    int updateSessionStatusToDoneByIds(@Param("sessionIds") Collection<Long> sessionIds);
+
+    /**
+     * 진행 예정 세션 일정 조회 (마감 타이머 적재용)
+     *
+     * @param sessionIds 세션 ID 목록 (null이면 전체)
+     * @param untilDate 이 날짜까지의 세션만 조회
+     * @return 세션 일정 목록 (DONE, CANCELLED, 삭제된 세션 제외)
+     */
+    List<SessionScheduleRef> findSessionSchedules(
+        @Param("sessionIds") Collection<Long> sessionIds,
+        @Param("untilDate") LocalDate untilDate
+    );
 }
 
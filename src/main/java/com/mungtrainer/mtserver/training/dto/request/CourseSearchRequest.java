@@ -5,6 +5,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.math.BigDecimal;
+
 /**
  * 훈련과정 검색 요청 DTO (무한 스크롤용 커서 기반 페이지네이션)
  */
@@ -25,6 +27,13 @@ public class CourseSearchRequest {
      */
     private Long lastCourseId;
 
+    /**
+     * 마지막으로 조회한 항목의 관련도 점수 (전문 검색 커서, lastCourseId와 함께 사용)
+     * 응답의 lastScore(DECIMAL(20,10))를 그대로 전달해야 동점 비교가 정확함
+     * null이면 첫 페이지 조회
+     */
+    private BigDecimal lastScore;
+
     /**
      * 조회할 항목 수
      */
@@ -45,4 +54,10 @@ public class CourseSearchRequest {
      * - PRIVATE: 개인(1:1) 레슨
      */
     private String lessonForm;
+
+    /**
+     * 전문 검색(FULLTEXT) BOOLEAN MODE 검색식 (서비스에서 keyword로 생성)
+     * null이면 LIKE 검색 + courseId 커서
+     */
+    private String fulltextQuery;
 }
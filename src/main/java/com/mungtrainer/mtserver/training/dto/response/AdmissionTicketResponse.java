@@ -0,0 +1,21 @@
+package com.mungtrainer.mtserver.training.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 과정 신청 접수표 (신청 대기열 조회용)
+ */
+@Getter
+@Builder
+public class AdmissionTicketResponse {
+    private String ticketId;
+    private Long courseId;
+    private String status;                          // QUEUED, PROCESSING, DONE, FAILED
+    private Integer position;                       // 앞에 남은 접수 수 (QUEUED일 때만)
+    private List<ApplicationResponse> applications; // 생성된 신청 (DONE일 때만)
+    private String errorCode;                       // 실패 사유 코드 (FAILED일 때만)
+    private String message;                         // 실패 사유 메시지 (FAILED일 때만)
+}
@@ -13,6 +13,7 @@ public class ApplicationRawData {
     // 신청 식별
     private Long applicationId;
     private Long dogId;
+    private Long sessionId;
 
     // 신청 상태
     private String applicationStatus;
@@ -0,0 +1,14 @@
+package com.mungtrainer.mtserver.training.dto.response;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 신청 ID - 세션 ID 쌍 (배치 처리 시 세션별 그룹핑용)
+ */
+@Getter
+@Setter
+public class ApplicationSessionRef {
+    private Long applicationId;
+    private Long sessionId;
+}
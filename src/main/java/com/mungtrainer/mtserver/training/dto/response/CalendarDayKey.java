@@ -0,0 +1,16 @@
+package com.mungtrainer.mtserver.training.dto.response;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * 달력 요약 갱신 대상 (훈련사, 날짜)
+ */
+@Getter
+@Setter
+public class CalendarDayKey {
+    private Long trainerId;
+    private LocalDate sessionDate;
+}
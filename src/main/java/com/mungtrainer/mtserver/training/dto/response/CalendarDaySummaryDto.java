@@ -0,0 +1,44 @@
+package com.mungtrainer.mtserver.training.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 달력에 표시할 날짜별 요약 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CalendarDaySummaryDto {
+
+    /**
+     * 세션 날짜
+     */
+    private LocalDate sessionDate;
+
+    /**
+     * 해당 날짜의 세션 수
+     */
+    private Integer sessionCount;
+
+    /**
+     * 해당 날짜에 열리는 수업 형태 (WALK, GROUP, PRIVATE)
+     */
+    private List<String> lessonForms;
+
+    /**
+     * 전체 정원 합계
+     */
+    private Integer totalCapacity;
+
+    /**
+     * 남은 자리 합계 (진행 예정 세션 기준, ACCEPT/PAID 인원 제외)
+     */
+    private Integer remainingSeats;
+}
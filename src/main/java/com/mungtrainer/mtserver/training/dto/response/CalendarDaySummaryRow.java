@@ -0,0 +1,19 @@
+package com.mungtrainer.mtserver.training.dto.response;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * 달력 요약 조회 행 (날짜 + 수업 형태 단위)
+ */
+@Getter
+@Setter
+public class CalendarDaySummaryRow {
+    private LocalDate sessionDate;
+    private String lessonForm;
+    private Integer sessionCount;
+    private Integer totalCapacity;
+    private Integer remainingSeats;
+}
@@ -0,0 +1,39 @@
+package com.mungtrainer.mtserver.training.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 달력 요약 조회 응답 DTO (기간 요약 + 선택한 날짜의 코스 목록)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CalendarSummaryResponse {
+
+    /**
+     * 세션이 있는 날짜별 요약
+     */
+    private List<CalendarDaySummaryDto> days;
+
+    /**
+     * 총 세션 날짜 수
+     */
+    private Integer totalDates;
+
+    /**
+     * 선택한 날짜 (없으면 null)
+     */
+    private LocalDate selectedDate;
+
+    /**
+     * 선택한 날짜의 코스 목록 (날짜를 선택하지 않았으면 빈 목록)
+     */
+    private List<CourseSearchItemDto> courses;
+}
@@ -0,0 +1,30 @@
+package com.mungtrainer.mtserver.training.dto.response;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 과정 카탈로그 인덱스 적재용 과정 행 (훈련사 이름 포함)
+ */
+@Getter
+@Setter
+public class CatalogCourse {
+    private Long courseId;
+    private Long trainerId;
+    private String trainerName;
+    private String title;
+    private String description;
+    private String tags;
+    private String mainImage;
+    private String type;
+    private String lessonForm;
+    private String status;
+    private String difficulty;
+    private Boolean isFree;
+    private String location;
+    private String schedule;
+    private String dogSize;
+    private LocalDateTime createdAt;
+}
@@ -2,6 +2,8 @@ package com.mungtrainer.mtserver.training.dto.response;
 
 import lombok.*;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -93,5 +95,30 @@ public class CourseSearchItemDto {
      * 세션 정보 (최저가 세션)
      */
     private SessionSummaryDto session;
+
+    /**
+     * 세션 수
+     */
+    private Integer sessionCount;
+
+    /**
+     * 첫 세션 날짜
+     */
+    private LocalDate firstSessionDate;
+
+    /**
+     * 마지막 세션 날짜
+     */
+    private LocalDate lastSessionDate;
+
+    /**
+     * 최고가 (최저가는 session.price)
+     */
+    private Integer maxPrice;
+
+    /**
+     * 관련도 점수 (전문 검색일 때만, 커서 비교용으로 DECIMAL(20,10)로 고정한 값)
+     */
+    private BigDecimal score;
 }
 
@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 /**
@@ -31,6 +32,11 @@ public class CourseSearchResponse {
      */
     private Long lastCourseId;
 
+    /**
+     * 마지막 항목의 관련도 점수 (전문 검색일 때만, 다음 요청 시 lastCourseId와 함께 사용)
+     */
+    private BigDecimal lastScore;
+
     /**
      * 현재 조회된 항목 수
      */
@@ -0,0 +1,24 @@
+package com.mungtrainer.mtserver.training.dto.response;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * 과정별 세션 요약 (검색 결과 페이지의 과정당 1행)
+ */
+@Getter
+@Setter
+public class CourseSessionSummaryDto {
+    private Long courseId;
+    private Integer sessionCount;
+    private LocalDate firstSessionDate;
+    private LocalDate lastSessionDate;
+    private Integer maxPrice;
+
+    /**
+     * 최저가 세션 (가격이 같으면 session_id가 작은 세션)
+     */
+    private SessionSummaryDto session;
+}
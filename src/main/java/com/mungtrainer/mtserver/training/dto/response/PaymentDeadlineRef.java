@@ -0,0 +1,16 @@
+package com.mungtrainer.mtserver.training.dto.response;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 신청 ID - 결제 기한 쌍 (마감 타이머 적재용)
+ */
+@Getter
+@Setter
+public class PaymentDeadlineRef {
+    private Long applicationId;
+    private LocalDateTime paymentDeadline;
+}
@@ -0,0 +1,23 @@
+package com.mungtrainer.mtserver.training.dto.response;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 과정 신청 사전 검증 결과 (세션 1건당 1행, 과정 신청 시 한 번의 쿼리로 조회)
+ */
+@Getter
+@Setter
+public class SessionApplyCheck {
+    private Long sessionId;
+    private Integer sessionNo;
+    private LocalDate sessionDate;
+    private LocalTime startTime;
+    private Integer maxStudents;
+    private Integer acceptedCount;          // 좌석 카운터 (ACCEPT, PAID 인원)
+    private Boolean alreadyApplied;         // 같은 반려견의 진행 중인 신청 존재 여부
+    private Boolean counselingCompleted;    // 반려견 상담 완료 여부 (모든 행 동일)
+}
@@ -0,0 +1,19 @@
+package com.mungtrainer.mtserver.training.dto.response;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 세션 일정 (마감 타이머 적재용)
+ */
+@Getter
+@Setter
+public class SessionScheduleRef {
+    private Long sessionId;
+    private LocalDate sessionDate;
+    private LocalTime startTime;
+    private LocalTime endTime;
+}
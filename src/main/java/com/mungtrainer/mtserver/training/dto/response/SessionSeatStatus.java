@@ -0,0 +1,15 @@
+package com.mungtrainer.mtserver.training.dto.response;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 세션 정원 현황 (대기자 승격 시 빈 자리 계산용)
+ */
+@Getter
+@Setter
+public class SessionSeatStatus {
+    private Long sessionId;
+    private Integer maxStudents;
+    private Integer approvedCount; // 좌석 카운터 (ACCEPT, PAID 인원)
+}
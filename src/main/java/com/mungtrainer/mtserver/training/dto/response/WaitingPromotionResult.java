@@ -0,0 +1,34 @@
+package com.mungtrainer.mtserver.training.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 대기자 일괄 승격 결과 요약
+ */
+@Getter
+@Builder
+public class WaitingPromotionResult {
+    private int requestedSessions;         // 승격 요청 세션 수
+    private int lockedSessions;            // 락을 획득한 (존재하는) 세션 수
+    private List<Long> fullSessionIds;     // 정원이 차서 승격하지 않은 세션
+    private Map<Long, List<Long>> promotedBySession; // 세션 ID → 승격된 신청 ID (대기 순서)
+    private int promotedCount;             // 승격된 신청 수
+    private int attendanceCreated;         // 생성된 출석 정보 수
+
+    public static WaitingPromotionResult empty() {
+        return WaitingPromotionResult.builder()
+                .fullSessionIds(List.of())
+                .promotedBySession(Map.of())
+                .build();
+    }
+
+    public List<Long> getPromotedApplicationIds() {
+        return promotedBySession.values().stream()
+                .flatMap(List::stream)
+                .toList();
+    }
+}
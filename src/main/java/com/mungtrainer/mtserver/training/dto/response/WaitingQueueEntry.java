@@ -0,0 +1,14 @@
+package com.mungtrainer.mtserver.training.dto.response;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 대기열 인덱스 적재용 (세션별 WAITING 신청, 대기 순서대로 정렬되어 조회됨)
+ */
+@Getter
+@Setter
+public class WaitingQueueEntry {
+    private Long sessionId;
+    private Long applicationId;
+}
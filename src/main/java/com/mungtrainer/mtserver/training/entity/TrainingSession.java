@@ -62,6 +62,11 @@ public class TrainingSession extends BaseEntity {
      */
     private Integer maxStudents;
 
+    /**
+     * 좌석을 차지한 신청(ACCEPT, PAID) 수 (좌석 카운터, SessionSeatDAO에서만 변경)
+     */
+    private Integer reservedSeats;
+
     /**
      * 내용
      */
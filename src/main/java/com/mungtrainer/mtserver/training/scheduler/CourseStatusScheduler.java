@@ -1,5 +1,7 @@
 package com.mungtrainer.mtserver.training.scheduler;
 
+import com.mungtrainer.mtserver.common.scheduler.JobLease;
+import com.mungtrainer.mtserver.common.scheduler.SchedulerLockService;
 import com.mungtrainer.mtserver.training.service.CourseStatusUpdateService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -13,7 +15,7 @@ import org.springframework.stereotype.Component;
  * <p>주기: 10분마다 실행
  * <p>기능:
  * <ul>
- *   <li>세션 종료 시간이 지난 세션: → DONE</li>
+ *   <li>세션 종료 시간이 지난 세션: → DONE (마감 타이머가 종료 시각에 먼저 처리, 여기서는 누락분 보정)</li>
  *   <li>첫 번째 세션이 시작된 과정: SCHEDULED → IN_PROGRESS</li>
  *   <li>모든 세션이 종료된 과정: IN_PROGRESS → DONE</li>
  *   <li>진행중(IN_PROGRESS) 과정은 신청 불가</li>
@@ -27,7 +29,10 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class CourseStatusScheduler {
 
+    private static final String JOB_NAME = "course-status";
+
     private final CourseStatusUpdateService courseStatusUpdateService;
+    private final SchedulerLockService schedulerLockService;
 
     /**
      * 기능 활성화 플래그
@@ -63,7 +68,7 @@ public class CourseStatusScheduler {
      *   <li>독립적인 업데이트 작업 보장</li>
      * </ul>
      */
-    @Scheduled(cron = "0 6/10 * * * *")
+    @Scheduled(cron = "${course.status.update.cron:0 6/10 * * * *}")
     public void updateCourseStatus() {
         // 기능 비활성화 체크
         if (!courseStatusUpdateEnabled) {
@@ -71,6 +76,11 @@ public class CourseStatusScheduler {
             return;
         }
 
+        // 여러 인스턴스 중 리스를 획득한 한 곳에서만 실행
+        schedulerLockService.runExclusively(JOB_NAME, this::runStatusUpdates);
+    }
+
+    private void runStatusUpdates(JobLease lease) {
         log.info("=== 훈련 과정/세션 상태 업데이트 시작 ===");
 
         int sessionDoneCount = 0;
@@ -107,6 +117,9 @@ public class CourseStatusScheduler {
             log.error("과정 종료 상태 변경 중 오류 발생 - 다음 스케줄링 시 재시도", e);
         }
 
+        lease.setSummary(String.format("sessionDone=%d, inProgress=%d, completed=%d",
+                sessionDoneCount, inProgressCount, completedCount));
+
         if (sessionDoneCount == 0 && inProgressCount == 0 && completedCount == 0) {
             log.debug("상태 변경이 필요한 과정/세션이 없습니다.");
         }
@@ -0,0 +1,200 @@
+package com.mungtrainer.mtserver.training.scheduler;
+
+import com.mungtrainer.mtserver.common.scheduler.SchedulerLockService;
+import com.mungtrainer.mtserver.counseling.dao.TrainerUserDAO;
+import com.mungtrainer.mtserver.training.dto.response.ApplicationSessionRef;
+import com.mungtrainer.mtserver.training.service.CourseStatusUpdateService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 마감 타이머 발화 처리기
+ *
+ * <p>전용 데몬 스레드 하나가 {@link DeadlineTimer}에서 도래한 마감을 꺼내
+ * 종류별로 묶어 기존 처리 서비스를 ID 조건으로 호출합니다.</p>
+ *
+ * <ul>
+ *   <li>결제 기한: 기한이 지난 ACCEPT 신청만 다시 확인 → {@link PaymentDeadlineService#processChunk(List)}</li>
+ *   <li>수업 시작 마감: {@link SessionDeadlineService#processSessionDeadline(int, Collection)}</li>
+ *   <li>세션 종료: {@link CourseStatusUpdateService#updateSessionToDone(Collection)}</li>
+ * </ul>
+ *
+ * 인스턴스가 여러 대면 모두 같은 마감을 발화하므로, 처리는 분산 락(job: deadline-timer)을 잡은 인스턴스 한 곳에서만 합니다.
+ * 락을 얻지 못한 인스턴스는 발화한 항목을 lock-retry-ms 뒤로 다시 미루고, 그때는 이미 처리된 마감이 상태 조건에 걸려 0건으로 끝납니다.
+ * 발화 처리는 짧으므로 최소 보유 시간 없이 끝나는 즉시 락을 해제합니다.
+ *
+ * 기존 10분 주기 스케줄러는 인스턴스 재시작·타이머 등록 누락에 대비한 보정 스캔으로 남아 있으며,
+ * 타이머를 켠 환경에서는 cron 주기를 늘려 전체 스캔 횟수를 줄입니다.
+ */
+@Slf4j
+@Component
+public class DeadlineDispatcher {
+
+    private static final String JOB_NAME = "deadline-timer";
+
+    private final DeadlineTimer deadlineTimer;
+    private final TrainerUserDAO trainerUserDao;
+    private final PaymentDeadlineService paymentDeadlineService;
+    private final SessionDeadlineService sessionDeadlineService;
+    private final CourseStatusUpdateService courseStatusUpdateService;
+    private final SchedulerLockService schedulerLockService;
+    private final int sessionDeadlineHours;
+    private final int chunkSize;
+    private final long lockRetryMillis;
+
+    private volatile Thread worker;
+
+    public DeadlineDispatcher(
+            DeadlineTimer deadlineTimer,
+            TrainerUserDAO trainerUserDao,
+            PaymentDeadlineService paymentDeadlineService,
+            SessionDeadlineService sessionDeadlineService,
+            CourseStatusUpdateService courseStatusUpdateService,
+            SchedulerLockService schedulerLockService,
+            @Value("${session.deadline.hours:24}") int sessionDeadlineHours,
+            @Value("${payment.deadline.chunk-size:100}") int chunkSize,
+            @Value("${deadline.timer.lock-retry-ms:2000}") long lockRetryMillis
+    ) {
+        this.deadlineTimer = deadlineTimer;
+        this.trainerUserDao = trainerUserDao;
+        this.paymentDeadlineService = paymentDeadlineService;
+        this.sessionDeadlineService = sessionDeadlineService;
+        this.courseStatusUpdateService = courseStatusUpdateService;
+        this.schedulerLockService = schedulerLockService;
+        this.sessionDeadlineHours = sessionDeadlineHours;
+        this.chunkSize = chunkSize;
+        this.lockRetryMillis = lockRetryMillis;
+    }
+
+    /**
+     * 기동 시 마감 적재 후 발화 스레드 시작
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!deadlineTimer.isEnabled()) {
+            log.info("마감 타이머 비활성화 - 주기 스캔으로만 처리");
+            return;
+        }
+        try {
+            log.info("마감 타이머 적재 완료 - {}건", deadlineTimer.hydrate());
+        } catch (Exception e) {
+            // 적재 실패 시에도 다음 보정 적재와 주기 스캔이 처리하므로 기동은 계속
+            log.warn("마감 타이머 초기 적재 실패", e);
+        }
+
+        Thread thread = new Thread(this::run, "deadline-timer");
+        thread.setDaemon(true);
+        thread.start();
+        this.worker = thread;
+    }
+
+    /**
+     * 보정 적재 (다른 인스턴스에서 등록된 마감, 등록 누락분 반영)
+     * 인스턴스마다 자기 메모리를 채워야 하므로 분산 락 없이 실행합니다.
+     */
+    @Scheduled(cron = "${deadline.timer.rehydrate-cron:0 15/30 * * * *}")
+    public void rehydrate() {
+        if (!deadlineTimer.isEnabled() || worker == null) {
+            return;
+        }
+        try {
+            int loaded = deadlineTimer.hydrate();
+            log.debug("마감 타이머 보정 적재 - 조회: {}건, 보유: {}건", loaded, deadlineTimer.size());
+        } catch (Exception e) {
+            log.warn("마감 타이머 보정 적재 실패", e);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        Thread thread = worker;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                List<DeadlineTimer.Entry> due = deadlineTimer.takeDue();
+                if (due.isEmpty()) {
+                    continue;
+                }
+                boolean ran = schedulerLockService.runExclusively(JOB_NAME, 0, lease -> {
+                    dispatch(due);
+                    lease.setSummary("fired=" + due.size());
+                });
+                if (!ran) {
+                    // 다른 인스턴스가 발화 처리 중 - 끝난 뒤 다시 꺼내 처리 여부를 DB 조건으로 확인
+                    deadlineTimer.retryLater(due, lockRetryMillis);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                // 실패한 마감은 주기 스캔에서 다시 처리됨
+                log.error("마감 타이머 발화 처리 실패", e);
+            }
+        }
+        log.info("마감 타이머 스레드 종료");
+    }
+
+    private void dispatch(List<DeadlineTimer.Entry> due) {
+        Map<DeadlineTimer.Type, List<Long>> byType = new EnumMap<>(DeadlineTimer.Type.class);
+        for (DeadlineTimer.Entry entry : due) {
+            byType.computeIfAbsent(entry.getType(), k -> new ArrayList<>()).add(entry.getTargetId());
+        }
+
+        for (List<Long> ids : chunks(byType.get(DeadlineTimer.Type.PAYMENT_DEADLINE))) {
+            try {
+                List<ApplicationSessionRef> expired = trainerUserDao.findExpiredAcceptApplicationsByIds(ids);
+                if (!expired.isEmpty()) {
+                    PaymentDeadlineService.ChunkResult result = paymentDeadlineService.processChunk(expired);
+                    log.info("결제 기한 만료 (타이머) - 만료: {}건, 승격: {}건",
+                            result.getExpiredCount(), result.getPromotedCount());
+                }
+            } catch (Exception e) {
+                log.error("결제 기한 만료 (타이머) 실패 - applicationIds: {}", ids, e);
+            }
+        }
+
+        for (List<Long> ids : chunks(byType.get(DeadlineTimer.Type.SESSION_DEADLINE))) {
+            try {
+                sessionDeadlineService.processSessionDeadline(sessionDeadlineHours, ids);
+            } catch (Exception e) {
+                log.error("수업 시작 마감 (타이머) 실패 - sessionIds: {}", ids, e);
+            }
+        }
+
+        for (List<Long> ids : chunks(byType.get(DeadlineTimer.Type.SESSION_END))) {
+            try {
+                int done = courseStatusUpdateService.updateSessionToDone(ids);
+                if (done > 0) {
+                    log.info("세션 종료 (타이머) - {}건", done);
+                }
+            } catch (Exception e) {
+                log.error("세션 종료 (타이머) 실패 - sessionIds: {}", ids, e);
+            }
+        }
+    }
+
+    /**
+     * 기동 직후 밀린 마감이 한꺼번에 발화해도 IN 목록과 트랜잭션이 커지지 않도록 청크로 나눔
+     */
+    private List<List<Long>> chunks(List<Long> ids) {
+        if (ids == null) {
+            return List.of();
+        }
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            chunks.add(ids.subList(from, Math.min(from + chunkSize, ids.size())));
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,260 @@
+package com.mungtrainer.mtserver.training.scheduler;
+
+import com.mungtrainer.mtserver.counseling.dao.TrainerUserDAO;
+import com.mungtrainer.mtserver.training.dao.TrainingSessionDAO;
+import com.mungtrainer.mtserver.training.dto.response.PaymentDeadlineRef;
+import com.mungtrainer.mtserver.training.dto.response.SessionScheduleRef;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 마감 타이머 (인메모리 지연 큐)
+ *
+ * <p>결제 기한, 수업 시작 마감, 세션 종료 시각을 10분 주기 전체 스캔으로 찾던 방식을 보완합니다.
+ * 각 마감 시각을 {@link DelayQueue}에 넣어 두고, 도래한 항목만 {@link DeadlineDispatcher}가 꺼내 처리합니다.</p>
+ *
+ * <ul>
+ *   <li>적재: 기동 시와 보정 주기마다 horizon-hours 안에 도래하는 마감만 DB에서 일괄 적재</li>
+ *   <li>등록: 대기자 승격(결제 기한 설정), 세션 생성/수정/삭제 시 커밋 후 해당 ID만 다시 읽어 등록</li>
+ *   <li>갱신: 같은 (종류, ID)는 마지막 등록만 유효하며, 이전 항목은 꺼낼 때 버림</li>
+ *   <li>시각 비교는 JVM 시계 기준이고, 실제 처리 쿼리는 DB NOW() 조건으로 한 번 더 확인하므로
+ *       조금 이르게 발화한 항목은 다음 보정 적재에서 다시 등록됨</li>
+ * </ul>
+ *
+ * 인스턴스마다 같은 마감을 메모리에 들고 있으므로, {@link DeadlineDispatcher}가 분산 락(deadline-timer)을 잡은 뒤에만 처리하고
+ * 락을 얻지 못한 발화는 {@link #retryLater}로 잠시 뒤 다시 꺼냅니다 (먼저 처리된 마감은 상태 조건에 걸려 0건으로 끝남).
+ */
+@Slf4j
+@Component
+public class DeadlineTimer {
+
+    public enum Type {
+        PAYMENT_DEADLINE,   // 결제 기한 만료 (applicationId)
+        SESSION_DEADLINE,   // 수업 시작 마감 (sessionId)
+        SESSION_END         // 세션 종료 (sessionId)
+    }
+
+    private final TrainerUserDAO trainerUserDao;
+    private final TrainingSessionDAO trainingSessionDao;
+    private final boolean enabled;
+    private final int horizonHours;
+    private final long graceMillis;
+    private final int sessionDeadlineHours;
+
+    private final DelayQueue<Entry> queue = new DelayQueue<>();
+    // (종류, ID) → 현재 유효한 항목
+    private final Map<String, Entry> current = new ConcurrentHashMap<>();
+
+    public DeadlineTimer(
+            TrainerUserDAO trainerUserDao,
+            TrainingSessionDAO trainingSessionDao,
+            @Value("${deadline.timer.enabled:true}") boolean enabled,
+            @Value("${deadline.timer.horizon-hours:48}") int horizonHours,
+            @Value("${deadline.timer.grace-ms:1000}") long graceMillis,
+            @Value("${session.deadline.hours:24}") int sessionDeadlineHours
+    ) {
+        this.trainerUserDao = trainerUserDao;
+        this.trainingSessionDao = trainingSessionDao;
+        this.enabled = enabled;
+        this.horizonHours = horizonHours;
+        this.graceMillis = graceMillis;
+        this.sessionDeadlineHours = sessionDeadlineHours;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * horizon-hours 안에 도래하는 모든 마감 적재
+     *
+     * @return 적재된 항목 수
+     */
+    public int hydrate() {
+        if (!enabled) {
+            return 0;
+        }
+        return loadPaymentDeadlines(null) + loadSessionSchedules(null);
+    }
+
+    /**
+     * 신청들의 결제 기한 등록 (트랜잭션 안이면 커밋 후 DB에서 다시 읽어 등록)
+     */
+    public void scheduleApplicationsAfterCommit(Collection<Long> applicationIds) {
+        if (!enabled || applicationIds == null || applicationIds.isEmpty()) {
+            return;
+        }
+        List<Long> targets = List.copyOf(applicationIds);
+        runAfterCommit(() -> loadPaymentDeadlines(targets));
+    }
+
+    /**
+     * 세션 일정 등록/갱신/취소 (트랜잭션 안이면 커밋 후 DB에서 다시 읽어 등록)
+     *
+     * <p>삭제·종료된 세션은 조회되지 않으므로 기존 항목이 취소됩니다.</p>
+     */
+    public void scheduleSessionsAfterCommit(Collection<Long> sessionIds) {
+        if (!enabled || sessionIds == null || sessionIds.isEmpty()) {
+            return;
+        }
+        List<Long> targets = sessionIds.stream().filter(Objects::nonNull).toList();
+        if (!targets.isEmpty()) {
+            runAfterCommit(() -> loadSessionSchedules(targets));
+        }
+    }
+
+    /**
+     * 도래한 항목을 꺼냄 (없으면 대기)
+     *
+     * @return 도래한 유효 항목 목록 (첫 항목 이후 이미 도래한 항목까지 한 번에)
+     */
+    List<Entry> takeDue() throws InterruptedException {
+        List<Entry> due = new ArrayList<>();
+        due.add(queue.take());
+        queue.drainTo(due);
+        due.removeIf(entry -> !current.remove(entry.key(), entry));
+        return due;
+    }
+
+    /**
+     * 꺼냈지만 처리하지 못한 항목을 delayMillis 뒤에 다시 발화 (그 사이 새로 등록된 항목이 있으면 그 항목을 따름)
+     */
+    void retryLater(List<Entry> entries, long delayMillis) {
+        long dueAtMillis = System.currentTimeMillis() + delayMillis;
+        for (Entry entry : entries) {
+            Entry retry = new Entry(entry.type, entry.targetId, dueAtMillis);
+            if (current.putIfAbsent(retry.key(), retry) == null) {
+                queue.add(retry);
+            }
+        }
+    }
+
+    int size() {
+        return current.size();
+    }
+
+    private int loadPaymentDeadlines(List<Long> applicationIds) {
+        LocalDateTime until = LocalDateTime.now().plusHours(horizonHours);
+        List<PaymentDeadlineRef> refs = trainerUserDao.findPaymentDeadlines(applicationIds, until);
+        if (applicationIds != null) {
+            applicationIds.forEach(id -> cancel(Type.PAYMENT_DEADLINE, id));
+        }
+        for (PaymentDeadlineRef ref : refs) {
+            schedule(Type.PAYMENT_DEADLINE, ref.getApplicationId(), ref.getPaymentDeadline());
+        }
+        return refs.size();
+    }
+
+    private int loadSessionSchedules(List<Long> sessionIds) {
+        LocalDateTime until = LocalDateTime.now().plusHours(horizonHours);
+        // 수업 시작 마감은 시작 시각보다 sessionDeadlineHours 앞이므로 그만큼 더 앞선 날짜까지 조회
+        List<SessionScheduleRef> sessions = trainingSessionDao.findSessionSchedules(
+                sessionIds, until.plusHours(sessionDeadlineHours).toLocalDate());
+        if (sessionIds != null) {
+            sessionIds.forEach(id -> {
+                cancel(Type.SESSION_DEADLINE, id);
+                cancel(Type.SESSION_END, id);
+            });
+        }
+
+        int count = 0;
+        for (SessionScheduleRef session : sessions) {
+            LocalDateTime start = session.getSessionDate().atTime(session.getStartTime());
+            LocalDateTime deadline = start.minusHours(sessionDeadlineHours);
+            LocalDateTime end = session.getSessionDate().atTime(session.getEndTime());
+            // 이미 지난 마감도 등록하여 즉시 발화 (세션 ID 조건 조회라 비용이 작음)
+            if (deadline.isBefore(until)) {
+                schedule(Type.SESSION_DEADLINE, session.getSessionId(), deadline);
+                count++;
+            }
+            if (end.isBefore(until)) {
+                schedule(Type.SESSION_END, session.getSessionId(), end);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void schedule(Type type, Long targetId, LocalDateTime dueAt) {
+        long dueAtMillis = dueAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() + graceMillis;
+        Entry entry = new Entry(type, targetId, dueAtMillis);
+        Entry previous = current.get(entry.key());
+        if (previous != null && previous.dueAtMillis == dueAtMillis) {
+            // 보정 적재 시 변경 없는 항목은 그대로 둠
+            return;
+        }
+        // 이전 항목은 큐에 남겨 두고 꺼낼 때 버림 (DelayQueue.remove는 선형 탐색)
+        current.put(entry.key(), entry);
+        queue.add(entry);
+    }
+
+    private void cancel(Type type, Long targetId) {
+        current.remove(key(type, targetId));
+    }
+
+    private void runAfterCommit(Runnable task) {
+        Runnable guarded = () -> {
+            try {
+                task.run();
+            } catch (Exception e) {
+                // 등록 실패 시에도 보정 적재/스캔에서 다시 처리됨
+                log.warn("마감 타이머 등록 실패", e);
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            guarded.run();
+                        }
+                    }
+            );
+        } else {
+            guarded.run();
+        }
+    }
+
+    private static String key(Type type, Long targetId) {
+        return type.name() + ":" + targetId;
+    }
+
+    @Getter
+    static final class Entry implements Delayed {
+        private final Type type;
+        private final Long targetId;
+        private final long dueAtMillis;
+
+        private Entry(Type type, Long targetId, long dueAtMillis) {
+            this.type = type;
+            this.targetId = targetId;
+            this.dueAtMillis = dueAtMillis;
+        }
+
+        private String key() {
+            return DeadlineTimer.key(type, targetId);
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueAtMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(dueAtMillis, ((Entry) other).dueAtMillis);
+        }
+    }
+}
@@ -1,39 +1,43 @@
 package com.mungtrainer.mtserver.training.scheduler;
 
+import com.mungtrainer.mtserver.common.scheduler.JobLease;
+import com.mungtrainer.mtserver.common.scheduler.SchedulerLockService;
 import com.mungtrainer.mtserver.counseling.dao.TrainerUserDAO;
-import com.mungtrainer.mtserver.training.entity.TrainingSession;
+import com.mungtrainer.mtserver.training.dto.response.ApplicationSessionRef;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 /**
  * 결제 기한 만료 자동 처리 스케줄러
  *
- * 주기: 10분마다 실행
+ * 주기: 10분마다 실행 (payment.deadline.cron)
+ *       마감 타이머({@link DeadlineTimer})가 신청별 결제 기한에 바로 처리하므로,
+ *       타이머를 켠 환경에서는 누락분을 보정하는 저빈도 스캔으로 동작합니다.
  * 기능:
- * 1. 결제 기한이 지난 ACCEPT 상태 신청 조회
- * 2. EXPIRED 상태로 변경
- * 3. 해당 세션의 다음 대기자 자동 승격
+ * 1. 결제 기한이 지난 ACCEPT 상태 신청을 (신청 ID, 세션 ID) 쌍으로 청크 단위 조회
+ * 2. 청크별로 EXPIRED 일괄 변경 + 해당 세션들의 대기자 일괄 승격
+ * 3. 청크마다 별도 트랜잭션으로 커밋 → 장애 후 밀린 건이 많아도 세션 락을 짧게만 보유
+ *
+ * 진행 상황: application_id keyset 커서로 진행하며 청크마다 누적 처리 건수를 기록합니다.
+ *           (scheduler_job_run.summary에 마지막 진행 상황이 남습니다)
+ *           실패한 청크는 건너뛰고 다음 실행에서 다시 조회됩니다.
+ * 분산 실행: 리스를 획득한 인스턴스 하나만 실행하며, 청크 시작 전마다 리스를 확인합니다.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class PaymentDeadlineScheduler {
 
-    private final TrainerUserDAO trainerUserDao;
+    private static final String JOB_NAME = "payment-deadline";
 
-    /**
-     * 결제 기한 (시간)
-     * application.yml의 payment.deadline.hours 값 사용
-     * 기본값: 24시간
-     */
-    @Value("${payment.deadline.hours:24}")
-    private int paymentDeadlineHours;
+    private final TrainerUserDAO trainerUserDao;
+    private final PaymentDeadlineService paymentDeadlineService;
+    private final SchedulerLockService schedulerLockService;
 
     /**
      * 기능 활성화 플래그
@@ -43,13 +47,27 @@ public class PaymentDeadlineScheduler {
     @Value("${payment.deadline.enabled:true}")
     private boolean paymentDeadlineEnabled;
 
+    /**
+     * 청크 크기 (한 트랜잭션에서 만료 처리할 신청 수)
+     */
+    @Value("${payment.deadline.chunk-size:100}")
+    private int chunkSize;
+
+    /**
+     * 1회 실행당 최대 청크 수 (남은 건은 다음 실행에서 처리)
+     */
+    @Value("${payment.deadline.max-chunks-per-run:50}")
+    private int maxChunksPerRun;
+
     /**
      * 10분마다 결제 기한 만료 처리
      * cron: 초 분 시 일 월 요일
      * 실행 시간: 3분, 13분, 23분, 33분, 43분, 53분 (SessionDeadlineScheduler와 시간 분산)
+     *
+     * 주의: 이 메서드는 트랜잭션 없이 청크를 나누기만 합니다.
+     * 실제 트랜잭션 로직은 {@link PaymentDeadlineService#processChunk(List)}에서 수행됩니다.
      */
-    @Scheduled(cron = "0 3/10 * * * *")  // 매 10분마다 (3분부터 시작)
-    @Transactional
+    @Scheduled(cron = "${payment.deadline.cron:0 3/10 * * * *}")  // 기본: 매 10분마다 (3분부터 시작)
     public void processExpiredPayments() {
         // 기능 비활성화 체크 (긴급 롤백용)
         if (!paymentDeadlineEnabled) {
@@ -57,103 +75,63 @@ public class PaymentDeadlineScheduler {
             return;
         }
 
-        log.info("결제 기한 만료 처리 시작");
+        // 여러 인스턴스 중 리스를 획득한 한 곳에서만 실행
+        schedulerLockService.runExclusively(JOB_NAME, this::processChunks);
+    }
 
-        try {
-            // 1. 만료된 신청 조회
-            List<Long> expiredApplicationIds = trainerUserDao.findExpiredAcceptApplications();
+    private void processChunks(JobLease lease) {
+        log.info("결제 기한 만료 처리 시작");
 
-            if (expiredApplicationIds == null || expiredApplicationIds.isEmpty()) {
-                log.info("만료된 신청 없음");
-                return;
+        long cursor = 0L;
+        int chunks = 0;
+        int expired = 0;
+        int promoted = 0;
+        int failed = 0;
+
+        while (chunks < maxChunksPerRun) {
+            // 펜싱: 리스가 다른 인스턴스로 넘어갔으면 다음 청크를 시작하지 않음
+            if (!lease.checkpoint()) {
+                log.warn("리스 상실로 결제 기한 만료 처리 중단 - 커서: {}", cursor);
+                break;
             }
 
-            log.info("만료된 신청 {}건 발견", expiredApplicationIds.size());
-
-            // 2. 각 신청 처리
-            for (Long applicationId : expiredApplicationIds) {
-                processExpiredApplication(applicationId);
+            // 1. 만료된 신청 청크 조회
+            List<ApplicationSessionRef> chunk = trainerUserDao.findExpiredAcceptApplications(cursor, chunkSize);
+            if (chunk.isEmpty()) {
+                break;
             }
-
-            log.info("결제 기한 만료 처리 완료 - {}건 처리", expiredApplicationIds.size());
-
-        } catch (Exception e) {
-            log.error("결제 기한 만료 처리 중 오류 발생", e);
-        }
-    }
-
-    /**
-     * 개별 만료 신청 처리
-     */
-    private void processExpiredApplication(Long applicationId) {
-        try {
-            log.info("신청 만료 처리 - applicationId: {}", applicationId);
-
-            // 1. 세션 ID 조회
-            Long sessionId = trainerUserDao.findSessionIdByApplicationId(applicationId);
-            if (sessionId == null) {
-                log.warn("세션 ID를 찾을 수 없음 - applicationId: {}", applicationId);
-                return;
+            cursor = chunk.get(chunk.size() - 1).getApplicationId();
+            chunks++;
+
+            // 2. 청크 처리 (청크별 트랜잭션)
+            try {
+                PaymentDeadlineService.ChunkResult result = paymentDeadlineService.processChunk(chunk);
+                expired += result.getExpiredCount();
+                promoted += result.getPromotedCount();
+                log.info("결제 기한 만료 청크 {} 완료 - 만료: {}건, 승격: {}건 (누적 만료: {}, 누적 승격: {}, 커서: {})",
+                        chunks, result.getExpiredCount(), result.getPromotedCount(), expired, promoted, cursor);
+            } catch (Exception e) {
+                failed += chunk.size();
+                log.error("결제 기한 만료 청크 {} 실패 - {}건, 다음 실행 시 재시도 (커서: {})",
+                        chunks, chunk.size(), cursor, e);
             }
+            lease.setSummary(String.format("chunks=%d, expired=%d, promoted=%d, failed=%d, cursor=%d",
+                    chunks, expired, promoted, failed, cursor));
 
-            // 2. EXPIRED 상태로 변경
-            trainerUserDao.expireApplication(applicationId);
-            log.info("신청 만료 완료 - applicationId: {}", applicationId);
-
-            // 3. 다음 대기자 승격
-            promoteNextWaiting(sessionId);
-
-
-        } catch (Exception e) {
-            log.error("신청 만료 처리 실패 - applicationId: {}", applicationId, e);
-        }
-    }
-
-    /**
-     * 대기자 자동 승격 (TrainerUserService의 로직과 동일)
-     *
-     *  동시성 제어: SELECT FOR UPDATE를 사용하여 세션에 락을 걸어
-     *                 여러 트랜잭션이 동시에 승격을 시도해도 정원 초과가 발생하지 않습니다.
-     */
-    private void promoteNextWaiting(Long sessionId) {
-        log.info("대기자 승격 시작 - sessionId: {}", sessionId);
-
-        // 1.  세션 정보 조회 (비관적 락)
-        //    SELECT FOR UPDATE로 행 레벨 락 획득
-        TrainingSession session = trainerUserDao.findSessionByIdForUpdate(sessionId);
-        if (session == null) {
-            log.warn("세션을 찾을 수 없음 - sessionId: {}", sessionId);
-            return;
+            if (chunk.size() < chunkSize) {
+                break;
+            }
         }
 
-        log.debug("세션 락 획득 완료 - sessionId: {}, 정원: {}", sessionId, session.getMaxStudents());
-
-        // 2.  현재 승인된 인원 확인 (락 획득 후 다시 확인)
-        int currentCount = trainerUserDao.countApprovedApplications(sessionId);
-
-        log.info("정원 확인 (락 획득 후) - 현재: {}/{}, sessionId: {}",
-                 currentCount, session.getMaxStudents(), sessionId);
-
-        if (currentCount >= session.getMaxStudents()) {
-            log.info("정원이 가득 차서 대기자를 승격하지 않습니다. - sessionId: {}", sessionId);
+        if (chunks == 0) {
+            log.info("만료된 신청 없음");
             return;
         }
-
-        // 3. 가장 오래 대기한 사람 조회
-        Long nextApplicationId = trainerUserDao.findOldestWaitingApplicationId(sessionId);
-
-        if (nextApplicationId == null) {
-            log.info("대기 중인 신청이 없습니다. - sessionId: {}", sessionId);
-            return;
+        if (chunks >= maxChunksPerRun) {
+            log.warn("1회 최대 청크 수({}) 도달 - 남은 신청은 다음 실행에서 처리", maxChunksPerRun);
         }
 
-        // 4. WAITING → ACCEPT로 변경 + 결제 기한 설정
-        trainerUserDao.updateApplicationStatusSimple(nextApplicationId, "ACCEPT");
-        trainerUserDao.updateWaitingStatus(nextApplicationId, "PROMOTED");
-        trainerUserDao.updatePaymentDeadline(nextApplicationId, paymentDeadlineHours);
-
-        log.info("대기자 자동 승격 완료 - applicationId: {}, 결제 기한: {}시간", nextApplicationId, paymentDeadlineHours);
-        
+        log.info("결제 기한 만료 처리 완료 - 청크: {}, 만료: {}건, 승격: {}건, 실패: {}건",
+                chunks, expired, promoted, failed);
     }
 }
-
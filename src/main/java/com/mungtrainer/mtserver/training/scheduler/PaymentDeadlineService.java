@@ -0,0 +1,83 @@
+package com.mungtrainer.mtserver.training.scheduler;
+
+import com.mungtrainer.mtserver.common.scheduler.SchedulerLockService;
+import com.mungtrainer.mtserver.counseling.dao.TrainerUserDAO;
+import com.mungtrainer.mtserver.training.dto.response.ApplicationSessionRef;
+import com.mungtrainer.mtserver.training.dto.response.WaitingPromotionResult;
+import com.mungtrainer.mtserver.training.service.SessionSeatService;
+import com.mungtrainer.mtserver.training.service.WaitingPromotionService;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 결제 기한 만료 청크 처리 서비스
+ *
+ * <p>스케줄러가 나눈 청크 하나를 독립된 짧은 트랜잭션으로 처리합니다.
+ * Self-invocation 문제를 방지하기 위해 스케줄러와 별도 컴포넌트로 분리했습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentDeadlineService {
+
+    private final TrainerUserDAO trainerUserDao;
+    private final SessionSeatService sessionSeatService;
+    private final WaitingPromotionService waitingPromotionService;
+    private final SchedulerLockService schedulerLockService;
+
+    /**
+     * 청크 단위 만료 + 대기자 승격
+     *
+     * <ol>
+     *   <li>잡의 리스를 이 트랜잭션 안에서 검증 (잃었으면 롤백, 보유 중이면 커밋까지 다른 인스턴스의 획득 대기)</li>
+     *   <li>청크 중 아직 기한이 지난 ACCEPT인 신청을 잠그고 한 번의 UPDATE로 EXPIRED 처리
+     *       (조회 이후 결제된 신청은 조건으로 제외)</li>
+     *   <li>만료된 신청만큼 세션별 좌석 반환</li>
+     *   <li>청크에 포함된 세션들의 빈 자리만큼 대기자 일괄 승격 (세션 락은 이 트랜잭션 동안만 보유)</li>
+     * </ol>
+     *
+     * @param chunk 결제 기한이 지난 (신청 ID, 세션 ID) 목록
+     * @return 청크 처리 결과
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public ChunkResult processChunk(List<ApplicationSessionRef> chunk) {
+        // 0. 펜싱: 청크 시작 전 checkpoint 이후 리스를 잃었으면 쓰기 없이 롤백
+        schedulerLockService.fenceCurrentLease();
+
+        // 1. 만료 대상 잠금 (조회 이후 결제·취소된 신청 제외) + 일괄 만료 처리
+        List<ApplicationSessionRef> targets = trainerUserDao.findExpiredAcceptApplicationsForUpdate(chunk.stream()
+                .map(ApplicationSessionRef::getApplicationId)
+                .toList());
+        if (targets.isEmpty()) {
+            return new ChunkResult(0, 0);
+        }
+        int expired = trainerUserDao.expireApplications(targets.stream()
+                .map(ApplicationSessionRef::getApplicationId)
+                .toList());
+        Set<Long> sessionIds = targets.stream()
+                .map(ApplicationSessionRef::getSessionId)
+                .collect(Collectors.toSet());
+
+        // 좌석 반환 (잠근 신청은 모두 만료됨)
+        sessionSeatService.release(targets);
+
+        // 2. 세션별 대기자 승격 (시스템 자동 처리)
+        WaitingPromotionResult promotion = waitingPromotionService.promote(sessionIds, 0L);
+        return new ChunkResult(expired, promotion.getPromotedCount());
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class ChunkResult {
+        private final int expiredCount;
+        private final int promotedCount;
+    }
+}
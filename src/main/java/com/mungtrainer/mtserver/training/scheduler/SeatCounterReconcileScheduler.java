@@ -0,0 +1,93 @@
+package com.mungtrainer.mtserver.training.scheduler;
+
+import com.mungtrainer.mtserver.common.scheduler.JobLease;
+import com.mungtrainer.mtserver.common.scheduler.SchedulerLockService;
+import com.mungtrainer.mtserver.training.dao.SessionSeatDAO;
+import com.mungtrainer.mtserver.training.service.CalendarSummaryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 세션 좌석 카운터 보정 스케줄러
+ *
+ * 주기: 1시간마다 실행 (session.seat-reconcile.cron)
+ * 기능:
+ * 1. 좌석 카운터(reserved_seats)가 실제 ACCEPT/PAID 인원과 다른 진행 중 세션 조회
+ * 2. 해당 세션만 청크 단위로 원본에서 재집계 (syncReservedSeats, 문장마다 커밋)
+ * 3. 보정된 세션의 달력 요약(남은 자리) 갱신
+ *
+ * 좌석 확보·반환은 요청 경로에서 조건부 UPDATE로 증감하므로 카운터가 어긋나는 경우는
+ * 직접 수정한 데이터, 반환 실패 경고(카운터 불일치) 정도입니다. COUNT 재집계는 이 작업에서만 실행합니다.
+ * 분산 실행: 리스를 획득한 인스턴스 하나만 실행하며, 청크 시작 전마다 리스를 확인합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatCounterReconcileScheduler {
+
+    private static final String JOB_NAME = "seat-counter-reconcile";
+
+    private final SessionSeatDAO sessionSeatDao;
+    private final CalendarSummaryService calendarSummaryService;
+    private final SchedulerLockService schedulerLockService;
+
+    /**
+     * 기능 활성화 플래그
+     * application.yml의 session.seat-reconcile.enabled 값 사용
+     * 기본값: true (활성화)
+     */
+    @Value("${session.seat-reconcile.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * 청크 크기 (재집계 UPDATE 한 번에 묶을 세션 수)
+     */
+    @Value("${session.seat-reconcile.chunk-size:100}")
+    private int chunkSize;
+
+    @Scheduled(cron = "${session.seat-reconcile.cron:0 45 * * * *}")  // 기본: 매시 45분 (다른 스케줄러와 시간 분산)
+    public void reconcile() {
+        // 기능 비활성화 체크 (긴급 롤백용)
+        if (!enabled) {
+            log.debug("좌석 카운터 보정 기능이 비활성화되어 있습니다.");
+            return;
+        }
+
+        // 여러 인스턴스 중 리스를 획득한 한 곳에서만 실행
+        schedulerLockService.runExclusively(JOB_NAME, this::reconcileDrifted);
+    }
+
+    private void reconcileDrifted(JobLease lease) {
+        List<Long> drifted = sessionSeatDao.findDriftedSessionIds();
+        if (drifted.isEmpty()) {
+            log.debug("좌석 카운터 불일치 세션 없음");
+            lease.setSummary("drifted=0");
+            return;
+        }
+        log.warn("좌석 카운터 불일치 세션 {}개 보정 시작 - sessionIds: {}", drifted.size(), drifted);
+
+        int synced = 0;
+        for (int from = 0; from < drifted.size(); from += chunkSize) {
+            // 펜싱: 리스가 다른 인스턴스로 넘어갔으면 다음 청크를 시작하지 않음
+            if (!lease.checkpoint()) {
+                log.warn("리스 상실로 좌석 카운터 보정 중단 - 보정: {}/{}", synced, drifted.size());
+                break;
+            }
+            List<Long> chunk = drifted.subList(from, Math.min(from + chunkSize, drifted.size()));
+            try {
+                synced += sessionSeatDao.syncReservedSeats(chunk);
+                calendarSummaryService.refreshSessions(chunk);
+            } catch (Exception e) {
+                log.error("좌석 카운터 보정 실패 - 다음 실행 시 재시도 - sessionIds: {}", chunk, e);
+            }
+            lease.setSummary(String.format("drifted=%d, synced=%d", drifted.size(), synced));
+        }
+
+        log.info("좌석 카운터 보정 완료 - 불일치: {}개, 재집계: {}개", drifted.size(), synced);
+    }
+}
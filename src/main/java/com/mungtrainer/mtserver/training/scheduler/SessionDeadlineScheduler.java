@@ -1,5 +1,6 @@
 package com.mungtrainer.mtserver.training.scheduler;
 
+import com.mungtrainer.mtserver.common.scheduler.SchedulerLockService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -9,7 +10,9 @@ import org.springframework.stereotype.Component;
 /**
  * 수업 시작 마감 자동 처리 스케줄러
  *
- * <p>주기: 10분마다 실행
+ * <p>주기: 10분마다 실행 (session.deadline.cron)
+ * <p>마감 타이머({@link DeadlineTimer})가 세션별 마감 시각에 바로 처리하므로,
+ * 타이머를 켠 환경에서는 누락분을 보정하는 저빈도 스캔으로 동작합니다.
  * <p>기능:
  * <ul>
  *   <li>수업 시작 24시간 전이 지난 세션 조회</li>
@@ -25,7 +28,10 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class SessionDeadlineScheduler {
 
+    private static final String JOB_NAME = "session-deadline";
+
     private final SessionDeadlineService sessionDeadlineService;
+    private final SchedulerLockService schedulerLockService;
 
     /**
      * 마감 시간 (시간)
@@ -46,7 +52,7 @@ public class SessionDeadlineScheduler {
     /**
      * 10분마다 수업 시작 마감 처리 (스케줄러 진입점)
      *
-     * <p>cron 표현식: "0 0/10 * * * *"
+     * <p>cron 표현식: "0 0/10 * * * *" (기본값)
      * <ul>
      *   <li>초: 0</li>
      *   <li>분: 0, 10, 20, 30, 40, 50 (10분마다, 정시 시작)</li>
@@ -56,10 +62,10 @@ public class SessionDeadlineScheduler {
      *   <li>요일: * (매일)</li>
      * </ul>
      *
-     * <p>주의: 이 메서드는 예외 처리만 담당합니다.
+     * <p>주의: 이 메서드는 분산 락 획득과 예외 처리만 담당합니다.
      * 실제 트랜잭션 로직은 {@link SessionDeadlineService#processSessionDeadline(int)}에서 수행됩니다.
      */
-    @Scheduled(cron = "0 0/10 * * * *")
+    @Scheduled(cron = "${session.deadline.cron:0 0/10 * * * *}")
     public void processSessionDeadline() {
         // 기능 비활성화 체크 (긴급 롤백용)
         if (!sessionDeadlineEnabled) {
@@ -67,18 +73,17 @@ public class SessionDeadlineScheduler {
             return;
         }
 
-        log.info("=== 수업 시작 마감 처리 시작 ===");
+        // 여러 인스턴스 중 리스를 획득한 한 곳에서만 실행
+        schedulerLockService.runExclusively(JOB_NAME, lease -> {
+            log.info("=== 수업 시작 마감 처리 시작 ===");
 
-        try {
             // 실제 처리 로직 호출 (트랜잭션 적용)
-            sessionDeadlineService.processSessionDeadline(sessionDeadlineHours);
-
-        } catch (Exception e) {
-            log.error("수업 시작 마감 처리 중 오류 발생 - 다음 스케줄링 시 재시도", e);
-            // 예외를 다시 던지지 않음 - 스케줄러가 중단되지 않도록 함
-        }
+            // 예외는 runExclusively가 로그와 실행 이력(FAILED)으로 남기고 다시 던지지 않음 - 다음 스케줄링 시 재시도
+            int expired = sessionDeadlineService.processSessionDeadline(sessionDeadlineHours);
+            lease.setSummary("expired=" + expired);
 
-        log.info("=== 수업 시작 마감 처리 종료 ===");
+            log.info("=== 수업 시작 마감 처리 종료 ===");
+        });
     }
 }
 
@@ -1,13 +1,16 @@
 package com.mungtrainer.mtserver.training.scheduler;
 
+import com.mungtrainer.mtserver.common.scheduler.SchedulerLockService;
 import com.mungtrainer.mtserver.counseling.dao.TrainerUserDAO;
 import com.mungtrainer.mtserver.training.dao.ApplicationDAO;
 import com.mungtrainer.mtserver.training.dao.TrainingSessionDAO;
+import com.mungtrainer.mtserver.training.service.WaitingQueueIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -27,22 +30,29 @@ public class SessionDeadlineService {
     private final TrainingSessionDAO trainingSessionDAO;
     private final ApplicationDAO applicationDAO;
     private final TrainerUserDAO trainerUserDAO;
+    private final WaitingQueueIndex waitingQueueIndex;
+    private final SchedulerLockService schedulerLockService;
+
     /**
      * 수업 시작 마감 처리 실제 로직 (트랜잭션 적용)
      *
      * <p>이 메서드는 별도의 트랜잭션으로 실행되며, 예외 발생 시 자동으로 롤백됩니다.
      *
      * @param sessionDeadlineHours 마감 시간 (시간 단위)
+     * @return EXPIRED 처리된 신청 수
      */
     @Transactional(rollbackFor = Exception.class)
-    public void processSessionDeadline(int sessionDeadlineHours) {
+    public int processSessionDeadline(int sessionDeadlineHours) {
+        // 펜싱: 리스를 잃었으면 쓰기 없이 롤백
+        schedulerLockService.fenceCurrentLease();
+
         // 1. 마감 시간이 지난 신청 조회
         List<Long> expiredApplicationIds =
             trainingSessionDAO.findApplicationsPastSessionDeadline(sessionDeadlineHours);
 
         if (expiredApplicationIds == null || expiredApplicationIds.isEmpty()) {
             log.info("마감 대상 신청 없음");
-            return;
+            return 0;
         }
 
         log.info("마감 대상 신청 {}건 발견", expiredApplicationIds.size());
@@ -50,9 +60,39 @@ public class SessionDeadlineService {
 
         // 2. 일괄 EXPIRED 처리
         applicationDAO.updateApplicationStatusBatch(expiredApplicationIds, "EXPIRED");
+        // 마감된 WAITING 신청이 대기열에서 빠지므로 전체 무효화 (10분 주기 배치)
+        waitingQueueIndex.invalidateAllAfterCommit();
 
         log.info("수업 시작 마감 처리 완료 - {}건 처리", expiredApplicationIds.size());
+        return expiredApplicationIds.size();
+
+    }
+
+    /**
+     * 지정한 세션들의 수업 시작 마감 처리 (마감 타이머 발화 시)
+     *
+     * <p>세션 ID로 대상을 좁혀 조회하므로 전체 세션을 훑지 않습니다.
+     *
+     * @param sessionDeadlineHours 마감 시간 (시간 단위)
+     * @param sessionIds 마감 시각이 도래한 세션 ID 목록
+     * @return EXPIRED 처리된 신청 수
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public int processSessionDeadline(int sessionDeadlineHours, Collection<Long> sessionIds) {
+        schedulerLockService.fenceCurrentLease();
+
+        List<Long> expiredApplicationIds =
+            trainingSessionDAO.findApplicationsPastSessionDeadlineBySessionIds(sessionIds, sessionDeadlineHours);
+
+        if (expiredApplicationIds.isEmpty()) {
+            return 0;
+        }
+
+        applicationDAO.updateApplicationStatusBatch(expiredApplicationIds, "EXPIRED");
+        waitingQueueIndex.invalidateAfterCommit(sessionIds);
 
+        log.info("수업 시작 마감 처리 완료 - 세션: {}, {}건 처리", sessionIds, expiredApplicationIds.size());
+        return expiredApplicationIds.size();
     }
 }
 
@@ -0,0 +1,172 @@
+package com.mungtrainer.mtserver.training.service;
+
+import com.mungtrainer.mtserver.training.dao.CalendarSummaryDAO;
+import com.mungtrainer.mtserver.training.dto.response.CalendarDayKey;
+import com.mungtrainer.mtserver.training.dto.response.CalendarDaySummaryDto;
+import com.mungtrainer.mtserver.training.dto.response.CalendarDaySummaryRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * 훈련사별 날짜 요약(trainer_calendar_day) 관리 서비스
+ *
+ * <p>달력 화면이 월 단위로 원본 세션을 매번 집계하던 것을 (훈련사, 날짜, 수업 형태) 요약 행 조회로 바꿉니다.
+ * 세션 생성/수정/삭제, 세션 상태 변경, 좌석이 바뀌는 신청 상태 변경 시
+ * 같은 트랜잭션 안에서 해당 (훈련사, 날짜)만 다시 집계하므로 요약은 원본과 함께 커밋/롤백됩니다.</p>
+ *
+ * 테이블 DDL과 기존 데이터 적재는 docs/CALENDAR_SUMMARY.md 참고
+ */
+@Slf4j
+@Service
+public class CalendarSummaryService {
+
+    private final CalendarSummaryDAO calendarSummaryDao;
+    private final boolean enabled;
+
+    public CalendarSummaryService(
+            CalendarSummaryDAO calendarSummaryDao,
+            @Value("${course.calendar-summary.enabled:true}") boolean enabled
+    ) {
+        this.calendarSummaryDao = calendarSummaryDao;
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 세션들이 속한 날짜 갱신 (세션 생성/삭제, 상태 변경, 좌석 변경 시)
+     */
+    @Transactional
+    public void refreshSessions(Collection<Long> sessionIds) {
+        if (!enabled || sessionIds == null || sessionIds.isEmpty()) {
+            return;
+        }
+        refresh(calendarSummaryDao.findDayKeysBySessionIds(sessionIds));
+    }
+
+    /**
+     * 세션들이 현재 속한 날짜와 수정 전 날짜 갱신 (세션 날짜 변경 시)
+     *
+     * @param previousKeys 수정 전에 {@link #findDayKeys(Collection)}로 조회한 (훈련사, 날짜)
+     */
+    @Transactional
+    public void refreshSessions(Collection<Long> sessionIds, List<CalendarDayKey> previousKeys) {
+        if (!enabled || sessionIds == null || sessionIds.isEmpty()) {
+            return;
+        }
+        List<CalendarDayKey> keys = new ArrayList<>(previousKeys);
+        keys.addAll(calendarSummaryDao.findDayKeysBySessionIds(sessionIds));
+        refresh(keys);
+    }
+
+    /**
+     * 세션들이 현재 속한 (훈련사, 날짜) 조회 (수정 전 날짜 보관용)
+     */
+    public List<CalendarDayKey> findDayKeys(Collection<Long> sessionIds) {
+        if (!enabled || sessionIds == null || sessionIds.isEmpty()) {
+            return List.of();
+        }
+        return calendarSummaryDao.findDayKeysBySessionIds(sessionIds);
+    }
+
+    /**
+     * 과정의 모든 세션 날짜 갱신 (과정 등록/수정/삭제 시)
+     */
+    @Transactional
+    public void refreshCourse(Long courseId) {
+        if (!enabled || courseId == null) {
+            return;
+        }
+        refresh(calendarSummaryDao.findDayKeysByCourseId(courseId));
+    }
+
+    /**
+     * 훈련사의 지정한 날짜를 원본에서 다시 집계
+     */
+    @Transactional
+    public void refreshDays(Long trainerId, Collection<LocalDate> dates) {
+        if (!enabled || trainerId == null || dates == null || dates.isEmpty()) {
+            return;
+        }
+        // 같은 훈련사의 날짜를 항상 오름차순으로 잠가 동시 갱신 간 교착을 피함
+        SortedSet<LocalDate> targets = new TreeSet<>();
+        for (LocalDate date : dates) {
+            if (date != null) {
+                targets.add(date);
+            }
+        }
+        if (targets.isEmpty()) {
+            return;
+        }
+        calendarSummaryDao.resetDays(trainerId, targets);
+        calendarSummaryDao.upsertDays(trainerId, targets);
+    }
+
+    /**
+     * 기간 내 날짜별 요약 조회
+     *
+     * @param trainerId 훈련사 ID (null이면 전체)
+     * @param lessonForm 수업 형태 필터 (선택)
+     * @return 세션이 있는 날짜별 요약 (날짜 오름차순)
+     */
+    public List<CalendarDaySummaryDto> getDays(Long trainerId, LocalDate startDate, LocalDate endDate,
+                                               String lessonForm) {
+        List<CalendarDaySummaryDto> days = new ArrayList<>();
+        LocalDate currentDate = null;
+        int sessionCount = 0;
+        int totalCapacity = 0;
+        int remainingSeats = 0;
+        List<String> lessonForms = new ArrayList<>();
+
+        // 행은 (날짜, 수업 형태) 순으로 정렬되어 있으므로 한 번 순회하며 날짜 단위로 접음
+        for (CalendarDaySummaryRow row : calendarSummaryDao.findDays(startDate, endDate, trainerId, lessonForm)) {
+            if (!row.getSessionDate().equals(currentDate)) {
+                if (currentDate != null) {
+                    days.add(toDay(currentDate, sessionCount, lessonForms, totalCapacity, remainingSeats));
+                }
+                currentDate = row.getSessionDate();
+                sessionCount = 0;
+                totalCapacity = 0;
+                remainingSeats = 0;
+                lessonForms = new ArrayList<>();
+            }
+            sessionCount += row.getSessionCount();
+            totalCapacity += row.getTotalCapacity();
+            remainingSeats += row.getRemainingSeats();
+            if (row.getLessonForm() != null && !row.getLessonForm().isEmpty()) {
+                lessonForms.add(row.getLessonForm());
+            }
+        }
+        if (currentDate != null) {
+            days.add(toDay(currentDate, sessionCount, lessonForms, totalCapacity, remainingSeats));
+        }
+        return days;
+    }
+
+    private void refresh(List<CalendarDayKey> keys) {
+        Map<Long, Set<LocalDate>> datesByTrainer = new TreeMap<>();
+        for (CalendarDayKey key : keys) {
+            datesByTrainer.computeIfAbsent(key.getTrainerId(), k -> new TreeSet<>()).add(key.getSessionDate());
+        }
+        datesByTrainer.forEach(this::refreshDays);
+        log.debug("달력 요약 갱신 - {}", datesByTrainer);
+    }
+
+    private CalendarDaySummaryDto toDay(LocalDate date, int sessionCount, List<String> lessonForms,
+                                        int totalCapacity, int remainingSeats) {
+        return CalendarDaySummaryDto.builder()
+                .sessionDate(date)
+                .sessionCount(sessionCount)
+                .lessonForms(lessonForms)
+                .totalCapacity(totalCapacity)
+                .remainingSeats(remainingSeats)
+                .build();
+    }
+}
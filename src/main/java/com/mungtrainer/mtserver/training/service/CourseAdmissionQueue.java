@@ -0,0 +1,243 @@
+package com.mungtrainer.mtserver.training.service;
+
+import com.mungtrainer.mtserver.common.exception.CustomException;
+import com.mungtrainer.mtserver.common.exception.ErrorCode;
+import com.mungtrainer.mtserver.training.dto.request.ApplicationRequest;
+import com.mungtrainer.mtserver.training.dto.response.AdmissionTicketResponse;
+import com.mungtrainer.mtserver.training.dto.response.ApplicationResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 과정별 신청 대기열 (인기 과정 오픈 시 동시 신청 완화)
+ *
+ * <p>과정이 열리는 순간 같은 세션들로 몰리는 신청을 과정별 대기열에 접수하고,
+ * 과정마다 소비자 하나가 도착 순서대로 묶음 단위로 {@link TrainingCourseApplicationService#applyCourse}를 실행합니다.
+ * 같은 과정의 신청 트랜잭션이 한 번에 하나만 실행되므로 세션 행을 두고 수백 개의 트랜잭션이 경쟁하지 않습니다.</p>
+ *
+ * <ul>
+ *   <li>접수: 접수표(ticketId)를 즉시 돌려주고, 클라이언트는 접수표로 결과를 조회</li>
+ *   <li>처리: 과정별 소비자는 batch-size건씩 처리한 뒤 작업 스레드를 반납 (여러 과정이 번갈아 처리됨)</li>
+ *   <li>신청 1건 = 트랜잭션 1개 (한 건의 실패가 같은 묶음의 다른 신청을 롤백하지 않음)</li>
+ *   <li>max-pending: 과정별 대기 한도 (초과 시 ADMISSION_QUEUE_FULL)</li>
+ *   <li>ticket-ttl-seconds: 처리가 끝난 접수표 보관 기간</li>
+ * </ul>
+ *
+ * 대기열은 인스턴스 메모리에 있으므로 접수표 조회는 접수한 인스턴스로 향해야 합니다 (고정 세션 또는 단일 인스턴스).
+ * 재시작 시 처리 전 접수는 사라지며, 클라이언트는 접수표를 찾을 수 없으면 다시 신청합니다.
+ */
+@Slf4j
+@Component
+public class CourseAdmissionQueue {
+
+    public enum Status { QUEUED, PROCESSING, DONE, FAILED }
+
+    private final TrainingCourseApplicationService applicationService;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxPending;
+    private final long ticketTtlMillis;
+    private final ExecutorService workers;
+
+    private final Map<Long, Lane> lanes = new ConcurrentHashMap<>();
+    private final Map<String, Ticket> tickets = new ConcurrentHashMap<>();
+
+    public CourseAdmissionQueue(
+            TrainingCourseApplicationService applicationService,
+            @Value("${course.admission-queue.enabled:true}") boolean enabled,
+            @Value("${course.admission-queue.batch-size:20}") int batchSize,
+            @Value("${course.admission-queue.max-pending:1000}") int maxPending,
+            @Value("${course.admission-queue.workers:4}") int workers,
+            @Value("${course.admission-queue.ticket-ttl-seconds:600}") long ticketTtlSeconds
+    ) {
+        this.applicationService = applicationService;
+        this.enabled = enabled;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxPending = maxPending;
+        this.ticketTtlMillis = ticketTtlSeconds * 1000;
+        AtomicInteger threadNo = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(Math.max(1, workers), runnable -> {
+            Thread thread = new Thread(runnable, "course-admission-" + threadNo.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 신청 접수 (비활성화 시 즉시 처리 후 완료된 접수표 반환)
+     */
+    public AdmissionTicketResponse submit(Long userId, Long courseId, ApplicationRequest request) {
+        Ticket ticket = new Ticket(UUID.randomUUID().toString(), userId, courseId, request);
+
+        if (!enabled) {
+            tickets.put(ticket.id, ticket);
+            process(ticket);
+            return toResponse(ticket, null);
+        }
+
+        // 접수는 과정 대기열 매핑 안에서 원자적으로 처리 (정리 작업이 같은 대기열을 떼어내는 것과 겹치지 않도록)
+        Lane lane = lanes.compute(courseId, (id, current) -> {
+            Lane target = current != null ? current : new Lane(id);
+            if (target.pending.get() >= maxPending) {
+                log.warn("신청 대기열 한도 초과 - courseId: {}, 대기: {}건", id, target.pending.get());
+                throw new CustomException(ErrorCode.ADMISSION_QUEUE_FULL);
+            }
+            ticket.sequence = target.enqueued.incrementAndGet();
+            target.pending.incrementAndGet();
+            target.queue.add(ticket);
+            return target;
+        });
+        tickets.put(ticket.id, ticket);
+        schedule(lane);
+        return toResponse(ticket, lane);
+    }
+
+    /**
+     * 접수표 조회 (본인 접수만)
+     */
+    public AdmissionTicketResponse getTicket(Long userId, String ticketId) {
+        Ticket ticket = tickets.get(ticketId);
+        if (ticket == null || !ticket.userId.equals(userId)) {
+            throw new CustomException(ErrorCode.ADMISSION_TICKET_NOT_FOUND);
+        }
+        return toResponse(ticket, lanes.get(ticket.courseId));
+    }
+
+    /**
+     * 처리가 끝난 오래된 접수표, 비어 있는 과정 대기열 정리
+     */
+    @Scheduled(cron = "${course.admission-queue.cleanup-cron:0 * * * * *}")
+    public void cleanup() {
+        long now = System.currentTimeMillis();
+        tickets.values().removeIf(ticket -> ticket.finishedAt > 0 && now - ticket.finishedAt >= ticketTtlMillis);
+        // 처리할 접수가 없고 소비자도 없는 대기열만 제거 (접수와 같은 키 단위로 원자적으로 판단)
+        for (Long courseId : lanes.keySet()) {
+            lanes.computeIfPresent(courseId, (id, lane) -> lane.pending.get() == 0 && !lane.draining.get() ? null : lane);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        workers.shutdownNow();
+    }
+
+    /**
+     * 과정 대기열에 소비자가 없으면 작업 스레드에 배정 (과정당 소비자 최대 1개)
+     */
+    private void schedule(Lane lane) {
+        if (lane.draining.compareAndSet(false, true)) {
+            try {
+                workers.execute(() -> drain(lane));
+            } catch (RejectedExecutionException e) {
+                lane.draining.set(false);
+                log.warn("신청 대기열 작업 배정 실패 (종료 중) - courseId: {}", lane.courseId);
+            }
+        }
+    }
+
+    /**
+     * 한 묶음(batch-size) 처리 후 스레드 반납, 남은 접수가 있으면 다시 배정
+     */
+    private void drain(Lane lane) {
+        List<Ticket> batch = new ArrayList<>(batchSize);
+        Ticket next;
+        while (batch.size() < batchSize && (next = lane.queue.poll()) != null) {
+            batch.add(next);
+        }
+
+        for (Ticket ticket : batch) {
+            process(ticket);
+            lane.pending.decrementAndGet();
+            lane.processed.set(ticket.sequence);
+        }
+        if (!batch.isEmpty()) {
+            log.debug("신청 대기열 처리 - courseId: {}, 처리: {}건, 남은 대기: {}건",
+                    lane.courseId, batch.size(), lane.pending.get());
+        }
+
+        lane.draining.set(false);
+        // 플래그를 내리는 사이에 들어온 접수를 놓치지 않도록 다시 확인
+        if (!lane.queue.isEmpty()) {
+            schedule(lane);
+        }
+    }
+
+    private void process(Ticket ticket) {
+        ticket.status = Status.PROCESSING;
+        try {
+            ticket.applications = applicationService.applyCourse(ticket.userId, ticket.courseId, ticket.request);
+            ticket.status = Status.DONE;
+        } catch (CustomException e) {
+            ticket.errorCode = e.getCode();
+            ticket.status = Status.FAILED;
+        } catch (Exception e) {
+            log.error("신청 대기열 처리 실패 - ticketId: {}, courseId: {}", ticket.id, ticket.courseId, e);
+            ticket.errorCode = ErrorCode.APPLICATION_CREATION_FAILED;
+            ticket.status = Status.FAILED;
+        } finally {
+            ticket.finishedAt = System.currentTimeMillis();
+        }
+    }
+
+    private AdmissionTicketResponse toResponse(Ticket ticket, Lane lane) {
+        Status status = ticket.status;
+        Integer position = null;
+        if (status == Status.QUEUED && lane != null) {
+            position = (int) Math.max(0, ticket.sequence - lane.processed.get() - 1);
+        }
+        return AdmissionTicketResponse.builder()
+                .ticketId(ticket.id)
+                .courseId(ticket.courseId)
+                .status(status.name())
+                .position(position)
+                .applications(status == Status.DONE ? ticket.applications : null)
+                .errorCode(status == Status.FAILED ? ticket.errorCode.name() : null)
+                .message(status == Status.FAILED ? ticket.errorCode.getMessage() : null)
+                .build();
+    }
+
+    private static final class Lane {
+        private final Long courseId;
+        private final Queue<Ticket> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicInteger pending = new AtomicInteger();
+        private final AtomicLong enqueued = new AtomicLong();   // 마지막 접수 순번
+        private final AtomicLong processed = new AtomicLong();  // 마지막 처리 순번
+
+        private Lane(Long courseId) {
+            this.courseId = courseId;
+        }
+    }
+
+    private static final class Ticket {
+        private final String id;
+        private final Long userId;
+        private final Long courseId;
+        private final ApplicationRequest request;
+        private long sequence;
+        private volatile Status status = Status.QUEUED;
+        private volatile List<ApplicationResponse> applications;
+        private volatile ErrorCode errorCode;
+        private volatile long finishedAt;
+
+        private Ticket(String id, Long userId, Long courseId, ApplicationRequest request) {
+            this.id = id;
+            this.userId = userId;
+            this.courseId = courseId;
+            this.request = request;
+        }
+    }
+}
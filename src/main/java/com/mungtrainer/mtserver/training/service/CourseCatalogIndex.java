@@ -0,0 +1,371 @@
+package com.mungtrainer.mtserver.training.service;
+
+import com.mungtrainer.mtserver.training.dao.TrainingCourseDao;
+import com.mungtrainer.mtserver.training.dto.response.*;
+import com.mungtrainer.mtserver.training.entity.TrainingSession;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 훈련사별 과정 카탈로그 인덱스 (인메모리)
+ *
+ * <p>과정 검색, 날짜별 과정 목록, 달력, 훈련사 과정 목록은 모두 "한 훈련사의 과정 + 세션"을 읽는 조회입니다.
+ * 과정 데이터는 등록/수정/삭제와 상태 스케줄러에서만 바뀌므로, 훈련사 단위로 과정과 세션을 한 번에 적재해 두고
+ * 조회는 메모리에서 필터링합니다.</p>
+ *
+ * <ul>
+ *   <li>구조: 과정은 course_id 내림차순, 세션은 과정별 session_no 순 + 날짜별(session_date → start_time 순)</li>
+ *   <li>갱신: 과정·세션 변경 시 해당 훈련사를 즉시 + 커밋 후 무효화, 상태 스케줄러 변경 시 전체 무효화</li>
+ *   <li>버전: 적재 쿼리 도중 무효화가 일어나면(훈련사 버전 또는 전체 epoch 변경) 결과를 보관하지 않음</li>
+ *   <li>ttl-seconds: 다른 인스턴스에서 발생한 변경이 반영되기까지의 최대 지연</li>
+ *   <li>조회 결과는 매번 새 DTO로 만들어 반환 (호출자가 mainImage 등을 바꿔도 인덱스는 그대로)</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class CourseCatalogIndex {
+
+    // MySQL TIME 컬럼을 LocalDateTime으로 매핑할 때 드라이버가 붙이는 기준 날짜 (DB 조회 결과와 동일하게 맞춤)
+    private static final LocalDate TIME_BASE_DATE = LocalDate.of(1970, 1, 1);
+
+    private static final Comparator<TrainingSession> CHEAPEST_FIRST = Comparator
+            .comparing(TrainingSession::getPrice, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(TrainingSession::getSessionId);
+
+    private final TrainingCourseDao trainingCourseDao;
+    private final boolean enabled;
+    private final long ttlMillis;
+
+    private final Map<Long, TrainerCatalog> catalogs = new ConcurrentHashMap<>();
+    // 훈련사별 버전 (무효화마다 증가) + 전체 무효화 epoch
+    private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+    private final AtomicLong epoch = new AtomicLong();
+
+    public CourseCatalogIndex(
+            TrainingCourseDao trainingCourseDao,
+            @Value("${course.catalog-index.enabled:true}") boolean enabled,
+            @Value("${course.catalog-index.ttl-seconds:30}") long ttlSeconds
+    ) {
+        this.trainingCourseDao = trainingCourseDao;
+        this.enabled = enabled;
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 과정 검색 (LIKE 검색과 같은 의미: 제목 또는 태그에 키워드 포함, course_id 커서)
+     *
+     * @return 과정 목록 (course_id 내림차순, 최대 limit건, 세션 정보 없음)
+     */
+    public List<CourseSearchItemDto> search(Long trainerId, String keyword, String lessonForm,
+                                            Long lastCourseId, int limit) {
+        String kw = normalize(keyword);
+        List<CourseSearchItemDto> result = new ArrayList<>();
+        for (CatalogCourse course : catalog(trainerId).courses) {
+            if (result.size() >= limit) {
+                break;
+            }
+            if (lastCourseId != null && course.getCourseId() >= lastCourseId) {
+                continue;
+            }
+            if (matchesLessonForm(course, lessonForm)
+                    && (kw == null || contains(course.getTitle(), kw) || contains(course.getTags(), kw))) {
+                result.add(toSearchItem(course, null));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 과정별 세션 요약 (세션 수, 기간, 최고가, 최저가 세션)
+     *
+     * @return courseId → 요약 (세션이 없는 과정은 포함되지 않음)
+     */
+    public Map<Long, CourseSessionSummaryDto> getSessionSummaries(Long trainerId, Collection<Long> courseIds) {
+        TrainerCatalog catalog = catalog(trainerId);
+        Map<Long, CourseSessionSummaryDto> result = new HashMap<>();
+        for (Long courseId : courseIds) {
+            List<TrainingSession> sessions = catalog.sessionsByCourse.get(courseId);
+            if (sessions == null || sessions.isEmpty()) {
+                continue;
+            }
+            CourseSessionSummaryDto summary = new CourseSessionSummaryDto();
+            summary.setCourseId(courseId);
+            summary.setSessionCount(sessions.size());
+            summary.setFirstSessionDate(sessions.stream().map(TrainingSession::getSessionDate)
+                    .filter(Objects::nonNull).min(Comparator.naturalOrder()).orElse(null));
+            summary.setLastSessionDate(sessions.stream().map(TrainingSession::getSessionDate)
+                    .filter(Objects::nonNull).max(Comparator.naturalOrder()).orElse(null));
+            summary.setMaxPrice(sessions.stream().map(TrainingSession::getPrice)
+                    .filter(Objects::nonNull).max(Comparator.naturalOrder()).orElse(null));
+            summary.setSession(toSessionSummary(Collections.min(sessions, CHEAPEST_FIRST)));
+            result.put(courseId, summary);
+        }
+        return result;
+    }
+
+    /**
+     * 특정 날짜에 세션이 있는 과정 목록 (세션 1건당 1행, 시작 시간 → 제목 순)
+     */
+    public List<CourseSearchItemDto> findCoursesByDate(Long trainerId, LocalDate date,
+                                                       String keyword, String lessonForm) {
+        TrainerCatalog catalog = catalog(trainerId);
+        String kw = normalize(keyword);
+        List<CourseSearchItemDto> result = new ArrayList<>();
+        for (TrainingSession session : catalog.sessionsByDate.getOrDefault(date, List.of())) {
+            CatalogCourse course = catalog.coursesById.get(session.getCourseId());
+            if (matches(course, kw, lessonForm)) {
+                result.add(toSearchItem(course, toSessionSummary(session)));
+            }
+        }
+        result.sort(Comparator.comparing(
+                        (CourseSearchItemDto item) -> item.getSession().getStartTime(),
+                        Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparing(CourseSearchItemDto::getTitle, Comparator.nullsFirst(Comparator.naturalOrder())));
+        return result;
+    }
+
+    /**
+     * 기간 내 세션이 있는 날짜와 날짜별 세션 수 (날짜 오름차순)
+     */
+    public List<CalendarSessionDateDto> findSessionDates(Long trainerId, LocalDate startDate, LocalDate endDate,
+                                                         String keyword, String lessonForm) {
+        List<CalendarSessionDateDto> result = new ArrayList<>();
+        if (startDate.isAfter(endDate)) {
+            return result;
+        }
+        TrainerCatalog catalog = catalog(trainerId);
+        String kw = normalize(keyword);
+        for (Map.Entry<LocalDate, List<TrainingSession>> entry
+                : catalog.sessionsByDate.subMap(startDate, true, endDate, true).entrySet()) {
+            int count = 0;
+            for (TrainingSession session : entry.getValue()) {
+                if (matches(catalog.coursesById.get(session.getCourseId()), kw, lessonForm)) {
+                    count++;
+                }
+            }
+            if (count > 0) {
+                result.add(CalendarSessionDateDto.builder()
+                        .sessionDate(entry.getKey())
+                        .sessionCount(count)
+                        .build());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 훈련사 과정 목록 (과정 등록일 내림차순, 과정 내 session_no 순, 세션 1건당 1행 / 세션 없는 과정은 1행)
+     */
+    public List<CourseListResponse> findCourses(Long trainerId, List<String> statuses,
+                                                List<String> types, List<String> lessonForms) {
+        TrainerCatalog catalog = catalog(trainerId);
+        List<CatalogCourse> courses = catalog.courses.stream()
+                .filter(course -> isEmpty(statuses) || statuses.contains(course.getStatus()))
+                .filter(course -> isEmpty(types) || types.contains(course.getType()))
+                .filter(course -> isEmpty(lessonForms) || lessonForms.contains(course.getLessonForm()))
+                .sorted(Comparator.comparing(CatalogCourse::getCreatedAt,
+                        Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder())))
+                .toList();
+
+        List<CourseListResponse> result = new ArrayList<>();
+        for (CatalogCourse course : courses) {
+            List<TrainingSession> sessions = catalog.sessionsByCourse.getOrDefault(course.getCourseId(), List.of());
+            if (sessions.isEmpty()) {
+                result.add(toListRow(course, null));
+            }
+            for (TrainingSession session : sessions) {
+                result.add(toListRow(course, session));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 훈련사 카탈로그 무효화 (트랜잭션 안이면 커밋 후 한 번 더 무효화)
+     */
+    public void invalidateAfterCommit(Long trainerId) {
+        if (trainerId == null) {
+            return;
+        }
+        invalidate(trainerId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            invalidate(trainerId);
+                        }
+                    }
+            );
+        }
+    }
+
+    /**
+     * 여러 훈련사에 걸친 일괄 변경(상태 스케줄러) 시 전체 무효화
+     */
+    public void invalidateAllAfterCommit() {
+        invalidateAll();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            invalidateAll();
+                        }
+                    }
+            );
+        }
+    }
+
+    private void invalidate(Long trainerId) {
+        versions.merge(trainerId, 1L, Long::sum);
+        catalogs.remove(trainerId);
+    }
+
+    private void invalidateAll() {
+        epoch.incrementAndGet();
+        catalogs.clear();
+    }
+
+    private TrainerCatalog catalog(Long trainerId) {
+        long now = System.currentTimeMillis();
+        TrainerCatalog cached = catalogs.get(trainerId);
+        if (cached != null && now - cached.loadedAt < ttlMillis) {
+            return cached;
+        }
+
+        long startedEpoch = epoch.get();
+        long startedVersion = versions.getOrDefault(trainerId, 0L);
+        TrainerCatalog loaded = new TrainerCatalog(
+                trainingCourseDao.findCatalogCourses(trainerId),
+                trainingCourseDao.findCatalogSessions(trainerId),
+                now);
+        log.debug("과정 카탈로그 적재 - trainerId: {}, 과정 {}개", trainerId, loaded.courses.size());
+        // 적재 중 무효화가 있었다면 이번 결과는 응답에만 쓰고 보관하지 않음
+        if (startedEpoch == epoch.get() && startedVersion == versions.getOrDefault(trainerId, 0L)) {
+            catalogs.put(trainerId, loaded);
+        }
+        return loaded;
+    }
+
+    private boolean matches(CatalogCourse course, String kw, String lessonForm) {
+        return course != null
+                && matchesLessonForm(course, lessonForm)
+                && (kw == null
+                    || contains(course.getTitle(), kw)
+                    || contains(course.getDescription(), kw)
+                    || contains(course.getTags(), kw));
+    }
+
+    private boolean matchesLessonForm(CatalogCourse course, String lessonForm) {
+        return lessonForm == null || lessonForm.isEmpty() || lessonForm.equals(course.getLessonForm());
+    }
+
+    /**
+     * DB 콜레이션(대소문자 무시)과 같게 소문자로 비교
+     */
+    private String normalize(String keyword) {
+        return keyword == null || keyword.isEmpty() ? null : keyword.toLowerCase(Locale.ROOT);
+    }
+
+    private boolean contains(String value, String normalizedKeyword) {
+        return value != null && value.toLowerCase(Locale.ROOT).contains(normalizedKeyword);
+    }
+
+    private boolean isEmpty(List<String> values) {
+        return values == null || values.isEmpty();
+    }
+
+    private CourseSearchItemDto toSearchItem(CatalogCourse course, SessionSummaryDto session) {
+        return CourseSearchItemDto.builder()
+                .courseId(course.getCourseId())
+                .trainerId(course.getTrainerId())
+                .trainerName(course.getTrainerName())
+                .title(course.getTitle())
+                .description(course.getDescription())
+                .tags(course.getTags())
+                .mainImage(course.getMainImage())
+                .type(course.getType())
+                .lessonForm(course.getLessonForm())
+                .status(course.getStatus())
+                .difficulty(course.getDifficulty())
+                .isFree(course.getIsFree())
+                .location(course.getLocation())
+                .schedule(course.getSchedule())
+                .dogSize(course.getDogSize())
+                .session(session)
+                .build();
+    }
+
+    private SessionSummaryDto toSessionSummary(TrainingSession session) {
+        return SessionSummaryDto.builder()
+                .sessionId(session.getSessionId())
+                .startTime(session.getStartTime() != null ? TIME_BASE_DATE.atTime(session.getStartTime()) : null)
+                .endTime(session.getEndTime() != null ? TIME_BASE_DATE.atTime(session.getEndTime()) : null)
+                .locationDetail(session.getLocationDetail())
+                .maxStudents(session.getMaxStudents())
+                .price(session.getPrice())
+                .build();
+    }
+
+    private CourseListResponse toListRow(CatalogCourse course, TrainingSession session) {
+        CourseListResponse.CourseListResponseBuilder row = CourseListResponse.builder()
+                .courseId(course.getCourseId())
+                .trainerId(course.getTrainerId())
+                .title(course.getTitle())
+                .type(course.getType())
+                .lessonForm(course.getLessonForm())
+                .mainImage(course.getMainImage())
+                .location(course.getLocation())
+                .tags(course.getTags())
+                .description(course.getDescription());
+        if (session != null) {
+            row.sessionId(session.getSessionId())
+                    .sessionNo(session.getSessionNo())
+                    .sessionDate(session.getSessionDate())
+                    .startTime(session.getStartTime())
+                    .endTime(session.getEndTime())
+                    .sessionStatus(session.getStatus());
+        }
+        return row.build();
+    }
+
+    private static final class TrainerCatalog {
+        private final List<CatalogCourse> courses;                               // course_id 내림차순
+        private final Map<Long, CatalogCourse> coursesById;
+        private final Map<Long, List<TrainingSession>> sessionsByCourse;         // session_no 순
+        private final NavigableMap<LocalDate, List<TrainingSession>> sessionsByDate; // start_time 순
+        private final long loadedAt;
+
+        private TrainerCatalog(List<CatalogCourse> courses, List<TrainingSession> sessions, long loadedAt) {
+            this.courses = List.copyOf(courses);
+            this.coursesById = new HashMap<>();
+            courses.forEach(course -> coursesById.put(course.getCourseId(), course));
+
+            this.sessionsByCourse = new HashMap<>();
+            this.sessionsByDate = new TreeMap<>();
+            for (TrainingSession session : sessions) {
+                sessionsByCourse.computeIfAbsent(session.getCourseId(), k -> new ArrayList<>()).add(session);
+                if (session.getSessionDate() != null) {
+                    sessionsByDate.computeIfAbsent(session.getSessionDate(), k -> new ArrayList<>()).add(session);
+                }
+            }
+            sessionsByDate.values().forEach(list -> list.sort(Comparator.comparing(
+                    TrainingSession::getStartTime, Comparator.nullsFirst(Comparator.naturalOrder()))));
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -9,6 +9,7 @@ import com.mungtrainer.mtserver.training.dto.response.CourseListResponse;
 import com.mungtrainer.mtserver.training.dto.response.CourseResponse;
 import com.mungtrainer.mtserver.training.entity.TrainingCourse;
 import com.mungtrainer.mtserver.training.entity.TrainingSession;
+import com.mungtrainer.mtserver.training.scheduler.DeadlineTimer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,6 +20,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -27,23 +29,28 @@ import java.util.stream.Collectors;
 public class CourseService {
   private final CourseDAO courseDAO;
   private final S3Service s3Service;
+  private final DeadlineTimer deadlineTimer;
+  private final CourseCatalogIndex courseCatalogIndex;
+  private final CalendarSummaryService calendarSummaryService;
 
 
   @Transactional(readOnly = true)
   public List<CourseListResponse> getCourses(Long userId, List<String> statuses, List<String> types, List<String> lessonForms){
-    List<CourseListResponse> courseListResponses = courseDAO.findCourses(userId, statuses, types, lessonForms);
+    List<CourseListResponse> courseListResponses = courseCatalogIndex.isEnabled()
+        ? courseCatalogIndex.findCourses(userId, statuses, types, lessonForms)
+        : courseDAO.findCourses(userId, statuses, types, lessonForms);
 
 
     List<String> imageKeys = courseListResponses.stream()
                                  .map(CourseListResponse::getMainImage)
                                  .collect(Collectors.toList());
 
-    // S3 Presigned URL 일괄 발급
-    List<String> presignedUrls = s3Service.generateDownloadPresignedUrls(imageKeys);
+    // S3 Presigned URL 일괄 발급 (key → URL)
+    Map<String, String> presignedUrls = s3Service.generateDownloadPresignedUrlMap(imageKeys);
 
     // url 매핑
-    for (int i = 0; i < courseListResponses.size(); i++) {
-      courseListResponses.get(i).setMainImage(presignedUrls.get(i));
+    for (CourseListResponse course : courseListResponses) {
+      course.setMainImage(presignedUrls.get(course.getMainImage()));
     }
 
     return courseListResponses;
@@ -62,6 +69,10 @@ public class CourseService {
     List<TrainingSession> sessions = buildSessions(req.getSessionUploadRequests(), courseId, userId);
 
     courseDAO.insertSessions(sessions);
+    courseDAO.refreshTransitionTime(courseId);
+    deadlineTimer.scheduleSessionsAfterCommit(sessions.stream().map(TrainingSession::getSessionId).toList());
+    courseCatalogIndex.invalidateAfterCommit(userId);
+    calendarSummaryService.refreshCourse(courseId);
 
     return CourseResponse.builder()
                          .status("Success")
@@ -84,6 +95,10 @@ public class CourseService {
     List<TrainingSession> sessions = buildSessions(req.getSessionUploadRequests(), courseId, userId );
 
     courseDAO.insertSessions(sessions);
+    courseDAO.refreshTransitionTime(courseId);
+    deadlineTimer.scheduleSessionsAfterCommit(sessions.stream().map(TrainingSession::getSessionId).toList());
+    courseCatalogIndex.invalidateAfterCommit(userId);
+    calendarSummaryService.refreshCourse(courseId);
 
     return CourseResponse.builder()
                          .status("Success")
@@ -126,6 +141,11 @@ public class CourseService {
                            .build();
 
     courseDAO.updateCourse(course);
+    // 상태가 바뀌었을 수 있으므로 다음 전이 시각 재계산
+    courseDAO.refreshTransitionTime(courseId);
+    courseCatalogIndex.invalidateAfterCommit(userId);
+    // 수업 형태가 바뀌었을 수 있으므로 달력 요약 재집계
+    calendarSummaryService.refreshCourse(courseId);
     TransactionSynchronizationManager.registerSynchronization(
         new TransactionSynchronization() {
           @Override
@@ -163,6 +183,8 @@ public class CourseService {
     courseDAO.softDeleteBySession(courseId, userId);
     courseDAO.deleteWishlistDetailDog(courseId);
     courseDAO.deleteWishlistDetail(courseId);
+    courseCatalogIndex.invalidateAfterCommit(userId);
+    calendarSummaryService.refreshCourse(courseId);
 
     TransactionSynchronizationManager.registerSynchronization(
         new TransactionSynchronization() {
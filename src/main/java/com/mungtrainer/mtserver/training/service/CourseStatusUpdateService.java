@@ -1,61 +1,161 @@
 package com.mungtrainer.mtserver.training.service;
 
+import com.mungtrainer.mtserver.common.scheduler.SchedulerLockService;
+import com.mungtrainer.mtserver.counseling.service.DogStatsCache;
+import com.mungtrainer.mtserver.training.dao.ApplicationDAO;
 import com.mungtrainer.mtserver.training.dao.CourseDAO;
 import com.mungtrainer.mtserver.training.dao.TrainingSessionDAO;
+import com.mungtrainer.mtserver.training.dto.response.ApplicationSessionRef;
+import com.mungtrainer.mtserver.training.entity.TrainingCourseApplication;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * 훈련 과정 상태 업데이트 서비스
  *
  * <p>CourseStatusScheduler에서 사용하는 트랜잭션 처리 서비스
  * <p>각 업데이트 작업을 별도 트랜잭션으로 실행하여 부분 실패 허용
+ * <p>모든 전이는 next_transition_at이 지난 행만 (status, next_transition_at) 인덱스로 찾아 갱신합니다
+ * (docs/STATUS_TRANSITION.md 참고)
+ * <p>스케줄러 잡 안에서 호출되면 각 트랜잭션의 첫 쓰기 전에 리스를 펜싱합니다 (SchedulerLockService#fenceCurrentLease)
+ * <p>세션이 DONE이 되면 결제까지 가지 못한 신청도 같은 트랜잭션에서 EXPIRED로 저장합니다
  *
  * @author GitHub Copilot
  * @since 2025-01-29
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class CourseStatusUpdateService {
 
     private final CourseDAO courseDAO;
     private final TrainingSessionDAO trainingSessionDAO;
+    private final CourseCatalogIndex courseCatalogIndex;
+    private final CalendarSummaryService calendarSummaryService;
+    private final ApplicationDAO applicationDAO;
+    private final SessionSeatService sessionSeatService;
+    private final WaitingQueueIndex waitingQueueIndex;
+    private final DogStatsCache dogStatsCache;
+    private final SchedulerLockService schedulerLockService;
 
     /**
      * 세션 상태를 DONE으로 변경 (별도 트랜잭션)
      *
-     * <p>종료 시간이 지난 세션을 DONE으로 변경
+     * <p>전이 시각(종료 시각)이 지난 SCHEDULED 세션을 DONE으로 변경하고 미완료 신청을 EXPIRED로 저장
      *
      * @return 변경된 세션 수
      */
     @Transactional
     public int updateSessionToDone() {
-        return trainingSessionDAO.updateSessionStatusToDone();
+        schedulerLockService.fenceCurrentLease();
+        // 달력 요약을 갱신할 세션을 알아야 하므로 대상 ID를 먼저 찾고 ID 조건으로 갱신
+        List<Long> dueSessionIds = trainingSessionDAO.findSessionIdsDueToDone();
+        if (dueSessionIds.isEmpty()) {
+            return 0;
+        }
+        return markSessionsDone(dueSessionIds);
+    }
+
+    /**
+     * 지정한 세션 상태를 DONE으로 변경 (마감 타이머 발화 시)
+     *
+     * @param sessionIds 종료 시각이 도래한 세션 ID 목록
+     * @return 변경된 세션 수
+     */
+    @Transactional
+    public int updateSessionToDone(Collection<Long> sessionIds) {
+        schedulerLockService.fenceCurrentLease();
+        return markSessionsDone(sessionIds);
     }
 
     /**
      * 과정 상태를 IN_PROGRESS로 변경 (별도 트랜잭션)
      *
-     * <p>SCHEDULED 상태의 과정 중 첫 세션이 시작된 과정을 IN_PROGRESS로 변경
+     * <p>SCHEDULED 상태의 과정 중 전이 시각(첫 세션 시작)이 지난 과정을 IN_PROGRESS로 변경
      *
      * @return 변경된 과정 수
      */
     @Transactional
     public int updateToInProgress() {
-        return courseDAO.updateCourseStatusToInProgress();
+        schedulerLockService.fenceCurrentLease();
+        return invalidateIfChanged(courseDAO.updateCourseStatusToInProgress());
     }
 
     /**
      * 과정 상태를 DONE으로 변경 (별도 트랜잭션)
      *
-     * <p>IN_PROGRESS 상태의 과정 중 모든 세션이 종료된 과정을 DONE으로 변경
+     * <p>IN_PROGRESS 상태의 과정 중 전이 시각(마지막 세션 종료)이 지난 과정을 DONE으로 변경
      *
      * @return 변경된 과정 수
      */
     @Transactional
     public int updateToCompleted() {
-        return courseDAO.updateCourseStatusToCompleted();
+        schedulerLockService.fenceCurrentLease();
+        return invalidateIfChanged(courseDAO.updateCourseStatusToCompleted());
+    }
+
+    private int markSessionsDone(Collection<Long> sessionIds) {
+        int updated = trainingSessionDAO.updateSessionStatusToDoneByIds(sessionIds);
+        if (updated > 0) {
+            expireUnfinishedApplications(sessionIds);
+            // 종료된 세션은 남은 자리 합계에서 빠짐
+            calendarSummaryService.refreshSessions(sessionIds);
+        }
+        return invalidateIfChanged(updated);
     }
-}
 
+    /**
+     * 종료된 세션의 미완료 신청(APPLIED, WAITING, COUNSELING_REQUIRED, ACCEPT)을 EXPIRED로 저장
+     *
+     * <p>트레이너가 직접 승인한 ACCEPT는 결제 기한이 없어 결제 기한 만료 스케줄러가 처리하지 않으므로
+     * 세션 종료 시점에 함께 만료시키고 차지하던 좌석을 반환합니다.
+     * 지정한 세션 중 실제로 DONE인 세션의 신청만 대상입니다.
+     */
+    private void expireUnfinishedApplications(Collection<Long> sessionIds) {
+        List<TrainingCourseApplication> unfinished =
+                applicationDAO.findUnfinishedApplicationsOfDoneSessionsForUpdate(sessionIds);
+        if (unfinished.isEmpty()) {
+            return;
+        }
+
+        List<Long> applicationIds = unfinished.stream()
+                .map(TrainingCourseApplication::getApplicationId)
+                .toList();
+        List<ApplicationSessionRef> seatHolders = unfinished.stream()
+                .filter(app -> "ACCEPT".equals(app.getStatus()))
+                .map(this::toSessionRef)
+                .toList();
+
+        applicationDAO.updateApplicationStatusBatch(applicationIds, "EXPIRED");
+        sessionSeatService.release(seatHolders);
+
+        waitingQueueIndex.invalidateAfterCommit(sessionIds);
+        dogStatsCache.invalidateDogsAfterCommit(unfinished.stream()
+                .map(TrainingCourseApplication::getDogId)
+                .distinct()
+                .toList());
+        log.info("종료 세션 미완료 신청 만료 - 신청: {}건, 좌석 반환 대상: {}건", applicationIds.size(), seatHolders.size());
+    }
+
+    private ApplicationSessionRef toSessionRef(TrainingCourseApplication application) {
+        ApplicationSessionRef ref = new ApplicationSessionRef();
+        ref.setApplicationId(application.getApplicationId());
+        ref.setSessionId(application.getSessionId());
+        return ref;
+    }
+
+    /**
+     * 상태가 바뀐 과정/세션이 있으면 카탈로그 인덱스 전체 무효화 (여러 훈련사에 걸친 일괄 변경)
+     */
+    private int invalidateIfChanged(int updated) {
+        if (updated > 0) {
+            courseCatalogIndex.invalidateAllAfterCommit();
+        }
+        return updated;
+    }
+}
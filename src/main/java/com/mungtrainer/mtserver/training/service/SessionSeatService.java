@@ -0,0 +1,75 @@
+package com.mungtrainer.mtserver.training.service;
+
+import com.mungtrainer.mtserver.training.dao.SessionSeatDAO;
+import com.mungtrainer.mtserver.training.dto.response.ApplicationSessionRef;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 세션 좌석 반환 서비스
+ *
+ * <p>신청을 좌석 밖 상태(CANCELLED, EXPIRED)로 옮기는 경로에서 좌석 카운터(reserved_seats)를 줄입니다.</p>
+ *
+ * <ol>
+ *   <li>상태 변경 전: {@link #lockSeatHolders}로 좌석을 차지한 신청(ACCEPT, PAID)을 잠그고 반환 대상 확정</li>
+ *   <li>상태 변경 후: {@link #release}로 세션별 반환 인원만큼 조건부 감소 (session_id 오름차순)</li>
+ * </ol>
+ *
+ * 잠근 신청은 커밋까지 다른 트랜잭션이 바꿀 수 없으므로 같은 좌석이 두 번 반환되지 않습니다.
+ * 트랜잭션: 호출자의 트랜잭션에 참여하며, 상태 변경이 롤백되면 반환도 함께 롤백됩니다.
+ * 원본 재집계는 {@link com.mungtrainer.mtserver.training.scheduler.SeatCounterReconcileScheduler}에서만 수행합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SessionSeatService {
+
+    private final SessionSeatDAO sessionSeatDao;
+
+    /**
+     * 좌석을 차지한 신청 잠금 조회
+     *
+     * @param applicationIds 상태를 바꿀 신청 ID 목록
+     * @return 그중 ACCEPT, PAID인 (신청 ID, 세션 ID)
+     */
+    public List<ApplicationSessionRef> lockSeatHolders(Collection<Long> applicationIds) {
+        if (applicationIds == null || applicationIds.isEmpty()) {
+            return List.of();
+        }
+        return sessionSeatDao.findSeatHoldersForUpdate(applicationIds);
+    }
+
+    /**
+     * 좌석 밖 상태로 옮긴 신청만큼 세션별 좌석 반환
+     *
+     * <p>카운터가 반환 인원보다 작으면(어긋난 카운터) 감소하지 않고 경고만 남깁니다.
+     * 상태 변경은 그대로 커밋되며 카운터는 보정 작업에서 바로잡힙니다.</p>
+     *
+     * @param released 상태 변경 전에 {@link #lockSeatHolders}로 잠근 신청
+     * @return 반환한 좌석 수
+     */
+    public int release(Collection<ApplicationSessionRef> released) {
+        // session_id 오름차순 → 승격·재집계와 같은 순서로 세션 행 락
+        Map<Long, Integer> countBySession = new TreeMap<>();
+        for (ApplicationSessionRef ref : released) {
+            countBySession.merge(ref.getSessionId(), 1, Integer::sum);
+        }
+
+        int releasedSeats = 0;
+        for (Map.Entry<Long, Integer> entry : countBySession.entrySet()) {
+            if (sessionSeatDao.releaseSeats(entry.getKey(), entry.getValue()) == 1) {
+                releasedSeats += entry.getValue();
+            } else {
+                log.warn("좌석 반환 실패(카운터 불일치) - 보정 작업에서 재집계 - sessionId: {}, 인원: {}",
+                        entry.getKey(), entry.getValue());
+            }
+        }
+        return releasedSeats;
+    }
+}
@@ -3,6 +3,7 @@ package com.mungtrainer.mtserver.training.service;
      import com.mungtrainer.mtserver.common.exception.CustomException;
      import com.mungtrainer.mtserver.common.exception.ErrorCode;
      import com.mungtrainer.mtserver.common.s3.S3Service;
+     import com.mungtrainer.mtserver.counseling.service.DogStatsCache;
      import com.mungtrainer.mtserver.training.dto.request.AttendanceUpdateRequest;
      import com.mungtrainer.mtserver.training.dto.response.AttendanceListResponse;
      import com.mungtrainer.mtserver.training.dao.TrainingAttendanceDAO;
@@ -11,6 +12,7 @@ package com.mungtrainer.mtserver.training.service;
      import org.springframework.transaction.annotation.Transactional;
 
      import java.util.List;
+     import java.util.Map;
      import java.util.stream.Collectors;
 
      @Service
@@ -20,6 +22,7 @@ package com.mungtrainer.mtserver.training.service;
 
          private final TrainingAttendanceDAO trainingAttendanceMapper;
          private final S3Service s3Service;
+         private final DogStatsCache dogStatsCache;
 
          /**
           * 특정 세션의 모든 출석 목록 조회
@@ -28,30 +31,25 @@ package com.mungtrainer.mtserver.training.service;
          public List<AttendanceListResponse> getAttendanceList(Long sessionId) {
              List<AttendanceListResponse> attendanceList = trainingAttendanceMapper.findBySessionId(sessionId);
 
-             // 반려견 프로필 이미지를 Presigned URL로 변환
-             return attendanceList.stream()
-                     .map(this::convertProfileImageToPresignedUrl)
-                     .collect(Collectors.toList());
-         }
-
-         /**
-          * 반려견 프로필 이미지를 S3 Presigned URL로 변환
-          */
-         private AttendanceListResponse convertProfileImageToPresignedUrl(AttendanceListResponse response) {
-             String profileImageKey = response.getDogProfileImage();
+             // 반려견 프로필 이미지를 Presigned URL로 일괄 변환
+             Map<String, String> presignedUrls;
+             try {
+                 presignedUrls = s3Service.generateDownloadPresignedUrlMap(
+                         attendanceList.stream()
+                                 .map(AttendanceListResponse::getDogProfileImage)
+                                 .collect(Collectors.toList()));
+             } catch (Exception e) {
+                 // 실패해도 null로 설정하여 나머지 데이터는 정상 반환
+                 presignedUrls = Map.of();
+             }
 
-             // 프로필 이미지가 있는 경우 Presigned URL 생성
-             if (profileImageKey != null && !profileImageKey.isBlank()) {
-                 try {
-                     String presignedUrl = s3Service.generateDownloadPresignedUrl(profileImageKey);
-                     response.setDogProfileImage(presignedUrl);
-                 } catch (Exception e) {
-                     // 실패해도 null로 설정하여 나머지 데이터는 정상 반환
-                     response.setDogProfileImage(null);
+             for (AttendanceListResponse response : attendanceList) {
+                 String profileImageKey = response.getDogProfileImage();
+                 if (profileImageKey != null && !profileImageKey.isBlank()) {
+                     response.setDogProfileImage(presignedUrls.get(profileImageKey));
                  }
              }
-
-             return response;
+             return attendanceList;
          }
 
          /**
@@ -70,5 +68,8 @@ package com.mungtrainer.mtserver.training.service;
              if (updatedCount == 0) {
                throw new CustomException(ErrorCode.ATTENDANCE_UPDATE_FAILED);
              }
+
+             // 출석률이 바뀌므로 반려견 통계 캐시 무효화
+             dogStatsCache.invalidateDogAfterCommit(trainingAttendanceMapper.findDogIdByAttendanceId(attendanceId));
          }
      }
\ No newline at end of file
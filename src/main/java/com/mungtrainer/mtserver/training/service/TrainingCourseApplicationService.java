@@ -3,9 +3,8 @@ package com.mungtrainer.mtserver.training.service;
 import com.mungtrainer.mtserver.common.exception.CustomException;
 import com.mungtrainer.mtserver.common.exception.ErrorCode;
 import com.mungtrainer.mtserver.common.s3.S3Service;
-import com.mungtrainer.mtserver.counseling.dao.TrainerUserDAO;
+import com.mungtrainer.mtserver.counseling.service.DogStatsCache;
 import com.mungtrainer.mtserver.training.dao.ApplicationDAO;
-import com.mungtrainer.mtserver.training.dao.TrainingAttendanceDAO;
 import com.mungtrainer.mtserver.training.dao.TrainingSessionDAO;
 import com.mungtrainer.mtserver.training.dto.request.ApplicationCancelRequest;
 import com.mungtrainer.mtserver.training.dto.request.ApplicationRequest;
@@ -13,9 +12,11 @@ import com.mungtrainer.mtserver.order.dto.request.WishlistApplyRequest;
 import com.mungtrainer.mtserver.training.dto.response.ApplicationListViewResponse;
 import com.mungtrainer.mtserver.training.dto.response.ApplicationRawData;
 import com.mungtrainer.mtserver.training.dto.response.ApplicationResponse;
+import com.mungtrainer.mtserver.training.dto.response.ApplicationSessionRef;
 import com.mungtrainer.mtserver.training.dto.response.ApplicationStatusResponse;
+import com.mungtrainer.mtserver.training.dto.response.SessionApplyCheck;
+import com.mungtrainer.mtserver.training.dto.response.WaitingPromotionResult;
 import com.mungtrainer.mtserver.training.entity.TrainingCourseApplication;
-import com.mungtrainer.mtserver.training.entity.TrainingSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -35,9 +36,11 @@ public class TrainingCourseApplicationService {
 
     private final ApplicationDAO applicationDao;
     private final S3Service s3Service;
-    private final TrainerUserDAO trainerUserDao;
-    private final TrainingAttendanceDAO trainingAttendanceDao;
     private final TrainingSessionDAO trainingSessionDao;
+    private final WaitingQueueIndex waitingQueueIndex;
+    private final WaitingPromotionService waitingPromotionService;
+    private final SessionSeatService sessionSeatService;
+    private final DogStatsCache dogStatsCache;
 
     /**
      * 수업 시작 마감 시간 (시간)
@@ -59,45 +62,33 @@ public class TrainingCourseApplicationService {
                 .build();
     }
 
-    // 상태 갱신용 private 메서드
-    private void updateApplicationStatusIfExpired(TrainingCourseApplication app) {
-        TrainingSession session = applicationDao.findSessionById(app.getSessionId());
-        LocalDateTime sessionEnd = LocalDateTime.of(session.getSessionDate(), session.getEndTime());
-
-        // 신청 상태 만료 처리
-        if ("DONE".equals(session.getStatus()) &&
-                Arrays.asList("APPLIED", "WAITING", "COUNSELING_REQUIRED", "ACCEPT").contains(app.getStatus()) &&
-                !"EXPIRED".equals(app.getStatus())) {   // 이미 EXPIRED면 건너뜀
-            applicationDao.updateApplicationStatusIfNotExpired(app.getApplicationId(), "EXPIRED");
-            app.setStatus("EXPIRED");
-        }
-    }
-    @Transactional
     // 신청 리스트 조회
+    // 종료된 세션의 미완료 신청은 쿼리에서 EXPIRED로 계산 (조회 시 상태를 저장하지 않음)
+    @Transactional(readOnly = true)
     public List<ApplicationResponse> getApplicationsByUserId(Long userId) {
-        List<TrainingCourseApplication> applicationList = applicationDao.findByUserId(userId);
-        // 상태 갱신
-        for (TrainingCourseApplication app : applicationList) {
-            updateApplicationStatusIfExpired(app);
-        }
-        return applicationList.stream()
+        return applicationDao.findByUserId(userId).stream()
                 .map(this::toResponse)
                 .collect(Collectors.toList());
     }
 
     // 신청내역 리스트 (카드용)
+    @Transactional(readOnly = true)
     public List<ApplicationListViewResponse> getApplicationListView(Long userId) {
-        // 상태 갱신
-        List<TrainingCourseApplication> applications = applicationDao.findByUserId(userId);
-
-        for (TrainingCourseApplication app : applications) {
-            updateApplicationStatusIfExpired(app);
-        }
-
-        // 1. DAO에서 세션별 Raw Data 조회
+        // 1. DAO에서 세션별 Raw Data 조회 (만료 상태는 쿼리에서 계산)
         List<ApplicationRawData> rawDataList = applicationDao.findApplicationListViewByUserId(userId);
         if (rawDataList == null || rawDataList.isEmpty()) return Collections.emptyList();
 
+        // 대기 순번 조회 (WAITING 신청이 있는 세션만)
+        Map<Long, Integer> waitingPositions = waitingQueueIndex.getPositions(rawDataList.stream()
+                .filter(data -> "WAITING".equals(data.getApplicationStatus()))
+                .map(ApplicationRawData::getSessionId)
+                .collect(Collectors.toSet()));
+        rawDataList.forEach(data -> {
+            if ("WAITING".equals(data.getApplicationStatus())) {
+                data.setWaitingOrder(waitingPositions.get(data.getApplicationId()));
+            }
+        });
+
         // 2. 과정(courseId + dogId) 단위로 그룹핑
         Map<String, List<ApplicationRawData>> groupedByCourseAndDog = rawDataList.stream()
                 .collect(Collectors.groupingBy(
@@ -113,16 +104,8 @@ public class TrainingCourseApplicationService {
                 .distinct()
                 .collect(Collectors.toList());
 
-        // 4. Presigned URL 발급 + key → URL 매핑
-        Map<String, String> imageUrlMap = new HashMap<>();
-        if (!imageKeys.isEmpty()) {
-            for (String key : imageKeys) {
-                List<String> urls = s3Service.generateDownloadPresignedUrls(Collections.singletonList(key));
-                if (urls != null && !urls.isEmpty() && urls.get(0) != null && !urls.get(0).isEmpty()) {
-                    imageUrlMap.put(key, urls.get(0));
-                }
-            }
-        }
+        // 4. Presigned URL 일괄 발급 (key → URL 매핑)
+        Map<String, String> imageUrlMap = s3Service.generateDownloadPresignedUrlMap(imageKeys);
 
         // 5. 과정 단위로 ApplicationListViewResponse 생성
         List<ApplicationListViewResponse> result = groupedByCourseAndDog.values().stream()
@@ -248,55 +231,26 @@ public class TrainingCourseApplicationService {
             throw new CustomException(ErrorCode.COURSE_CANCELLED);
         }
 
-        // 3. 코스에 속한 세션 조회
-        List<TrainingSession> sessions = applicationDao.findSessionsByCourseId(courseId);
+        // 3. 세션별 사전 검증 정보 조회 (중복 신청, 승인 인원, 상담 완료 여부를 한 번의 쿼리로)
+        List<SessionApplyCheck> sessions = applicationDao.findSessionApplyChecks(courseId, request.getDogId());
         if (sessions.isEmpty()) {
             throw new CustomException(ErrorCode.APPLICATION_NOT_FOUND);
         }
 
-        List<ApplicationResponse> createdApplications = new ArrayList<>();
-
-        // 4. 각 세션별 신청 처리
-        for (TrainingSession session : sessions) {
-            Long sessionId = session.getSessionId();
-
-            // ========================================
-            // 수업 시작 마감 시간 검증
-            // ========================================
-            LocalDateTime sessionStart = LocalDateTime.of(
-                session.getSessionDate(),
-                session.getStartTime()
-            );
-            LocalDateTime deadline = sessionStart.minusHours(sessionDeadlineHours);
-
-            if (LocalDateTime.now().isAfter(deadline)) {
-                // 다회차의 경우 일부 회차만 마감되어도 전체 신청 불가
-                log.warn("수업 마감 시간 초과 - 회차: {}, 마감 시간: {}",
-                    session.getSessionNo(),
-                    deadline.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")));
-                throw new CustomException(ErrorCode.SESSION_DEADLINE_PASSED);
-            }
-            // ========================================
-
-            // 중복 신청 체크
-            boolean exists = applicationDao.existsByDogAndSession(request.getDogId(), sessionId);
-            if (exists) {
-                throw new CustomException(ErrorCode.DUPLICATE_APPLICATION);
-            }
+        // 4. 각 세션별 검증 및 상태 결정 (DB 접근 없음)
+        List<TrainingCourseApplication> applications = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (SessionApplyCheck session : sessions) {
 
-            // 세션 정원 및 현재 승인된 신청 인원 확인 (ACCEPTED, PAID만 카운트)
-            int maxStudent = session.getMaxStudents(); // 세션 엔티티에서 직접 가져오기
-            int currentAcceptedCount = applicationDao.countAcceptedApplications(sessionId);
+            // 수업 시작 마감 시간 검증 + 중복 신청 체크
+            validateSession(session, now);
 
-            // 상담 완료 여부 확인
-            boolean hasCounselingCompleted = applicationDao.findCounselingByDogID(request.getDogId());
-
-            // 상태 결정 로직
+            // 상태 결정 로직 (정원은 ACCEPT, PAID만 카운트)
             String status;
-            if (currentAcceptedCount >= maxStudent) {
+            if (session.getAcceptedCount() >= session.getMaxStudents()) {
                 // 정원 초과 -> WAITING
                 status = "WAITING";
-            } else if (!hasCounselingCompleted) {
+            } else if (!Boolean.TRUE.equals(session.getCounselingCompleted())) {
                 // 상담 미완료 -> COUNSELING_REQUIRED
                 status = "COUNSELING_REQUIRED";
             } else {
@@ -305,33 +259,82 @@ public class TrainingCourseApplicationService {
             }
 
             // 신청 엔티티 생성
-            TrainingCourseApplication created = TrainingCourseApplication.builder()
-                    .sessionId(sessionId)
-                    .dogId(request.getDogId())
-                    .appliedAt(LocalDateTime.now())
-                    .status(status)
-                    .createdBy(userId)
-                    .updatedBy(userId)
-                    .createdAt(LocalDateTime.now())
-                    .updatedAt(LocalDateTime.now())
-                    .build();
-
-            int rows = applicationDao.insertApplication(created);
-            if (rows != 1) {
-                throw new CustomException(ErrorCode.APPLICATION_CREATION_FAILED);
-            }
+            applications.add(newApplication(userId, request.getDogId(), session.getSessionId(), status, now));
+        }
 
-            // WAITING 상태일 경우 waiting 테이블에 등록
-            if ("WAITING".equals(status)) {
-                applicationDao.insertWaiting(created.getApplicationId(), userId);
-            }
+        // 5. 신청 일괄 생성 + WAITING 신청 대기열 등록
+        List<ApplicationResponse> createdApplications = insertApplications(userId, applications);
 
-            createdApplications.add(toResponse(created));
-        }
+        // 반려견 통계의 신청 이력이 바뀌므로 캐시 무효화
+        dogStatsCache.invalidateDogAfterCommit(request.getDogId());
 
         return createdApplications;
     }
 
+    /**
+     * 세션 신청 가능 여부 검증 (수업 시작 마감 시간, 중복 신청)
+     */
+    private void validateSession(SessionApplyCheck session, LocalDateTime now) {
+        LocalDateTime sessionStart = LocalDateTime.of(
+            session.getSessionDate(),
+            session.getStartTime()
+        );
+        LocalDateTime deadline = sessionStart.minusHours(sessionDeadlineHours);
+
+        if (now.isAfter(deadline)) {
+            // 다회차의 경우 일부 회차만 마감되어도 전체 신청 불가
+            log.warn("수업 마감 시간 초과 - 회차: {}, 마감 시간: {}",
+                session.getSessionNo(),
+                deadline.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")));
+            throw new CustomException(ErrorCode.SESSION_DEADLINE_PASSED);
+        }
+
+        if (Boolean.TRUE.equals(session.getAlreadyApplied())) {
+            throw new CustomException(ErrorCode.DUPLICATE_APPLICATION);
+        }
+    }
+
+    private TrainingCourseApplication newApplication(Long userId, Long dogId, Long sessionId, String status,
+                                                     LocalDateTime now) {
+        return TrainingCourseApplication.builder()
+                .sessionId(sessionId)
+                .dogId(dogId)
+                .appliedAt(now)
+                .status(status)
+                .createdBy(userId)
+                .updatedBy(userId)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    /**
+     * 신청 일괄 생성 (multi-row INSERT 1회) + WAITING 신청은 waiting 테이블에 일괄 등록
+     */
+    private List<ApplicationResponse> insertApplications(Long userId, List<TrainingCourseApplication> applications) {
+        // 생성 키는 각 엔티티에 채워짐
+        int rows = applicationDao.insertApplications(applications);
+        if (rows != applications.size()) {
+            throw new CustomException(ErrorCode.APPLICATION_CREATION_FAILED);
+        }
+
+        List<TrainingCourseApplication> waitings = applications.stream()
+                .filter(app -> "WAITING".equals(app.getStatus()))
+                .toList();
+        if (!waitings.isEmpty()) {
+            applicationDao.insertWaitings(waitings.stream()
+                    .map(TrainingCourseApplication::getApplicationId)
+                    .toList(), userId);
+            waitingQueueIndex.invalidateAfterCommit(waitings.stream()
+                    .map(TrainingCourseApplication::getSessionId)
+                    .collect(Collectors.toSet()));
+        }
+
+        return applications.stream()
+                .map(this::toResponse)
+                .collect(Collectors.toList());
+    }
+
     /**
      * 신청 취소 및 대기자 자동 승격
      *
@@ -349,54 +352,25 @@ public class TrainingCourseApplicationService {
         if (!application.getCreatedBy().equals(userId)) {
             throw new CustomException(ErrorCode.UNAUTHORIZED_APPLICATION);
         }
-        // 신청 취소
+        // 신청 취소 (좌석을 차지한 신청이면 잠가 두고 취소 후 좌석 반환)
+        List<ApplicationSessionRef> seatHolders = sessionSeatService.lockSeatHolders(List.of(applicationId));
         applicationDao.updateApplicationStatus(applicationId, "CANCELLED");
+        sessionSeatService.release(seatHolders);
+        dogStatsCache.invalidateDogAfterCommit(application.getDogId());
 
         // WAITING 상태였다면 waiting 테이블도 업데이트
         String currentStatus = application.getStatus();
         if ("WAITING".equals(currentStatus)) {
             applicationDao.updateWaitingStatus(applicationId, "CANCELLED");
+            waitingQueueIndex.invalidateAfterCommit(application.getSessionId());
             // WAITING 상태 취소는 대기자 승격 없이 종료
             return;
         }
 
 
-        // 대기자 목록 조회
-        Long sessionId = application.getSessionId();
-        List<Long> waitingList = applicationDao.findWaitingBySessionId(sessionId);
-
-      // 대기자 자동 승격 - WAITING은 이미 트레이너가 승인한 상태이므로 ACCEPT로 바로 변경
-      if (waitingList != null && !waitingList.isEmpty()) {
-        Long nextApplicationId = waitingList.get(0); // 첫번째 대기자 applicationId
-
-        // 1. 신청 상태 변경: WAITING → ACCEPT
-        trainerUserDao.updateApplicationStatusSimple(nextApplicationId, "ACCEPT");
-        trainerUserDao.updateWaitingStatus(nextApplicationId, "PROMOTED");
-
-        // 2. 출석 정보 생성 (필수)
-        // 중요: 출석 정보가 없으면 이후 출석 관리, 수료 처리 등 비즈니스 로직에서
-        //          데이터 불일치 문제가 발생합니다.
-        //          따라서 출석 정보 생성 실패 시 CustomException을 발생시켜
-        //          전체 트랜잭션을 롤백합니다 (취소도 함께 취소됨).
-        try {
-          int inserted = trainingAttendanceDao.insertAttendanceByApplicationId(nextApplicationId, userId);
-
-          if (inserted == 0) {
-            log.error("출석 정보 생성 실패 (0건 삽입) - applicationId: {}", nextApplicationId);
-            throw new CustomException(ErrorCode.ATTENDANCE_CREATION_FAILED);
-          }
-
-          log.info("대기자 승격 완료 - applicationId: {}, 출석 정보 생성 완료", nextApplicationId);
-
-        } catch (CustomException e) {
-          // CustomException은 그대로 던져서 트랜잭션 롤백
-          throw e;
-        } catch (Exception e) {
-          // 기타 예외는 CustomException으로 래핑하여 트랜잭션 롤백
-          log.error("취소 후 대기자 승격 시 출석 정보 생성 실패 - applicationId: {}", nextApplicationId, e);
-          throw new CustomException(ErrorCode.ATTENDANCE_CREATION_FAILED);
-        }
-      }
+        // 대기자 자동 승격 - WAITING은 이미 트레이너가 승인한 상태이므로 ACCEPT로 바로 변경
+        // 출석 정보 생성 실패 시 예외가 전파되어 취소도 함께 롤백됩니다.
+        waitingPromotionService.promote(List.of(application.getSessionId()), userId);
     }
     /**
      * 여러 신청 일괄 취소 및 대기자 자동 승격 (applicationId 기반)
@@ -441,133 +415,90 @@ public class TrainingCourseApplicationService {
 
         log.info("취소 가능한 신청 확인 완료 - {} 건", apps.size());
 
-        // 3️⃣ session 단위 그룹핑 (대기자 승격용)
-        Map<Long, List<Long>> sessionMap = new HashMap<>();
-
-        for (TrainingCourseApplication app : apps) {
-            sessionMap
-                    .computeIfAbsent(app.getSessionId(), k -> new ArrayList<>())
-                    .add(app.getApplicationId());
-        }
-
-        // 4️⃣ 세션별 취소 + 대기자 승격
-        for (Map.Entry<Long, List<Long>> entry : sessionMap.entrySet()) {
-            Long sessionId = entry.getKey();
-            List<Long> appIds = entry.getValue();
-
-            // 신청 취소
-            applicationDao.updateApplicationStatusBatch(appIds, "CANCELLED");
-            applicationDao.updateWaitingStatusBatch(appIds, "CANCELLED");
-
-            // 대기자 승격 (새 로직: WAITING → ACCEPT)
-            List<Long> waitingList = applicationDao.findWaitingBySessionId(sessionId);
-
-            // 취소된 인원만큼 대기자 승격
-            int promotionCount = Math.min(appIds.size(), waitingList.size());
-
-            if (promotionCount > 0) {
-                // 승격할 대기자 ID 목록
-                List<Long> promotedApplicationIds = waitingList.subList(0, promotionCount);
-
-                // 1. 신청 상태 일괄 변경: WAITING → ACCEPT
-                for (Long nextApplicationId : promotedApplicationIds) {
-                    trainerUserDao.updateApplicationStatusSimple(nextApplicationId, "ACCEPT");
-                    trainerUserDao.updateWaitingStatus(nextApplicationId, "PROMOTED");
-                }
-
-                // 2. 출석 정보 일괄 생성 (필수)
-                // 중요: 출석 정보 생성 실패 시 CustomException을 발생시켜
-                //          전체 트랜잭션을 롤백합니다 (일괄 취소도 함께 취소됨).
-                try {
-                    int inserted = trainingAttendanceDao.insertAttendanceByApplicationIds(promotedApplicationIds, userId);
-
-                    if (inserted != promotionCount) {
-                        log.error("출석 정보 생성 실패 - 예상: {}, 실제: {}", promotionCount, inserted);
-                        throw new CustomException(ErrorCode.ATTENDANCE_CREATION_FAILED);
-                    }
-
-                    log.info("일괄 취소 후 대기자 {}명 승격 완료 - applicationIds: {}", promotionCount, promotedApplicationIds);
-
-                } catch (CustomException e) {
-                    throw e;
-                } catch (Exception e) {
-                    log.error("일괄 취소 후 대기자 승격 시 출석 정보 생성 실패", e);
-                    throw new CustomException(ErrorCode.ATTENDANCE_CREATION_FAILED);
-                }
-            }
-        }
+        // 3️⃣ 자리가 생기는 세션 수집 (대기자 승격용)
+        Set<Long> sessionIds = apps.stream()
+                .map(TrainingCourseApplication::getSessionId)
+                .collect(Collectors.toSet());
+
+        // 4️⃣ 신청 일괄 취소
+        List<Long> cancelIds = apps.stream()
+                .map(TrainingCourseApplication::getApplicationId)
+                .toList();
+        List<ApplicationSessionRef> seatHolders = sessionSeatService.lockSeatHolders(cancelIds);
+        applicationDao.updateApplicationStatusBatch(cancelIds, "CANCELLED");
+        applicationDao.updateWaitingStatusBatch(cancelIds, "CANCELLED");
+        // ACCEPT 신청이 비운 좌석 반환
+        sessionSeatService.release(seatHolders);
+        waitingQueueIndex.invalidateAfterCommit(sessionIds);
+        dogStatsCache.invalidateDogsAfterCommit(apps.stream()
+                .map(TrainingCourseApplication::getDogId)
+                .toList());
+
+        // 5️⃣ 대기자 일괄 승격 (새 로직: WAITING → ACCEPT, 세션별 빈 자리만큼)
+        // 출석 정보 생성 실패 시 예외가 전파되어 일괄 취소도 함께 롤백됩니다.
+        WaitingPromotionResult promotion = waitingPromotionService.promote(sessionIds, userId);
+        log.info("일괄 취소 후 대기자 {}명 승격 완료 - applicationIds: {}",
+                promotion.getPromotedCount(), promotion.getPromotedApplicationIds());
     }
-    // wishlist에서 신청으로 가는 로직
+    /**
+     * 장바구니 항목 일괄 신청
+     *
+     * <p>과정 신청과 같은 흐름으로 처리합니다. 항목(과정)마다 사전 검증 쿼리 1회,
+     * 전체 신청은 multi-row INSERT 1회, WAITING 등록과 장바구니 상태 변경도 각각 1회입니다.
+     * 장바구니 신청은 상담이 끝난 반려견만 가능하므로 상담 미완료면 COUNSELING_REQUIRED 상태 대신 예외를 던집니다.</p>
+     */
     @Transactional
     public List<ApplicationResponse> applyWishlistCourses(Long userId, List<WishlistApplyRequest> requests) {
-        List<ApplicationResponse> createdApplications = new ArrayList<>();
+        if (requests == null || requests.isEmpty()) {
+            return List.of();
+        }
 
+        // 1. 반려견 소유 확인 (반려견별 1회)
+        Set<Long> dogIds = new LinkedHashSet<>();
         for (WishlistApplyRequest req : requests) {
-            Long wishlistItemId = req.getWishlistItemId();
-            Long dogId = req.getDogId();
-            Long courseId = req.getCourseId();
-
-            // 1. 소유 확인
-            Long ownerId = applicationDao.findOwnerByDogId(dogId);
-            if (!userId.equals(ownerId)) {
-                throw new CustomException(ErrorCode.UNAUTHORIZED_APPLICATION);
+            if (dogIds.add(req.getDogId())) {
+                Long ownerId = applicationDao.findOwnerByDogId(req.getDogId());
+                if (!userId.equals(ownerId)) {
+                    throw new CustomException(ErrorCode.UNAUTHORIZED_APPLICATION);
+                }
             }
+        }
 
-            // 2. 세션 조회
-            List<TrainingSession> sessions = applicationDao.findSessionsByCourseId(courseId);
+        // 2. 항목별 세션 사전 검증 (중복 신청, 승인 인원, 상담 완료 여부를 과정당 한 번의 쿼리로)
+        List<TrainingCourseApplication> applications = new ArrayList<>();
+        Set<List<Long>> dogSessions = new HashSet<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (WishlistApplyRequest req : requests) {
+            List<SessionApplyCheck> sessions = applicationDao.findSessionApplyChecks(req.getCourseId(), req.getDogId());
             if (sessions.isEmpty()) {
                 throw new CustomException(ErrorCode.APPLICATION_NOT_FOUND);
             }
 
-            // 3. 각 세션별 신청 처리
-            for (TrainingSession session : sessions) {
-                Long sessionId = session.getSessionId();
-                boolean exists = applicationDao.existsByDogAndSession(dogId, sessionId);
-                if (exists) {
+            for (SessionApplyCheck session : sessions) {
+                validateSession(session, now);
+                // 같은 요청 안에서 같은 (반려견, 세션)이 두 번 들어온 경우
+                if (!dogSessions.add(List.of(req.getDogId(), session.getSessionId()))) {
                     throw new CustomException(ErrorCode.DUPLICATE_APPLICATION);
                 }
-                boolean hasCounselingCompleted = applicationDao.findCounselingByDogID(dogId);
-                if (!hasCounselingCompleted) {
+                if (!Boolean.TRUE.equals(session.getCounselingCompleted())) {
                     throw new CustomException(ErrorCode.COUNSELING_REQUIRED);
                 }
-                int maxStudent = applicationDao.getMaxStudentsBySessionId(sessionId);
-                int currentCount = applicationDao.countApplicationBySessionId(sessionId);
-
-
-                String status;
-                if (currentCount >= maxStudent) {
-                    status = "WAITING";
-                } else {
-                    status = "APPLIED";
-                }
 
-                TrainingCourseApplication created = TrainingCourseApplication.builder()
-                        .sessionId(sessionId)
-                        .dogId(dogId)
-                        .appliedAt(LocalDateTime.now())
-                        .status(status)
-                        .createdBy(userId)
-                        .updatedBy(userId)
-                        .createdAt(LocalDateTime.now())
-                        .updatedAt(LocalDateTime.now())
-                        .build();
-
-                int rows = applicationDao.insertApplication(created);
-                if (rows != 1) throw new CustomException(ErrorCode.APPLICATION_CREATION_FAILED);
-
-                if ("WAITING".equals(status)) {
-                    applicationDao.insertWaiting(created.getApplicationId(), userId);
-                }
-
-                createdApplications.add(toResponse(created));
+                // 정원은 좌석 카운터(ACCEPT, PAID)로 판단, 좌석은 트레이너 승인 시 확보
+                String status = session.getAcceptedCount() >= session.getMaxStudents() ? "WAITING" : "APPLIED";
+                applications.add(newApplication(userId, req.getDogId(), session.getSessionId(), status, now));
             }
-
-            // 4. 장바구니 상태 업데이트
-            applicationDao.updateWishlistDetailStatus(wishlistItemId, "ORDERED");
         }
 
+        // 3. 신청 일괄 생성 + WAITING 신청 대기열 등록
+        List<ApplicationResponse> createdApplications = insertApplications(userId, applications);
+
+        // 4. 장바구니 상태 일괄 업데이트
+        applicationDao.updateWishlistDetailStatusBatch(requests.stream()
+                .map(WishlistApplyRequest::getWishlistItemId)
+                .toList(), "ORDERED");
+        dogStatsCache.invalidateDogsAfterCommit(dogIds);
+
         return createdApplications;
     }
 }
-
-
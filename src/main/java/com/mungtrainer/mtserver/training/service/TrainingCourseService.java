@@ -8,18 +8,26 @@ import com.mungtrainer.mtserver.counseling.dao.TrainerUserDAO;
 import com.mungtrainer.mtserver.training.dao.TrainingCourseDao;
 import com.mungtrainer.mtserver.training.dao.TrainingSessionDAO;
 import com.mungtrainer.mtserver.training.dto.request.CourseSearchRequest;
+import com.mungtrainer.mtserver.training.dto.response.CalendarDaySummaryDto;
 import com.mungtrainer.mtserver.training.dto.response.CalendarResponse;
 import com.mungtrainer.mtserver.training.dto.response.CalendarSessionDateDto;
+import com.mungtrainer.mtserver.training.dto.response.CalendarSummaryResponse;
 import com.mungtrainer.mtserver.training.dto.response.CourseSearchItemDto;
 import com.mungtrainer.mtserver.training.dto.response.CourseSearchResponse;
+import com.mungtrainer.mtserver.training.dto.response.CourseSessionSummaryDto;
 import com.mungtrainer.mtserver.training.dto.response.TrainingCourseResponse;
 import com.mungtrainer.mtserver.training.entity.TrainingCourse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Arrays;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -29,6 +37,23 @@ public class TrainingCourseService {
     private final TrainerUserDAO trainerUserDAO;
     private final S3Service s3Service;
     private final TrainingSessionDAO trainingSessionDAO;
+    private final CourseCatalogIndex courseCatalogIndex;
+    private final CalendarSummaryService calendarSummaryService;
+
+    // BOOLEAN MODE 연산자 및 구문 구분 문자
+    private static final Pattern FULLTEXT_OPERATORS = Pattern.compile("[+\\-<>()~*\"@]");
+
+    /**
+     * 전문 검색 사용 여부 (FULLTEXT ngram 인덱스 필요, docs/COURSE_SEARCH.md 참고)
+     */
+    @Value("${course.search.fulltext.enabled:true}")
+    private boolean fulltextEnabled;
+
+    /**
+     * ngram_token_size (이보다 짧은 단어는 LIKE 검색)
+     */
+    @Value("${course.search.fulltext.min-token-length:2}")
+    private int fulltextMinTokenLength;
 
     public TrainingCourseResponse getCourseById(Long courseId){
         TrainingCourse trainingCourse = trainingCourseDao.findByCourseId(courseId);
@@ -90,17 +115,24 @@ public class TrainingCourseService {
     public CourseSearchResponse searchCourses(CourseSearchRequest request, CustomUserDetails userDetails) {
         // 역할에 따른 trainerId 설정
         Long trainerId = determineTrainerId(userDetails);
+        String fulltextQuery = toFulltextQuery(request.getKeyword());
 
-        // size + 1개 조회하여 다음 페이지 존재 여부 확인
+        // size + 1개 조회하여 다음 페이지 존재 여부 확인 (과정당 1행이므로 행 수 = 과정 수)
         CourseSearchRequest searchRequest = CourseSearchRequest.builder()
                 .keyword(request.getKeyword())
                 .lastCourseId(request.getLastCourseId())
+                .lastScore(request.getLastScore())
                 .size(request.getSize() + 1)
                 .trainerId(trainerId)
                 .lessonForm(request.getLessonForm())
+                .fulltextQuery(fulltextQuery)
                 .build();
 
-        List<CourseSearchItemDto> courses = trainingCourseDao.searchCourses(searchRequest);
+        // 관련도 검색(FULLTEXT)만 DB에서 수행하고, 그 외 검색은 카탈로그 인덱스에서 조회
+        List<CourseSearchItemDto> courses = fulltextQuery == null && courseCatalogIndex.isEnabled()
+                ? courseCatalogIndex.search(trainerId, request.getKeyword(), request.getLessonForm(),
+                        request.getLastCourseId(), request.getSize() + 1)
+                : trainingCourseDao.searchCourses(searchRequest);
 
         // 다음 페이지 존재 여부 확인
         boolean hasMore = courses.size() > request.getSize();
@@ -108,29 +140,79 @@ public class TrainingCourseService {
             courses = courses.subList(0, request.getSize());
         }
 
-      // S3 Presigned URL 생성 (기존 DTO를 재사용하면서 mainImage만 수정)
+        // 페이지에 포함된 과정의 세션 요약만 한 번에 조회
+        if (!courses.isEmpty()) {
+            List<Long> courseIds = courses.stream().map(CourseSearchItemDto::getCourseId).toList();
+            Map<Long, CourseSessionSummaryDto> summaries = courseCatalogIndex.isEnabled()
+                    ? courseCatalogIndex.getSessionSummaries(trainerId, courseIds)
+                    : trainingCourseDao.findSessionSummaries(courseIds).stream()
+                            .collect(Collectors.toMap(CourseSessionSummaryDto::getCourseId, Function.identity()));
+            for (CourseSearchItemDto course : courses) {
+                CourseSessionSummaryDto summary = summaries.get(course.getCourseId());
+                course.setSessionCount(summary != null ? summary.getSessionCount() : 0);
+                if (summary != null) {
+                    course.setSession(summary.getSession());
+                    course.setFirstSessionDate(summary.getFirstSessionDate());
+                    course.setLastSessionDate(summary.getLastSessionDate());
+                    course.setMaxPrice(summary.getMaxPrice());
+                }
+            }
+        }
+
+      // S3 Presigned URL 일괄 생성 (기존 DTO를 재사용하면서 mainImage만 수정)
+      Map<String, String> presignedUrls = s3Service.generateDownloadPresignedUrlMap(
+          courses.stream().map(CourseSearchItemDto::getMainImage).toList());
       for (CourseSearchItemDto course : courses) {
-        String presignedUrl = course.getMainImage();
-        if (course.getMainImage() != null && !course.getMainImage().isBlank()) {
-          presignedUrl = s3Service.generateDownloadPresignedUrl(course.getMainImage());
+        String mainImage = course.getMainImage();
+        if (mainImage != null && !mainImage.isBlank()) {
+          course.setMainImage(presignedUrls.get(mainImage));
         }
-        course.setMainImage(presignedUrl);
       }
-      List<CourseSearchItemDto> coursesWithPresignedUrl = courses;
 
-        // 마지막 courseId 추출
-        Long lastCourseId = coursesWithPresignedUrl.isEmpty()
-                ? null
-                : coursesWithPresignedUrl.get(coursesWithPresignedUrl.size() - 1).getCourseId();
+        // 다음 요청에 사용할 커서 (전문 검색: score + courseId, LIKE 검색: courseId)
+        CourseSearchItemDto last = courses.isEmpty() ? null : courses.get(courses.size() - 1);
 
         return CourseSearchResponse.builder()
-                .courses(coursesWithPresignedUrl)
+                .courses(courses)
                 .hasMore(hasMore)
-                .lastCourseId(lastCourseId)
-                .size(coursesWithPresignedUrl.size())
+                .lastCourseId(last != null ? last.getCourseId() : null)
+                .lastScore(last != null ? last.getScore() : null)
+                .size(courses.size())
                 .build();
     }
 
+    /**
+     * 키워드를 FULLTEXT BOOLEAN MODE 검색식으로 변환 (전문 검색 비활성화 시 null)
+     */
+    private String toFulltextQuery(String keyword) {
+        return fulltextEnabled ? toFulltextQuery(keyword, fulltextMinTokenLength) : null;
+    }
+
+    /**
+     * 키워드 전체를 하나의 구문 +"키워드"로 변환
+     *
+     * <p>기존 LIKE 검색(title/tags에 키워드 전체 포함)과 같은 의미가 되도록 단어를 나누지 않고 구문으로 검색하며,
+     * 매퍼에서 같은 LIKE 조건으로 한 번 더 거릅니다.
+     * 검색 연산자 문자는 제거하고, ngram 토큰보다 짧은 단어가 있으면 전문 검색으로 찾을 수 없으므로 null(LIKE 검색)을 반환합니다.</p>
+     */
+    static String toFulltextQuery(String keyword, int minTokenLength) {
+        if (keyword == null || keyword.isBlank()) {
+            return null;
+        }
+        StringBuilder phrase = new StringBuilder();
+        for (String term : keyword.trim().split("\\s+")) {
+            String cleaned = FULLTEXT_OPERATORS.matcher(term).replaceAll("");
+            if (cleaned.length() < minTokenLength) {
+                return null;
+            }
+            if (phrase.length() > 0) {
+                phrase.append(' ');
+            }
+            phrase.append(cleaned);
+        }
+        return "+\"" + phrase + '"';
+    }
+
     /**
      * 사용자 역할에 따른 trainerId 결정
      *
@@ -177,9 +259,20 @@ public class TrainingCourseService {
         // 역할에 따른 trainerId 설정
         Long trainerId = determineTrainerId(userDetails);
 
-        // 세션 날짜 목록 조회
-        List<CalendarSessionDateDto> sessionDates = trainingSessionDAO.findSessionDatesByPeriod(
-                startDate, endDate, trainerId, keyword, lessonForm);
+        // 세션 날짜 목록 조회 (키워드가 없으면 날짜 요약 테이블에서 조회)
+        List<CalendarSessionDateDto> sessionDates;
+        if (calendarSummaryService.isEnabled() && (keyword == null || keyword.isBlank())) {
+            sessionDates = calendarSummaryService.getDays(trainerId, startDate, endDate, lessonForm).stream()
+                    .map(day -> CalendarSessionDateDto.builder()
+                            .sessionDate(day.getSessionDate())
+                            .sessionCount(day.getSessionCount())
+                            .build())
+                    .toList();
+        } else if (courseCatalogIndex.isEnabled()) {
+            sessionDates = courseCatalogIndex.findSessionDates(trainerId, startDate, endDate, keyword, lessonForm);
+        } else {
+            sessionDates = trainingSessionDAO.findSessionDatesByPeriod(startDate, endDate, trainerId, keyword, lessonForm);
+        }
 
         return CalendarResponse.builder()
                 .sessionDates(sessionDates)
@@ -205,17 +298,7 @@ public class TrainingCourseService {
         // 역할에 따른 trainerId 설정
         Long trainerId = determineTrainerId(userDetails);
 
-        // 특정 날짜의 코스 목록 조회
-        List<CourseSearchItemDto> courses = trainingCourseDao.findCoursesByDate(
-                date, trainerId, keyword, lessonForm);
-
-        // S3 Presigned URL 생성
-        for (CourseSearchItemDto course : courses) {
-          String mainImage = course.getMainImage();
-          if (mainImage != null && !mainImage.isBlank()) {
-            course.setMainImage(s3Service.generateDownloadPresignedUrl(mainImage));
-          }
-        }
+        List<CourseSearchItemDto> courses = findCoursesOnDate(trainerId, date, keyword, lessonForm);
 
         return CourseSearchResponse.builder()
                 .courses(courses)
@@ -224,4 +307,79 @@ public class TrainingCourseService {
                 .size(courses.size())
                 .build();
     }
+
+    /**
+     * 달력 요약 조회 (기간의 날짜별 요약 + 선택한 날짜의 코스 목록을 한 번에)
+     *
+     * <p>달력 탭 진입 시 월 화면과 선택한 날짜의 목록을 한 요청으로 그립니다.
+     * 날짜별 요약은 trainer_calendar_day에서 읽으며, 요약 테이블을 쓰지 않는 환경에서는
+     * 기존 세션 날짜 조회로 세션 수만 채웁니다.</p>
+     *
+     * @param startDate 시작 날짜
+     * @param endDate 종료 날짜
+     * @param date 목록을 함께 조회할 날짜 (선택)
+     * @param userDetails 인증된 사용자 정보
+     * @param lessonForm 수업 형태 필터
+     * @return 달력 요약 응답
+     */
+    public CalendarSummaryResponse getCalendarSummary(
+            LocalDate startDate,
+            LocalDate endDate,
+            LocalDate date,
+            CustomUserDetails userDetails,
+            String lessonForm) {
+
+        // 역할에 따른 trainerId 설정
+        Long trainerId = determineTrainerId(userDetails);
+
+        List<CalendarDaySummaryDto> days;
+        if (calendarSummaryService.isEnabled()) {
+            days = calendarSummaryService.getDays(trainerId, startDate, endDate, lessonForm);
+        } else {
+            List<CalendarSessionDateDto> sessionDates = courseCatalogIndex.isEnabled()
+                    ? courseCatalogIndex.findSessionDates(trainerId, startDate, endDate, null, lessonForm)
+                    : trainingSessionDAO.findSessionDatesByPeriod(startDate, endDate, trainerId, null, lessonForm);
+            days = sessionDates.stream()
+                    .map(sessionDate -> CalendarDaySummaryDto.builder()
+                            .sessionDate(sessionDate.getSessionDate())
+                            .sessionCount(sessionDate.getSessionCount())
+                            .lessonForms(List.of())
+                            .build())
+                    .toList();
+        }
+
+        // 선택한 날짜가 있으면 해당 날짜의 코스 목록도 함께 조회 (세션이 없는 날짜는 조회 생략)
+        List<CourseSearchItemDto> courses = List.of();
+        if (date != null && days.stream().anyMatch(day -> day.getSessionDate().equals(date))) {
+            courses = findCoursesOnDate(trainerId, date, null, lessonForm);
+        }
+
+        return CalendarSummaryResponse.builder()
+                .days(days)
+                .totalDates(days.size())
+                .selectedDate(date)
+                .courses(courses)
+                .build();
+    }
+
+    /**
+     * 특정 날짜의 코스 목록 조회 + 대표 이미지 Presigned URL 변환
+     */
+    private List<CourseSearchItemDto> findCoursesOnDate(Long trainerId, LocalDate date,
+                                                        String keyword, String lessonForm) {
+        List<CourseSearchItemDto> courses = courseCatalogIndex.isEnabled()
+                ? courseCatalogIndex.findCoursesByDate(trainerId, date, keyword, lessonForm)
+                : trainingCourseDao.findCoursesByDate(date, trainerId, keyword, lessonForm);
+
+        // S3 Presigned URL 일괄 생성 (같은 이미지는 한 번만 서명, searchCourses와 동일)
+        Map<String, String> presignedUrls = s3Service.generateDownloadPresignedUrlMap(
+                courses.stream().map(CourseSearchItemDto::getMainImage).toList());
+        for (CourseSearchItemDto course : courses) {
+            String mainImage = course.getMainImage();
+            if (mainImage != null && !mainImage.isBlank()) {
+                course.setMainImage(presignedUrls.get(mainImage));
+            }
+        }
+        return courses;
+    }
 }
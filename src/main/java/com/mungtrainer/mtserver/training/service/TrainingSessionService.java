@@ -3,8 +3,11 @@ package com.mungtrainer.mtserver.training.service;
 import com.mungtrainer.mtserver.common.exception.CustomException;
 import com.mungtrainer.mtserver.common.exception.ErrorCode;
 import com.mungtrainer.mtserver.training.dto.request.UpdateSessionRequest;
+import com.mungtrainer.mtserver.training.dto.response.CalendarDayKey;
 import com.mungtrainer.mtserver.training.dto.response.TrainingSessionResponse;
+import com.mungtrainer.mtserver.training.dao.CourseDAO;
 import com.mungtrainer.mtserver.training.dao.TrainingSessionDAO;
+import com.mungtrainer.mtserver.training.scheduler.DeadlineTimer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,6 +20,10 @@ import java.util.List;
 public class TrainingSessionService {
 
     private final TrainingSessionDAO trainingSessionMapper;
+    private final CourseDAO courseDAO;
+    private final DeadlineTimer deadlineTimer;
+    private final CourseCatalogIndex courseCatalogIndex;
+    private final CalendarSummaryService calendarSummaryService;
 
     /**
      * 특정 코스의 세션 목록 조회
@@ -50,10 +57,17 @@ public class TrainingSessionService {
         }
 
         try {
+            // 날짜가 바뀌면 이전 날짜의 달력 요약도 갱신해야 하므로 수정 전 날짜 보관
+            List<CalendarDayKey> previousDays = calendarSummaryService.findDayKeys(List.of(sessionId));
             int updatedCount = trainingSessionMapper.updateSession(request, sessionId);
             if (updatedCount == 0) {
                 throw new CustomException(ErrorCode.SESSION_NOT_FOUND);
             }
+            // 일정이 바뀌었을 수 있으므로 과정의 다음 전이 시각 재계산, 커밋 후 마감 타이머 재등록
+            courseDAO.refreshTransitionTimeBySessionId(sessionId);
+            deadlineTimer.scheduleSessionsAfterCommit(List.of(sessionId));
+            courseCatalogIndex.invalidateAfterCommit(trainerId);
+            calendarSummaryService.refreshSessions(List.of(sessionId), previousDays);
         } catch (CustomException e) {
             throw e;
         } catch (Exception e) {
@@ -86,6 +100,11 @@ public class TrainingSessionService {
             if (deletedCount == 0) {
                 throw new CustomException(ErrorCode.SESSION_NOT_FOUND);
             }
+            // 과정의 다음 전이 시각 재계산, 커밋 후 마감 타이머에서 제거 (삭제된 세션은 다시 조회되지 않음)
+            courseDAO.refreshTransitionTimeBySessionId(sessionId);
+            deadlineTimer.scheduleSessionsAfterCommit(List.of(sessionId));
+            courseCatalogIndex.invalidateAfterCommit(trainerId);
+            calendarSummaryService.refreshSessions(List.of(sessionId));
         } catch (CustomException e) {
             throw e;
         } catch (Exception e) {
@@ -39,18 +39,8 @@ public class UserCourseService {
                 .distinct()
                 .toList();
 
-        // 2. Presigned URL 일괄 발급
-        List<String> presignedUrls;
-        if (imageKeys.isEmpty()) {
-            presignedUrls = Collections.emptyList();
-        } else {
-            presignedUrls = s3Service.generateDownloadPresignedUrls(imageKeys);
-        }
-
-        Map<String, String> imageUrlMap = new HashMap<>();
-        for (int i = 0; i < imageKeys.size(); i++) {
-            imageUrlMap.put(imageKeys.get(i), presignedUrls.get(i));
-        }
+        // 2. Presigned URL 일괄 발급 (key → URL)
+        Map<String, String> imageUrlMap = s3Service.generateDownloadPresignedUrlMap(imageKeys);
 
         // 3. course별 그룹화 및 session 데이터 구성
         Map<Long, UserCourseGroupedResponse> courseMap = new LinkedHashMap<>();
@@ -0,0 +1,179 @@
+package com.mungtrainer.mtserver.training.service;
+
+import com.mungtrainer.mtserver.common.exception.CustomException;
+import com.mungtrainer.mtserver.common.exception.ErrorCode;
+import com.mungtrainer.mtserver.counseling.service.DogStatsCache;
+import com.mungtrainer.mtserver.training.dao.ApplicationDAO;
+import com.mungtrainer.mtserver.training.dao.SessionSeatDAO;
+import com.mungtrainer.mtserver.training.dao.TrainingAttendanceDAO;
+import com.mungtrainer.mtserver.training.dto.response.SessionSeatStatus;
+import com.mungtrainer.mtserver.training.dto.response.WaitingPromotionResult;
+import com.mungtrainer.mtserver.training.dto.response.WaitingQueueEntry;
+import com.mungtrainer.mtserver.training.scheduler.DeadlineTimer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * 대기자 일괄 승격 엔진
+ *
+ * <p>취소·거절·결제 기한 만료 등으로 자리가 생긴 세션들을 받아,
+ * 세션별 빈 자리만큼 가장 오래 대기한 신청을 WAITING → ACCEPT로 승격합니다.
+ * 승격 건수와 관계없이 세션 묶음 단위로 고정된 개수의 쿼리만 실행합니다.</p>
+ *
+ * <ol>
+ *   <li>정원 확인: 세션별 좌석 카운터 일괄 조회 → 빈 자리 계산
+ *       (session_id 오름차순 FOR UPDATE → 세션 행 쓰기 락, 여러 트랜잭션이 같은 순서로 락 → 교착 방지)</li>
+ *   <li>대기자 조회: 대상 세션의 대기자를 waiting 등록 순서로 한 번에 조회</li>
+ *   <li>승격: 세션별 좌석 확보, 상태 + 결제 기한 일괄 UPDATE, waiting PROMOTED 일괄 UPDATE</li>
+ *   <li>출석 정보 일괄 INSERT</li>
+ *   <li>커밋 후 결제 기한을 마감 타이머에 등록</li>
+ * </ol>
+ *
+ * 호출자가 비운 좌석은 호출자가 {@link SessionSeatService#release}로 카운터에 먼저 반영합니다.
+ *
+ * 트랜잭션: 호출자의 트랜잭션에 참여합니다. 출석 정보 생성 등 일부라도 실패하면
+ *             예외를 던져 호출자의 변경(취소/거절/만료)과 함께 롤백됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WaitingPromotionService {
+
+    private final ApplicationDAO applicationDao;
+    private final SessionSeatDAO sessionSeatDao;
+    private final TrainingAttendanceDAO trainingAttendanceDao;
+    private final WaitingQueueIndex waitingQueueIndex;
+    private final DeadlineTimer deadlineTimer;
+    private final CalendarSummaryService calendarSummaryService;
+    private final DogStatsCache dogStatsCache;
+
+    /**
+     * 결제 기한 (시간)
+     * application.yml의 payment.deadline.hours 값 사용
+     * 기본값: 24시간
+     */
+    @Value("${payment.deadline.hours:24}")
+    private int paymentDeadlineHours;
+
+    /**
+     * 세션들의 빈 자리만큼 대기자 승격
+     *
+     * @param sessionIds 자리가 생긴 세션 ID 목록 (중복 허용)
+     * @param actorId    출석 정보 생성자 (시스템 자동 처리는 0)
+     * @return 승격 결과 요약
+     */
+    @Transactional
+    public WaitingPromotionResult promote(Collection<Long> sessionIds, Long actorId) {
+        // session_id 오름차순 → 락 획득 순서 고정
+        SortedSet<Long> targets = new TreeSet<>();
+        for (Long sessionId : sessionIds) {
+            if (sessionId != null) {
+                targets.add(sessionId);
+            }
+        }
+        if (targets.isEmpty()) {
+            return WaitingPromotionResult.empty();
+        }
+
+        // 1. 세션별 좌석 카운터 조회 (세션 행 쓰기 락, 호출자가 비운 좌석은 이미 반영됨)
+        List<SessionSeatStatus> seats = applicationDao.findSessionSeatStatuses(targets);
+        if (seats.isEmpty()) {
+            log.warn("승격 대상 세션을 찾을 수 없음 - sessionIds: {}", targets);
+            return WaitingPromotionResult.empty();
+        }
+
+        // 2. 세션별 빈 자리 계산 (락 획득 후 확인)
+        List<Long> lockedSessionIds = seats.stream()
+                .map(SessionSeatStatus::getSessionId)
+                .toList();
+        Map<Long, Integer> freeSeats = new HashMap<>();
+        List<Long> fullSessionIds = new ArrayList<>();
+        for (SessionSeatStatus seat : seats) {
+            int free = seat.getMaxStudents() - seat.getApprovedCount();
+            if (free > 0) {
+                freeSeats.put(seat.getSessionId(), free);
+            } else {
+                fullSessionIds.add(seat.getSessionId());
+            }
+        }
+
+        // 3. 대기 순서대로 빈 자리만큼 선택
+        Map<Long, List<Long>> promotedBySession = new LinkedHashMap<>();
+        if (!freeSeats.isEmpty()) {
+            for (WaitingQueueEntry candidate : applicationDao.findPromotionCandidates(freeSeats.keySet())) {
+                List<Long> promoted = promotedBySession.computeIfAbsent(candidate.getSessionId(), k -> new ArrayList<>());
+                if (promoted.size() < freeSeats.get(candidate.getSessionId())) {
+                    promoted.add(candidate.getApplicationId());
+                }
+            }
+        }
+
+        List<Long> promotedIds = promotedBySession.values().stream()
+                .flatMap(List::stream)
+                .toList();
+        int attendanceCreated = 0;
+
+        if (!promotedIds.isEmpty()) {
+            // 4. 세션별 좌석 확보 (세션 행 락을 보유 중이므로 빈 자리만큼은 항상 성공)
+            // 조건부 UPDATE라 세션마다 결과를 확인해야 하므로 배치로 묶지 않음
+            for (Map.Entry<Long, List<Long>> entry : promotedBySession.entrySet()) {
+                if (!entry.getValue().isEmpty()
+                        && sessionSeatDao.reserveSeats(entry.getKey(), entry.getValue().size()) == 0) {
+                    log.error("대기자 승격 좌석 확보 실패 - sessionId: {}, 인원: {}",
+                            entry.getKey(), entry.getValue().size());
+                    throw new CustomException(ErrorCode.WAITING_PROMOTION_FAILED);
+                }
+            }
+
+            // 5. WAITING → ACCEPT + 결제 기한, waiting → PROMOTED
+            int updated = applicationDao.promoteWaitingApplications(promotedIds, paymentDeadlineHours);
+            if (updated != promotedIds.size()) {
+                log.error("대기자 승격 불완전 - 예상: {}, 실제: {}, applicationIds: {}",
+                        promotedIds.size(), updated, promotedIds);
+                throw new CustomException(ErrorCode.WAITING_PROMOTION_FAILED);
+            }
+            applicationDao.updateWaitingStatusBatch(promotedIds, "PROMOTED");
+
+            // 6. 출석 정보 일괄 생성 (필수)
+            // 출석 정보가 없으면 이후 출석 관리, 수료 처리에서 데이터 불일치가 생기므로 실패 시 전체 롤백
+            try {
+                attendanceCreated = trainingAttendanceDao.insertAttendanceByApplicationIds(promotedIds, actorId);
+            } catch (Exception e) {
+                log.error("대기자 승격 시 출석 정보 생성 실패 - applicationIds: {}", promotedIds, e);
+                throw new CustomException(ErrorCode.ATTENDANCE_CREATION_FAILED);
+            }
+            if (attendanceCreated != promotedIds.size()) {
+                log.error("출석 정보 생성 실패 - 예상: {}, 실제: {}", promotedIds.size(), attendanceCreated);
+                throw new CustomException(ErrorCode.ATTENDANCE_CREATION_FAILED);
+            }
+
+            waitingQueueIndex.invalidateAfterCommit(promotedBySession.keySet());
+            dogStatsCache.invalidateApplicationsAfterCommit(promotedIds);
+            // 새 결제 기한을 커밋 후 마감 타이머에 등록
+            deadlineTimer.scheduleApplicationsAfterCommit(promotedIds);
+        }
+
+        // 호출자가 자리를 비운 세션(취소·거절·만료)과 승격된 세션의 남은 자리 반영
+        calendarSummaryService.refreshSessions(lockedSessionIds);
+
+        promotedBySession.values().removeIf(List::isEmpty);
+        WaitingPromotionResult result = WaitingPromotionResult.builder()
+                .requestedSessions(targets.size())
+                .lockedSessions(lockedSessionIds.size())
+                .fullSessionIds(fullSessionIds)
+                .promotedBySession(promotedBySession)
+                .promotedCount(promotedIds.size())
+                .attendanceCreated(attendanceCreated)
+                .build();
+
+        log.info("대기자 승격 완료 - 요청 세션: {}, 정원 마감: {}, 승격: {}건 {}, 결제 기한: {}시간",
+                result.getRequestedSessions(), fullSessionIds.size(), result.getPromotedCount(),
+                promotedBySession, paymentDeadlineHours);
+        return result;
+    }
+}
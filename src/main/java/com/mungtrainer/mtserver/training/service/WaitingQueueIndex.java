@@ -0,0 +1,203 @@
+package com.mungtrainer.mtserver.training.service;
+
+import com.mungtrainer.mtserver.training.dao.ApplicationDAO;
+import com.mungtrainer.mtserver.training.dto.response.WaitingQueueEntry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 세션별 대기열 순번 인덱스 (인메모리)
+ *
+ * <p>목록 조회마다 행 단위 상관 서브쿼리(COUNT(*) + 1)로 대기 순번을 계산하던 방식을 대체합니다.
+ * 세션별 WAITING 신청을 대기 순서(waiting.created_at, application_id - 승격 순서와 같음)대로 한 번에 읽어
+ * applicationId → 순번(1부터) 맵으로 보관하고, 조회 시에는 맵에서 바로 꺼냅니다.</p>
+ *
+ * <ul>
+ *   <li>적재: 기동 시 전체 대기열을 한 번 적재, 이후 없는/만료된 세션만 한 쿼리로 일괄 적재</li>
+ *   <li>갱신: 대기 등록·승격·취소·만료 시 해당 세션을 커밋 후 무효화 → 다음 조회 때 재적재</li>
+ *   <li>ttl-seconds: 다른 인스턴스에서 발생한 변경이 반영되기까지의 최대 지연</li>
+ *   <li>enabled=false면 캐시 없이 매 조회마다 대상 세션만 일괄 계산</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class WaitingQueueIndex {
+
+    private final ApplicationDAO applicationDao;
+    private final boolean enabled;
+    private final long ttlMillis;
+
+    private final Map<Long, SessionQueue> queues = new ConcurrentHashMap<>();
+    // 적재 쿼리 도중 무효화가 일어났는지 판별하기 위한 세대 번호
+    private final AtomicLong generation = new AtomicLong();
+
+    public WaitingQueueIndex(
+            ApplicationDAO applicationDao,
+            @Value("${waiting.queue-index.enabled:true}") boolean enabled,
+            @Value("${waiting.queue-index.ttl-seconds:60}") long ttlSeconds
+    ) {
+        this.applicationDao = applicationDao;
+        this.enabled = enabled;
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    /**
+     * 기동 시 전체 대기열 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            long started = generation.get();
+            Map<Long, SessionQueue> loaded = build(applicationDao.findWaitingQueueEntries(null), List.of());
+            if (started == generation.get()) {
+                queues.putAll(loaded);
+            }
+            log.info("대기열 인덱스 적재 완료 - 세션 {}개", loaded.size());
+        } catch (Exception e) {
+            // 적재 실패 시에도 조회 시점에 세션별로 다시 적재되므로 기동은 계속
+            log.warn("대기열 인덱스 초기 적재 실패", e);
+        }
+    }
+
+    /**
+     * 주어진 세션들의 대기 순번 조회
+     *
+     * @param sessionIds 세션 ID 목록
+     * @return applicationId → 대기 순번(1부터). WAITING이 아닌 신청은 포함되지 않음
+     */
+    public Map<Long, Integer> getPositions(Collection<Long> sessionIds) {
+        Set<Long> targets = new HashSet<>();
+        for (Long sessionId : sessionIds) {
+            if (sessionId != null) {
+                targets.add(sessionId);
+            }
+        }
+        if (targets.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        long now = System.currentTimeMillis();
+        Map<Long, Integer> positions = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+
+        for (Long sessionId : targets) {
+            SessionQueue queue = enabled ? queues.get(sessionId) : null;
+            if (queue != null && now - queue.loadedAt < ttlMillis) {
+                positions.putAll(queue.positions);
+            } else {
+                missing.add(sessionId);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            long started = generation.get();
+            Map<Long, SessionQueue> loaded = build(applicationDao.findWaitingQueueEntries(missing), missing);
+            loaded.values().forEach(queue -> positions.putAll(queue.positions));
+            // 적재 중 무효화가 있었다면 이번 결과는 응답에만 쓰고 보관하지 않음
+            if (enabled && started == generation.get()) {
+                queues.putAll(loaded);
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * 세션 대기열 무효화 (트랜잭션 안이면 커밋 후 한 번 더 무효화)
+     *
+     * <p>커밋 전에 다른 요청이 이전 상태를 다시 적재할 수 있으므로
+     * 즉시 한 번, 커밋 후 한 번 제거합니다.</p>
+     */
+    public void invalidateAfterCommit(Collection<Long> sessionIds) {
+        if (sessionIds == null || sessionIds.isEmpty()) {
+            return;
+        }
+        List<Long> targets = List.copyOf(sessionIds);
+        invalidate(targets);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            invalidate(targets);
+                        }
+                    }
+            );
+        }
+    }
+
+    public void invalidateAfterCommit(Long sessionId) {
+        if (sessionId != null) {
+            invalidateAfterCommit(List.of(sessionId));
+        }
+    }
+
+    /**
+     * 대상 세션을 특정하기 어려운 일괄 변경 시 전체 무효화
+     */
+    public void invalidateAllAfterCommit() {
+        invalidateAll();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            invalidateAll();
+                        }
+                    }
+            );
+        }
+    }
+
+    private void invalidate(Collection<Long> sessionIds) {
+        generation.incrementAndGet();
+        sessionIds.forEach(queues::remove);
+    }
+
+    private void invalidateAll() {
+        generation.incrementAndGet();
+        queues.clear();
+    }
+
+    /**
+     * 대기 순서대로 정렬된 조회 결과를 세션별 순번 맵으로 변환
+     * (대기자가 없는 요청 세션도 빈 대기열로 보관하여 반복 조회를 막음)
+     */
+    private Map<Long, SessionQueue> build(List<WaitingQueueEntry> entries, Collection<Long> requested) {
+        long now = System.currentTimeMillis();
+        Map<Long, Map<Long, Integer>> grouped = new HashMap<>();
+        for (Long sessionId : requested) {
+            grouped.put(sessionId, new HashMap<>());
+        }
+        for (WaitingQueueEntry entry : entries) {
+            Map<Long, Integer> positions = grouped.computeIfAbsent(entry.getSessionId(), k -> new HashMap<>());
+            positions.put(entry.getApplicationId(), positions.size() + 1);
+        }
+
+        Map<Long, SessionQueue> result = new HashMap<>();
+        grouped.forEach((sessionId, positions) ->
+                result.put(sessionId, new SessionQueue(Collections.unmodifiableMap(positions), now)));
+        return result;
+    }
+
+    private static final class SessionQueue {
+        private final Map<Long, Integer> positions;
+        private final long loadedAt;
+
+        private SessionQueue(Map<Long, Integer> positions, long loadedAt) {
+            this.positions = positions;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.mungtrainer.mtserver.common.scheduler;
+
+import com.mungtrainer.mtserver.common.exception.CustomException;
+import com.mungtrainer.mtserver.common.exception.ErrorCode;
+import com.mungtrainer.mtserver.common.scheduler.dao.SchedulerLockDAO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 스케줄러 분산 락 - 리스 획득/상실과 비즈니스 트랜잭션 펜싱
+ */
+class SchedulerLockServiceTest {
+
+	private static final String JOB = "payment-deadline";
+	private static final long TOKEN = 42L;
+
+	private SchedulerLockDAO schedulerLockDao;
+	private SchedulerLockService schedulerLockService;
+
+	@BeforeEach
+	void setUp() {
+		schedulerLockDao = mock(SchedulerLockDAO.class);
+		// init()을 호출하지 않으므로 백그라운드 연장 스레드 없음
+		schedulerLockService = new SchedulerLockService(schedulerLockDao, true, 60_000L, 60_000L, 30);
+		doAnswer(invocation -> {
+			invocation.<SchedulerJobRun>getArgument(0).setRunId(1L);
+			return null;
+		}).when(schedulerLockDao).insertJobRun(any());
+	}
+
+	@Test
+	void otherInstanceHoldingLeaseSkipsTask() {
+		when(schedulerLockDao.tryAcquire(eq(JOB), anyString(), anyLong())).thenReturn(0);
+		AtomicBoolean ran = new AtomicBoolean();
+
+		assertThat(schedulerLockService.runExclusively(JOB, lease -> ran.set(true))).isFalse();
+
+		assertThat(ran).isFalse();
+		verify(schedulerLockDao, never()).insertJobRun(any());
+	}
+
+	@Test
+	void fenceInsideJobLocksLeaseRowWithAcquiredToken() {
+		acquire();
+		when(schedulerLockDao.lockHeldLease(eq(JOB), anyString(), eq(TOKEN))).thenReturn(TOKEN);
+
+		schedulerLockService.runExclusively(JOB, lease -> schedulerLockService.fenceCurrentLease());
+
+		verify(schedulerLockDao).lockHeldLease(eq(JOB), anyString(), eq(TOKEN));
+		assertThat(finishedStatus()).isEqualTo("SUCCESS");
+	}
+
+	@Test
+	void fenceAfterLeaseTakenOverRollsBackChunkAndRecordsLeaseLost() {
+		acquire();
+		when(schedulerLockDao.lockHeldLease(eq(JOB), anyString(), eq(TOKEN))).thenReturn(null);
+
+		schedulerLockService.runExclusively(JOB, lease -> {
+			// 청크 트랜잭션 안에서 예외 → 롤백, 잡은 청크 실패로 기록하고 계속
+			assertThatThrownBy(schedulerLockService::fenceCurrentLease)
+					.isInstanceOfSatisfying(CustomException.class,
+							e -> assertThat(e.getCode()).isEqualTo(ErrorCode.SCHEDULER_LEASE_LOST));
+			// 이후 청크는 checkpoint에서 바로 중단
+			assertThat(lease.checkpoint()).isFalse();
+		});
+
+		assertThat(finishedStatus()).isEqualTo("LEASE_LOST");
+	}
+
+	@Test
+	void fenceOutsideJobIsNoOp() {
+		schedulerLockService.fenceCurrentLease();
+
+		acquire();
+		when(schedulerLockDao.lockHeldLease(eq(JOB), anyString(), eq(TOKEN))).thenReturn(TOKEN);
+		schedulerLockService.runExclusively(JOB, lease -> { });
+		// 잡이 끝난 뒤 같은 스레드의 요청 경로 호출도 펜싱 대상 아님
+		schedulerLockService.fenceCurrentLease();
+
+		verify(schedulerLockDao, never()).lockHeldLease(anyString(), anyString(), anyLong());
+	}
+
+	@Test
+	void checkpointReportsLostLeaseWhenRenewalFails() {
+		acquire();
+		when(schedulerLockDao.renew(eq(JOB), anyString(), eq(TOKEN), anyLong())).thenReturn(0);
+
+		schedulerLockService.runExclusively(JOB, lease -> assertThat(lease.checkpoint()).isFalse());
+
+		assertThat(finishedStatus()).isEqualTo("LEASE_LOST");
+		verify(schedulerLockDao).release(eq(JOB), anyString(), eq(TOKEN), eq(60_000L));
+	}
+
+	@Test
+	void disabledLockRunsTaskWithoutTouchingLockTable() {
+		SchedulerLockService local = new SchedulerLockService(schedulerLockDao, false, 60_000L, 60_000L, 30);
+		AtomicBoolean ran = new AtomicBoolean();
+
+		assertThat(local.runExclusively(JOB, lease -> {
+			local.fenceCurrentLease();
+			ran.set(lease.checkpoint());
+		})).isTrue();
+
+		assertThat(ran).isTrue();
+		verify(schedulerLockDao, never()).tryAcquire(anyString(), anyString(), anyLong());
+		verify(schedulerLockDao, never()).lockHeldLease(anyString(), anyString(), anyLong());
+	}
+
+	private void acquire() {
+		when(schedulerLockDao.tryAcquire(eq(JOB), anyString(), anyLong())).thenReturn(1);
+		when(schedulerLockDao.findFencingToken(eq(JOB), anyString())).thenReturn(TOKEN);
+	}
+
+	private String finishedStatus() {
+		ArgumentCaptor<SchedulerJobRun> run = ArgumentCaptor.forClass(SchedulerJobRun.class);
+		verify(schedulerLockDao).finishJobRun(run.capture());
+		return run.getValue().getStatus();
+	}
+}
@@ -0,0 +1,87 @@
+package com.mungtrainer.mtserver.common.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenRevocationStoreTest {
+
+	private static final long VALIDITY_MS = 30 * 60 * 1000L;
+
+	@Test
+	void notRevoked_whenUserNeverLoggedOut() {
+		TokenRevocationStore store = new TokenRevocationStore(VALIDITY_MS);
+
+		assertThat(store.isRevoked(1L, new Date())).isFalse();
+		assertThat(store.isRevoked(null, new Date())).isFalse();
+	}
+
+	@Test
+	void revoked_whenIssuedBeforeLogout() {
+		TokenRevocationStore store = new TokenRevocationStore(VALIDITY_MS);
+		Date issuedAt = new Date(System.currentTimeMillis() - 5000);
+
+		store.revokeAll(1L);
+
+		assertThat(store.isRevoked(1L, issuedAt)).isTrue();
+		assertThat(store.isRevoked(2L, issuedAt)).isFalse();
+	}
+
+	@Test
+	void revoked_whenIssuedAtMissing() {
+		TokenRevocationStore store = new TokenRevocationStore(VALIDITY_MS);
+
+		store.revokeAll(1L);
+
+		assertThat(store.isRevoked(1L, null)).isTrue();
+	}
+
+	@Test
+	void notRevoked_whenIssuedInSameSecondAsLogout() {
+		TokenRevocationStore store = new TokenRevocationStore(VALIDITY_MS);
+
+		store.revokeAll(1L);
+		long threshold = thresholdOf(store, 1L);
+
+		// iat는 초 단위라 로그아웃 직후 같은 초에 재로그인한 토큰과 구분할 수 없음 → 같은 초는 유효
+		assertThat(store.isRevoked(1L, new Date(threshold))).isFalse();
+		assertThat(store.isRevoked(1L, new Date(threshold + 999))).isFalse();
+		// 바로 앞 초에 발급된 토큰은 무효
+		assertThat(store.isRevoked(1L, new Date(threshold - 1000))).isTrue();
+	}
+
+	@Test
+	void thresholdIsTruncatedToSecond() {
+		TokenRevocationStore store = new TokenRevocationStore(VALIDITY_MS);
+
+		store.revokeAll(1L);
+
+		assertThat(thresholdOf(store, 1L) % 1000).isZero();
+	}
+
+	@Test
+	void thresholdDropped_afterAccessTokenValidityPassed() throws Exception {
+		TokenRevocationStore store = new TokenRevocationStore(1);
+		Date issuedAt = new Date(System.currentTimeMillis() - 5000);
+
+		store.revokeAll(1L);
+		Thread.sleep(5);
+
+		// 기준 시각 이전 토큰은 이미 만료되었으므로 더 이상 검사하지 않음
+		assertThat(store.isRevoked(1L, issuedAt)).isFalse();
+		assertThat(revokedBefore(store)).doesNotContainKey(1L);
+	}
+
+	private long thresholdOf(TokenRevocationStore store, Long userId) {
+		return revokedBefore(store).get(userId);
+	}
+
+	@SuppressWarnings("unchecked")
+	private Map<Long, Long> revokedBefore(TokenRevocationStore store) {
+		return (Map<Long, Long>) ReflectionTestUtils.getField(store, "revokedBefore");
+	}
+}
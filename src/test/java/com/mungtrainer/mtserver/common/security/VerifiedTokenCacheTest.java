@@ -0,0 +1,64 @@
+package com.mungtrainer.mtserver.common.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedTokenCacheTest {
+
+	private static final JwtTokenProvider.TokenType ACCESS = JwtTokenProvider.TokenType.ACCESS;
+
+	@Test
+	void hit_onlyWhenTokenTextMatches() {
+		VerifiedTokenCache cache = new VerifiedTokenCache(10);
+		ParsedToken parsed = parsed("jti-1", "token-1", 60_000);
+
+		cache.put(ACCESS, parsed);
+
+		assertThat(cache.get(ACCESS, "jti-1", "token-1")).isSameAs(parsed);
+		assertThat(cache.get(ACCESS, "jti-1", "forged")).isNull();
+		assertThat(cache.get(JwtTokenProvider.TokenType.REFRESH, "jti-1", "token-1")).isNull();
+	}
+
+	@Test
+	void fullCacheEvictsLeastRecentlyUsedAndKeepsCaching() {
+		VerifiedTokenCache cache = new VerifiedTokenCache(2);
+		cache.put(ACCESS, parsed("a", "token-a", 60_000));
+		cache.put(ACCESS, parsed("b", "token-b", 60_000));
+		// a를 최근 사용으로 갱신 → 가장 오래 쓰지 않은 b가 제거 대상
+		cache.get(ACCESS, "a", "token-a");
+
+		cache.put(ACCESS, parsed("c", "token-c", 60_000));
+
+		assertThat(cache.get(ACCESS, "a", "token-a")).isNotNull();
+		assertThat(cache.get(ACCESS, "b", "token-b")).isNull();
+		assertThat(cache.get(ACCESS, "c", "token-c")).isNotNull();
+	}
+
+	@Test
+	void expiredEntryIsDroppedOnRead() {
+		VerifiedTokenCache cache = new VerifiedTokenCache(10);
+		cache.put(ACCESS, parsed("old", "token-old", -1_000));
+
+		assertThat(cache.get(ACCESS, "old", "token-old")).isNull();
+	}
+
+	@Test
+	void zeroSizeDisablesCache() {
+		VerifiedTokenCache cache = new VerifiedTokenCache(0);
+		cache.put(ACCESS, parsed("a", "token-a", 60_000));
+
+		assertThat(cache.get(ACCESS, "a", "token-a")).isNull();
+	}
+
+	private ParsedToken parsed(String jti, String token, long expiresInMs) {
+		return ParsedToken.builder()
+				.jti(jti)
+				.token(token)
+				.tokenType(ACCESS)
+				.expiration(new Date(System.currentTimeMillis() + expiresInMs))
+				.build();
+	}
+}
@@ -0,0 +1,100 @@
+package com.mungtrainer.mtserver.counseling.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mungtrainer.mtserver.common.s3.S3Service;
+import com.mungtrainer.mtserver.counseling.dao.TrainerUserDAO;
+import com.mungtrainer.mtserver.counseling.dto.response.DogStatsResponse;
+import com.mungtrainer.mtserver.dog.dto.response.DogResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 반려견 통계 캐시 - S3 키 기준 보관/ETag, 본문을 내보낼 때만 Presigned URL 발급
+ */
+class DogStatsCacheTest {
+
+	private static final String IMAGE_KEY = "dogs/7/profile.png";
+
+	private S3Service s3Service;
+	private DogStatsCache cache;
+	private AtomicInteger loads;
+
+	@BeforeEach
+	void setUp() {
+		s3Service = mock(S3Service.class);
+		cache = new DogStatsCache(mock(TrainerUserDAO.class), s3Service, new ObjectMapper().findAndRegisterModules(),
+				true, 300, 100, 10);
+		loads = new AtomicInteger();
+	}
+
+	@Test
+	void cacheHitAndNotModifiedCheckDoNotPresign() {
+		DogStatsCache.Snapshot first = cache.get(7L, 1L, () -> stats(IMAGE_KEY));
+		DogStatsCache.Snapshot second = cache.get(7L, 1L, () -> stats(IMAGE_KEY));
+
+		assertThat(loads).hasValue(1);
+		assertThat(second.matches(first.getEtag())).isTrue();
+		verify(s3Service, never()).generateDownloadPresignedUrl(anyString());
+	}
+
+	@Test
+	void responseBodyIsPresignedCopyAndCachedEntryKeepsKey() {
+		when(s3Service.generateDownloadPresignedUrl(IMAGE_KEY)).thenReturn("https://signed/1", "https://signed/2");
+
+		DogStatsCache.Snapshot snapshot = cache.get(7L, 1L, () -> stats(IMAGE_KEY));
+		String etag = snapshot.getEtag();
+
+		assertThat(snapshot.getResponse().getDog().getProfileImage()).isEqualTo("https://signed/1");
+		// 서명된 URL이 바뀌어도 보관 항목과 ETag는 S3 키 기준 그대로
+		DogStatsCache.Snapshot again = cache.get(7L, 1L, () -> stats(IMAGE_KEY));
+		assertThat(again.getResponse().getDog().getProfileImage()).isEqualTo("https://signed/2");
+		assertThat(again.getEtag()).isEqualTo(etag);
+		assertThat(loads).hasValue(1);
+		verify(s3Service, times(2)).generateDownloadPresignedUrl(IMAGE_KEY);
+	}
+
+	@Test
+	void etagWithoutProfileImageIsPlainContentHash() {
+		DogStatsCache.Snapshot snapshot = cache.get(7L, 1L, () -> stats(null));
+
+		assertThat(snapshot.getEtag()).matches("\"[0-9a-f]{32}\"");
+		assertThat(snapshot.getResponse().getDog().getProfileImage()).isNull();
+		assertThat(snapshot.matches("W/" + snapshot.getEtag())).isTrue();
+	}
+
+	@Test
+	void etagWithProfileImageCarriesUrlLifetimeWindow() {
+		DogStatsCache.Snapshot withImage = cache.get(7L, 1L, () -> stats(IMAGE_KEY));
+
+		assertThat(withImage.getEtag()).matches("\"[0-9a-f]{32}-\\d+\"");
+	}
+
+	@Test
+	void invalidationReloadsOnNextRequest() {
+		cache.get(7L, 1L, () -> stats(null));
+
+		cache.invalidateDogsAfterCommit(List.of(7L));
+		cache.get(7L, 1L, () -> stats(null));
+
+		assertThat(loads).hasValue(2);
+	}
+
+	private DogStatsResponse stats(String profileImage) {
+		loads.incrementAndGet();
+		return DogStatsResponse.builder()
+				.dog(DogResponse.builder().dogId(7L).name("멍멍").profileImage(profileImage).build())
+				.stats(new DogStatsResponse.Stats(3, 2))
+				.build();
+	}
+}
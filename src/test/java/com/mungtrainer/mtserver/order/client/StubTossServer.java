@@ -0,0 +1,111 @@
+package com.mungtrainer.mtserver.order.client;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 테스트용 로컬 스텁 PG 서버 (JDK HttpServer)
+ *
+ * <p>등록한 순서대로 응답하고, 등록한 응답이 없으면 200 + 기본 결제 응답을 돌려줍니다.
+ * 받은 요청은 경로/Idempotency-Key를 기록해 호출 횟수를 확인할 수 있습니다.</p>
+ */
+class StubTossServer implements AutoCloseable {
+
+	static final String DEFAULT_BODY = "{\"paymentKey\":\"pk_test\",\"status\":\"DONE\",\"totalAmount\":10000}";
+
+	private final HttpServer server;
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+	private final Queue<StubResponse> responses = new ConcurrentLinkedQueue<>();
+	private final List<String> requestPaths = new CopyOnWriteArrayList<>();
+	private final List<String> idempotencyKeys = new CopyOnWriteArrayList<>();
+
+	StubTossServer() throws IOException {
+		this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		server.createContext("/", this::handle);
+		server.setExecutor(executor);
+		server.start();
+	}
+
+	String baseUrl() {
+		return "http://127.0.0.1:" + server.getAddress().getPort();
+	}
+
+	/**
+	 * 다음 요청에 돌려줄 응답 등록
+	 */
+	StubTossServer enqueue(int status, String body) {
+		return enqueue(status, body, 0);
+	}
+
+	/**
+	 * 다음 요청에 delayMs 뒤 돌려줄 응답 등록 (응답 지연/타임아웃 재현)
+	 */
+	StubTossServer enqueue(int status, String body, long delayMs) {
+		responses.add(new StubResponse(status, body, delayMs));
+		return this;
+	}
+
+	int requestCount() {
+		return requestPaths.size();
+	}
+
+	List<String> requestPaths() {
+		return requestPaths;
+	}
+
+	List<String> idempotencyKeys() {
+		return idempotencyKeys;
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+		executor.shutdownNow();
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		requestPaths.add(exchange.getRequestURI().getPath());
+		String idempotencyKey = exchange.getRequestHeaders().getFirst("Idempotency-Key");
+		if (idempotencyKey != null) {
+			idempotencyKeys.add(idempotencyKey);
+		}
+		exchange.getRequestBody().readAllBytes();
+
+		StubResponse response = responses.poll();
+		if (response == null) {
+			response = new StubResponse(200, DEFAULT_BODY, 0);
+		}
+		try {
+			if (response.delayMs() > 0) {
+				Thread.sleep(response.delayMs());
+			}
+			byte[] bytes = response.body().getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().add("Content-Type", "application/json");
+			exchange.sendResponseHeaders(response.status(), bytes.length);
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(bytes);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (IOException e) {
+			// 클라이언트가 타임아웃으로 먼저 끊은 경우
+		} finally {
+			exchange.close();
+		}
+	}
+
+	private record StubResponse(int status, String body, long delayMs) {
+	}
+}
@@ -0,0 +1,76 @@
+package com.mungtrainer.mtserver.order.client;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TossCircuitBreakerTest {
+
+	@Test
+	void opensAfterConsecutiveFailures() {
+		TossCircuitBreaker breaker = new TossCircuitBreaker(3, 60000);
+
+		breaker.onFailure();
+		breaker.onFailure();
+		assertThat(breaker.getState()).isEqualTo(TossCircuitBreaker.State.CLOSED);
+		assertThat(breaker.tryAcquire()).isTrue();
+
+		breaker.onFailure();
+		assertThat(breaker.getState()).isEqualTo(TossCircuitBreaker.State.OPEN);
+		assertThat(breaker.tryAcquire()).isFalse();
+	}
+
+	@Test
+	void successResetsConsecutiveFailures() {
+		TossCircuitBreaker breaker = new TossCircuitBreaker(2, 60000);
+
+		breaker.onFailure();
+		breaker.onSuccess();
+		breaker.onFailure();
+
+		assertThat(breaker.getState()).isEqualTo(TossCircuitBreaker.State.CLOSED);
+	}
+
+	@Test
+	void halfOpenAllowsSingleProbe() throws Exception {
+		TossCircuitBreaker breaker = new TossCircuitBreaker(1, 100);
+		breaker.onFailure();
+
+		Thread.sleep(150);
+		assertThat(breaker.getState()).isEqualTo(TossCircuitBreaker.State.HALF_OPEN);
+		assertThat(breaker.tryAcquire()).isTrue();
+		assertThat(breaker.tryAcquire()).isFalse();
+
+		breaker.onSuccess();
+		assertThat(breaker.getState()).isEqualTo(TossCircuitBreaker.State.CLOSED);
+		assertThat(breaker.tryAcquire()).isTrue();
+	}
+
+	@Test
+	void halfOpenProbeFailureReopens() throws Exception {
+		TossCircuitBreaker breaker = new TossCircuitBreaker(5, 100);
+		for (int i = 0; i < 5; i++) {
+			breaker.onFailure();
+		}
+
+		Thread.sleep(150);
+		assertThat(breaker.tryAcquire()).isTrue();
+		breaker.onFailure();
+
+		assertThat(breaker.getState()).isEqualTo(TossCircuitBreaker.State.OPEN);
+		assertThat(breaker.tryAcquire()).isFalse();
+	}
+
+	@Test
+	void ignoredProbeResultClosesCircuit() throws Exception {
+		TossCircuitBreaker breaker = new TossCircuitBreaker(1, 100);
+		breaker.onFailure();
+
+		Thread.sleep(150);
+		assertThat(breaker.tryAcquire()).isTrue();
+		// 4xx 거절 - PG는 정상 응답했으므로 닫음
+		breaker.onIgnored();
+
+		assertThat(breaker.getState()).isEqualTo(TossCircuitBreaker.State.CLOSED);
+	}
+}
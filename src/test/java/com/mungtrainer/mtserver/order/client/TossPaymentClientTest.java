@@ -0,0 +1,193 @@
+package com.mungtrainer.mtserver.order.client;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.http.HttpTimeoutException;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * TossPaymentClient - 로컬 스텁 PG 서버로 타임아웃/재시도/서킷/응답 분류 확인
+ */
+class TossPaymentClientTest {
+
+	private StubTossServer stub;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		stub = new StubTossServer();
+	}
+
+	@AfterEach
+	void tearDown() {
+		stub.close();
+	}
+
+	@Test
+	void confirm_success_returnsBodyWithIdempotencyKey() throws Exception {
+		TossPaymentClient client = newClient(stub.baseUrl(), 2000, 1, 5, 30000);
+
+		Map<String, Object> result = client.confirm("pk_test", "ORDER-1", 10000);
+
+		assertThat(result).containsEntry("status", "DONE");
+		assertThat(stub.requestPaths()).containsExactly("/v1/payments/confirm");
+		assertThat(stub.idempotencyKeys()).containsExactly("confirm:ORDER-1:pk_test");
+	}
+
+	@Test
+	void confirm_differentPaymentKeysForSameOrder_useDifferentIdempotencyKeys() throws Exception {
+		TossPaymentClient client = newClient(stub.baseUrl(), 2000, 1, 5, 30000);
+
+		client.confirm("pk_first", "ORDER-1", 10000);
+		client.confirm("pk_second", "ORDER-1", 10000);
+
+		assertThat(stub.idempotencyKeys()).containsExactly("confirm:ORDER-1:pk_first", "confirm:ORDER-1:pk_second");
+	}
+
+	@Test
+	void cancel_partialCancelsOfSameAmount_useDifferentIdempotencyKeys() throws Exception {
+		TossPaymentClient client = newClient(stub.baseUrl(), 2000, 1, 5, 30000);
+
+		client.cancel("pk_test", "cancel-1", "부분 취소", 5000);
+		client.cancel("pk_test", "cancel-2", "부분 취소", 5000);
+
+		// 같은 금액이라도 취소 건이 다르면 PG가 두 번째 취소를 첫 취소의 재전송으로 보지 않아야 함
+		assertThat(stub.requestPaths()).containsExactly("/v1/payments/pk_test/cancel", "/v1/payments/pk_test/cancel");
+		assertThat(stub.idempotencyKeys()).containsExactly("cancel:pk_test:cancel-1", "cancel:pk_test:cancel-2");
+	}
+
+	@Test
+	void confirm_responseSlowerThanRequestTimeout_failsWithoutRetry() {
+		stub.enqueue(200, StubTossServer.DEFAULT_BODY, 2000);
+		TossPaymentClient client = newClient(stub.baseUrl(), 300, 2, 5, 30000);
+
+		long startedAt = System.currentTimeMillis();
+		assertThatThrownBy(() -> client.confirm("pk_test", "ORDER-1", 10000))
+				.isInstanceOf(HttpTimeoutException.class);
+
+		// 요청이 전달된 뒤의 타임아웃은 승인 여부를 알 수 없으므로 재시도하지 않음
+		assertThat(System.currentTimeMillis() - startedAt).isLessThan(2000);
+		assertThat(stub.requestCount()).isEqualTo(1);
+	}
+
+	@Test
+	void confirm_connectionRefused_retriesThenFailsAsNotSent() throws Exception {
+		// maxRetries=2 → 최초 1회 + 재시도 2회 = 연결 실패 3회, threshold=3이면 서킷이 열림
+		TossPaymentClient client = newClient(closedPortUrl(), 2000, 2, 3, 30000);
+
+		assertThatThrownBy(() -> client.confirm("pk_test", "ORDER-1", 10000))
+				.isInstanceOfSatisfying(TossApiException.class, e -> assertThat(e.getStatus()).isZero());
+
+		assertThat(circuitBreaker(client).getState()).isEqualTo(TossCircuitBreaker.State.OPEN);
+	}
+
+	@Test
+	void confirm_connectionRefused_stopsAtMaxRetries() throws Exception {
+		// 재시도가 maxRetries를 넘지 않으면 연결 실패는 3회뿐이므로 threshold=4인 서킷은 닫혀 있음
+		TossPaymentClient client = newClient(closedPortUrl(), 2000, 2, 4, 30000);
+
+		assertThatThrownBy(() -> client.confirm("pk_test", "ORDER-1", 10000))
+				.isInstanceOf(TossApiException.class);
+
+		assertThat(circuitBreaker(client).getState()).isEqualTo(TossCircuitBreaker.State.CLOSED);
+	}
+
+	@Test
+	void confirm_serverError_isOutcomeUnknownAndNotRetried() {
+		stub.enqueue(500, "{\"code\":\"FAILED_INTERNAL_SYSTEM_PROCESSING\"}");
+		TossPaymentClient client = newClient(stub.baseUrl(), 2000, 2, 5, 30000);
+
+		assertThatThrownBy(() -> client.confirm("pk_test", "ORDER-1", 10000))
+				.isInstanceOfSatisfying(TossOutcomeUnknownException.class, e -> {
+					assertThat(e.getStatus()).isEqualTo(500);
+					assertThat(e.getResponseBody()).contains("FAILED_INTERNAL_SYSTEM_PROCESSING");
+				});
+		assertThat(stub.requestCount()).isEqualTo(1);
+	}
+
+	@Test
+	void confirm_clientError_isRejectionAndNotCountedAsFailure() {
+		for (int i = 0; i < 3; i++) {
+			stub.enqueue(400, "{\"code\":\"ALREADY_PROCESSED_PAYMENT\"}");
+		}
+		TossPaymentClient client = newClient(stub.baseUrl(), 2000, 2, 2, 30000);
+
+		for (int i = 0; i < 3; i++) {
+			assertThatThrownBy(() -> client.confirm("pk_test", "ORDER-1", 10000))
+					.isInstanceOfSatisfying(TossApiException.class, e -> assertThat(e.getStatus()).isEqualTo(400));
+		}
+
+		// 4xx 거절은 PG 장애가 아니므로 서킷을 열지 않음
+		assertThat(stub.requestCount()).isEqualTo(3);
+		assertThat(circuitBreaker(client).getState()).isEqualTo(TossCircuitBreaker.State.CLOSED);
+	}
+
+	@Test
+	void circuitOpen_blocksCallsUntilHalfOpenProbeSucceeds() throws Exception {
+		stub.enqueue(503, "{}").enqueue(503, "{}");
+		TossPaymentClient client = newClient(stub.baseUrl(), 2000, 1, 2, 300);
+
+		assertThatThrownBy(() -> client.confirm("pk_test", "ORDER-1", 10000))
+				.isInstanceOf(TossOutcomeUnknownException.class);
+		assertThatThrownBy(() -> client.confirm("pk_test", "ORDER-1", 10000))
+				.isInstanceOf(TossOutcomeUnknownException.class);
+
+		// OPEN: PG를 호출하지 않고 즉시 실패 (요청 미전달)
+		assertThatThrownBy(() -> client.getPayment("pk_test"))
+				.isInstanceOfSatisfying(TossApiException.class, e -> assertThat(e.getStatus()).isZero());
+		assertThat(stub.requestCount()).isEqualTo(2);
+
+		// HALF_OPEN: probe 1건 성공 → CLOSED
+		Thread.sleep(400);
+		assertThat(circuitBreaker(client).getState()).isEqualTo(TossCircuitBreaker.State.HALF_OPEN);
+		assertThat(client.getPayment("pk_test")).containsEntry("status", "DONE");
+		assertThat(circuitBreaker(client).getState()).isEqualTo(TossCircuitBreaker.State.CLOSED);
+		assertThat(stub.requestCount()).isEqualTo(3);
+	}
+
+	@Test
+	void circuitHalfOpen_probeFailureReopens() throws Exception {
+		stub.enqueue(500, "{}").enqueue(500, "{}");
+		TossPaymentClient client = newClient(stub.baseUrl(), 2000, 1, 1, 300);
+
+		assertThatThrownBy(() -> client.getPayment("pk_test"))
+				.isInstanceOf(TossOutcomeUnknownException.class);
+		Thread.sleep(400);
+		assertThatThrownBy(() -> client.getPayment("pk_test"))
+				.isInstanceOf(TossOutcomeUnknownException.class);
+
+		assertThat(circuitBreaker(client).getState()).isEqualTo(TossCircuitBreaker.State.OPEN);
+		assertThat(stub.requestCount()).isEqualTo(2);
+	}
+
+	private TossPaymentClient newClient(String baseUrl, long requestTimeoutMs, int maxRetries,
+	                                    int failureThreshold, long openDurationMs) {
+		TossPaymentClient client = new TossPaymentClient();
+		ReflectionTestUtils.setField(client, "secretKey", "test_sk");
+		ReflectionTestUtils.setField(client, "baseUrl", baseUrl);
+		ReflectionTestUtils.setField(client, "connectTimeoutMs", 1000L);
+		ReflectionTestUtils.setField(client, "requestTimeoutMs", requestTimeoutMs);
+		ReflectionTestUtils.setField(client, "maxRetries", maxRetries);
+		ReflectionTestUtils.setField(client, "failureThreshold", failureThreshold);
+		ReflectionTestUtils.setField(client, "openDurationMs", openDurationMs);
+		client.init();
+		return client;
+	}
+
+	private TossCircuitBreaker circuitBreaker(TossPaymentClient client) {
+		return (TossCircuitBreaker) ReflectionTestUtils.getField(client, "circuitBreaker");
+	}
+
+	private String closedPortUrl() throws Exception {
+		try (ServerSocket socket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+			return "http://127.0.0.1:" + socket.getLocalPort();
+		}
+	}
+}
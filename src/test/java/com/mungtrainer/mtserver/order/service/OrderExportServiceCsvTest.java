@@ -0,0 +1,49 @@
+package com.mungtrainer.mtserver.order.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderExportServiceCsvTest {
+
+	@Test
+	void plainValuesAreWrittenAsIs() {
+		assertThat(OrderExportService.csvValue(null)).isEmpty();
+		assertThat(OrderExportService.csvValue("퍼피 기초반")).isEqualTo("퍼피 기초반");
+		assertThat(OrderExportService.csvValue(30000)).isEqualTo("30000");
+		assertThat(OrderExportService.csvValue(LocalDateTime.of(2025, 1, 2, 3, 4, 5)))
+				.isEqualTo("2025-01-02T03:04:05");
+	}
+
+	@Test
+	void separatorsAndQuotesAreQuoted() {
+		assertThat(OrderExportService.csvValue("a,b")).isEqualTo("\"a,b\"");
+		assertThat(OrderExportService.csvValue("say \"hi\"")).isEqualTo("\"say \"\"hi\"\"\"");
+		assertThat(OrderExportService.csvValue("line1\nline2")).isEqualTo("\"line1\nline2\"");
+		assertThat(OrderExportService.csvValue("line1\r\nline2")).isEqualTo("\"line1\r\nline2\"");
+	}
+
+	@Test
+	void formulaLikeTextIsPrefixed() {
+		assertThat(OrderExportService.csvValue("=SUM(A1:A2)")).isEqualTo("'=SUM(A1:A2)");
+		assertThat(OrderExportService.csvValue("+821012345678")).isEqualTo("'+821012345678");
+		assertThat(OrderExportService.csvValue("-1+2")).isEqualTo("'-1+2");
+		assertThat(OrderExportService.csvValue("@cmd")).isEqualTo("'@cmd");
+		assertThat(OrderExportService.csvValue("\t=1")).isEqualTo("'\t=1");
+	}
+
+	@Test
+	void formulaPrefixIsAppliedBeforeQuoting() {
+		assertThat(OrderExportService.csvValue("=HYPERLINK(\"http://x\",\"y\")"))
+				.isEqualTo("\"'=HYPERLINK(\"\"http://x\"\",\"\"y\"\")\"");
+		assertThat(OrderExportService.csvValue("\r=1")).isEqualTo("\"'\r=1\"");
+	}
+
+	@Test
+	void numbersAreNotTreatedAsFormulas() {
+		// 음수 금액 등 문자열이 아닌 값은 접두하지 않음
+		assertThat(OrderExportService.csvValue(-5000)).isEqualTo("-5000");
+	}
+}
@@ -0,0 +1,106 @@
+package com.mungtrainer.mtserver.order.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mungtrainer.mtserver.order.dao.OrderDAO;
+import com.mungtrainer.mtserver.order.dao.PaymentDAO;
+import com.mungtrainer.mtserver.order.dto.response.TrainerOrderExportRow;
+import org.apache.ibatis.cursor.Cursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 내보내기 스트리밍 - 복합 재개 커서 전달, 행 단위 전송 지연 확인
+ */
+class OrderExportServiceStreamTest {
+
+	private OrderDAO orderDao;
+	private OrderExportService service;
+
+	@BeforeEach
+	void setUp() {
+		orderDao = mock(OrderDAO.class);
+		service = new OrderExportService(mock(PaymentDAO.class), orderDao, new ObjectMapper().findAndRegisterModules());
+		ReflectionTestUtils.setField(service, "stallTimeoutMs", 30_000L);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void trainerExportResumesFromOrderAndPaymentCursor() {
+		Cursor<TrainerOrderExportRow> cursor = mock(Cursor.class);
+		when(cursor.iterator()).thenReturn(List.of(row(10L, 6L), row(11L, null)).iterator());
+		when(orderDao.streamOrdersByTrainerId(3L, null, null, 10L, 5L)).thenReturn(cursor);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		long rows = service.exportTrainerOrders(3L, null, null, 10L, 5L, OrderExportService.Format.NDJSON, out);
+
+		assertThat(rows).isEqualTo(2);
+		verify(orderDao).streamOrdersByTrainerId(3L, null, null, 10L, 5L);
+		assertThat(out.toString(StandardCharsets.UTF_8).lines()).hasSize(2);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void firstPageHasNoCursor() {
+		Cursor<TrainerOrderExportRow> cursor = mock(Cursor.class);
+		when(cursor.iterator()).thenReturn(List.<TrainerOrderExportRow>of().iterator());
+		when(orderDao.streamOrdersByTrainerId(3L, null, null, null, null)).thenReturn(cursor);
+
+		service.exportTrainerOrders(3L, null, null, null, null, OrderExportService.Format.CSV, new ByteArrayOutputStream());
+
+		verify(orderDao).streamOrdersByTrainerId(3L, null, null, null, null);
+	}
+
+	@Test
+	void stallIsDetectedWithinChunkWithoutWaitingForFlush() {
+		ReflectionTestUtils.setField(service, "stallTimeoutMs", 50L);
+		AtomicInteger read = new AtomicInteger();
+		// 묶음(500행)보다 훨씬 적은 행에서도 쓰기/읽기가 밀리면 중단되어야 함
+		Iterable<String> slowRows = () -> new Iterator<>() {
+			@Override
+			public boolean hasNext() {
+				return read.get() < 100;
+			}
+
+			@Override
+			public String next() {
+				read.incrementAndGet();
+				sleep(20);
+				return "row";
+			}
+		};
+
+		assertThatThrownBy(() -> service.write(slowRows, OrderExportService.Format.CSV, new String[]{"value"},
+				value -> new Object[]{value}, new ByteArrayOutputStream()))
+				.isInstanceOf(IOException.class);
+		assertThat(read.get()).isLessThan(10);
+	}
+
+	private TrainerOrderExportRow row(Long orderId, Long paymentId) {
+		TrainerOrderExportRow row = new TrainerOrderExportRow();
+		row.setOrderId(orderId);
+		row.setPaymentId(paymentId);
+		return row;
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
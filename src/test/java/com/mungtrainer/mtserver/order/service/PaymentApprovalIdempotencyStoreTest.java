@@ -0,0 +1,188 @@
+package com.mungtrainer.mtserver.order.service;
+
+import com.mungtrainer.mtserver.common.exception.CustomException;
+import com.mungtrainer.mtserver.common.exception.ErrorCode;
+import com.mungtrainer.mtserver.order.dto.request.PaymentApprovalRequest;
+import com.mungtrainer.mtserver.order.dto.response.PaymentApprovalResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 결제 승인 중복 요청 저장소 - 진행 중 대기, 실패 시 기록 제거, TTL 만료
+ */
+class PaymentApprovalIdempotencyStoreTest {
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(2);
+	private final AtomicInteger approvals = new AtomicInteger();
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void completedApprovalIsReplayedWithinTtl() {
+		PaymentApprovalIdempotencyStore store = new PaymentApprovalIdempotencyStore(true, 600, 5000);
+		PaymentApprovalResponse response = response();
+
+		PaymentApprovalResponse first = store.execute(request("pk-1", 30000), () -> approve(response));
+		PaymentApprovalResponse second = store.execute(request("pk-1", 30000), () -> approve(response()));
+
+		assertThat(first).isSameAs(response);
+		assertThat(second).isSameAs(response);
+		assertThat(approvals).hasValue(1);
+	}
+
+	@Test
+	void inFlightDuplicateWaitsForFirstRequestResult() throws Exception {
+		PaymentApprovalIdempotencyStore store = new PaymentApprovalIdempotencyStore(true, 600, 5000);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		PaymentApprovalResponse response = response();
+
+		Future<PaymentApprovalResponse> owner = executor.submit(() -> store.execute(request("pk-1", 30000), () -> {
+			started.countDown();
+			await(release);
+			return approve(response);
+		}));
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+		Future<PaymentApprovalResponse> duplicate = executor.submit(
+				() -> store.execute(request("pk-1", 30000), () -> approve(response())));
+
+		release.countDown();
+
+		assertThat(owner.get(5, TimeUnit.SECONDS)).isSameAs(response);
+		assertThat(duplicate.get(5, TimeUnit.SECONDS)).isSameAs(response);
+		assertThat(approvals).hasValue(1);
+	}
+
+	@Test
+	void inFlightDuplicateGivesUpAfterWaitTimeout() throws Exception {
+		PaymentApprovalIdempotencyStore store = new PaymentApprovalIdempotencyStore(true, 600, 50);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		executor.submit(() -> store.execute(request("pk-1", 30000), () -> {
+			started.countDown();
+			await(release);
+			return approve(response());
+		}));
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+		try {
+			assertThatThrownBy(() -> store.execute(request("pk-1", 30000), () -> approve(response())))
+					.isInstanceOfSatisfying(CustomException.class,
+							e -> assertThat(e.getCode()).isEqualTo(ErrorCode.PAYMENT_IN_PROGRESS));
+		} finally {
+			release.countDown();
+		}
+	}
+
+	@Test
+	void failureIsPassedToWaiterAndEvictedSoRetryRunsAgain() throws Exception {
+		PaymentApprovalIdempotencyStore store = new PaymentApprovalIdempotencyStore(true, 600, 5000);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		CustomException failure = new CustomException(ErrorCode.PAYMENT_APPROVAL_FAILED);
+
+		Future<PaymentApprovalResponse> owner = executor.submit(() -> store.execute(request("pk-1", 30000), () -> {
+			approvals.incrementAndGet();
+			started.countDown();
+			await(release);
+			throw failure;
+		}));
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+		AtomicReference<Thread> waiter = new AtomicReference<>();
+		Future<PaymentApprovalResponse> duplicate = executor.submit(() -> {
+			waiter.set(Thread.currentThread());
+			return store.execute(request("pk-1", 30000), () -> approve(response()));
+		});
+		// 중복 요청이 결과를 기다리기 시작한 뒤에 실패시켜야 전달 경로를 검증할 수 있음
+		awaitParked(waiter);
+		release.countDown();
+
+		assertThatThrownBy(() -> owner.get(5, TimeUnit.SECONDS))
+				.isInstanceOf(ExecutionException.class).hasCause(failure);
+		assertThatThrownBy(() -> duplicate.get(5, TimeUnit.SECONDS))
+				.isInstanceOf(ExecutionException.class).hasCause(failure);
+
+		// 실패한 기록은 지워지므로 재시도는 새로 승인
+		PaymentApprovalResponse retried = response();
+		assertThat(store.execute(request("pk-1", 30000), () -> approve(retried))).isSameAs(retried);
+		assertThat(approvals).hasValue(2);
+	}
+
+	@Test
+	void expiredRecordIsApprovedAgainAndCleanedUp() {
+		// ttl 0초 → 완료 즉시 만료
+		PaymentApprovalIdempotencyStore store = new PaymentApprovalIdempotencyStore(true, 0, 5000);
+
+		store.execute(request("pk-1", 30000), () -> approve(response()));
+		store.execute(request("pk-1", 30000), () -> approve(response()));
+		store.cleanup();
+
+		assertThat(approvals).hasValue(2);
+		assertThat((Map<?, ?>) ReflectionTestUtils.getField(store, "entries")).isEmpty();
+	}
+
+	@Test
+	void differentPaymentInfoBypassesRecord() {
+		PaymentApprovalIdempotencyStore store = new PaymentApprovalIdempotencyStore(true, 600, 5000);
+		store.execute(request("pk-1", 30000), () -> approve(response()));
+
+		store.execute(request("pk-2", 30000), () -> approve(response()));
+		store.execute(request("pk-1", 1000), () -> approve(response()));
+
+		// 결제 정보가 다르면 기록된 응답을 돌려주지 않고 승인 처리(기존 검증 경로)로 보냄
+		assertThat(approvals).hasValue(3);
+	}
+
+	private PaymentApprovalResponse approve(PaymentApprovalResponse response) {
+		approvals.incrementAndGet();
+		return response;
+	}
+
+	private PaymentApprovalRequest request(String paymentKey, int amount) {
+		return PaymentApprovalRequest.builder()
+				.merchantUid("order-1")
+				.paymentKey(paymentKey)
+				.amount(amount)
+				.build();
+	}
+
+	private PaymentApprovalResponse response() {
+		return PaymentApprovalResponse.builder()
+				.orderId("order-1")
+				.status("DONE")
+				.build();
+	}
+
+	private static void awaitParked(AtomicReference<Thread> thread) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (thread.get() == null || thread.get().getState() != Thread.State.TIMED_WAITING) {
+			assertThat(System.nanoTime()).isLessThan(deadline);
+			Thread.sleep(5);
+		}
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,204 @@
+package com.mungtrainer.mtserver.training.service;
+
+import com.mungtrainer.mtserver.common.exception.CustomException;
+import com.mungtrainer.mtserver.common.exception.ErrorCode;
+import com.mungtrainer.mtserver.training.dto.request.ApplicationRequest;
+import com.mungtrainer.mtserver.training.dto.response.AdmissionTicketResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CourseAdmissionQueueTest {
+
+	private static final long COURSE_A = 10L;
+	private static final long COURSE_B = 20L;
+
+	private TrainingCourseApplicationService applicationService;
+	private CourseAdmissionQueue queue;
+
+	@BeforeEach
+	void setUp() {
+		applicationService = mock(TrainingCourseApplicationService.class);
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (queue != null) {
+			queue.stop();
+		}
+	}
+
+	@Test
+	void eachCourseHasOneConsumerProcessingInArrivalOrder() throws Exception {
+		Map<Long, AtomicInteger> running = new ConcurrentHashMap<>();
+		Map<Long, AtomicInteger> maxRunning = new ConcurrentHashMap<>();
+		Map<Long, List<Long>> processedUsers = new ConcurrentHashMap<>();
+		when(applicationService.applyCourse(anyLong(), anyLong(), any())).thenAnswer(invocation -> {
+			Long userId = invocation.getArgument(0);
+			Long courseId = invocation.getArgument(1);
+			int now = running.computeIfAbsent(courseId, k -> new AtomicInteger()).incrementAndGet();
+			maxRunning.computeIfAbsent(courseId, k -> new AtomicInteger()).accumulateAndGet(now, Math::max);
+			processedUsers.computeIfAbsent(courseId, k -> new CopyOnWriteArrayList<>()).add(userId);
+			Thread.sleep(2);
+			running.get(courseId).decrementAndGet();
+			return List.of();
+		});
+		queue = newQueue(3, 1000, 4);
+
+		List<AdmissionTicketResponse> submitted = new ArrayList<>();
+		for (long userId = 1; userId <= 30; userId++) {
+			submitted.add(queue.submit(userId, COURSE_A, new ApplicationRequest()));
+			submitted.add(queue.submit(100 + userId, COURSE_B, new ApplicationRequest()));
+		}
+		for (int i = 0; i < submitted.size(); i++) {
+			long userId = i % 2 == 0 ? i / 2 + 1 : 100 + i / 2 + 1;
+			awaitStatus(userId, submitted.get(i).getTicketId(), "DONE");
+		}
+
+		assertThat(maxRunning.get(COURSE_A).get()).isEqualTo(1);
+		assertThat(maxRunning.get(COURSE_B).get()).isEqualTo(1);
+		assertThat(processedUsers.get(COURSE_A)).isSorted().hasSize(30);
+		assertThat(processedUsers.get(COURSE_B)).isSorted().hasSize(30);
+	}
+
+	@Test
+	void queuedTicketReportsPositionBehindEarlierTickets() throws Exception {
+		CountDownLatch release = blockFirstApplication();
+		queue = newQueue(20, 1000, 2);
+
+		AdmissionTicketResponse first = queue.submit(1L, COURSE_A, new ApplicationRequest());
+		AdmissionTicketResponse second = queue.submit(2L, COURSE_A, new ApplicationRequest());
+		AdmissionTicketResponse third = queue.submit(3L, COURSE_A, new ApplicationRequest());
+		awaitStatus(1L, first.getTicketId(), "PROCESSING");
+
+		// 처리 중인 첫 접수도 앞에 남은 접수로 셈
+		assertThat(queue.getTicket(2L, second.getTicketId()).getPosition()).isEqualTo(1);
+		assertThat(queue.getTicket(3L, third.getTicketId()).getPosition()).isEqualTo(2);
+
+		release.countDown();
+		AdmissionTicketResponse done = awaitStatus(3L, third.getTicketId(), "DONE");
+		assertThat(done.getPosition()).isNull();
+		assertThat(done.getApplications()).isEmpty();
+	}
+
+	@Test
+	void rejectsWith503WhenCourseQueueIsFull() throws Exception {
+		CountDownLatch release = blockFirstApplication();
+		queue = newQueue(20, 2, 2);
+
+		AdmissionTicketResponse first = queue.submit(1L, COURSE_A, new ApplicationRequest());
+		queue.submit(2L, COURSE_A, new ApplicationRequest());
+		awaitStatus(1L, first.getTicketId(), "PROCESSING");
+
+		assertThatThrownBy(() -> queue.submit(3L, COURSE_A, new ApplicationRequest()))
+				.isInstanceOfSatisfying(CustomException.class, e -> {
+					assertThat(e.getCode()).isEqualTo(ErrorCode.ADMISSION_QUEUE_FULL);
+					assertThat(e.getCode().getStatus()).isEqualTo(503);
+				});
+		// 한도는 과정별
+		assertThat(queue.submit(4L, COURSE_B, new ApplicationRequest()).getTicketId()).isNotNull();
+
+		release.countDown();
+		awaitStatus(1L, first.getTicketId(), "DONE");
+	}
+
+	@Test
+	void cleanupKeepsBusyLaneAndDropsIdleLane() throws Exception {
+		CountDownLatch release = blockFirstApplication();
+		queue = newQueue(20, 1000, 2);
+
+		AdmissionTicketResponse first = queue.submit(1L, COURSE_A, new ApplicationRequest());
+		AdmissionTicketResponse second = queue.submit(2L, COURSE_A, new ApplicationRequest());
+		awaitStatus(1L, first.getTicketId(), "PROCESSING");
+
+		queue.cleanup();
+		assertThat(lanes()).containsKey(COURSE_A);
+		assertThat(queue.getTicket(2L, second.getTicketId()).getPosition()).isEqualTo(1);
+
+		release.countDown();
+		awaitStatus(2L, second.getTicketId(), "DONE");
+		queue.cleanup();
+		assertThat(lanes()).doesNotContainKey(COURSE_A);
+
+		// 정리 후 접수는 새 대기열에서 처음부터 처리
+		AdmissionTicketResponse next = queue.submit(3L, COURSE_A, new ApplicationRequest());
+		awaitStatus(3L, next.getTicketId(), "DONE");
+	}
+
+	@Test
+	void failedApplicationKeepsErrorCodeOnTicket() throws Exception {
+		when(applicationService.applyCourse(anyLong(), anyLong(), any()))
+				.thenThrow(new CustomException(ErrorCode.APPLICATION_CREATION_FAILED));
+		queue = newQueue(20, 1000, 1);
+
+		AdmissionTicketResponse ticket = queue.submit(1L, COURSE_A, new ApplicationRequest());
+
+		AdmissionTicketResponse failed = awaitStatus(1L, ticket.getTicketId(), "FAILED");
+		assertThat(failed.getErrorCode()).isEqualTo(ErrorCode.APPLICATION_CREATION_FAILED.name());
+		assertThat(failed.getApplications()).isNull();
+	}
+
+	@Test
+	void ticketIsVisibleOnlyToItsOwner() {
+		when(applicationService.applyCourse(anyLong(), anyLong(), any())).thenReturn(List.of());
+		queue = newQueue(20, 1000, 1);
+
+		AdmissionTicketResponse ticket = queue.submit(1L, COURSE_A, new ApplicationRequest());
+
+		assertThatThrownBy(() -> queue.getTicket(2L, ticket.getTicketId()))
+				.isInstanceOfSatisfying(CustomException.class,
+						e -> assertThat(e.getCode()).isEqualTo(ErrorCode.ADMISSION_TICKET_NOT_FOUND));
+	}
+
+	private CourseAdmissionQueue newQueue(int batchSize, int maxPending, int workers) {
+		return new CourseAdmissionQueue(applicationService, true, batchSize, maxPending, workers, 600);
+	}
+
+	/**
+	 * 첫 신청은 반환된 래치가 풀릴 때까지 처리 중으로 붙잡아 둠
+	 */
+	private CountDownLatch blockFirstApplication() {
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger calls = new AtomicInteger();
+		when(applicationService.applyCourse(anyLong(), anyLong(), any())).thenAnswer(invocation -> {
+			if (calls.incrementAndGet() == 1) {
+				release.await(5, TimeUnit.SECONDS);
+			}
+			return List.of();
+		});
+		return release;
+	}
+
+	private AdmissionTicketResponse awaitStatus(Long userId, String ticketId, String status) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5000;
+		AdmissionTicketResponse response = queue.getTicket(userId, ticketId);
+		while (!status.equals(response.getStatus()) && System.currentTimeMillis() < deadline) {
+			Thread.sleep(5);
+			response = queue.getTicket(userId, ticketId);
+		}
+		assertThat(response.getStatus()).isEqualTo(status);
+		return response;
+	}
+
+	@SuppressWarnings("unchecked")
+	private Map<Long, ?> lanes() {
+		return (Map<Long, ?>) ReflectionTestUtils.getField(queue, "lanes");
+	}
+}
@@ -0,0 +1,102 @@
+package com.mungtrainer.mtserver.training.service;
+
+import com.mungtrainer.mtserver.common.scheduler.SchedulerLockService;
+import com.mungtrainer.mtserver.counseling.service.DogStatsCache;
+import com.mungtrainer.mtserver.training.dao.ApplicationDAO;
+import com.mungtrainer.mtserver.training.dao.CourseDAO;
+import com.mungtrainer.mtserver.training.dao.TrainingSessionDAO;
+import com.mungtrainer.mtserver.training.dto.response.ApplicationSessionRef;
+import com.mungtrainer.mtserver.training.entity.TrainingCourseApplication;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 세션 종료 처리 - DONE 전이와 같은 트랜잭션에서 미완료 신청 EXPIRED 저장
+ */
+class CourseStatusUpdateServiceTest {
+
+	private TrainingSessionDAO trainingSessionDao;
+	private ApplicationDAO applicationDao;
+	private SessionSeatService sessionSeatService;
+	private DogStatsCache dogStatsCache;
+	private CourseStatusUpdateService service;
+
+	@BeforeEach
+	void setUp() {
+		trainingSessionDao = mock(TrainingSessionDAO.class);
+		applicationDao = mock(ApplicationDAO.class);
+		sessionSeatService = mock(SessionSeatService.class);
+		dogStatsCache = mock(DogStatsCache.class);
+		service = new CourseStatusUpdateService(mock(CourseDAO.class), trainingSessionDao,
+				mock(CourseCatalogIndex.class), mock(CalendarSummaryService.class), applicationDao,
+				sessionSeatService, mock(WaitingQueueIndex.class), dogStatsCache, mock(SchedulerLockService.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void doneSessionExpiresOpenApplicationsAndReleasesTrainerApprovedSeats() {
+		when(trainingSessionDao.findSessionIdsDueToDone()).thenReturn(List.of(10L));
+		when(trainingSessionDao.updateSessionStatusToDoneByIds(List.of(10L))).thenReturn(1);
+		when(applicationDao.findUnfinishedApplicationsOfDoneSessionsForUpdate(List.of(10L))).thenReturn(List.of(
+				application(1L, 10L, 7L, "ACCEPT"),
+				application(2L, 10L, 8L, "WAITING"),
+				application(3L, 10L, 7L, "APPLIED")));
+
+		assertThat(service.updateSessionToDone()).isEqualTo(1);
+
+		// 잠근 뒤 상태를 바꾸고, 결제 기한이 없는 트레이너 승인 ACCEPT의 좌석만 반환
+		ArgumentCaptor<List<ApplicationSessionRef>> released = ArgumentCaptor.forClass(List.class);
+		InOrder order = inOrder(applicationDao, sessionSeatService);
+		order.verify(applicationDao).findUnfinishedApplicationsOfDoneSessionsForUpdate(List.of(10L));
+		order.verify(applicationDao).updateApplicationStatusBatch(List.of(1L, 2L, 3L), "EXPIRED");
+		order.verify(sessionSeatService).release(released.capture());
+		assertThat(released.getValue()).extracting(ApplicationSessionRef::getApplicationId).containsExactly(1L);
+		assertThat(released.getValue()).extracting(ApplicationSessionRef::getSessionId).containsExactly(10L);
+		verify(dogStatsCache).invalidateDogsAfterCommit(List.of(7L, 8L));
+	}
+
+	@Test
+	void noOpenApplicationsLeavesApplicationsUntouched() {
+		when(trainingSessionDao.updateSessionStatusToDoneByIds(List.of(10L))).thenReturn(1);
+		when(applicationDao.findUnfinishedApplicationsOfDoneSessionsForUpdate(List.of(10L))).thenReturn(List.of());
+
+		assertThat(service.updateSessionToDone(List.of(10L))).isEqualTo(1);
+
+		verify(applicationDao, never()).updateApplicationStatusBatch(anyList(), anyString());
+		verify(sessionSeatService, never()).release(anyCollection());
+	}
+
+	@Test
+	void sessionNotYetDueDoesNotExpireApplications() {
+		// 타이머가 일찍 발화해 종료 시각 조건에 걸리지 않은 경우
+		when(trainingSessionDao.updateSessionStatusToDoneByIds(List.of(10L))).thenReturn(0);
+
+		assertThat(service.updateSessionToDone(List.of(10L))).isZero();
+
+		verify(applicationDao, never()).findUnfinishedApplicationsOfDoneSessionsForUpdate(anyCollection());
+		verify(applicationDao, never()).updateApplicationStatusBatch(anyList(), anyString());
+	}
+
+	private TrainingCourseApplication application(Long applicationId, Long sessionId, Long dogId, String status) {
+		TrainingCourseApplication application = new TrainingCourseApplication();
+		application.setApplicationId(applicationId);
+		application.setSessionId(sessionId);
+		application.setDogId(dogId);
+		application.setStatus(status);
+		return application;
+	}
+}
@@ -0,0 +1,86 @@
+package com.mungtrainer.mtserver.training.service;
+
+import com.mungtrainer.mtserver.training.dao.SessionSeatDAO;
+import com.mungtrainer.mtserver.training.dto.response.ApplicationSessionRef;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SessionSeatServiceTest {
+
+	private SessionSeatDAO sessionSeatDao;
+	private SessionSeatService sessionSeatService;
+
+	@BeforeEach
+	void setUp() {
+		sessionSeatDao = mock(SessionSeatDAO.class);
+		sessionSeatService = new SessionSeatService(sessionSeatDao);
+	}
+
+	@Test
+	void lockSeatHoldersSkipsQueryForEmptyInput() {
+		assertThat(sessionSeatService.lockSeatHolders(List.of())).isEmpty();
+
+		verify(sessionSeatDao, never()).findSeatHoldersForUpdate(anyCollection());
+	}
+
+	@Test
+	void lockSeatHoldersReturnsOnlyLockedSeatHolders() {
+		List<ApplicationSessionRef> holders = List.of(ref(1L, 10L));
+		when(sessionSeatDao.findSeatHoldersForUpdate(List.of(1L, 2L))).thenReturn(holders);
+
+		assertThat(sessionSeatService.lockSeatHolders(List.of(1L, 2L))).isSameAs(holders);
+	}
+
+	@Test
+	void releaseDecrementsEachSessionOnceInSessionOrder() {
+		when(sessionSeatDao.releaseSeats(anyLong(), anyInt())).thenReturn(1);
+
+		int released = sessionSeatService.release(List.of(ref(1L, 30L), ref(2L, 10L), ref(3L, 30L), ref(4L, 20L)));
+
+		assertThat(released).isEqualTo(4);
+		// 세션 행 락 순서를 승격과 맞추기 위해 session_id 오름차순으로 한 번씩 감소
+		InOrder order = inOrder(sessionSeatDao);
+		order.verify(sessionSeatDao).releaseSeats(10L, 1);
+		order.verify(sessionSeatDao).releaseSeats(20L, 1);
+		order.verify(sessionSeatDao).releaseSeats(30L, 2);
+		order.verifyNoMoreInteractions();
+	}
+
+	@Test
+	void releaseSkipsSessionWhoseCounterIsBelowReleasedCount() {
+		when(sessionSeatDao.releaseSeats(10L, 2)).thenReturn(0);
+		when(sessionSeatDao.releaseSeats(20L, 1)).thenReturn(1);
+
+		int released = sessionSeatService.release(List.of(ref(1L, 10L), ref(2L, 10L), ref(3L, 20L)));
+
+		// 카운터가 어긋난 세션은 반환하지 않고 보정 작업에 맡김 (예외 없음)
+		assertThat(released).isEqualTo(1);
+	}
+
+	@Test
+	void releaseWithoutSeatHoldersDoesNothing() {
+		assertThat(sessionSeatService.release(List.of())).isZero();
+
+		verify(sessionSeatDao, never()).releaseSeats(anyLong(), anyInt());
+	}
+
+	private ApplicationSessionRef ref(Long applicationId, Long sessionId) {
+		ApplicationSessionRef ref = new ApplicationSessionRef();
+		ref.setApplicationId(applicationId);
+		ref.setSessionId(sessionId);
+		return ref;
+	}
+}
@@ -0,0 +1,170 @@
+package com.mungtrainer.mtserver.training.service;
+
+import com.mungtrainer.mtserver.common.exception.CustomException;
+import com.mungtrainer.mtserver.common.exception.ErrorCode;
+import com.mungtrainer.mtserver.common.s3.S3Service;
+import com.mungtrainer.mtserver.counseling.service.DogStatsCache;
+import com.mungtrainer.mtserver.order.dto.request.WishlistApplyRequest;
+import com.mungtrainer.mtserver.training.dao.ApplicationDAO;
+import com.mungtrainer.mtserver.training.dao.TrainingSessionDAO;
+import com.mungtrainer.mtserver.training.dto.request.ApplicationRequest;
+import com.mungtrainer.mtserver.training.dto.response.ApplicationResponse;
+import com.mungtrainer.mtserver.training.dto.response.SessionApplyCheck;
+import com.mungtrainer.mtserver.training.entity.TrainingCourseApplication;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 과정 신청 / 장바구니 신청 - 사전 검증 쿼리 + 일괄 INSERT 흐름
+ */
+class TrainingCourseApplicationServiceApplyTest {
+
+	private static final Long USER_ID = 1L;
+	private static final Long DOG_ID = 7L;
+
+	private ApplicationDAO applicationDao;
+	private TrainingCourseApplicationService service;
+
+	@BeforeEach
+	void setUp() {
+		applicationDao = mock(ApplicationDAO.class);
+		service = new TrainingCourseApplicationService(applicationDao, mock(S3Service.class),
+				mock(TrainingSessionDAO.class), mock(WaitingQueueIndex.class), mock(WaitingPromotionService.class),
+				mock(SessionSeatService.class), mock(DogStatsCache.class));
+		ReflectionTestUtils.setField(service, "sessionDeadlineHours", 24);
+
+		when(applicationDao.findOwnerByDogId(DOG_ID)).thenReturn(USER_ID);
+		AtomicLong ids = new AtomicLong(100);
+		when(applicationDao.insertApplications(anyList())).thenAnswer(invocation -> {
+			List<TrainingCourseApplication> applications = invocation.getArgument(0);
+			applications.forEach(app -> app.setApplicationId(ids.incrementAndGet()));
+			return applications.size();
+		});
+	}
+
+	@Test
+	void applyCourse_decidesStatusFromSeatCounterAndInsertsOnce() {
+		when(applicationDao.getCourseStatusById(10L)).thenReturn("SCHEDULED");
+		when(applicationDao.findSessionApplyChecks(10L, DOG_ID))
+				.thenReturn(List.of(session(11L, 5, 2, true), session(12L, 5, 5, true)));
+
+		List<ApplicationResponse> created = service.applyCourse(USER_ID, 10L, request());
+
+		assertThat(created).extracting(ApplicationResponse::getStatus).containsExactly("APPLIED", "WAITING");
+		verify(applicationDao, times(1)).insertApplications(anyList());
+		verify(applicationDao).insertWaitings(List.of(102L), USER_ID);
+	}
+
+	@Test
+	void wishlist_usesOneCheckQueryPerCourseAndSingleInserts() {
+		when(applicationDao.findSessionApplyChecks(10L, DOG_ID))
+				.thenReturn(List.of(session(11L, 5, 1, true), session(12L, 5, 5, true)));
+		when(applicationDao.findSessionApplyChecks(20L, DOG_ID))
+				.thenReturn(List.of(session(21L, 3, 0, true)));
+
+		List<ApplicationResponse> created = service.applyWishlistCourses(USER_ID,
+				List.of(wishlist(501L, 10L), wishlist(502L, 20L)));
+
+		assertThat(created).extracting(ApplicationResponse::getSessionId).containsExactly(11L, 12L, 21L);
+		assertThat(created).extracting(ApplicationResponse::getStatus).containsExactly("APPLIED", "WAITING", "APPLIED");
+		// 반려견 소유 확인은 반려견별 1회, 신청·대기 등록·장바구니 변경은 각각 1회
+		verify(applicationDao, times(1)).findOwnerByDogId(DOG_ID);
+		verify(applicationDao, times(1)).insertApplications(anyList());
+		verify(applicationDao).insertWaitings(List.of(102L), USER_ID);
+		verify(applicationDao).updateWishlistDetailStatusBatch(List.of(501L, 502L), "ORDERED");
+	}
+
+	@Test
+	void wishlist_withoutCompletedCounselingIsRejected() {
+		when(applicationDao.findSessionApplyChecks(10L, DOG_ID)).thenReturn(List.of(session(11L, 5, 0, false)));
+
+		assertThatThrownBy(() -> service.applyWishlistCourses(USER_ID, List.of(wishlist(501L, 10L))))
+				.isInstanceOfSatisfying(CustomException.class,
+						e -> assertThat(e.getCode()).isEqualTo(ErrorCode.COUNSELING_REQUIRED));
+		verify(applicationDao, never()).insertApplications(anyList());
+	}
+
+	@Test
+	void wishlist_alreadyAppliedSessionIsDuplicate() {
+		SessionApplyCheck applied = session(11L, 5, 0, true);
+		applied.setAlreadyApplied(true);
+		when(applicationDao.findSessionApplyChecks(10L, DOG_ID)).thenReturn(List.of(applied));
+
+		assertThatThrownBy(() -> service.applyWishlistCourses(USER_ID, List.of(wishlist(501L, 10L))))
+				.isInstanceOfSatisfying(CustomException.class,
+						e -> assertThat(e.getCode()).isEqualTo(ErrorCode.DUPLICATE_APPLICATION));
+	}
+
+	@Test
+	void wishlist_sameCourseTwiceInOneRequestIsDuplicate() {
+		when(applicationDao.findSessionApplyChecks(10L, DOG_ID)).thenReturn(List.of(session(11L, 5, 0, true)));
+
+		assertThatThrownBy(() -> service.applyWishlistCourses(USER_ID,
+				List.of(wishlist(501L, 10L), wishlist(502L, 10L))))
+				.isInstanceOfSatisfying(CustomException.class,
+						e -> assertThat(e.getCode()).isEqualTo(ErrorCode.DUPLICATE_APPLICATION));
+		verify(applicationDao, never()).insertApplications(anyList());
+	}
+
+	@Test
+	void wishlist_otherUsersDogIsRejectedBeforeAnyCheck() {
+		when(applicationDao.findOwnerByDogId(DOG_ID)).thenReturn(2L);
+
+		assertThatThrownBy(() -> service.applyWishlistCourses(USER_ID, List.of(wishlist(501L, 10L))))
+				.isInstanceOfSatisfying(CustomException.class,
+						e -> assertThat(e.getCode()).isEqualTo(ErrorCode.UNAUTHORIZED_APPLICATION));
+		verify(applicationDao, never()).findSessionApplyChecks(anyLong(), anyLong());
+	}
+
+	@Test
+	void wishlist_emptyRequestDoesNothing() {
+		assertThat(service.applyWishlistCourses(USER_ID, List.of())).isEmpty();
+
+		verify(applicationDao, never()).insertApplications(anyList());
+		verify(applicationDao, never()).updateWishlistDetailStatusBatch(anyList(), anyString());
+	}
+
+	private SessionApplyCheck session(Long sessionId, int maxStudents, int acceptedCount, boolean counselingCompleted) {
+		SessionApplyCheck check = new SessionApplyCheck();
+		check.setSessionId(sessionId);
+		check.setSessionNo(1);
+		check.setSessionDate(LocalDate.now().plusDays(7));
+		check.setStartTime(LocalTime.of(10, 0));
+		check.setMaxStudents(maxStudents);
+		check.setAcceptedCount(acceptedCount);
+		check.setAlreadyApplied(false);
+		check.setCounselingCompleted(counselingCompleted);
+		return check;
+	}
+
+	private ApplicationRequest request() {
+		ApplicationRequest request = new ApplicationRequest();
+		request.setDogId(DOG_ID);
+		return request;
+	}
+
+	private WishlistApplyRequest wishlist(Long wishlistItemId, Long courseId) {
+		WishlistApplyRequest request = new WishlistApplyRequest();
+		request.setWishlistItemId(wishlistItemId);
+		request.setDogId(DOG_ID);
+		request.setCourseId(courseId);
+		return request;
+	}
+}
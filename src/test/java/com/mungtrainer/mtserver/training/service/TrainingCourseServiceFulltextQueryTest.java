@@ -0,0 +1,53 @@
+package com.mungtrainer.mtserver.training.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TrainingCourseServiceFulltextQueryTest {
+
+	private static final int MIN_TOKEN_LENGTH = 2;
+
+	@Test
+	void wholeKeywordBecomesSinglePhrase() {
+		assertThat(TrainingCourseService.toFulltextQuery("산책", MIN_TOKEN_LENGTH)).isEqualTo("+\"산책\"");
+		assertThat(TrainingCourseService.toFulltextQuery("기초 훈련", MIN_TOKEN_LENGTH)).isEqualTo("+\"기초 훈련\"");
+	}
+
+	@Test
+	void surroundingAndRepeatedWhitespaceIsNormalized() {
+		assertThat(TrainingCourseService.toFulltextQuery("  기초   훈련 ", MIN_TOKEN_LENGTH))
+				.isEqualTo("+\"기초 훈련\"");
+	}
+
+	@Test
+	void booleanModeOperatorsAreStripped() {
+		assertThat(TrainingCourseService.toFulltextQuery("+기초 -훈련", MIN_TOKEN_LENGTH)).isEqualTo("+\"기초 훈련\"");
+		assertThat(TrainingCourseService.toFulltextQuery("\"산책\"", MIN_TOKEN_LENGTH)).isEqualTo("+\"산책\"");
+		assertThat(TrainingCourseService.toFulltextQuery("(퍼피)~*@<>", MIN_TOKEN_LENGTH)).isEqualTo("+\"퍼피\"");
+	}
+
+	@Test
+	void termShorterThanNgramTokenFallsBackToLike() {
+		assertThat(TrainingCourseService.toFulltextQuery("개", MIN_TOKEN_LENGTH)).isNull();
+		assertThat(TrainingCourseService.toFulltextQuery("소형 개", MIN_TOKEN_LENGTH)).isNull();
+	}
+
+	@Test
+	void termShortAfterStrippingFallsBackToLike() {
+		assertThat(TrainingCourseService.toFulltextQuery("C++", MIN_TOKEN_LENGTH)).isNull();
+		assertThat(TrainingCourseService.toFulltextQuery("기초 -", MIN_TOKEN_LENGTH)).isNull();
+	}
+
+	@Test
+	void blankKeywordHasNoQuery() {
+		assertThat(TrainingCourseService.toFulltextQuery(null, MIN_TOKEN_LENGTH)).isNull();
+		assertThat(TrainingCourseService.toFulltextQuery("   ", MIN_TOKEN_LENGTH)).isNull();
+	}
+
+	@Test
+	void minTokenLengthFollowsNgramTokenSize() {
+		assertThat(TrainingCourseService.toFulltextQuery("산책", 3)).isNull();
+		assertThat(TrainingCourseService.toFulltextQuery("산책로", 3)).isEqualTo("+\"산책로\"");
+	}
+}
@@ -0,0 +1,133 @@
+package com.mungtrainer.mtserver.training.service;
+
+import com.mungtrainer.mtserver.common.exception.CustomException;
+import com.mungtrainer.mtserver.common.exception.ErrorCode;
+import com.mungtrainer.mtserver.counseling.service.DogStatsCache;
+import com.mungtrainer.mtserver.training.dao.ApplicationDAO;
+import com.mungtrainer.mtserver.training.dao.SessionSeatDAO;
+import com.mungtrainer.mtserver.training.dao.TrainingAttendanceDAO;
+import com.mungtrainer.mtserver.training.dto.response.SessionSeatStatus;
+import com.mungtrainer.mtserver.training.dto.response.WaitingPromotionResult;
+import com.mungtrainer.mtserver.training.dto.response.WaitingQueueEntry;
+import com.mungtrainer.mtserver.training.scheduler.DeadlineTimer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class WaitingPromotionServiceTest {
+
+	private static final int PAYMENT_DEADLINE_HOURS = 24;
+
+	private ApplicationDAO applicationDao;
+	private SessionSeatDAO sessionSeatDao;
+	private TrainingAttendanceDAO trainingAttendanceDao;
+	private WaitingPromotionService waitingPromotionService;
+
+	@BeforeEach
+	void setUp() {
+		applicationDao = mock(ApplicationDAO.class);
+		sessionSeatDao = mock(SessionSeatDAO.class);
+		trainingAttendanceDao = mock(TrainingAttendanceDAO.class);
+		waitingPromotionService = new WaitingPromotionService(applicationDao, sessionSeatDao, trainingAttendanceDao,
+				mock(WaitingQueueIndex.class), mock(DeadlineTimer.class), mock(CalendarSummaryService.class),
+				mock(DogStatsCache.class));
+		ReflectionTestUtils.setField(waitingPromotionService, "paymentDeadlineHours", PAYMENT_DEADLINE_HOURS);
+	}
+
+	@Test
+	void promotesOldestWaitersIntoFreeSeatsAndReservesThemPerSession() {
+		when(applicationDao.findSessionSeatStatuses(anyCollection()))
+				.thenReturn(List.of(seat(10L, 3, 1), seat(20L, 2, 2)));
+		when(applicationDao.findPromotionCandidates(anyCollection()))
+				.thenReturn(List.of(waiter(10L, 101L), waiter(10L, 102L), waiter(10L, 103L)));
+		when(sessionSeatDao.reserveSeats(10L, 2)).thenReturn(1);
+		when(applicationDao.promoteWaitingApplications(List.of(101L, 102L), PAYMENT_DEADLINE_HOURS)).thenReturn(2);
+		when(trainingAttendanceDao.insertAttendanceByApplicationIds(List.of(101L, 102L), 0L)).thenReturn(2);
+
+		WaitingPromotionResult result = waitingPromotionService.promote(List.of(20L, 10L, 10L), 0L);
+
+		assertThat(result.getPromotedBySession()).isEqualTo(Map.of(10L, List.of(101L, 102L)));
+		assertThat(result.getFullSessionIds()).containsExactly(20L);
+		assertThat(result.getPromotedCount()).isEqualTo(2);
+		assertThat(result.getAttendanceCreated()).isEqualTo(2);
+		verify(applicationDao).updateWaitingStatusBatch(List.of(101L, 102L), "PROMOTED");
+		// 빈 자리는 좌석 카운터로만 계산 (요청 경로에서 COUNT 재집계 없음)
+		verify(sessionSeatDao, never()).syncReservedSeats(anyCollection());
+		verify(sessionSeatDao, never()).reserveSeats(20L, 0);
+	}
+
+	@Test
+	void fullSessionsPromoteNobody() {
+		when(applicationDao.findSessionSeatStatuses(anyCollection())).thenReturn(List.of(seat(10L, 2, 2)));
+
+		WaitingPromotionResult result = waitingPromotionService.promote(List.of(10L), 0L);
+
+		assertThat(result.getPromotedCount()).isZero();
+		assertThat(result.getFullSessionIds()).containsExactly(10L);
+		verify(applicationDao, never()).findPromotionCandidates(anyCollection());
+		verify(sessionSeatDao, never()).reserveSeats(anyLong(), anyInt());
+	}
+
+	@Test
+	void failedSeatReservationRollsBackPromotion() {
+		when(applicationDao.findSessionSeatStatuses(anyCollection())).thenReturn(List.of(seat(10L, 3, 2)));
+		when(applicationDao.findPromotionCandidates(anyCollection())).thenReturn(List.of(waiter(10L, 101L)));
+		when(sessionSeatDao.reserveSeats(10L, 1)).thenReturn(0);
+
+		assertThatThrownBy(() -> waitingPromotionService.promote(List.of(10L), 0L))
+				.isInstanceOfSatisfying(CustomException.class,
+						e -> assertThat(e.getCode()).isEqualTo(ErrorCode.WAITING_PROMOTION_FAILED));
+		verify(applicationDao, never()).promoteWaitingApplications(anyList(), anyInt());
+	}
+
+	@Test
+	void unknownSessionsReturnEmptyResult() {
+		when(applicationDao.findSessionSeatStatuses(anyCollection())).thenReturn(List.of());
+
+		WaitingPromotionResult result = waitingPromotionService.promote(List.of(99L), 0L);
+
+		assertThat(result.getPromotedCount()).isZero();
+		verify(applicationDao, never()).findPromotionCandidates(anyCollection());
+		verify(trainingAttendanceDao, never()).insertAttendanceByApplicationIds(anyList(), any());
+	}
+
+	@Test
+	void nullSessionIdsAreIgnored() {
+		List<Long> sessionIds = new ArrayList<>();
+		sessionIds.add(null);
+
+		assertThat(waitingPromotionService.promote(sessionIds, 0L).getPromotedCount()).isZero();
+		verify(applicationDao, never()).findSessionSeatStatuses(anyCollection());
+	}
+
+	private SessionSeatStatus seat(Long sessionId, int maxStudents, int approvedCount) {
+		SessionSeatStatus seat = new SessionSeatStatus();
+		seat.setSessionId(sessionId);
+		seat.setMaxStudents(maxStudents);
+		seat.setApprovedCount(approvedCount);
+		return seat;
+	}
+
+	private WaitingQueueEntry waiter(Long sessionId, Long applicationId) {
+		WaitingQueueEntry entry = new WaitingQueueEntry();
+		entry.setSessionId(sessionId);
+		entry.setApplicationId(applicationId);
+		return entry;
+	}
+}